@@ -0,0 +1,35 @@
+-- Migration: add_composite_indexes
+-- Created: 2026-10-17T09:00:00
+
+-- UP
+-- Composite indexes for the DAO lookups that filter on one column and sort or range on another.
+-- The single-column indexes they replace are prefixes of the new ones. They are not covering
+-- indexes: the DAOs select every column, so each match still reads its table row.
+CREATE INDEX IF NOT EXISTS idx_donations_donor_date ON TblDonations(DonorID, DonationDate, OrphanageID);
+CREATE INDEX IF NOT EXISTS idx_donations_orphanage_date ON TblDonations(OrphanageID, DonationDate);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON TblNotifications(UserID, CreatedDate);
+CREATE INDEX IF NOT EXISTS idx_requests_status_urgency ON TblResourceRequests(Status, UrgencyLevel);
+CREATE INDEX IF NOT EXISTS idx_applications_volunteer_opportunity ON TblVolunteerApplications(VolunteerID, OpportunityID);
+DROP INDEX IF EXISTS idx_donations_donor;
+DROP INDEX IF EXISTS idx_donations_orphanage;
+DROP INDEX IF EXISTS idx_notifications_user;
+DROP INDEX IF EXISTS idx_requests_status;
+DROP INDEX IF EXISTS idx_applications_volunteer;
+-- The shipped database has no index for requests by orphanage or orphanages by user.
+CREATE INDEX IF NOT EXISTS idx_requests_orphanage_date ON TblResourceRequests(OrphanageID, RequestDate);
+CREATE INDEX IF NOT EXISTS idx_orphanages_user ON TblOrphanages(UserID);
+ANALYZE;
+
+-- DOWN
+CREATE INDEX IF NOT EXISTS idx_donations_donor ON TblDonations(DonorID);
+CREATE INDEX IF NOT EXISTS idx_donations_orphanage ON TblDonations(OrphanageID);
+CREATE INDEX IF NOT EXISTS idx_notifications_user ON TblNotifications(UserID);
+CREATE INDEX IF NOT EXISTS idx_requests_status ON TblResourceRequests(Status);
+CREATE INDEX IF NOT EXISTS idx_applications_volunteer ON TblVolunteerApplications(VolunteerID);
+DROP INDEX IF EXISTS idx_donations_donor_date;
+DROP INDEX IF EXISTS idx_donations_orphanage_date;
+DROP INDEX IF EXISTS idx_requests_orphanage_date;
+DROP INDEX IF EXISTS idx_orphanages_user;
+DROP INDEX IF EXISTS idx_notifications_user_created;
+DROP INDEX IF EXISTS idx_requests_status_urgency;
+DROP INDEX IF EXISTS idx_applications_volunteer_opportunity;
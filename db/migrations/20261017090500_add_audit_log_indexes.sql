@@ -0,0 +1,18 @@
+-- Migration: add_audit_log_indexes
+-- Created: 2026-10-17T09:05:00
+-- Requires: TblAuditLog, TblDonationItems
+
+-- UP
+-- Same purpose as add_composite_indexes, for the tables fix_database.sql adds. Held back
+-- until those tables exist, which the shipped database does not have yet.
+CREATE INDEX IF NOT EXISTS idx_audit_user_time ON TblAuditLog(UserID, Timestamp);
+CREATE INDEX IF NOT EXISTS idx_audit_action_time ON TblAuditLog(Action, Timestamp);
+CREATE INDEX IF NOT EXISTS idx_donation_items_donation ON TblDonationItems(DonationID);
+DROP INDEX IF EXISTS idx_audit_userid;
+ANALYZE;
+
+-- DOWN
+CREATE INDEX IF NOT EXISTS idx_audit_userid ON TblAuditLog(UserID);
+DROP INDEX IF EXISTS idx_audit_user_time;
+DROP INDEX IF EXISTS idx_audit_action_time;
+DROP INDEX IF EXISTS idx_donation_items_donation;
@@ -0,0 +1,13 @@
+-- Migration: add_orphanage_search_indexes
+-- Created: 2026-10-17T10:00:00
+
+-- UP
+-- OrphanageDAO.Query filters verified orphanages by province or city (case-insensitive) and
+-- sorts by name. These answer that without reading the rest of the table.
+CREATE INDEX IF NOT EXISTS idx_orphanages_verified_province_name ON TblOrphanages(VerificationStatus, Province COLLATE NOCASE, OrphanageName);
+CREATE INDEX IF NOT EXISTS idx_orphanages_verified_city_name ON TblOrphanages(VerificationStatus, City COLLATE NOCASE, OrphanageName);
+ANALYZE;
+
+-- DOWN
+DROP INDEX IF EXISTS idx_orphanages_verified_province_name;
+DROP INDEX IF EXISTS idx_orphanages_verified_city_name;
@@ -245,7 +245,7 @@ CREATE TABLE TblVolunteerApplications (
     EmergencyContactPhone TEXT,
     Skills TEXT,
     Experience TEXT,
-    References TEXT,
+    "References" TEXT,
     ReviewedBy INTEGER,
     ReviewDate DATETIME,
     ReviewNotes TEXT,
@@ -2,10 +2,12 @@ package com.orphanagehub.dao;
 
 import com.orphanagehub.model.AuditLog;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public class AuditLogDAO {
     
@@ -16,39 +18,40 @@ public class AuditLogDAO {
         public static final String DONATE = "DONATE";
     }
     
+    /**
+     * Queues a success entry on the group-commit writer; the row is committed within a few
+     * milliseconds together with other pending audit and notification inserts.
+     */
     public Try<Void> logSuccess(Integer userId, String username, String action, 
                                String entityType, String entityId) {
-        return Try.run(() -> {
-            String sql = "INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, " +
-                        "EntityID, Timestamp, Success) VALUES (?, ?, ?, ?, ?, ?, 1)";
-            try (Connection conn = DatabaseManager.getConnection().get();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setObject(1, userId);
-                ps.setString(2, username);
-                ps.setString(3, action);
-                ps.setString(4, entityType);
-                ps.setString(5, entityId);
-                ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
-                ps.executeUpdate();
-            }
+        String sql = "INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, " +
+                    "EntityID, Timestamp, Success) VALUES (?, ?, ?, ?, ?, ?, 1)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return DatabaseManager.getGroupCommitWriter().submit(sql, ps -> {
+            ps.setObject(1, userId);
+            ps.setString(2, username);
+            ps.setString(3, action);
+            ps.setString(4, entityType);
+            ps.setString(5, entityId);
+            ps.setTimestamp(6, now);
         });
     }
     
+    /**
+     * Queues a failure entry on the group-commit writer.
+     */
     public Try<Void> logFailure(Integer userId, String username, String action, 
                                String entityType, String message) {
-        return Try.run(() -> {
-            String sql = "INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, " +
-                        "ErrorMessage, Timestamp, Success) VALUES (?, ?, ?, ?, ?, ?, 0)";
-            try (Connection conn = DatabaseManager.getConnection().get();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setObject(1, userId);
-                ps.setString(2, username);
-                ps.setString(3, action);
-                ps.setString(4, entityType);
-                ps.setString(5, message);
-                ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
-                ps.executeUpdate();
-            }
+        String sql = "INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, " +
+                    "ErrorMessage, Timestamp, Success) VALUES (?, ?, ?, ?, ?, ?, 0)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return DatabaseManager.getGroupCommitWriter().submit(sql, ps -> {
+            ps.setObject(1, userId);
+            ps.setString(2, username);
+            ps.setString(3, action);
+            ps.setString(4, entityType);
+            ps.setString(5, message);
+            ps.setTimestamp(6, now);
         });
     }
     
@@ -59,17 +62,13 @@ public class AuditLogDAO {
     public Try<List<AuditLog>> findByUserId(Integer userId, LocalDateTime from, LocalDateTime to) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblAuditLog WHERE UserID = ? AND Timestamp BETWEEN ? AND ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, userId);
                 ps.setTimestamp(2, Timestamp.valueOf(from));
                 ps.setTimestamp(3, Timestamp.valueOf(to));
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<AuditLog> logs = List.empty();
-                    while (rs.next()) {
-                        logs = logs.append(mapToAuditLog(rs));
-                    }
-                    return logs;
+                    return ResultStreams.toList(rs, this::mapToAuditLog);
                 }
             }
         });
@@ -78,17 +77,13 @@ public class AuditLogDAO {
     public Try<List<AuditLog>> findByAction(String action, LocalDateTime from, LocalDateTime to) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblAuditLog WHERE Action = ? AND Timestamp BETWEEN ? AND ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, action);
                 ps.setTimestamp(2, Timestamp.valueOf(from));
                 ps.setTimestamp(3, Timestamp.valueOf(to));
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<AuditLog> logs = List.empty();
-                    while (rs.next()) {
-                        logs = logs.append(mapToAuditLog(rs));
-                    }
-                    return logs;
+                    return ResultStreams.toList(rs, this::mapToAuditLog);
                 }
             }
         });
@@ -97,16 +92,12 @@ public class AuditLogDAO {
     public Try<List<AuditLog>> findByEntity(String entityType, String entityId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblAuditLog WHERE EntityType = ? AND EntityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, entityType);
                 ps.setString(2, entityId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<AuditLog> logs = List.empty();
-                    while (rs.next()) {
-                        logs = logs.append(mapToAuditLog(rs));
-                    }
-                    return logs;
+                    return ResultStreams.toList(rs, this::mapToAuditLog);
                 }
             }
         });
@@ -115,20 +106,74 @@ public class AuditLogDAO {
     public Try<List<AuditLog>> findAll(LocalDateTime from, LocalDateTime to) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblAuditLog WHERE Timestamp BETWEEN ? AND ? ORDER BY Timestamp DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setTimestamp(1, Timestamp.valueOf(from));
                 ps.setTimestamp(2, Timestamp.valueOf(to));
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<AuditLog> logs = List.empty();
-                    while (rs.next()) {
-                        logs = logs.append(mapToAuditLog(rs));
-                    }
-                    return logs;
+                    return ResultStreams.toList(rs, this::mapToAuditLog);
                 }
             }
         });
     }
+
+    /**
+     * Audit entries between {@code from} and {@code to}, newest first, one page at a time.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<AuditLog>> findPage(LocalDateTime from, LocalDateTime to, Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            Page.checkPageSize(pageSize);
+            String sql = "SELECT * FROM TblAuditLog WHERE Timestamp BETWEEN ? AND ? " +
+                       (cursor.isDefined() ? "AND (Timestamp, LogID) < (?, ?) " : "") +
+                       "ORDER BY Timestamp DESC, LogID DESC LIMIT ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setTimestamp(1, Timestamp.valueOf(from));
+                ps.setTimestamp(2, Timestamp.valueOf(to));
+                int index = Page.bindCursor(ps, 3, cursor);
+                ps.setInt(index, pageSize + 1);
+                return Page.read(ps, pageSize, "Timestamp", "LogID", this::mapToAuditLog);
+            }
+        });
+    }
+
+    /**
+     * Audit entries between {@code from} and {@code to}, newest first, mapped lazily as the
+     * stream is consumed. Close the stream when done; it holds a pooled connection until then.
+     */
+    public Try<Stream<AuditLog>> stream(LocalDateTime from, LocalDateTime to, int fetchSize) {
+        String sql = "SELECT * FROM TblAuditLog WHERE Timestamp BETWEEN ? AND ? ORDER BY Timestamp DESC";
+        return ResultStreams.stream(sql, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(from));
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+        }, fetchSize, this::mapToAuditLog);
+    }
+
+    public Try<Stream<AuditLog>> stream(LocalDateTime from, LocalDateTime to) {
+        return stream(from, to, ResultStreams.DEFAULT_FETCH_SIZE);
+    }
+    
+    /**
+     * IDs of every audit entry, newest first, for tables that load rows as they are shown.
+     */
+    public Try<int[]> findIds() {
+        return Try.of(() -> {
+            String sql = "SELECT LogID FROM TblAuditLog ORDER BY Timestamp DESC, LogID DESC";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                return ResultStreams.toIntArray(rs);
+            }
+        });
+    }
+
+    /**
+     * @return the entries found, by log ID
+     */
+    public Try<Map<Integer, AuditLog>> findByIds(Iterable<Integer> logIds) {
+        return BatchLookup.findByIds("TblAuditLog", "LogID", logIds, this::mapToAuditLog);
+    }
     
     public Try<List<AuditLog>> findByUser(Integer userId) {
         return findByUserId(userId, LocalDateTime.now().minusMonths(1), LocalDateTime.now());
@@ -137,22 +182,20 @@ public class AuditLogDAO {
     public Try<List<AuditLog>> getRecentLogs(int limit) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblAuditLog ORDER BY Timestamp DESC LIMIT ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, limit);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<AuditLog> logs = List.empty();
-                    while (rs.next()) {
-                        logs = logs.append(mapToAuditLog(rs));
-                    }
-                    return logs;
+                    return ResultStreams.toList(rs, this::mapToAuditLog);
                 }
             }
         });
     }
     
  private AuditLog mapToAuditLog(ResultSet rs) throws SQLException {
-    Integer userId = rs.getObject("UserID", Integer.class);
+    // getObject(column, Integer.class) rejects SQL NULL in the SQLite driver
+    int rawUserId = rs.getInt("UserID");
+    Integer userId = rs.wasNull() ? null : rawUserId;
     return new AuditLog(
         rs.getInt("LogID"),
         Option.of(userId),
@@ -0,0 +1,87 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.control.Try;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Loads rows for many primary keys with chunked {@code IN (...)} queries, so callers that
+ * need one row per item of a list make a fixed number of round trips instead of one each.
+ */
+final class BatchLookup {
+    /** Keys per query; well under SQLite's bound-parameter limit. */
+    static final int CHUNK_SIZE = 512;
+
+    private BatchLookup() {
+    }
+
+    /**
+     * Placeholders for a chunk of {@code count} keys, padded to a power of two so only a
+     * handful of distinct statements reach the cache; pad by repeating the last key.
+     */
+    static int paddedWidth(int count) {
+        return Math.min(CHUNK_SIZE, Integer.highestOneBit(count * 2 - 1));
+    }
+
+    /**
+     * @return rows found, keyed by {@code idColumn}; missing and null IDs are left out
+     */
+    static <T> Try<Map<Integer, T>> findByIds(String table, String idColumn, Iterable<Integer> ids,
+                                              RowMapper<T> mapper) {
+        return findByIds(table, "*", idColumn, ids, mapper);
+    }
+
+    /**
+     * Like {@link #findByIds(String, String, Iterable, RowMapper)}, reading {@code columns}
+     * from {@code tables}, which may be a join; {@code idColumn} may then be qualified with its
+     * table alias and must be in {@code columns}.
+     */
+    static <T> Try<Map<Integer, T>> findByIds(String tables, String columns, String idColumn, Iterable<Integer> ids,
+                                              RowMapper<T> mapper) {
+        Set<Integer> distinct = new LinkedHashSet<>();
+        ids.forEach(id -> {
+            if (id != null) {
+                distinct.add(id);
+            }
+        });
+        if (distinct.isEmpty()) {
+            return Try.success(HashMap.empty());
+        }
+
+        String idLabel = idColumn.substring(idColumn.lastIndexOf('.') + 1);
+        return Try.of(() -> {
+            List<Integer> keys = new ArrayList<>(distinct);
+            java.util.Map<Integer, T> found = new java.util.HashMap<>(keys.size() * 2);
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get()) {
+                for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+                    List<Integer> chunk = keys.subList(from, Math.min(keys.size(), from + CHUNK_SIZE));
+                    int width = paddedWidth(chunk.size());
+                    String sql = "SELECT " + columns + " FROM " + tables + " WHERE " + idColumn + " IN (" +
+                               String.join(", ", Collections.nCopies(width, "?")) + ")";
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        for (int i = 0; i < width; i++) {
+                            ps.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                        }
+                        try (ResultSet rs = ps.executeQuery()) {
+                            RowMapper<T> rowMapper = mapper.prepare(rs);
+                            while (rs.next()) {
+                                found.put(rs.getInt(idLabel), Objects.requireNonNull(rowMapper.map(rs)));
+                            }
+                        }
+                    }
+                }
+            }
+            return HashMap.ofAll(found);
+        });
+    }
+}
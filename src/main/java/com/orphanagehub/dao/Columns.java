@@ -0,0 +1,200 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Option;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a result set by column position.
+ * <p>
+ * Reading by label makes the driver look the label up again for every value of every row.
+ * A mapper built with {@link #mapper} looks each column up once per result set, when it is
+ * {@linkplain RowMapper#prepare prepared}, and then reads every row by index. Values come
+ * straight from the driver's result set, below the pool and {@link QueryMetrics} wrappers,
+ * which only track {@code next} and {@code close}. Readers return primitives where the
+ * model has them, and none for SQL NULL.
+ */
+final class Columns {
+    /**
+     * Looks up the columns a mapper needs and returns the mapper for the rows.
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        RowMapper<T> bind(Columns columns) throws SQLException;
+    }
+
+    private final ResultSet rs;
+    private final Map<String, Integer> positions;
+    /** Zone epoch milliseconds are shown in, as {@link Timestamp#toLocalDateTime()} would. */
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private Columns(ResultSet rs) throws SQLException {
+        this.rs = rs.isWrapperFor(ResultSet.class) ? rs.unwrap(ResultSet.class) : rs;
+        ResultSetMetaData meta = rs.getMetaData();
+        int count = meta.getColumnCount();
+        this.positions = new HashMap<>(count * 2);
+        for (int column = count; column >= 1; column--) {
+            // Earliest column wins when a label repeats, as with ResultSet.findColumn
+            positions.put(meta.getColumnLabel(column).toUpperCase(Locale.ROOT), column);
+        }
+    }
+
+    /**
+     * A row mapper that looks its columns up once per result set. Mapping a single row
+     * without preparing first looks them up for that row.
+     */
+    static <T> RowMapper<T> mapper(Binder<T> binder) {
+        return new RowMapper<>() {
+            @Override
+            public T map(ResultSet rs) throws SQLException {
+                return prepare(rs).map(rs);
+            }
+
+            @Override
+            public RowMapper<T> prepare(ResultSet rs) throws SQLException {
+                return binder.bind(new Columns(rs));
+            }
+        };
+    }
+
+    /**
+     * Position of the column labelled {@code label}, ignoring case.
+     * @throws SQLException when the result set has no such column
+     */
+    int index(String label) throws SQLException {
+        Integer column = positions.get(label.toUpperCase(Locale.ROOT));
+        if (column == null) {
+            throw new SQLException("No such column: " + label);
+        }
+        return column;
+    }
+
+    String getString(int column) throws SQLException {
+        return rs.getString(column);
+    }
+
+    Option<String> optString(int column) throws SQLException {
+        return Option.of(rs.getString(column));
+    }
+
+    /** 0 for SQL NULL. */
+    int getInt(int column) throws SQLException {
+        return rs.getInt(column);
+    }
+
+    Integer getIntOrNull(int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    Option<Integer> optInt(int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? Option.none() : Option.some(value);
+    }
+
+    /** 0 for SQL NULL. */
+    double getDouble(int column) throws SQLException {
+        return rs.getDouble(column);
+    }
+
+    Option<Double> optDouble(int column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Option.none() : Option.some(value);
+    }
+
+    /** false for SQL NULL. */
+    boolean getBoolean(int column) throws SQLException {
+        return rs.getBoolean(column);
+    }
+
+    /**
+     * Reads epoch milliseconds (what {@code setTimestamp} writes) and SQLite's own
+     * {@code yyyy-MM-dd HH:mm:ss[.SSS]} text (what {@code CURRENT_TIMESTAMP} defaults write)
+     * without going through {@link Timestamp}, whose calendar conversions cost more than the
+     * rest of the row. Anything else is left to the driver.
+     */
+    LocalDateTime getDateTime(int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Number) value).longValue()), zone);
+        }
+        if (value instanceof String text) {
+            LocalDateTime parsed = parseDateTime(text);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        Timestamp ts = rs.getTimestamp(column);
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    Option<LocalDateTime> optDateTime(int column) throws SQLException {
+        return Option.of(getDateTime(column));
+    }
+
+    /**
+     * @return null unless {@code text} is {@code yyyy-MM-dd HH:mm:ss}, optionally with
+     *         milliseconds or a 'T' separator
+     */
+    private static LocalDateTime parseDateTime(String text) {
+        int length = text.length();
+        if ((length != 19 && length != 23) || text.charAt(4) != '-' || text.charAt(7) != '-' ||
+            (text.charAt(10) != ' ' && text.charAt(10) != 'T') || text.charAt(13) != ':' || text.charAt(16) != ':' ||
+            (length == 23 && text.charAt(19) != '.')) {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        int hour = digits(text, 11, 13);
+        int minute = digits(text, 14, 16);
+        int second = digits(text, 17, 19);
+        int millis = length == 23 ? digits(text, 20, 23) : 0;
+        if ((year | month | day | hour | minute | second | millis) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /** The decimal number in {@code text[from, to)}, or -1 if any character is not a digit. */
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    Option<LocalDate> optDate(int column) throws SQLException {
+        try {
+            Date date = rs.getDate(column);
+            return date != null ? Option.some(date.toLocalDate()) : Option.none();
+        } catch (SQLException e) {
+            // Stored as a timestamp
+            return optDateTime(column).map(LocalDateTime::toLocalDate);
+        }
+    }
+}
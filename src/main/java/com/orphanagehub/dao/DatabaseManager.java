@@ -2,6 +2,7 @@ package com.orphanagehub.dao;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,75 +15,202 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
 /**
  * Manages database connections using HikariCP pooling with automatic schema management.
- * Provides efficient, thread-safe connections with database initialization.
+ * SQLite allows any number of concurrent readers but only one writer, so connections are
+ * split by intent: a multi-connection read pool ({@code query_only}, WAL snapshot reads)
+ * and a single dedicated writer connection. Callers waiting for the writer queue up in
+ * Hikari's fair handoff queue instead of racing for the file lock and failing with SQLITE_BUSY.
+ * <p>
+ * Every connection opens with the same PRAGMA profile, configured through {@code db.pragma.*}
+ * keys in app.properties. The pools start on first use rather than when the class loads, so
+ * screens that never touch the database do not pay for opening it.
  */
 public class DatabaseManager {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseManager.class);
     private static final String CONFIG_FILE = "/app.properties";  // Align with resources
     private static final String DEFAULT_DB_PATH = "db/OrphanageHub.sqlite";  // CHANGED: .accdb to .sqlite
     private static final AtomicBoolean initialized = new AtomicBoolean(false);
+    private static final String PRAGMA_PREFIX = "db.pragma.";
     
-    private static volatile HikariDataSource dataSource;
+    /**
+     * PRAGMAs applied to every new connection unless app.properties overrides them. The SQLite
+     * driver runs them as it opens the connection, before the pool hands it out.
+     */
+    private static final Map<String, String> DEFAULT_PRAGMAS = Map.of(
+        "journal_mode", "WAL",         // readers keep going while the writer commits
+        "synchronous", "NORMAL",       // in WAL mode only a power loss can drop the last commits
+        "busy_timeout", "5000",        // wait on the file lock instead of failing with SQLITE_BUSY
+        "cache_size", "-16000",        // page cache per connection, in KiB when negative
+        "mmap_size", "268435456",      // memory-mapped reads for the first 256 MiB of the file
+        "temp_store", "MEMORY"         // sorts and temp indexes stay off disk
+    );
     
-    static {
-        initializeDataSource();
+    /**
+     * Declares what a caller intends to do with a connection.
+     */
+    public enum Intent {
+        /** SELECT-only work; served by the shared read pool. */
+        READ,
+        /** INSERT/UPDATE/DELETE or DDL; served by the single writer connection. */
+        WRITE
     }
     
+    private static volatile HikariDataSource readDataSource;
+    private static volatile HikariDataSource writeDataSource;
+    private static volatile GroupCommitWriter groupCommitWriter;
+    private static volatile boolean started;
+    private static volatile boolean stopped;
+    private static final Object lifecycleLock = new Object();
+    /** Applied to each pool's data source as it starts; see {@link #wrapDataSources}. */
+    private static UnaryOperator<DataSource> dataSourceWrapper = UnaryOperator.identity();
+    
     /**
-     * Initialize the HikariCP data source with proper configuration
+     * Starts the pools on first use. Later calls return immediately.
+     */
+    private static void ensureStarted() {
+        if (started) {
+            return;
+        }
+        synchronized (lifecycleLock) {
+            if (stopped) {
+                throw new IllegalStateException("Database connection pool is closed");
+            }
+            if (!started) {
+                initializeDataSource();
+                started = true;
+            }
+        }
+    }
+    
+    /**
+     * Initialize the writer connection and the read pool with proper configuration
      */
     private static void initializeDataSource() {
+        long startNanos = System.nanoTime();
         Try.of(() -> {
-            HikariConfig config = new HikariConfig();
-            
             // Load configuration from properties file, with fallback to defaults
             Properties props = loadDatabaseProperties();
             
-            // CHANGED: Configure HikariCP for SQLite instead of UCanAccess
-            String dbPath = props.getProperty("db.url", "jdbc:sqlite:" + DEFAULT_DB_PATH);
-            config.setJdbcUrl(dbPath);  // CHANGED: Removed UCanAccess-specific parameters
+            // -Ddb.* system properties win so tools can point at a scratch database or try other settings
+            for (String key : System.getProperties().stringPropertyNames()) {
+                if (key.startsWith("db.")) {
+                    props.setProperty(key, System.getProperty(key));
+                }
+            }
+            String dbUrl = props.getProperty("db.url", "jdbc:sqlite:" + DEFAULT_DB_PATH);
             
             // CHANGED: Load SQLite driver instead of UCanAccess
             try {
                 Class.forName("org.sqlite.JDBC");
-                config.setDriverClassName("org.sqlite.JDBC");
             } catch (ClassNotFoundException e) {
                 throw new RuntimeException("SQLite JDBC driver not found in classpath", e);
             }
             
-            // Connection pool settings optimized for small desktop app
-            config.setMaximumPoolSize(Integer.parseInt(props.getProperty("project.build.pool.maxSize", "10")));
-            config.setMinimumIdle(Integer.parseInt(props.getProperty("project.build.pool.minIdle", "2")));
-            config.setConnectionTimeout(Long.parseLong(props.getProperty("project.build.pool.connectionTimeout", "30000")));
-            config.setIdleTimeout(Long.parseLong(props.getProperty("project.build.pool.idleTimeout", "600000")));
-            config.setMaxLifetime(Long.parseLong(props.getProperty("project.build.pool.maxLifetime", "1800000")));
+            QueryMetrics.configure(
+                Boolean.parseBoolean(props.getProperty("db.metrics.enabled", "true")),
+                Long.parseLong(props.getProperty("db.metrics.slowQueryMs", "250")));
+            EntityCache.configure(
+                Long.parseLong(props.getProperty("db.entityCache.maxSize", "10000")),
+                Long.parseLong(props.getProperty("db.entityCache.ttlSeconds", "300")));
+            ReferenceData.configure(Long.parseLong(props.getProperty("db.referenceData.refreshSeconds", "600")));
             
-            // CHANGED: Connection test query for SQLite - Use SELECT 1 instead of VALUES(1)
-            config.setConnectionTestQuery("SELECT 1");
-            config.setPoolName("OrphanageHubPool");
+            // Writer first: it switches the file to WAL, which readers depend on
+            writeDataSource = new HikariDataSource(createWriterConfig(dbUrl, props));
+            logger.info("SQLite writer connection initialized");
             
-            // Additional optimizations for desktop use
-            config.setAutoCommit(true);
-            config.setReadOnly(false);
-            config.setLeakDetectionThreshold(60000);
+            // Initialize database schema before readers attach
+            initializeDatabase();
             
-            dataSource = new HikariDataSource(config);
-            logger.info("HikariCP connection pool initialized successfully");
+            readDataSource = new HikariDataSource(createReaderConfig(dbUrl, props));
+            logger.info("HikariCP read pool initialized with {} connections", 
+                readDataSource.getMaximumPoolSize());
             
-            // Initialize database schema after pool creation
-            initializeDatabase();
+            groupCommitWriter = new GroupCommitWriter(
+                Integer.parseInt(props.getProperty("db.groupCommit.queueCapacity", "10000")),
+                Integer.parseInt(props.getProperty("db.groupCommit.maxBatchSize", "256")),
+                Long.parseLong(props.getProperty("db.groupCommit.maxDelayMs", "5")),
+                Long.parseLong(props.getProperty("db.groupCommit.enqueueTimeoutMs", "1000")));
+            
+            // The app exits via EXIT_ON_CLOSE; make sure queued writes still reach the disk
+            Runtime.getRuntime().addShutdownHook(new Thread(DatabaseManager::shutdown, "OrphanageHub-DbShutdown"));
+            logger.info("Database started in {} ms", (System.nanoTime() - startNanos) / 1_000_000);
             return null;
         }).onFailure(error -> {
             logger.error("Failed to initialize database connection pool", error);
+            closePools();
             throw new RuntimeException("Database initialization failed: " + error.getMessage(), error);
         });
     }
     
+    /**
+     * Single-connection pool that owns all writes. WAL lets the readers keep going while it commits.
+     */
+    private static HikariConfig createWriterConfig(String dbUrl, Properties props) {
+        HikariConfig config = createBaseConfig(dbUrl, props);
+        config.setPoolName("OrphanageHubWriter");
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(1);
+        return config;
+    }
+    
+    /**
+     * Read pool sized to the machine; {@code query_only} turns an accidental write into an error
+     * instead of a second writer fighting for the lock.
+     */
+    private static HikariConfig createReaderConfig(String dbUrl, Properties props) {
+        HikariConfig config = createBaseConfig(dbUrl, props);
+        int defaultReaders = Math.max(2, Runtime.getRuntime().availableProcessors());
+        config.setPoolName("OrphanageHubReadPool");
+        config.setMaximumPoolSize(Integer.parseInt(
+            props.getProperty("project.build.pool.maxSize", String.valueOf(defaultReaders))));
+        config.setMinimumIdle(Integer.parseInt(props.getProperty("project.build.pool.minIdle", "1")));
+        config.setConnectionInitSql("PRAGMA query_only = 1");
+        return config;
+    }
+    
+    private static HikariConfig createBaseConfig(String dbUrl, Properties props) {
+        HikariConfig config = new HikariConfig();
+        // The driver applies the PRAGMA profile as it opens each connection, and every
+        // connection carries its own prepared statement cache
+        Properties pragmas = new Properties();
+        pragmas.putAll(pragmaProfile(props));
+        config.setDataSource(dataSourceWrapper.apply(StatementCache.dataSource(dbUrl, pragmas,
+            Integer.parseInt(props.getProperty("db.statementCache.size", "64")))));
+        
+        // Connection pool settings optimized for small desktop app
+        config.setConnectionTimeout(Long.parseLong(props.getProperty("project.build.pool.connectionTimeout", "30000")));
+        config.setIdleTimeout(Long.parseLong(props.getProperty("project.build.pool.idleTimeout", "600000")));
+        config.setMaxLifetime(Long.parseLong(props.getProperty("project.build.pool.maxLifetime", "1800000")));
+        
+        // CHANGED: Connection test query for SQLite - Use SELECT 1 instead of VALUES(1)
+        config.setConnectionTestQuery("SELECT 1");
+        
+        // Additional optimizations for desktop use
+        config.setAutoCommit(true);
+        config.setLeakDetectionThreshold(60000);
+        return config;
+    }
+    
+    /**
+     * Default PRAGMAs overlaid with any {@code db.pragma.<name>} entries from app.properties.
+     */
+    private static Map<String, String> pragmaProfile(Properties props) {
+        Map<String, String> pragmas = new TreeMap<>(DEFAULT_PRAGMAS);
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(PRAGMA_PREFIX)) {
+                pragmas.put(key.substring(PRAGMA_PREFIX.length()), props.getProperty(key).trim());
+            }
+        }
+        return pragmas;
+    }
+    
     /**
      * Load database properties from configuration file
      */
@@ -114,21 +242,82 @@ public class DatabaseManager {
     private static void setDefaultProperties(Properties props) {
         props.setProperty("db.url", "jdbc:sqlite:" + DEFAULT_DB_PATH);  // CHANGED: jdbc:ucanaccess:// to jdbc:sqlite:
         props.setProperty("project.build.pool.maxSize", "10");
-        props.setProperty("project.build.pool.minIdle", "2");
+        props.setProperty("project.build.pool.minIdle", "1");
         props.setProperty("project.build.pool.connectionTimeout", "30000");
         props.setProperty("project.build.pool.idleTimeout", "600000");
         props.setProperty("project.build.pool.maxLifetime", "1800000");
     }
     
     /**
-     * Gets a connection from the pool.
+     * Gets a connection for the given intent. READ connections come from the shared read pool;
+     * WRITE connections wait their turn for the single writer. Inside a {@link TransactionContext}
+     * unit of work both intents get the connection bound to the current thread.
      * @return Try<Connection> - success with connection, failure on error
      */
-    public static Try<Connection> getConnection() {
-        if (dataSource == null || dataSource.isClosed()) {
+    public static Try<Connection> getConnection(Intent intent) {
+        Option<Connection> ambient = TransactionContext.current();
+        if (ambient.isDefined()) {
+            return Try.success(ambient.get());
+        }
+        Try<Void> start = Try.run(DatabaseManager::ensureStarted);
+        if (start.isFailure()) {
+            return Try.failure(start.getCause());
+        }
+        HikariDataSource source = intent == Intent.READ ? readDataSource : writeDataSource;
+        if (source == null || source.isClosed()) {
             return Try.failure(new SQLException("Database connection pool is not initialized or closed"));
         }
-        return Try.of(dataSource::getConnection);
+        return Try.of(() -> {
+            long waitStart = System.nanoTime();
+            Connection conn = source.getConnection();
+            QueryMetrics.recordAcquire(intent, System.nanoTime() - waitStart);
+            return QueryMetrics.instrument(conn);
+        });
+    }
+    
+    /**
+     * Wraps the data source of both pools, e.g. so a benchmark can slow every query down as a
+     * database across a network would. Must be called before the pools start.
+     */
+    static void wrapDataSources(UnaryOperator<DataSource> wrapper) {
+        synchronized (lifecycleLock) {
+            if (started) {
+                throw new IllegalStateException("Database connection pool is already started");
+            }
+            dataSourceWrapper = wrapper;
+        }
+    }
+    
+    /**
+     * Gets the group-commit pipeline used for fire-and-forget inserts.
+     */
+    public static GroupCommitWriter getGroupCommitWriter() {
+        ensureStarted();
+        return groupCommitWriter;
+    }
+    
+    /**
+     * Prepared statement cache counters across all pooled connections.
+     */
+    public static StatementCache.Stats getStatementCacheStats() {
+        return StatementCache.stats();
+    }
+    
+    /**
+     * Number of connections in the read pool, i.e. how many readers can run at once.
+     */
+    public static int getReadPoolSize() {
+        ensureStarted();
+        return readDataSource != null ? readDataSource.getMaximumPoolSize() : 0;
+    }
+    
+    /**
+     * Gets a connection with write intent. Kept for tools that run arbitrary SQL;
+     * DAOs should call {@link #getConnection(Intent)} and say what they need.
+     * @return Try<Connection> - success with connection, failure on error
+     */
+    public static Try<Connection> getConnection() {
+        return getConnection(Intent.WRITE);
     }
     
     /**
@@ -139,13 +328,32 @@ public class DatabaseManager {
             return; // Already initialized
         }
         
-        getConnection().andThen(conn -> {
+        // Straight from the writer pool: getConnection would start the pools a second time,
+        // since they are not marked started until this returns. The writer must be handed
+        // back, otherwise every later write waits on it
+        Try.of(() -> QueryMetrics.instrument(writeDataSource.getConnection())).andThen(conn -> {
             Try.run(() -> {
-                // Ensure required columns exist in TblUsers
-                ensureUserTableSchema(conn);
-                
-                // Verify all tables exist
-                verifyRequiredTables(conn);
+                try (conn) {
+                    // Ensure required columns exist in TblUsers
+                    ensureUserTableSchema(conn);
+                    
+                    // Verify all tables exist
+                    verifyRequiredTables(conn);
+                    
+                    // Dashboard counters; created and filled once
+                    Try.run(() -> RollupTables.ensureCreated(conn))
+                        .onFailure(error -> logger.error("Failed to create rollup tables", error));
+                    
+                    // Full-text search; created and filled once
+                    Try.run(() -> SearchIndex.ensureCreated(conn))
+                        .onFailure(error -> logger.error("Failed to create search indexes", error));
+                    
+                    // Radius and nearest searches; created and filled once
+                    Try.run(() -> GeoIndex.ensureCreated(conn))
+                        .onFailure(error -> logger.error("Failed to create orphanage location index", error));
+                    
+                    logPragmaProfile(conn);
+                }
                 
                 logger.info("Database schema initialization completed successfully");
             }).onFailure(error -> {
@@ -219,10 +427,27 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Logs the PRAGMA values the connection actually ended up with, e.g. to spot a
+     * journal_mode that could not switch to WAL.
+     */
+    private static void logPragmaProfile(Connection conn) throws SQLException {
+        StringBuilder effective = new StringBuilder();
+        try (Statement stmt = conn.createStatement()) {
+            for (String pragma : new TreeMap<>(DEFAULT_PRAGMAS).keySet()) {
+                try (ResultSet rs = stmt.executeQuery("PRAGMA " + pragma)) {
+                    effective.append(effective.isEmpty() ? "" : ", ")
+                        .append(pragma).append('=').append(rs.next() ? rs.getString(1) : "?");
+                }
+            }
+        }
+        logger.info("SQLite PRAGMA profile: {}", effective);
+    }
+
     /**
      * Check if a column exists in a table
      */
-    private static boolean columnExists(Connection conn, String tableName, String columnName) throws SQLException {
+    static boolean columnExists(Connection conn, String tableName, String columnName) throws SQLException {
         DatabaseMetaData meta = conn.getMetaData();
         try (ResultSet columns = meta.getColumns(null, null, tableName, columnName)) {
             return columns.next();
@@ -233,7 +458,7 @@ public class DatabaseManager {
      * Test database connection
      */
     public static Try<Boolean> testConnection() {
-        return getConnection().map(conn -> {
+        return getConnection(Intent.READ).map(conn -> {
             try (conn) {
                 return conn.isValid(5);
             } catch (SQLException e) {
@@ -243,12 +468,36 @@ public class DatabaseManager {
     }
     
     /**
-     * Shutdown the connection pool gracefully
+     * Flush queued writes, then shutdown the read pool and the writer gracefully. Only the
+     * first call does anything; the shutdown hook calls it again on exit.
      */
     public static void shutdown() {
-        if (dataSource != null && !dataSource.isClosed()) {
-            logger.info("Shutting down database connection pool");
-            dataSource.close();
+        synchronized (lifecycleLock) {
+            stopped = true;
+            if (!started) {
+                return;
+            }
+            if (groupCommitWriter != null) {
+                groupCommitWriter.shutdown();
+                groupCommitWriter = null;
+            }
+            if (!QueryMetrics.statements().isEmpty()) {
+                logger.info("Query metrics for this session:\n{}", QueryMetrics.report(15));
+            }
+            logger.info("Entity caches for this session:\n{}", EntityCache.report());
+            closePools();
+            started = false;
+        }
+    }
+    
+    private static void closePools() {
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            logger.info("Shutting down database read pool");
+            readDataSource.close();
+        }
+        if (writeDataSource != null && !writeDataSource.isClosed()) {
+            logger.info("Shutting down database writer connection");
+            writeDataSource.close();
         }
     }
-}
\ No newline at end of file
+}
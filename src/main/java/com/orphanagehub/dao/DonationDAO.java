@@ -1,7 +1,9 @@
 package com.orphanagehub.dao;
 
 import com.orphanagehub.model.Donation;
+import com.orphanagehub.model.DonorStatistics;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
@@ -9,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 import java.util.UUID;
 
 public class DonationDAO {
@@ -19,7 +22,7 @@ public class DonationDAO {
             String sql = "INSERT INTO TblDonations (DonorID, OrphanageID, RequestID, " +
                        "DonationType, Amount, Currency, ItemDescription, Status, " +
                        "DonationDate, CreatedDate) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 
                 ps.setInt(1, donation.donorId());
@@ -51,11 +54,11 @@ public class DonationDAO {
     public Try<Option<Donation>> findById(Integer id) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblDonations WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 try (ResultSet rs = ps.executeQuery()) {
-                    return rs.next() ? Option.of(mapToDonation(rs)) : Option.<Donation>none();
+                    return rs.next() ? Option.of(DONATION_MAPPER.map(rs)) : Option.<Donation>none();
                 }
             }
         });
@@ -64,31 +67,56 @@ public class DonationDAO {
     public Try<List<Donation>> findAll() {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblDonations ORDER BY DonationDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql);
                  ResultSet rs = ps.executeQuery()) {
-                List<Donation> donations = List.empty();
-                while (rs.next()) {
-                    donations = donations.append(mapToDonation(rs));
-                }
+                List<Donation> donations = ResultStreams.toList(rs, DONATION_MAPPER);
                 logger.debug("Found {} donations", donations.size());
                 return donations;
             }
         });
     }
+
+    /**
+     * Newest donations first, one page at a time.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<Donation>> findPage(Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            Page.checkPageSize(pageSize);
+            String sql = "SELECT * FROM TblDonations " +
+                       (cursor.isDefined() ? "WHERE (DonationDate, DonationID) < (?, ?) " : "") +
+                       "ORDER BY DonationDate DESC, DonationID DESC LIMIT ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                int index = Page.bindCursor(ps, 1, cursor);
+                ps.setInt(index, pageSize + 1);
+                return Page.read(ps, pageSize, "DonationDate", "DonationID", DONATION_MAPPER);
+            }
+        });
+    }
+
+    /**
+     * Every donation, newest first, mapped lazily as the stream is consumed. Close the stream
+     * when done; it holds a pooled connection until then.
+     */
+    public Try<Stream<Donation>> streamAll(int fetchSize) {
+        String sql = "SELECT * FROM TblDonations ORDER BY DonationDate DESC";
+        return ResultStreams.stream(sql, ps -> {}, fetchSize, DONATION_MAPPER);
+    }
+
+    public Try<Stream<Donation>> streamAll() {
+        return streamAll(ResultStreams.DEFAULT_FETCH_SIZE);
+    }
     
     public Try<List<Donation>> findByDonor(Integer donorId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblDonations WHERE DonorID = ? ORDER BY DonationDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, donorId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<Donation> donations = List.empty();
-                    while (rs.next()) {
-                        donations = donations.append(mapToDonation(rs));
-                    }
-                    return donations;
+                    return ResultStreams.toList(rs, DONATION_MAPPER);
                 }
             }
         });
@@ -97,25 +125,84 @@ public class DonationDAO {
     public Try<List<Donation>> findByOrphanage(Integer orphanageId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblDonations WHERE OrphanageID = ? ORDER BY DonationDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, orphanageId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<Donation> donations = List.empty();
-                    while (rs.next()) {
-                        donations = donations.append(mapToDonation(rs));
-                    }
-                    return donations;
+                    return ResultStreams.toList(rs, DONATION_MAPPER);
                 }
             }
         });
     }
     
+    /**
+     * An orphanage's donations as its dashboard lists them, newest first. Reads only the
+     * listed columns and the donor's username, in one query.
+     */
+    public Try<List<DonationRow>> findRowsByOrphanage(Integer orphanageId) {
+        return Try.of(() -> {
+            String sql = "SELECT " + DONATION_ROW_COLUMNS + " FROM " + DONATION_ROW_FROM +
+                         " WHERE d.OrphanageID = ? ORDER BY d.DonationDate DESC";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, orphanageId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return ResultStreams.toList(rs, DONATION_ROW_MAPPER);
+                }
+            }
+        });
+    }
+
+    /**
+     * IDs of an orphanage's donations, newest first, for tables that load rows as they are shown.
+     */
+    public Try<int[]> findRowIdsByOrphanage(Integer orphanageId) {
+        return Try.of(() -> {
+            String sql = "SELECT DonationID FROM TblDonations WHERE OrphanageID = ? " +
+                         "ORDER BY DonationDate DESC, DonationID DESC";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, orphanageId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    return ResultStreams.toIntArray(rs);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return the rows found, by donation ID; deleted donations are left out
+     */
+    public Try<Map<Integer, DonationRow>> findRowsByIds(Iterable<Integer> donationIds) {
+        return BatchLookup.findByIds(DONATION_ROW_FROM, DONATION_ROW_COLUMNS, "d.DonationID", donationIds,
+                                     DONATION_ROW_MAPPER);
+    }
+
+    /**
+     * Donations to an orphanage not yet completed, read from the rollup.
+     */
+    public Try<Integer> countIncompleteByOrphanage(Integer orphanageId) {
+        return Try.of(() -> {
+            String sql = "SELECT TOTAL(DonationCount) AS Incomplete FROM TblDonationRollup " +
+                         "WHERE Scope = 'orphanage' AND ScopeKey = ? AND UPPER(Status) <> 'COMPLETED'";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setString(1, String.valueOf(orphanageId));
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next() ? rs.getInt("Incomplete") : 0;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Completed money donations, read from the trigger-maintained rollup.
+     */
     public Try<Double> getTotalDonations() {
         return Try.of(() -> {
-            String sql = "SELECT COALESCE(SUM(Amount), 0) as Total FROM TblDonations " +
-                        "WHERE Status = 'Completed' AND DonationType = 'Money'";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            String sql = "SELECT TOTAL(MoneyTotal) AS Total FROM TblDonationRollup " +
+                        "WHERE Scope = 'all' AND ScopeKey = '' AND Status = 'Completed'";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
                 if (rs.next()) {
@@ -126,12 +213,14 @@ public class DonationDAO {
         });
     }
     
+    /**
+     * Completed donations this calendar month (UTC), read from the rollup.
+     */
     public Try<Integer> getMonthlyDonationCount() {
         return Try.of(() -> {
-            String sql = "SELECT COUNT(*) as Count FROM TblDonations WHERE " +
-                        "strftime('%Y-%m', DonationDate) = strftime('%Y-%m', 'now') " +
-                        "AND Status = 'Completed'";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            String sql = "SELECT TOTAL(DonationCount) AS Count FROM TblDonationRollup " +
+                        "WHERE Scope = 'month' AND ScopeKey = strftime('%Y-%m', 'now') AND Status = 'Completed'";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
                 if (rs.next()) {
@@ -142,15 +231,16 @@ public class DonationDAO {
         });
     }
 
+    /**
+     * Money total and donation count for one orphanage across all statuses, read from the rollup.
+     */
     public Try<DonationStatistics> getStatistics(Integer orphanageId) {
         return Try.of(() -> {
-            String sql = "SELECT " +
-                         "COALESCE(SUM(CASE WHEN DonationType = 'Money' THEN Amount ELSE 0 END), 0) as totalAmount, " +
-                         "COUNT(*) as totalCount " +
-                         "FROM TblDonations WHERE OrphanageID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            String sql = "SELECT TOTAL(MoneyTotal) as totalAmount, TOTAL(DonationCount) as totalCount " +
+                         "FROM TblDonationRollup WHERE Scope = 'orphanage' AND ScopeKey = ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setInt(1, orphanageId);
+                ps.setString(1, String.valueOf(orphanageId));
                 try (ResultSet rs = ps.executeQuery()) {
                     if (rs.next()) {
                         double totalAmount = rs.getDouble("totalAmount");
@@ -163,13 +253,47 @@ public class DonationDAO {
             }
         });
     }
+
+    /**
+     * Totals for one donor. Counts and amounts come from the rollup; the distinct orphanage
+     * IDs from the donor's donations, so only aggregates cross into Java.
+     */
+    public Try<DonorStatistics> getDonorStatistics(Integer donorId) {
+        return Try.of(() -> {
+            String totalsSql = "SELECT TOTAL(DonationCount) AS TotalDonations, TOTAL(MoneyTotal) AS TotalAmount, " +
+                             "TOTAL(ItemCount) AS ItemDonations, TOTAL(RecurringCount) AS RecurringDonations " +
+                             "FROM TblDonationRollup WHERE Scope = 'donor' AND ScopeKey = ?";
+            String orphanagesSql = "SELECT DISTINCT OrphanageID FROM TblDonations WHERE DonorID = ? ORDER BY OrphanageID";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement totals = conn.prepareStatement(totalsSql);
+                 PreparedStatement orphanages = conn.prepareStatement(orphanagesSql)) {
+                totals.setString(1, String.valueOf(donorId));
+                orphanages.setInt(1, donorId);
+                List<String> orphanageIds;
+                try (ResultSet rs = orphanages.executeQuery()) {
+                    orphanageIds = ResultStreams.toList(rs, row -> row.getString("OrphanageID"));
+                }
+                try (ResultSet rs = totals.executeQuery()) {
+                    rs.next();
+                    return new DonorStatistics(
+                        rs.getInt("TotalDonations"),
+                        rs.getDouble("TotalAmount"),
+                        rs.getInt("ItemDonations"),
+                        rs.getInt("RecurringDonations"),
+                        orphanageIds.size(),
+                        orphanageIds
+                    );
+                }
+            }
+        });
+    }
     
     public Try<Void> update(Donation donation) {
         return Try.run(() -> {
             String sql = "UPDATE TblDonations SET DonorID = ?, OrphanageID = ?, " +
                         "DonationType = ?, Amount = ?, Status = ?, ModifiedDate = ? " +
                         "WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, donation.donorId());
                 ps.setInt(2, donation.orphanageId());
@@ -186,7 +310,7 @@ public class DonationDAO {
     public Try<Void> markCompleted(Integer donationId, String transactionRef) {
         return Try.run(() -> {
             String sql = "UPDATE TblDonations SET Status = 'Completed', TransactionReference = ?, ModifiedDate = ? WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, transactionRef);
                 ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
@@ -203,7 +327,7 @@ public class DonationDAO {
         return Try.run(() -> {
             String sql = "UPDATE TblDonations SET RecurringDonation = 0, " +
                         "NextRecurrenceDate = NULL, ModifiedDate = ? WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
                 ps.setInt(2, donationId);
@@ -223,7 +347,7 @@ public class DonationDAO {
     public Try<Void> updateNextRecurrence(Integer donationId, LocalDateTime nextDate) {
         return Try.run(() -> {
             String sql = "UPDATE TblDonations SET NextRecurrenceDate = ?, ModifiedDate = ? WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setTimestamp(1, Timestamp.valueOf(nextDate));
                 ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
@@ -241,7 +365,7 @@ public class DonationDAO {
     public Try<Void> delete(Integer id) {
         return Try.run(() -> {
             String sql = "DELETE FROM TblDonations WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 ps.executeUpdate();
@@ -249,6 +373,26 @@ public class DonationDAO {
         });
     }
     
+    /**
+     * A donation as a table lists it, with the donor's username ("Anonymous" without a donor).
+     */
+    public record DonationRow(
+        int donationId,
+        String donorName,
+        String donationType,
+        Option<Double> amount,
+        Option<Double> quantity,
+        Option<String> unit,
+        Option<String> paymentMethod,
+        LocalDateTime donationDate,
+        String status,
+        boolean thankYouSent
+    ) {
+        public boolean isComplete() {
+            return Donation.STATUS_COMPLETED.equalsIgnoreCase(status);
+        }
+    }
+    
     public static class DonationStatistics {
         public final double totalAmount;
         public final int totalCount;
@@ -261,48 +405,103 @@ public class DonationDAO {
         }
     }
     
-    private Donation mapToDonation(ResultSet rs) throws SQLException {
-        return new Donation(
-            rs.getObject("DonationID", Integer.class),
-            rs.getObject("DonorID", Integer.class),
-            rs.getObject("OrphanageID", Integer.class),
-            Option.of(rs.getObject("RequestID", Integer.class)),
-            rs.getString("DonationType"),
-            Option.of(rs.getObject("Amount", Double.class)),
-            Option.of(rs.getString("Currency")).getOrElse("ZAR"),
-            Option.of(rs.getString("ItemDescription")),
-            Option.of(rs.getObject("Quantity", Double.class)),
-            Option.of(rs.getString("Unit")),
-            Option.of(rs.getObject("EstimatedValue", Double.class)),
-            getLocalDateTime(rs, "DonationDate"),
-            Option.of(rs.getTimestamp("ScheduledDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getString("Status")).getOrElse("Pending"),
-            Option.of(rs.getString("PaymentMethod")),
-            Option.of(rs.getString("TransactionReference")),
-            rs.getBoolean("TaxDeductible"),
-            rs.getBoolean("AnonymousDonation"),
-            rs.getBoolean("RecurringDonation"),
-            Option.of(rs.getString("RecurrenceInterval")),
-            Option.of(rs.getTimestamp("NextRecurrenceDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getString("DonorMessage")),
-            rs.getBoolean("ThankYouSent"),
-            Option.of(rs.getTimestamp("ThankYouDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getString("ReceiptNumber")),
-            rs.getBoolean("ReceiptSent"),
-            Option.of(rs.getString("Notes")),
-            getLocalDateTime(rs, "CreatedDate"),
-            Option.of(rs.getTimestamp("ModifiedDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getObject("ModifiedBy", Integer.class))
+    private static final RowMapper<Donation> DONATION_MAPPER = Columns.mapper(c -> {
+        int donationId = c.index("DonationID");
+        int donorId = c.index("DonorID");
+        int orphanageId = c.index("OrphanageID");
+        int requestId = c.index("RequestID");
+        int donationType = c.index("DonationType");
+        int amount = c.index("Amount");
+        int currency = c.index("Currency");
+        int itemDescription = c.index("ItemDescription");
+        int quantity = c.index("Quantity");
+        int unit = c.index("Unit");
+        int estimatedValue = c.index("EstimatedValue");
+        int donationDate = c.index("DonationDate");
+        int scheduledDate = c.index("ScheduledDate");
+        int status = c.index("Status");
+        int paymentMethod = c.index("PaymentMethod");
+        int transactionReference = c.index("TransactionReference");
+        int taxDeductible = c.index("TaxDeductible");
+        int anonymousDonation = c.index("AnonymousDonation");
+        int recurringDonation = c.index("RecurringDonation");
+        int recurrenceInterval = c.index("RecurrenceInterval");
+        int nextRecurrenceDate = c.index("NextRecurrenceDate");
+        int donorMessage = c.index("DonorMessage");
+        int thankYouSent = c.index("ThankYouSent");
+        int thankYouDate = c.index("ThankYouDate");
+        int receiptNumber = c.index("ReceiptNumber");
+        int receiptSent = c.index("ReceiptSent");
+        int notes = c.index("Notes");
+        int createdDate = c.index("CreatedDate");
+        int modifiedDate = c.index("ModifiedDate");
+        int modifiedBy = c.index("ModifiedBy");
+        return rs -> new Donation(
+            c.getIntOrNull(donationId),
+            c.getIntOrNull(donorId),
+            c.getIntOrNull(orphanageId),
+            c.optInt(requestId),
+            c.getString(donationType),
+            c.optDouble(amount),
+            c.optString(currency).getOrElse("ZAR"),
+            c.optString(itemDescription),
+            c.optDouble(quantity),
+            c.optString(unit),
+            c.optDouble(estimatedValue),
+            orNow(c.getDateTime(donationDate)),
+            c.optDateTime(scheduledDate),
+            c.optString(status).getOrElse("Pending"),
+            c.optString(paymentMethod),
+            c.optString(transactionReference),
+            c.getBoolean(taxDeductible),
+            c.getBoolean(anonymousDonation),
+            c.getBoolean(recurringDonation),
+            c.optString(recurrenceInterval),
+            c.optDateTime(nextRecurrenceDate),
+            c.optString(donorMessage),
+            c.getBoolean(thankYouSent),
+            c.optDateTime(thankYouDate),
+            c.optString(receiptNumber),
+            c.getBoolean(receiptSent),
+            c.optString(notes),
+            orNow(c.getDateTime(createdDate)),
+            c.optDateTime(modifiedDate),
+            c.optInt(modifiedBy)
         );
-    }
+    });
+
+    private static final String DONATION_ROW_COLUMNS =
+        "d.DonationID, u.Username, d.DonationType, d.Amount, d.Quantity, d.Unit, " +
+        "d.PaymentMethod, d.DonationDate, d.Status, d.ThankYouSent";
+    private static final String DONATION_ROW_FROM = "TblDonations d LEFT JOIN TblUsers u ON u.UserID = d.DonorID";
+
+    private static final RowMapper<DonationRow> DONATION_ROW_MAPPER = Columns.mapper(c -> {
+        int donationId = c.index("DonationID");
+        int username = c.index("Username");
+        int donationType = c.index("DonationType");
+        int amount = c.index("Amount");
+        int quantity = c.index("Quantity");
+        int unit = c.index("Unit");
+        int paymentMethod = c.index("PaymentMethod");
+        int donationDate = c.index("DonationDate");
+        int status = c.index("Status");
+        int thankYouSent = c.index("ThankYouSent");
+        return rs -> new DonationRow(
+            c.getInt(donationId),
+            c.optString(username).getOrElse("Anonymous"),
+            c.getString(donationType),
+            c.optDouble(amount),
+            c.optDouble(quantity),
+            c.optString(unit),
+            c.optString(paymentMethod),
+            orNow(c.getDateTime(donationDate)),
+            c.optString(status).getOrElse(Donation.STATUS_PENDING),
+            c.getBoolean(thankYouSent)
+        );
+    });
 
-    private LocalDateTime getLocalDateTime(ResultSet rs, String column) throws SQLException {
-        Timestamp ts = rs.getTimestamp(column);
-        return ts != null ? ts.toLocalDateTime() : LocalDateTime.now();
+    private static LocalDateTime orNow(LocalDateTime value) {
+        return value != null ? value : LocalDateTime.now();
     }
     
     private Donation withId(Donation donation, Integer id) {
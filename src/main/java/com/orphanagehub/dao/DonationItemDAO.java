@@ -13,7 +13,7 @@ public class DonationItemDAO {
         return Try.of(() -> {
             String sql = "INSERT INTO TblDonationItems (DonationID, ItemType, ItemDescription, " +
                         "Quantity, Unit, EstimatedValue, CreatedDate) VALUES (?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 for (DonationItem item : items) {
                     ps.setInt(1, donationId);
@@ -34,15 +34,11 @@ public class DonationItemDAO {
     public Try<List<DonationItem>> findByDonation(Integer donationId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblDonationItems WHERE DonationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, donationId);
                 ResultSet rs = ps.executeQuery();
-                List<DonationItem> items = List.empty();
-                while (rs.next()) {
-                    items = items.append(mapToDonationItem(rs));
-                }
-                return items;
+                return ResultStreams.toList(rs, this::mapToDonationItem);
             }
         });
     }
@@ -0,0 +1,117 @@
+package com.orphanagehub.dao;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded read-through cache of rows by primary key, shared by every instance of a DAO.
+ * <p>
+ * A miss loads the row through the DAO's uncached lookup; concurrent misses for the same key
+ * wait on one load. Absent rows are cached too, as {@link Option#none()}. Entries are evicted
+ * by size and by age ({@code db.entityCache.maxSize}, {@code db.entityCache.ttlSeconds}), and
+ * the DAO invalidates a key whenever it writes that row. Inside a {@link TransactionContext}
+ * reads bypass the cache, so uncommitted rows are never cached, and invalidation is repeated
+ * once the transaction ends.
+ * <p>
+ * Writes that bypass the DAO (DbShell, other processes) are picked up once the entry expires.
+ */
+final class EntityCache<V> {
+    private static final List<EntityCache<?>> caches = new CopyOnWriteArrayList<>();
+
+    private static volatile long maxSize = 10_000;
+    private static volatile long ttlSeconds = 300;
+
+    private final String name;
+    private final Loader<V> loader;
+    private volatile LoadingCache<Integer, Option<V>> cache;
+
+    @FunctionalInterface
+    interface Loader<V> {
+        Try<Option<V>> load(Integer id);
+    }
+
+    EntityCache(String name, Loader<V> loader) {
+        this.name = name;
+        this.loader = loader;
+        this.cache = build();
+        caches.add(this);
+    }
+
+    /**
+     * Applies the configured limits; existing caches are rebuilt empty. A size or TTL of 0 disables caching.
+     */
+    static void configure(long size, long ttl) {
+        maxSize = size;
+        ttlSeconds = ttl;
+        caches.forEach(EntityCache::rebuild);
+    }
+
+    private void rebuild() {
+        cache = build();
+    }
+
+    private LoadingCache<Integer, Option<V>> build() {
+        return CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+            .recordStats()
+            .build(new CacheLoader<>() {
+                @Override
+                public Option<V> load(Integer id) throws Exception {
+                    return loader.load(id).get();
+                }
+            });
+    }
+
+    Try<Option<V>> get(Integer id) {
+        if (id == null || TransactionContext.isActive()) {
+            return loader.load(id);
+        }
+        return Try.of(() -> {
+            try {
+                return cache.get(id);
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        });
+    }
+
+    void invalidate(Integer id) {
+        if (id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        if (TransactionContext.isActive()) {
+            // A reader may cache the committed row again before this transaction commits
+            TransactionContext.afterCompletion(() -> cache.invalidate(id));
+        }
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * One line per cache: size, hit rate, loads and evictions since the cache was built.
+     */
+    static String report() {
+        StringBuilder report = new StringBuilder();
+        for (EntityCache<?> entityCache : caches) {
+            CacheStats stats = entityCache.stats();
+            report.append(String.format("%-12s size %6d  requests %8d  hit rate %5.1f%%  loads %6d  avg load %.3f ms  evictions %d%n",
+                entityCache.name, entityCache.cache.size(), stats.requestCount(), stats.hitRate() * 100,
+                stats.loadCount(), stats.averageLoadPenalty() / 1_000_000.0, stats.evictionCount()));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,198 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Spatial index of orphanage locations for radius and nearest-neighbour searches.
+ * <p>
+ * {@code TblOrphanageGeo} is an SQLite R*Tree holding one point per orphanage with a latitude
+ * and longitude, kept current by triggers on insert, delete and coordinate updates, so a
+ * search sees every committed change at once. A search reads only the orphanages inside the
+ * bounding box of the circle and then checks the exact great-circle distance of those.
+ * <p>
+ * The table is created and filled on first start; {@link #rebuild()} refills it and
+ * {@code DbMigrator rebuild-geo} runs that.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class GeoIndex {
+    private static final Logger logger = LoggerFactory.getLogger(GeoIndex.class);
+
+    static final double EARTH_RADIUS_KM = 6371.0;
+    /** Half the earth's circumference; no two points are further apart. */
+    static final double MAX_DISTANCE_KM = Math.PI * EARTH_RADIUS_KM;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private static final String[] TRIGGERS = {
+        """
+        CREATE TRIGGER IF NOT EXISTS trg_orphanage_geo_insert AFTER INSERT ON TblOrphanages
+        WHEN NEW.Latitude IS NOT NULL AND NEW.Longitude IS NOT NULL BEGIN
+            INSERT INTO TblOrphanageGeo VALUES (NEW.OrphanageID, NEW.Latitude, NEW.Latitude, NEW.Longitude, NEW.Longitude);
+        END
+        """,
+        """
+        CREATE TRIGGER IF NOT EXISTS trg_orphanage_geo_delete AFTER DELETE ON TblOrphanages BEGIN
+            DELETE FROM TblOrphanageGeo WHERE OrphanageID = OLD.OrphanageID;
+        END
+        """,
+        """
+        CREATE TRIGGER IF NOT EXISTS trg_orphanage_geo_update AFTER UPDATE OF Latitude, Longitude ON TblOrphanages BEGIN
+            DELETE FROM TblOrphanageGeo WHERE OrphanageID = OLD.OrphanageID;
+            INSERT INTO TblOrphanageGeo
+            SELECT NEW.OrphanageID, NEW.Latitude, NEW.Latitude, NEW.Longitude, NEW.Longitude
+            WHERE NEW.Latitude IS NOT NULL AND NEW.Longitude IS NOT NULL;
+        END
+        """
+    };
+
+    /**
+     * Orphanages whose point lies in a {@link #boundingBox}, as a condition on OrphanageID.
+     */
+    static final String BOX_CONDITION = "OrphanageID IN (SELECT OrphanageID FROM TblOrphanageGeo " +
+        "WHERE MaxLat >= ? AND MinLat <= ? AND MaxLon >= ? AND MinLon <= ?)";
+
+    /**
+     * An indexed orphanage and how far it is from the search point.
+     */
+    record Hit(int orphanageId, double distanceKm) {}
+
+    private GeoIndex() {
+    }
+
+    /**
+     * Refills the index from TblOrphanages.
+     */
+    public static Try<Void> rebuild() {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                rebuild(c);
+                return null;
+            }));
+    }
+
+    /**
+     * Creates and fills the index if it is missing. Runs at startup on the writer connection.
+     */
+    static void ensureCreated(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = 'TblOrphanageGeo'")) {
+            if (rs.next() && rs.getInt(1) == 1) {
+                return;
+            }
+        }
+        long start = System.nanoTime();
+        rebuild(conn);
+        logger.info("Created orphanage location index in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static void rebuild(Connection conn) throws SQLException {
+        TransactionContext.inTransaction(conn, () -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS TblOrphanageGeo " +
+                             "USING rtree(OrphanageID, MinLat, MaxLat, MinLon, MaxLon)");
+                for (String trigger : TRIGGERS) {
+                    stmt.execute(trigger);
+                }
+                stmt.executeUpdate("DELETE FROM TblOrphanageGeo");
+                stmt.executeUpdate("""
+                    INSERT INTO TblOrphanageGeo
+                    SELECT OrphanageID, Latitude, Latitude, Longitude, Longitude FROM TblOrphanages
+                    WHERE Latitude IS NOT NULL AND Longitude IS NOT NULL
+                    """);
+            }
+        });
+    }
+
+    /**
+     * Verified orphanages within {@code radiusKm} of the point, nearest first.
+     */
+    static List<Hit> withinRadius(double latitude, double longitude, double radiusKm) throws SQLException {
+        double[] box = boundingBox(latitude, longitude, radiusKm);
+        String sql = """
+            SELECT g.OrphanageID, o.Latitude, o.Longitude
+            FROM TblOrphanageGeo g CROSS JOIN TblOrphanages o ON o.OrphanageID = g.OrphanageID
+            WHERE g.MaxLat >= ? AND g.MinLat <= ? AND g.MaxLon >= ? AND g.MinLon <= ?
+              AND o.VerificationStatus = 'Verified'
+            """;
+        List<Hit> hits = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 0; i < box.length; i++) {
+                ps.setDouble(i + 1, box[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    double distance = distanceKm(latitude, longitude, rs.getDouble(2), rs.getDouble(3));
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(rs.getInt(1), distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingInt(Hit::orphanageId));
+        return hits;
+    }
+
+    /**
+     * Corners of a box holding every point within {@code radiusKm}, in the order of the
+     * {@link #BOX_CONDITION} parameters: min latitude, max latitude, min longitude, max longitude.
+     */
+    static double[] boundingBox(double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+        // Degrees of longitude shrink towards the poles; widen by the edge nearest a pole
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        if (widestLat < 90) {
+            double lonDelta = latDelta / Math.cos(Math.toRadians(widestLat));
+            if (longitude - lonDelta >= -180 && longitude + lonDelta <= 180) {
+                return new double[] { minLat, maxLat, longitude - lonDelta, longitude + lonDelta };
+            }
+        }
+        return new double[] { minLat, maxLat, -180, 180 };
+    }
+
+    /**
+     * The {@code k} verified orphanages nearest the point, nearest first. Searches a circle
+     * that grows until it holds {@code k} of them; every orphanage closer than the k-th is
+     * then inside it.
+     */
+    static List<Hit> nearest(double latitude, double longitude, int k, double startRadiusKm) throws SQLException {
+        double radius = startRadiusKm;
+        while (true) {
+            List<Hit> hits = withinRadius(latitude, longitude, radius);
+            if (hits.size() >= k || radius >= MAX_DISTANCE_KM) {
+                return hits.subList(0, Math.min(k, hits.size()));
+            }
+            // Points per area is roughly constant, so scale the area by the shortfall
+            double growth = Math.sqrt((double) k / Math.max(hits.size(), 1)) * 1.5;
+            radius = Math.min(MAX_DISTANCE_KM, radius * Math.max(growth, 2.0));
+        }
+    }
+
+    /**
+     * Great-circle (haversine) distance in km.
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+            Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+            Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
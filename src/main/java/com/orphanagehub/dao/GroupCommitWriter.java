@@ -0,0 +1,279 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous group-commit pipeline for fire-and-forget inserts (audit rows, notifications).
+ * Writes are queued and a single background thread commits them in one transaction once
+ * {@code maxBatchSize} rows are waiting or {@code maxDelayMillis} has passed, so a burst of
+ * inserts pays for one fsync instead of one each. The queue is bounded: when it is full,
+ * producers block for up to {@code enqueueTimeoutMillis} and are then rejected.
+ */
+public class GroupCommitWriter {
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitWriter.class);
+
+    /**
+     * Binds parameters for one queued row.
+     */
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    /**
+     * Point-in-time counters for tuning batch size and delay.
+     */
+    public record Metrics(
+        int queueDepth,
+        int queueCapacity,
+        long submitted,
+        long committed,
+        long failed,
+        long rejected,
+        long batches,
+        double averageBatchSize,
+        int largestBatch
+    ) {}
+
+    private record PendingWrite(String sql, StatementBinder binder) {}
+
+    private final BlockingQueue<PendingWrite> queue;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final long enqueueTimeoutMillis;
+    private final Thread worker;
+    private final Object drainMonitor = new Object();
+    private volatile boolean accepting = true;
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong committed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicInteger largestBatch = new AtomicInteger();
+
+    public GroupCommitWriter(int queueCapacity, int maxBatchSize, long maxDelayMillis, long enqueueTimeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.worker = new Thread(this::run, "OrphanageHub-GroupCommit");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues an insert for the next group commit. Inside a {@link TransactionContext} unit of work
+     * the insert runs immediately on the bound connection instead.
+     * @return Try<Void> - success once queued, failure if the writer is shut down or the queue stayed full
+     */
+    public Try<Void> submit(String sql, StatementBinder binder) {
+        if (!accepting) {
+            return Try.failure(new IllegalStateException("Group commit writer is shut down"));
+        }
+        if (TransactionContext.isActive()) {
+            // Inside a unit of work the row commits (or rolls back) with the rest of it
+            return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+                .flatMap(conn -> Try.withResources(() -> conn.prepareStatement(sql)).of(ps -> {
+                    binder.bind(ps);
+                    return ps.executeUpdate();
+                }))
+                .map(rows -> null);
+        }
+        inFlight.incrementAndGet();
+        try {
+            if (queue.offer(new PendingWrite(sql, binder), enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                submitted.incrementAndGet();
+                return Try.success(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.incrementAndGet();
+        completed(1);
+        return Try.failure(new SQLException("Group commit queue full (" + queueCapacity + " pending writes)"));
+    }
+
+    /**
+     * Blocks until every write queued so far has been committed or has failed.
+     */
+    public void flush() {
+        synchronized (drainMonitor) {
+            while (inFlight.get() > 0 && worker.isAlive()) {
+                try {
+                    drainMonitor.wait(maxDelayMillis + 10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting writes, commits what is queued and stops the worker thread.
+     */
+    public void shutdown() {
+        accepting = false;
+        flush();
+        worker.interrupt();
+        Try.run(() -> worker.join(TimeUnit.SECONDS.toMillis(5)));
+        Metrics metrics = metrics();
+        logger.info("Group commit writer stopped: {} committed, {} failed, {} rejected in {} batches",
+            metrics.committed(), metrics.failed(), metrics.rejected(), metrics.batches());
+    }
+
+    public Metrics metrics() {
+        long batchCount = batches.get();
+        long rows = committed.get() + failed.get();
+        return new Metrics(
+            queue.size(),
+            queueCapacity,
+            submitted.get(),
+            committed.get(),
+            failed.get(),
+            rejected.get(),
+            batchCount,
+            batchCount > 0 ? (double) rows / batchCount : 0.0,
+            largestBatch.get()
+        );
+    }
+
+    private void run() {
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                if (accepting) {
+                    logger.warn("Group commit worker interrupted while still accepting writes");
+                }
+                // Leave the loop on shutdown; anything left was drained by flush()
+                if (queue.isEmpty()) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tops the batch up until it is full or the delay window closes.
+     */
+    private void collect(List<PendingWrite> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !accepting) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        batches.incrementAndGet();
+        largestBatch.accumulateAndGet(batch.size(), Math::max);
+
+        Try<Void> result = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                executeBatch(c, batch);
+                return null;
+            }));
+
+        if (result.isSuccess()) {
+            committed.addAndGet(batch.size());
+        } else {
+            // One bad row must not take the rest of the batch with it
+            logger.warn("Group commit of {} rows failed, retrying individually", batch.size(), result.getCause());
+            batch.forEach(this::commitSingle);
+        }
+        completed(batch.size());
+    }
+
+    private void executeBatch(Connection conn, List<PendingWrite> batch) throws SQLException {
+        Map<String, PreparedStatement> statements = new HashMap<>();
+        conn.setAutoCommit(false);
+        try {
+            // Rows go in in submission order, so keys and audit order match it: the rows queued
+            // on one statement run whenever the next row uses a different one
+            PreparedStatement pending = null;
+            for (PendingWrite write : batch) {
+                PreparedStatement ps = statements.get(write.sql());
+                if (ps == null) {
+                    ps = conn.prepareStatement(write.sql());
+                    statements.put(write.sql(), ps);
+                }
+                if (pending != null && pending != ps) {
+                    pending.executeBatch();
+                }
+                write.binder().bind(ps);
+                ps.addBatch();
+                pending = ps;
+            }
+            if (pending != null) {
+                pending.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            for (PreparedStatement ps : statements.values()) {
+                ps.close();
+            }
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void commitSingle(PendingWrite write) {
+        DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                try (PreparedStatement ps = c.prepareStatement(write.sql())) {
+                    write.binder().bind(ps);
+                    return ps.executeUpdate();
+                }
+            }))
+            .onSuccess(rows -> committed.incrementAndGet())
+            .onFailure(error -> {
+                failed.incrementAndGet();
+                logger.error("Dropped queued write: {}", write.sql(), error);
+            });
+    }
+
+    private void completed(int count) {
+        if (inFlight.addAndGet(-count) <= 0) {
+            synchronized (drainMonitor) {
+                drainMonitor.notifyAll();
+            }
+        }
+    }
+}
@@ -13,21 +13,21 @@ public class NotificationDAO {
         public static final String TYPE_SYSTEM = "SYSTEM";
     }
     
+    /**
+     * Queues the notification on the group-commit writer; it becomes visible once the
+     * current batch commits, a few milliseconds later.
+     */
     public Try<Void> create(Notification notification) {
-        return Try.run(() -> {
-            String sql = "INSERT INTO TblNotifications (UserID, Type, Title, Message, " +
-                        "Priority, Status, CreatedDate) VALUES (?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
-                 PreparedStatement ps = conn.prepareStatement(sql)) {
-                ps.setInt(1, notification.userId());
-                ps.setString(2, notification.type());
-                ps.setString(3, notification.title());
-                ps.setString(4, notification.message());
-                ps.setString(5, notification.priority());
-                ps.setString(6, notification.status());
-                ps.setTimestamp(7, Timestamp.valueOf(notification.createdDate()));
-                ps.executeUpdate();
-            }
+        String sql = "INSERT INTO TblNotifications (UserID, Type, Title, Message, " +
+                    "Priority, Status, CreatedDate) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        return DatabaseManager.getGroupCommitWriter().submit(sql, ps -> {
+            ps.setInt(1, notification.userId());
+            ps.setString(2, notification.type());
+            ps.setString(3, notification.title());
+            ps.setString(4, notification.message());
+            ps.setString(5, notification.priority());
+            ps.setString(6, notification.status());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.createdDate()));
         });
     }
     
@@ -37,7 +37,7 @@ public class NotificationDAO {
             List<Integer> createdIds = List.empty();
             String sql = "INSERT INTO TblNotifications (UserID, Type, Title, Message, " +
                         "Priority, Status, CreatedDate) VALUES (?, ?, ?, ?, ?, 'Unread', ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 Timestamp now = Timestamp.valueOf(LocalDateTime.now());
                 for (Integer userId : userIds) {
@@ -51,9 +51,7 @@ public class NotificationDAO {
                 }
                 ps.executeBatch();
                 try (ResultSet keys = ps.getGeneratedKeys()) {
-                    while (keys.next()) {
-                        createdIds = createdIds.append(keys.getInt(1));
-                    }
+                    createdIds = ResultStreams.toList(keys, rs -> rs.getInt(1));
                 }
                 return createdIds;
             }
@@ -63,7 +61,7 @@ public class NotificationDAO {
     public Try<Option<Notification>> findById(Integer id) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblNotifications WHERE NotificationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 try (ResultSet rs = ps.executeQuery()) {
@@ -76,21 +74,40 @@ public class NotificationDAO {
     public Try<List<Notification>> findByUserId(Integer userId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblNotifications WHERE UserID = ? ORDER BY CreatedDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, userId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<Notification> notifications = List.empty();
-                    while (rs.next()) {
-                        notifications = notifications.append(mapToNotification(rs));
-                    }
-                    return notifications;
+                    return ResultStreams.toList(rs, this::mapToNotification);
                 }
             }
         });
     }
+
+    /**
+     * A user's notifications, newest first, one page at a time.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<Notification>> findPageByUserId(Integer userId, Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            Page.checkPageSize(pageSize);
+            String sql = "SELECT * FROM TblNotifications WHERE UserID = ? " +
+                       (cursor.isDefined() ? "AND (CreatedDate, NotificationID) < (?, ?) " : "") +
+                       "ORDER BY CreatedDate DESC, NotificationID DESC LIMIT ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, userId);
+                int index = Page.bindCursor(ps, 2, cursor);
+                ps.setInt(index, pageSize + 1);
+                return Page.read(ps, pageSize, "CreatedDate", "NotificationID", this::mapToNotification);
+            }
+        });
+    }
     
     private Notification mapToNotification(ResultSet rs) throws SQLException {
+        // getObject(column, Integer.class) rejects SQL NULL in the SQLite driver
+        int relatedId = rs.getInt("RelatedEntityID");
+        Option<Integer> relatedEntityId = rs.wasNull() ? Option.none() : Option.some(relatedId);
         return new Notification(
             rs.getInt("NotificationID"),
             rs.getInt("UserID"),
@@ -106,7 +123,7 @@ public class NotificationDAO {
                 Option.of(rs.getTimestamp("ExpiryDate").toLocalDateTime()) : Option.none(),
             Option.of(rs.getString("ActionURL")),
             Option.of(rs.getString("RelatedEntityType")),
-            Option.of(rs.getObject("RelatedEntityID", Integer.class))
+            relatedEntityId
         );
     }
 }
\ No newline at end of file
@@ -1,14 +1,26 @@
 package com.orphanagehub.dao;
 
+import com.google.common.cache.CacheStats;
 import com.orphanagehub.model.Orphanage;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import java.sql.*;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class OrphanageDAO {
+    /** Start of the growing search circle for {@link #findNearest}. */
+    private static final double NEAREST_START_RADIUS_KM = 25;
+    
+    /**
+     * An orphanage and its great-circle distance from the search point.
+     */
+    public record NearbyOrphanage(Orphanage orphanage, double distanceKm) {}
+    
+    private static final EntityCache<Orphanage> cache = new EntityCache<>("orphanages", OrphanageDAO::loadById);
     
     public Try<Orphanage> save(Orphanage orphanage) {
         return Try.of(() -> {
@@ -20,7 +32,7 @@ public class OrphanageDAO {
                         "UserID, VerificationStatus, DateRegistered, Status) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
             
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 
                 ps.setString(1, orphanage.orphanageName().getOrElse(""));
@@ -65,7 +77,10 @@ public class OrphanageDAO {
                 
                 try (ResultSet keys = ps.getGeneratedKeys()) {
                     if (keys.next()) {
-                        return findById(keys.getInt(1)).get().get();
+                        int orphanageId = keys.getInt(1);
+                        cache.invalidate(orphanageId);
+                        ReferenceData.markStale();
+                        return findById(orphanageId).get().get();
                     }
                 }
                 return orphanage;
@@ -78,27 +93,49 @@ public class OrphanageDAO {
         return save(orphanage);
     }
     
+    /**
+     * Served from a shared cache; see {@link EntityCache}.
+     */
     public Try<Option<Orphanage>> findById(Integer id) {
+        return cache.get(id);
+    }
+
+    /**
+     * Hit rate, loads and evictions of the {@link #findById} cache.
+     */
+    public static CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private static Try<Option<Orphanage>> loadById(Integer id) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblOrphanages WHERE OrphanageID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 try (ResultSet rs = ps.executeQuery()) {
-                    return rs.next() ? Option.of(mapRowToOrphanage(rs)) : Option.<Orphanage>none();
+                    return rs.next() ? Option.of(ORPHANAGE_MAPPER.map(rs)) : Option.<Orphanage>none();
                 }
             }
         });
     }
+
+    /**
+     * Loads many orphanages in a few queries instead of one {@link #findById} each.
+     * @return orphanages keyed by ID; IDs with no orphanage are absent
+     */
+    public Try<Map<Integer, Orphanage>> findByIds(Iterable<Integer> ids) {
+        return BatchLookup.findByIds("TblOrphanages", "OrphanageID", ids, ORPHANAGE_MAPPER);
+    }
     
     public Try<Option<Orphanage>> findByUserId(Integer userId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblOrphanages WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, userId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    return rs.next() ? Option.of(mapRowToOrphanage(rs)) : Option.<Orphanage>none();
+                    return rs.next() ? Option.of(ORPHANAGE_MAPPER.map(rs)) : Option.<Orphanage>none();
                 }
             }
         });
@@ -107,14 +144,105 @@ public class OrphanageDAO {
     public Try<List<Orphanage>> findAll() {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblOrphanages ORDER BY OrphanageName";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
-                List<Orphanage> orphanages = List.empty();
-                while (rs.next()) {
-                    orphanages = orphanages.append(mapRowToOrphanage(rs));
+                return ResultStreams.toList(rs, ORPHANAGE_MAPPER);
+            }
+        });
+    }
+
+    /**
+     * Orphanages by name, one page at a time.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<Orphanage>> findPage(Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            Page.checkPageSize(pageSize);
+            String sql = "SELECT * FROM TblOrphanages " +
+                       (cursor.isDefined() ? "WHERE (OrphanageName, OrphanageID) > (?, ?) " : "") +
+                       "ORDER BY OrphanageName, OrphanageID LIMIT ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                int index = Page.bindCursor(ps, 1, cursor);
+                ps.setInt(index, pageSize + 1);
+                return Page.read(ps, pageSize, "OrphanageName", "OrphanageID", ORPHANAGE_MAPPER);
+            }
+        });
+    }
+    
+    /**
+     * Verified orphanages whose name, city or description match {@code text}, best match
+     * first. Blank text lists every verified orphanage that passes the filters, in ID order.
+     * @param needType - only orphanages with an open request of this resource type
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<Orphanage>> search(String text, Option<String> province, Option<String> needType,
+                                       Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            List<String> filters = List.of("t.VerificationStatus = 'Verified'");
+            List<Object> params = List.empty();
+            if (province.isDefined()) {
+                filters = filters.append("t.Province = ?");
+                params = params.append(province.get());
+            }
+            if (needType.isDefined()) {
+                filters = filters.append("EXISTS (SELECT 1 FROM TblResourceRequests r WHERE r.OrphanageID = t.OrphanageID " +
+                                         "AND r.ResourceType = ? AND r.Status IN ('Open', 'In Progress'))");
+                params = params.append(needType.get());
+            }
+            return SearchIndex.page(SearchIndex.Index.ORPHANAGES, SearchIndex.matchAll(text), filters, params,
+                                    cursor, pageSize, ORPHANAGE_MAPPER);
+        });
+    }
+    
+    /**
+     * Verified orphanages within {@code radiusKm} of the point, nearest first. Orphanages
+     * without coordinates are never within a radius.
+     */
+    public Try<List<NearbyOrphanage>> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        return Try.of(() -> GeoIndex.withinRadius(latitude, longitude, radiusKm))
+            .flatMap(this::withOrphanages);
+    }
+    
+    /**
+     * The {@code k} verified orphanages nearest the point, nearest first.
+     */
+    public Try<List<NearbyOrphanage>> findNearest(double latitude, double longitude, int k) {
+        if (k < 1) {
+            return Try.success(List.empty());
+        }
+        return Try.of(() -> GeoIndex.nearest(latitude, longitude, k, NEAREST_START_RADIUS_KM))
+            .flatMap(this::withOrphanages);
+    }
+    
+    private Try<List<NearbyOrphanage>> withOrphanages(java.util.List<GeoIndex.Hit> hits) {
+        return findByIds(List.ofAll(hits).map(GeoIndex.Hit::orphanageId))
+            .map(orphanages -> List.ofAll(hits)
+                .flatMap(hit -> orphanages.get(hit.orphanageId())
+                    .map(orphanage -> new NearbyOrphanage(orphanage, hit.distanceKm()))));
+    }
+    
+    /**
+     * Orphanages that pass every condition of {@code query}, in its order. All filtering and
+     * sorting happens in SQL; a radius is narrowed through {@link GeoIndex} and only the
+     * exact distance of the orphanages in its bounding box is checked here.
+     */
+    public Try<List<Orphanage>> find(Query query) {
+        return Try.of(() -> {
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(query.sql())) {
+                int index = 1;
+                for (Object value : query.params) {
+                    ps.setObject(index++, value);
+                }
+                if (query.circle.isEmpty() && query.limit.isDefined()) {
+                    ps.setInt(index, query.limit.get());
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    List<Orphanage> orphanages = ResultStreams.toList(rs, ORPHANAGE_MAPPER);
+                    return query.circle.isEmpty() ? orphanages : query.circle.get().apply(orphanages, query);
                 }
-                return orphanages;
             }
         });
     }
@@ -122,15 +250,11 @@ public class OrphanageDAO {
     public Try<List<Orphanage>> findByVerificationStatus(String status) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblOrphanages WHERE VerificationStatus = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, status);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<Orphanage> orphanages = List.empty();
-                    while (rs.next()) {
-                        orphanages = orphanages.append(mapRowToOrphanage(rs));
-                    }
-                    return orphanages;
+                    return ResultStreams.toList(rs, ORPHANAGE_MAPPER);
                 }
             }
         });
@@ -140,19 +264,11 @@ public class OrphanageDAO {
         return findByVerificationStatus("Verified");
     }
 
+    /**
+     * Provinces that have an orphanage, from {@link ReferenceData}.
+     */
     public Try<List<String>> getAllProvinces() {
-        return Try.of(() -> {
-            String sql = "SELECT DISTINCT Province FROM TblOrphanages ORDER BY Province";
-            try (Connection conn = DatabaseManager.getConnection().get();
-                 PreparedStatement ps = conn.prepareStatement(sql);
-                 ResultSet rs = ps.executeQuery()) {
-                List<String> provinces = List.empty();
-                while (rs.next()) {
-                    provinces = provinces.append(rs.getString("Province"));
-                }
-                return provinces;
-            }
-        });
+        return Try.of(ReferenceData::provincesInUse);
     }
     
     public Try<Void> update(Orphanage orphanage) {
@@ -166,7 +282,7 @@ public class OrphanageDAO {
                         "BankAccountNumber = ?, BankBranchCode = ?, VerificationStatus = ?, " +
                         "ModifiedDate = ? WHERE OrphanageID = ?";
             
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 
                 ps.setString(1, orphanage.orphanageName().getOrElse(""));
@@ -207,6 +323,8 @@ public class OrphanageDAO {
                 
                 ps.executeUpdate();
             }
+            cache.invalidate(orphanage.orphanageId());
+            ReferenceData.markStale();
         });
     }
     
@@ -215,7 +333,7 @@ public class OrphanageDAO {
             String sql = "UPDATE TblOrphanages SET VerificationStatus = 'Verified', " +
                         "VerificationDate = ?, VerifiedBy = ?, VerificationNotes = ? " +
                         "WHERE OrphanageID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
                 ps.setInt(2, verifiedBy);
@@ -223,19 +341,21 @@ public class OrphanageDAO {
                 ps.setInt(4, orphanageId);
                 ps.executeUpdate();
             }
+            cache.invalidate(orphanageId);
         });
     }
     
     public Try<Void> updateStatus(Integer orphanageId, String status) {
         return Try.run(() -> {
             String sql = "UPDATE TblOrphanages SET Status = ?, ModifiedDate = ? WHERE OrphanageID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, status);
                 ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
                 ps.setInt(3, orphanageId);
                 ps.executeUpdate();
             }
+            cache.invalidate(orphanageId);
         });
     }
     
@@ -244,120 +364,202 @@ public class OrphanageDAO {
     }
     
     /**
-     * Safe method to get Integer from ResultSet, handling SQLite's flexible typing
+     * Filters, order and limit for {@link #find(Query)}. Immutable; every method returns a
+     * new query, so a base query can be shared and narrowed:
+     * <pre>
+     * dao.find(Query.verified().inProvince("Gauteng").acceptingDonations(true).sortedBy("name"))
+     * </pre>
+     * Province and city match ignoring case. Without {@link #sortedBy} the orphanages come in
+     * ID order, or nearest first when a radius is set.
      */
-    private Integer getIntegerSafe(ResultSet rs, String columnName) throws SQLException {
-        Object value = rs.getObject(columnName);
-        if (value == null) return null;
+    public static final class Query {
+        private final List<String> conditions;
+        private final List<Object> params;
+        private final Option<Circle> circle;
+        private final Option<String> orderBy;
+        private final Option<Integer> limit;
+        
+        private Query(List<String> conditions, List<Object> params, Option<Circle> circle,
+                      Option<String> orderBy, Option<Integer> limit) {
+            this.conditions = conditions;
+            this.params = params;
+            this.circle = circle;
+            this.orderBy = orderBy;
+            this.limit = limit;
+        }
+        
+        /** Every orphanage. */
+        public static Query all() {
+            return new Query(List.empty(), List.empty(), Option.none(), Option.none(), Option.none());
+        }
+        
+        /** Verified orphanages only. */
+        public static Query verified() {
+            return all().where("VerificationStatus = 'Verified'");
+        }
+        
+        /** Orphanages whose status is Active; a missing status counts as Active. */
+        public Query active() {
+            return where("COALESCE(Status, 'Active') = 'Active'");
+        }
+        
+        public Query inProvince(String province) {
+            return where("Province = ? COLLATE NOCASE", province);
+        }
+        
+        public Query inCity(String city) {
+            return where("City = ? COLLATE NOCASE", city);
+        }
         
-        if (value instanceof Integer) {
-            return (Integer) value;
-        } else if (value instanceof Long) {
-            return ((Long) value).intValue();
-        } else if (value instanceof Double) {
-            return ((Double) value).intValue();
-        } else if (value instanceof Float) {
-            return ((Float) value).intValue();
-        } else if (value instanceof String) {
-            try {
-                // Try to parse as double first (handles decimals), then convert to int
-                return Double.valueOf((String) value).intValue();
-            } catch (NumberFormatException e) {
-                return null;
+        public Query acceptingDonations(boolean accepts) {
+            return where("AcceptsDonations = ?", accepts ? 1 : 0);
+        }
+        
+        /** Orphanages with room for more children; an unknown capacity or occupancy counts as room. */
+        public Query withCapacity() {
+            return where("(Capacity IS NULL OR CurrentOccupancy IS NULL OR CurrentOccupancy < Capacity)");
+        }
+        
+        /** Orphanages within {@code radiusKm} of the point; those without coordinates never are. */
+        public Query within(double latitude, double longitude, double radiusKm) {
+            double[] box = GeoIndex.boundingBox(latitude, longitude, radiusKm);
+            Query boxed = where(GeoIndex.BOX_CONDITION, box[0], box[1], box[2], box[3]);
+            return new Query(boxed.conditions, boxed.params, Option.some(new Circle(latitude, longitude, radiusKm)),
+                             orderBy, limit);
+        }
+        
+        /**
+         * Order by "name", "city", "province" or "newest"; anything else keeps the default order.
+         */
+        public Query sortedBy(String sortBy) {
+            Option<String> order = Option.of(sortBy).flatMap(key -> switch (key.toLowerCase()) {
+                case "name" -> Option.some("OrphanageName, OrphanageID");
+                case "city" -> Option.some("City, OrphanageID");
+                case "province" -> Option.some("Province, OrphanageID");
+                case "newest" -> Option.some("DateRegistered DESC, OrphanageID DESC");
+                default -> Option.none();
+            });
+            return new Query(conditions, params, circle, order, limit);
+        }
+        
+        /** At most {@code count} orphanages. */
+        public Query limit(int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Limit must be at least 1: " + count);
             }
+            return new Query(conditions, params, circle, orderBy, Option.some(count));
         }
-        return null;
-    }
-    
-    /**
-     * Safe method to get LocalDate from ResultSet
-     */
-    private LocalDate getLocalDateSafe(ResultSet rs, String columnName) throws SQLException {
-        try {
-            Date date = rs.getDate(columnName);
-            return date != null ? date.toLocalDate() : null;
-        } catch (SQLException e) {
-            // Try as timestamp
-            Timestamp ts = rs.getTimestamp(columnName);
-            return ts != null ? ts.toLocalDateTime().toLocalDate() : null;
+        
+        private Query where(String condition, Object... values) {
+            return new Query(conditions.append(condition), params.appendAll(List.of(values)), circle, orderBy, limit);
+        }
+        
+        private String sql() {
+            return "SELECT * FROM TblOrphanages" +
+                   (conditions.isEmpty() ? "" : " WHERE " + conditions.mkString(" AND ")) +
+                   " ORDER BY " + orderBy.getOrElse("OrphanageID") +
+                   // A radius drops rows after the query, so its limit is applied afterwards too
+                   (circle.isEmpty() && limit.isDefined() ? " LIMIT ?" : "");
         }
     }
     
-    /**
-     * Safe method to get LocalDateTime from ResultSet
-     */
-    private LocalDateTime getLocalDateTimeSafe(ResultSet rs, String columnName) throws SQLException {
-        Timestamp ts = rs.getTimestamp(columnName);
-        return ts != null ? ts.toLocalDateTime() : null;
-    }
-    
-    /**
-     * Safe method to get Double from ResultSet
-     */
-    private Double getDoubleSafe(ResultSet rs, String columnName) throws SQLException {
-        Object value = rs.getObject(columnName);
-        if (value == null) return null;
-        
-        if (value instanceof Double) {
-            return (Double) value;
-        } else if (value instanceof Float) {
-            return ((Float) value).doubleValue();
-        } else if (value instanceof Integer) {
-            return ((Integer) value).doubleValue();
-        } else if (value instanceof Long) {
-            return ((Long) value).doubleValue();
-        } else if (value instanceof String) {
-            try {
-                return Double.valueOf((String) value);
-            } catch (NumberFormatException e) {
-                return null;
+    private record Circle(double latitude, double longitude, double radiusKm) {
+        /** The orphanages inside the circle, nearest first unless the query has its own order. */
+        List<Orphanage> apply(List<Orphanage> inBox, Query query) {
+            List<Tuple2<Orphanage, Double>> inside = inBox
+                .map(o -> Tuple.of(o, GeoIndex.distanceKm(latitude, longitude, o.latitude().get(), o.longitude().get())))
+                .filter(hit -> hit._2 <= radiusKm);
+            if (query.orderBy.isEmpty()) {
+                inside = inside.sortBy(Tuple2::_2);
             }
+            List<Orphanage> orphanages = inside.map(Tuple2::_1);
+            return query.limit.map(orphanages::take).getOrElse(orphanages);
         }
-        return null;
     }
     
-    private Orphanage mapRowToOrphanage(ResultSet rs) throws SQLException {
-        return new Orphanage(
-            getIntegerSafe(rs, "OrphanageID"),
-            Option.of(rs.getString("OrphanageName")),
-            Option.of(rs.getString("RegistrationNumber")),
-            Option.of(rs.getString("TaxNumber")),
-            rs.getString("Address"),
-            rs.getString("City"),
-            rs.getString("Province"),
-            Option.of(rs.getString("PostalCode")),
-            rs.getString("ContactPerson"),
-            rs.getString("ContactEmail"),
-            rs.getString("ContactPhone"),
-            Option.of(rs.getString("AlternatePhone")),
-            Option.of(rs.getString("Website")),
-            Option.of(rs.getString("Description")),
-            Option.of(rs.getString("Mission")),
-            Option.of(rs.getString("Vision")),
-            Option.of(getLocalDateSafe(rs, "EstablishedDate")),
-            Option.of(getIntegerSafe(rs, "Capacity")),
-            Option.of(getIntegerSafe(rs, "CurrentOccupancy")),
-            Option.of(getIntegerSafe(rs, "AgeGroupMin")),
-            Option.of(getIntegerSafe(rs, "AgeGroupMax")),
-            rs.getBoolean("AcceptsDonations"),
-            rs.getBoolean("AcceptsVolunteers"),
-            Option.of(rs.getString("BankName")),
-            Option.of(rs.getString("BankAccountNumber")),
-            Option.of(rs.getString("BankBranchCode")),
-            getLocalDateTimeSafe(rs, "DateRegistered") != null ? 
-                getLocalDateTimeSafe(rs, "DateRegistered") : LocalDateTime.now(),
-            rs.getString("VerificationStatus"),
-            Option.of(getLocalDateTimeSafe(rs, "VerificationDate")),
-            Option.of(getIntegerSafe(rs, "VerifiedBy")),
-            Option.of(rs.getString("VerificationNotes")),
-            getIntegerSafe(rs, "UserID") != null ? getIntegerSafe(rs, "UserID") : 0,
-            rs.getString("Status") != null ? rs.getString("Status") : "Active",
-            Option.of(rs.getString("Logo")),
-            Option.of(rs.getString("CoverImage")),
-            Option.of(getDoubleSafe(rs, "Latitude")),
-            Option.of(getDoubleSafe(rs, "Longitude")),
-            Option.of(getLocalDateTimeSafe(rs, "ModifiedDate")),
-            Option.of(getIntegerSafe(rs, "ModifiedBy"))
-        );
-    }
+    private static final RowMapper<Orphanage> ORPHANAGE_MAPPER = Columns.mapper(c -> {
+        int orphanageId = c.index("OrphanageID");
+        int orphanageName = c.index("OrphanageName");
+        int registrationNumber = c.index("RegistrationNumber");
+        int taxNumber = c.index("TaxNumber");
+        int address = c.index("Address");
+        int city = c.index("City");
+        int province = c.index("Province");
+        int postalCode = c.index("PostalCode");
+        int contactPerson = c.index("ContactPerson");
+        int contactEmail = c.index("ContactEmail");
+        int contactPhone = c.index("ContactPhone");
+        int alternatePhone = c.index("AlternatePhone");
+        int website = c.index("Website");
+        int description = c.index("Description");
+        int mission = c.index("Mission");
+        int vision = c.index("Vision");
+        int establishedDate = c.index("EstablishedDate");
+        int capacity = c.index("Capacity");
+        int currentOccupancy = c.index("CurrentOccupancy");
+        int ageGroupMin = c.index("AgeGroupMin");
+        int ageGroupMax = c.index("AgeGroupMax");
+        int acceptsDonations = c.index("AcceptsDonations");
+        int acceptsVolunteers = c.index("AcceptsVolunteers");
+        int bankName = c.index("BankName");
+        int bankAccountNumber = c.index("BankAccountNumber");
+        int bankBranchCode = c.index("BankBranchCode");
+        int dateRegistered = c.index("DateRegistered");
+        int verificationStatus = c.index("VerificationStatus");
+        int verificationDate = c.index("VerificationDate");
+        int verifiedBy = c.index("VerifiedBy");
+        int verificationNotes = c.index("VerificationNotes");
+        int userId = c.index("UserID");
+        int status = c.index("Status");
+        int logo = c.index("Logo");
+        int coverImage = c.index("CoverImage");
+        int latitude = c.index("Latitude");
+        int longitude = c.index("Longitude");
+        int modifiedDate = c.index("ModifiedDate");
+        int modifiedBy = c.index("ModifiedBy");
+        return rs -> {
+            LocalDateTime registered = c.getDateTime(dateRegistered);
+            return new Orphanage(
+                c.getIntOrNull(orphanageId),
+                c.optString(orphanageName),
+                c.optString(registrationNumber),
+                c.optString(taxNumber),
+                c.getString(address),
+                c.getString(city),
+                c.getString(province),
+                c.optString(postalCode),
+                c.getString(contactPerson),
+                c.getString(contactEmail),
+                c.getString(contactPhone),
+                c.optString(alternatePhone),
+                c.optString(website),
+                c.optString(description),
+                c.optString(mission),
+                c.optString(vision),
+                c.optDate(establishedDate),
+                c.optInt(capacity),
+                c.optInt(currentOccupancy),
+                c.optInt(ageGroupMin),
+                c.optInt(ageGroupMax),
+                c.getBoolean(acceptsDonations),
+                c.getBoolean(acceptsVolunteers),
+                c.optString(bankName),
+                c.optString(bankAccountNumber),
+                c.optString(bankBranchCode),
+                registered != null ? registered : LocalDateTime.now(),
+                c.getString(verificationStatus),
+                c.optDateTime(verificationDate),
+                c.optInt(verifiedBy),
+                c.optString(verificationNotes),
+                c.getInt(userId),
+                c.optString(status).getOrElse("Active"),
+                c.optString(logo),
+                c.optString(coverImage),
+                c.optDouble(latitude),
+                c.optDouble(longitude),
+                c.optDateTime(modifiedDate),
+                c.optInt(modifiedBy)
+            );
+        };
+    });
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+
+/**
+ * One page of a keyset-paginated list query.
+ * <p>
+ * Pages are read by seeking past the last row of the previous page on the query's sort key
+ * plus the primary key as a tie-breaker, e.g. {@code WHERE (DonationDate, DonationID) < (?, ?)},
+ * which SQLite answers with an index range scan. Fetching page 10,000 costs the same as page 1,
+ * unlike {@code OFFSET}. {@link #nextCursor()} is an opaque token for the page after this one;
+ * pass it back unchanged. Rows whose sort key is NULL are not paged (the keys used here are
+ * always set on insert).
+ */
+public record Page<T>(List<T> items, Option<String> nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor.isDefined();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Where a cursor points: the sort key of the last row served and its primary key.
+     */
+    record Position(Object sortValue, int id) {}
+
+    /**
+     * Binds a decoded cursor as the two row-value parameters starting at {@code index}.
+     * @return the next free parameter index
+     */
+    static int bindCursor(PreparedStatement ps, int index, Option<String> cursor) throws SQLException {
+        if (cursor.isEmpty()) {
+            return index;
+        }
+        Position position = decode(cursor.get());
+        // Bind the value as it was stored: SQLite orders INTEGER, REAL and TEXT differently
+        ps.setObject(index, position.sortValue());
+        ps.setInt(index + 1, position.id());
+        return index + 2;
+    }
+
+    /**
+     * Binds only the primary key of a decoded cursor, for queries ordered by the key alone.
+     * @return the next free parameter index
+     */
+    static int bindCursorId(PreparedStatement ps, int index, Option<String> cursor) throws SQLException {
+        if (cursor.isEmpty()) {
+            return index;
+        }
+        ps.setInt(index, decode(cursor.get()).id());
+        return index + 1;
+    }
+
+    /**
+     * Runs a query bound with {@code LIMIT pageSize + 1} and builds the page. The extra row
+     * only tells whether another page exists.
+     */
+    static <T> Page<T> read(PreparedStatement ps, int pageSize, String sortColumn, String idColumn,
+                            RowMapper<T> mapper) throws SQLException {
+        java.util.List<T> rows = new ArrayList<>(pageSize);
+        Object lastSortValue = null;
+        int lastId = 0;
+        boolean more = false;
+        try (ResultSet rs = ps.executeQuery()) {
+            RowMapper<T> rowMapper = mapper.prepare(rs);
+            while (rs.next()) {
+                if (rows.size() == pageSize) {
+                    more = true;
+                    break;
+                }
+                rows.add(rowMapper.map(rs));
+                lastSortValue = rs.getObject(sortColumn);
+                lastId = rs.getInt(idColumn);
+            }
+        }
+        Option<String> next = more && lastSortValue != null
+            ? Option.some(encode(lastSortValue, lastId))
+            : Option.none();
+        return new Page<>(List.ofAll(rows), next);
+    }
+
+    static void checkPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > 10_000) {
+            throw new IllegalArgumentException("Page size must be between 1 and 10000: " + pageSize);
+        }
+    }
+
+    private static String encode(Object sortValue, int id) {
+        String tag = sortValue instanceof Long || sortValue instanceof Integer ? "i"
+            : sortValue instanceof Double || sortValue instanceof Float ? "r"
+            : "s";
+        String raw = id + "|" + tag + "|" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            int id = Integer.parseInt(parts[0]);
+            Object value = switch (parts[1]) {
+                case "i" -> Long.parseLong(parts[2]);
+                case "r" -> Double.parseDouble(parts[2]);
+                case "s" -> parts[2];
+                default -> throw new IllegalArgumentException(parts[1]);
+            };
+            return new Position(value, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement timing for everything that goes through {@link DatabaseManager}.
+ * <p>
+ * Connections handed out by {@code DatabaseManager} are wrapped so each execution is timed and
+ * attributed to its normalized SQL (literals replaced by {@code ?}, whitespace collapsed).
+ * A query is timed from execute until its result set is exhausted or closed, so row fetching
+ * counts toward its latency. Executions slower than {@code db.metrics.slowQueryMs} are logged
+ * on the {@code com.orphanagehub.dao.SlowQuery} logger. Connection acquire waits are
+ * recorded per {@link DatabaseManager.Intent}.
+ */
+public final class QueryMetrics {
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("com.orphanagehub.dao.SlowQuery");
+
+    private static final int MAX_STATEMENTS = 1_000;
+    private static final String OTHER = "<other statements>";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Aggregates for one normalized statement. Latencies are in milliseconds.
+     */
+    public record StatementStats(
+        String sql,
+        long count,
+        long errors,
+        long rows,
+        double totalMillis,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+    ) {}
+
+    /**
+     * Time spent waiting for a pooled connection, per intent. Latencies are in milliseconds.
+     */
+    public record AcquireStats(
+        DatabaseManager.Intent intent,
+        long count,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+    ) {}
+
+    private static volatile boolean enabled = true;
+    private static volatile long slowQueryNanos = 250_000_000L;
+
+    private static final Map<String, String> normalizedCache = new ConcurrentHashMap<>();
+    private static final Map<String, StatementRecorder> statements = new ConcurrentHashMap<>();
+    private static final Map<DatabaseManager.Intent, LatencyHistogram> acquireWaits = new ConcurrentHashMap<>();
+
+    private QueryMetrics() {
+    }
+
+    static void configure(boolean enable, long slowQueryMillis) {
+        enabled = enable;
+        slowQueryNanos = slowQueryMillis * 1_000_000L;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * All statements seen so far, slowest total time first.
+     */
+    public static List<StatementStats> statements() {
+        return List.ofAll(statements.entrySet())
+            .map(entry -> entry.getValue().snapshot(entry.getKey()))
+            .sorted(Comparator.comparingDouble(StatementStats::totalMillis).reversed());
+    }
+
+    public static List<AcquireStats> connectionAcquires() {
+        return List.of(DatabaseManager.Intent.values())
+            .filter(acquireWaits::containsKey)
+            .map(intent -> {
+                LatencyHistogram histogram = acquireWaits.get(intent);
+                return new AcquireStats(intent, histogram.count(),
+                    millis(histogram.percentile(0.50)), millis(histogram.percentile(0.95)),
+                    millis(histogram.percentile(0.99)), millis(histogram.max()));
+            });
+    }
+
+    public static void reset() {
+        statements.clear();
+        acquireWaits.clear();
+    }
+
+    /**
+     * Plain-text table of the {@code limit} statements with the highest total time,
+     * followed by connection acquire waits.
+     */
+    public static String report(int limit) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%8s %7s %9s %10s %9s %9s %9s %9s  %s%n",
+            "Count", "Errors", "Rows", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Max ms", "SQL"));
+        for (StatementStats s : statements().take(limit)) {
+            out.append(String.format("%8d %7d %9d %10.1f %9.3f %9.3f %9.3f %9.3f  %s%n",
+                s.count(), s.errors(), s.rows(), s.totalMillis(), s.p50Millis(), s.p95Millis(),
+                s.p99Millis(), s.maxMillis(), abbreviate(s.sql(), 120)));
+        }
+        for (AcquireStats a : connectionAcquires()) {
+            out.append(String.format("Connection acquire (%s): %d waits, p50 %.3f ms, p95 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                a.intent(), a.count(), a.p50Millis(), a.p95Millis(), a.p99Millis(), a.maxMillis()));
+        }
+        return out.toString();
+    }
+
+    static void recordAcquire(DatabaseManager.Intent intent, long nanos) {
+        if (enabled) {
+            acquireWaits.computeIfAbsent(intent, i -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    /**
+     * Wraps a pooled connection so its statements report here. Returns it unchanged when disabled.
+     */
+    static Connection instrument(Connection conn) {
+        if (!enabled) {
+            return conn;
+        }
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "prepareStatement" ->
+                    instrumentStatement((Statement) invoke(conn, method, args), PreparedStatement.class, (String) args[0]);
+                case "createStatement" ->
+                    instrumentStatement((Statement) invoke(conn, method, args), Statement.class, null);
+                default -> invoke(conn, method, args);
+            });
+    }
+
+    static String normalize(String sql) {
+        String cached = normalizedCache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = IN_LIST.matcher(normalized).replaceAll("IN (?...)");
+        if (normalizedCache.size() < MAX_STATEMENTS * 4) {
+            normalizedCache.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    private static <T extends Statement> T instrumentStatement(Statement target, Class<T> type, String preparedSql) {
+        // Result set still being read; recorded when exhausted, closed, or when the statement closes
+        Runnable[] pending = { null };
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("close") && pending[0] != null) {
+                    pending[0].run();
+                }
+                if (!name.startsWith("execute")) {
+                    return invoke(target, method, args);
+                }
+                String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                if (sql == null) {
+                    return invoke(target, method, args);
+                }
+                long start = System.nanoTime();
+                Object result;
+                try {
+                    result = invoke(target, method, args);
+                } catch (Throwable error) {
+                    record(sql, System.nanoTime() - start, 0, true);
+                    throw error;
+                }
+                if (result instanceof ResultSet rs) {
+                    long[] rows = { 0 };
+                    boolean[] recorded = { false };
+                    pending[0] = () -> {
+                        if (!recorded[0]) {
+                            recorded[0] = true;
+                            record(sql, System.nanoTime() - start, rows[0], false);
+                        }
+                    };
+                    return instrumentResultSet(rs, rows, pending[0]);
+                }
+                record(sql, System.nanoTime() - start, affectedRows(result), false);
+                return result;
+            }));
+    }
+
+    private static ResultSet instrumentResultSet(ResultSet target, long[] rows, Runnable finish) {
+        return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] { ResultSet.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "next" -> {
+                    boolean hasRow = (Boolean) invoke(target, method, args);
+                    if (hasRow) {
+                        rows[0]++;
+                    } else {
+                        finish.run();
+                    }
+                    yield hasRow;
+                }
+                case "close" -> {
+                    finish.run();
+                    yield invoke(target, method, args);
+                }
+                default -> invoke(target, method, args);
+            });
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    private static void record(String sql, long nanos, long rows, boolean error) {
+        String normalized = normalize(sql);
+        StatementRecorder recorder = statements.get(normalized);
+        if (recorder == null) {
+            String key = statements.size() < MAX_STATEMENTS ? normalized : OTHER;
+            recorder = statements.computeIfAbsent(key, k -> new StatementRecorder());
+        }
+        recorder.record(nanos, rows, error);
+
+        if (nanos >= slowQueryNanos) {
+            slowQueryLog.warn("Slow query ({} ms, {} rows{}): {}",
+                String.format("%.1f", millis(nanos)), rows, error ? ", failed" : "", normalized);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String abbreviate(String text, int max) {
+        return text.length() <= max ? text : text.substring(0, max - 3) + "...";
+    }
+
+    private static final class StatementRecorder {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos, long rowCount, boolean error) {
+            latency.record(nanos);
+            rows.add(rowCount);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        StatementStats snapshot(String sql) {
+            return new StatementStats(sql, latency.count(), errors.sum(), rows.sum(),
+                millis(latency.total()), millis(latency.percentile(0.50)), millis(latency.percentile(0.95)),
+                millis(latency.percentile(0.99)), millis(latency.max()));
+        }
+    }
+
+    /**
+     * Lock-free log-linear histogram: 16 buckets per power of two, so any percentile is
+     * within about 6% of the true value, from nanoseconds up to hours.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long value = Math.max(nanos, 0);
+            counts.incrementAndGet(index(value));
+            count.increment();
+            total.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        long percentile(double quantile) {
+            long observed = count();
+            if (observed == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(quantile * observed));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts.get(i);
+                if (seen >= target) {
+                    return Math.min(midpoint(i), max());
+                }
+            }
+            return max();
+        }
+
+        private static int index(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int power = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (power - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+            return SUB_BUCKETS + (power - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+        }
+
+        private static long midpoint(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int power = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+            int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+            long lower = (long) (SUB_BUCKETS + sub) << (power - SUB_BUCKET_BITS);
+            long width = 1L << (power - SUB_BUCKET_BITS);
+            return lower + width / 2;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lookup lists for combo boxes and validators, loaded once and held in memory.
+ * <p>
+ * Allowed provinces, roles, resource types and urgency levels come from the schema's CHECK
+ * constraints, so the UI offers exactly what the database accepts; the built-in lists are used
+ * when a constraint cannot be read. Provinces and cities in use come from the orphanages.
+ * <p>
+ * Readers get an immutable snapshot and never wait on the database after the first load. The
+ * snapshot is reloaded in the background every {@code db.referenceData.refreshSeconds} and
+ * shortly after {@link OrphanageDAO} changes an orphanage.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class ReferenceData {
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceData.class);
+
+    private static final List<String> DEFAULT_PROVINCES = List.of(
+        "Eastern Cape", "Free State", "Gauteng", "KwaZulu-Natal",
+        "Limpopo", "Mpumalanga", "Northern Cape", "North West", "Western Cape"
+    );
+    private static final List<String> DEFAULT_ROLES = List.of(
+        "Admin", "OrphanageRep", "Donor", "Volunteer", "Staff"
+    );
+    private static final List<String> DEFAULT_RESOURCE_TYPES = List.of(
+        "Food", "Clothing", "Educational", "Medical", "Furniture",
+        "Sports", "Hygiene", "Books", "Electronics", "Toys", "Other"
+    );
+    private static final List<String> DEFAULT_URGENCY_LEVELS = List.of(
+        "Low", "Medium", "High", "Critical"
+    );
+
+    private static final Pattern QUOTED = Pattern.compile("'((?:[^']|'')*)'");
+    /** Coalesces bursts of orphanage writes into one reload. */
+    private static final long STALE_RELOAD_DELAY_MS = 500;
+
+    private record Snapshot(
+        List<String> provinces,
+        List<String> roles,
+        List<String> resourceTypes,
+        List<String> urgencyLevels,
+        List<String> provincesInUse,
+        List<String> citiesInUse
+    ) {}
+
+    private static final Object loadLock = new Object();
+    private static final AtomicBoolean reloadPending = new AtomicBoolean();
+    private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "OrphanageHub-ReferenceData");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Snapshot snapshot;
+    private static ScheduledFuture<?> periodicRefresh;
+
+    private ReferenceData() {
+    }
+
+    /** Every province the schema allows, for forms and validation. */
+    public static List<String> provinces() {
+        return current().provinces();
+    }
+
+    /** Provinces that have at least one orphanage, sorted; for search filters. */
+    public static List<String> provincesInUse() {
+        return current().provincesInUse();
+    }
+
+    /** Cities that have at least one orphanage, sorted. */
+    public static List<String> citiesInUse() {
+        return current().citiesInUse();
+    }
+
+    public static List<String> roles() {
+        return current().roles();
+    }
+
+    public static List<String> resourceTypes() {
+        return current().resourceTypes();
+    }
+
+    /** Resource request urgency levels, least urgent first. */
+    public static List<String> urgencyLevels() {
+        return current().urgencyLevels();
+    }
+
+    /**
+     * Reloads every list now, on the calling thread.
+     */
+    public static Try<Void> refresh() {
+        return Try.run(() -> snapshot = load()).onFailure(error -> logger.warn("Failed to reload reference data", error));
+    }
+
+    /**
+     * Starts the periodic reload; a period of 0 turns it off. Called when the database starts.
+     */
+    static synchronized void configure(long refreshSeconds) {
+        if (periodicRefresh != null) {
+            periodicRefresh.cancel(false);
+            periodicRefresh = null;
+        }
+        if (refreshSeconds > 0) {
+            periodicRefresh = refresher.scheduleWithFixedDelay(
+                ReferenceData::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Schedules a background reload after data behind the lists changed.
+     */
+    static void markStale() {
+        if (snapshot != null && reloadPending.compareAndSet(false, true)) {
+            refresher.schedule(() -> {
+                reloadPending.set(false);
+                refresh();
+            }, STALE_RELOAD_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (loadLock) {
+            if (snapshot == null) {
+                snapshot = Try.of(ReferenceData::load)
+                    .onFailure(error -> logger.warn("Failed to load reference data; using built-in lists", error))
+                    .getOrElse(() -> new Snapshot(DEFAULT_PROVINCES, DEFAULT_ROLES, DEFAULT_RESOURCE_TYPES,
+                                                  DEFAULT_URGENCY_LEVELS, List.empty(), List.empty()));
+            }
+            return snapshot;
+        }
+    }
+
+    private static Snapshot load() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get()) {
+            return new Snapshot(
+                allowedValues(conn, "TblOrphanages", "Province", DEFAULT_PROVINCES),
+                allowedValues(conn, "TblUsers", "UserRole", DEFAULT_ROLES),
+                allowedValues(conn, "TblResourceRequests", "ResourceType", DEFAULT_RESOURCE_TYPES),
+                allowedValues(conn, "TblResourceRequests", "UrgencyLevel", DEFAULT_URGENCY_LEVELS),
+                distinct(conn, "SELECT DISTINCT Province FROM TblOrphanages WHERE Province IS NOT NULL ORDER BY Province"),
+                distinct(conn, "SELECT DISTINCT City FROM TblOrphanages WHERE City IS NOT NULL ORDER BY City"));
+        }
+    }
+
+    /**
+     * Values of a {@code CHECK(column IN (...))} constraint in the table's definition.
+     */
+    private static List<String> allowedValues(Connection conn, String table, String column, List<String> fallback)
+            throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                 "SELECT sql FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getString(1) == null) {
+                    return fallback;
+                }
+                Matcher check = Pattern.compile("CHECK\\s*\\(\\s*" + column + "\\s+IN\\s*\\(([^)]*)\\)",
+                                                Pattern.CASE_INSENSITIVE).matcher(rs.getString(1));
+                if (!check.find()) {
+                    return fallback;
+                }
+                java.util.List<String> values = new java.util.ArrayList<>();
+                Matcher quoted = QUOTED.matcher(check.group(1));
+                while (quoted.find()) {
+                    values.add(quoted.group(1).replace("''", "'"));
+                }
+                return values.isEmpty() ? fallback : List.ofAll(values);
+            }
+        }
+    }
+
+    private static List<String> distinct(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql);
+             ResultSet rs = ps.executeQuery()) {
+            return ResultStreams.toList(rs, row -> row.getString(1));
+        }
+    }
+}
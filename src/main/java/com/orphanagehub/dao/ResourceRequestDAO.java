@@ -1,16 +1,20 @@
 package com.orphanagehub.dao;
 
 import com.orphanagehub.model.ResourceRequest;
-import com.orphanagehub.util.DatabaseManager;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * DAO for ResourceRequest operations.
@@ -21,6 +25,33 @@ import java.time.LocalDateTime;
  */
 public class ResourceRequestDAO {
     private static final Logger logger = LoggerFactory.getLogger(ResourceRequestDAO.class);
+
+    /**
+     * An orphanage's newest open requests and the highest urgency among all its open requests.
+     */
+    public record NeedsSummary(int orphanageId, List<String> topNeeds, Option<String> maxUrgency) {
+        /** Whether any open request is High or Critical. */
+        public boolean isUrgent() {
+            return maxUrgency.exists(level -> level.equals("High") || level.equals("Critical"));
+        }
+    }
+
+    /** Urgency levels by rank, lowest first; rank 0 is a level not listed. */
+    private static final List<String> URGENCY_LEVELS = List.of("Low", "Medium", "High", "Critical");
+
+    // Numbers each orphanage's open requests newest first and keeps the first few, next to the
+    // highest urgency rank over all of them; the scope goes between the two halves.
+    private static final String NEEDS_SUMMARY_SELECT = """
+        SELECT OrphanageID, ResourceDescription, UrgencyRank FROM (
+            SELECT r.OrphanageID, r.ResourceDescription,
+                   ROW_NUMBER() OVER (PARTITION BY r.OrphanageID ORDER BY r.RequestDate DESC, r.RequestID DESC) AS NeedRank,
+                   MAX(CASE UPPER(r.UrgencyLevel) WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2
+                       WHEN 'HIGH' THEN 3 WHEN 'CRITICAL' THEN 4 ELSE 0 END) OVER (PARTITION BY r.OrphanageID) AS UrgencyRank
+            FROM TblResourceRequests r
+            WHERE UPPER(r.Status) = 'OPEN' AND r.OrphanageID IN (""";
+    private static final String NEEDS_SUMMARY_ORDER = ")) WHERE NeedRank <= ? ORDER BY OrphanageID, NeedRank";
+    private static final String VERIFIED_NEEDS_SUMMARY_SQL = NEEDS_SUMMARY_SELECT +
+        "SELECT OrphanageID FROM TblOrphanages WHERE VerificationStatus = 'Verified'" + NEEDS_SUMMARY_ORDER;
     
     public Try<ResourceRequest> create(ResourceRequest request) {
         String sql = """
@@ -30,7 +61,7 @@ public class ResourceRequestDAO {
             VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
             
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     PreparedStatement stmt = c.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
@@ -89,7 +120,7 @@ public class ResourceRequestDAO {
             WHERE RequestID = ?
             """;
             
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     PreparedStatement stmt = c.prepareStatement(sql);
@@ -120,7 +151,7 @@ public class ResourceRequestDAO {
     public Try<Option<ResourceRequest>> findById(Integer requestId) {
         String sql = "SELECT * FROM TblResourceRequests WHERE RequestID = ?";
         
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     PreparedStatement stmt = c.prepareStatement(sql);
@@ -128,7 +159,7 @@ public class ResourceRequestDAO {
                     ResultSet rs = stmt.executeQuery();
                     
                     if (rs.next()) {
-                        return Option.of(mapToResourceRequest(rs));
+                        return Option.of(REQUEST_MAPPER.map(rs));
                     }
                     return Option.<ResourceRequest>none();
                 }));
@@ -137,18 +168,14 @@ public class ResourceRequestDAO {
     public Try<List<ResourceRequest>> findByOrphanageId(Integer orphanageId) {
         String sql = "SELECT * FROM TblResourceRequests WHERE OrphanageID = ? ORDER BY RequestDate DESC";
         
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     PreparedStatement stmt = c.prepareStatement(sql);
                     stmt.setInt(1, orphanageId);
                     ResultSet rs = stmt.executeQuery();
                     
-                    List<ResourceRequest> requests = List.empty();
-                    while (rs.next()) {
-                        requests = requests.append(mapToResourceRequest(rs));
-                    }
-                    return requests;
+                    return ResultStreams.toList(rs, REQUEST_MAPPER);
                 }));
     }
     
@@ -166,17 +193,13 @@ public class ResourceRequestDAO {
                 RequestDate DESC
             """;
             
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     Statement stmt = c.createStatement();
                     ResultSet rs = stmt.executeQuery(sql);
                     
-                    List<ResourceRequest> requests = List.empty();
-                    while (rs.next()) {
-                        requests = requests.append(mapToResourceRequest(rs));
-                    }
-                    return requests;
+                    return ResultStreams.toList(rs, REQUEST_MAPPER);
                 }));
     }
     
@@ -188,45 +211,152 @@ public class ResourceRequestDAO {
             ORDER BY RequestDate DESC
             """;
             
-        return DatabaseManager.getConnection()
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ)
             .flatMap(conn -> Try.withResources(() -> conn)
                 .of(c -> {
                     Statement stmt = c.createStatement();
                     ResultSet rs = stmt.executeQuery(sql);
                     
-                    List<ResourceRequest> requests = List.empty();
-                    while (rs.next()) {
-                        requests = requests.append(mapToResourceRequest(rs));
-                    }
-                    return requests;
+                    return ResultStreams.toList(rs, REQUEST_MAPPER);
                 }));
     }
+
+    /**
+     * Open and in-progress requests whose description or type match {@code text}, best match
+     * first; blank text lists them all in ID order.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<ResourceRequest>> search(String text, Option<String> cursor, int pageSize) {
+        return Try.of(() -> SearchIndex.page(SearchIndex.Index.REQUESTS, SearchIndex.matchAll(text),
+            List.of("t.Status IN ('Open', 'In Progress')"), List.empty(), cursor, pageSize, REQUEST_MAPPER));
+    }
+
+    /**
+     * Needs summaries of the given orphanages, each with up to {@code topCount} of its newest
+     * open requests. Orphanages without open requests are left out. Reads one query per
+     * {@value BatchLookup#CHUNK_SIZE} orphanages.
+     */
+    public Try<Map<Integer, NeedsSummary>> findNeedsSummaries(Iterable<Integer> orphanageIds, int topCount) {
+        Set<Integer> distinct = new LinkedHashSet<>();
+        orphanageIds.forEach(id -> {
+            if (id != null) {
+                distinct.add(id);
+            }
+        });
+        if (distinct.isEmpty()) {
+            return Try.success(HashMap.empty());
+        }
+
+        return Try.of(() -> {
+            java.util.List<Integer> ids = new ArrayList<>(distinct);
+            java.util.Map<Integer, NeedsSummary> summaries = new java.util.HashMap<>();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get()) {
+                for (int from = 0; from < ids.size(); from += BatchLookup.CHUNK_SIZE) {
+                    java.util.List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + BatchLookup.CHUNK_SIZE));
+                    int width = BatchLookup.paddedWidth(chunk.size());
+                    String sql = NEEDS_SUMMARY_SELECT + String.join(", ", Collections.nCopies(width, "?")) +
+                                 NEEDS_SUMMARY_ORDER;
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        for (int i = 0; i < width; i++) {
+                            ps.setInt(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                        }
+                        ps.setInt(width + 1, topCount);
+                        readNeedsSummaries(ps, summaries);
+                    }
+                }
+            }
+            return HashMap.ofAll(summaries);
+        });
+    }
+
+    /**
+     * Needs summaries of every verified orphanage with open requests, in one query; see
+     * {@link #findNeedsSummaries(Iterable, int)}.
+     */
+    public Try<Map<Integer, NeedsSummary>> findVerifiedNeedsSummaries(int topCount) {
+        return Try.of(() -> {
+            java.util.Map<Integer, NeedsSummary> summaries = new java.util.HashMap<>();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(VERIFIED_NEEDS_SUMMARY_SQL)) {
+                ps.setInt(1, topCount);
+                readNeedsSummaries(ps, summaries);
+            }
+            return HashMap.ofAll(summaries);
+        });
+    }
+
+    private static void readNeedsSummaries(PreparedStatement ps, java.util.Map<Integer, NeedsSummary> summaries)
+            throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                int orphanageId = rs.getInt(1);
+                String need = rs.getString(2);
+                int urgency = rs.getInt(3);
+                summaries.merge(orphanageId,
+                    new NeedsSummary(orphanageId, List.of(need),
+                                     urgency == 0 ? Option.none() : Option.some(URGENCY_LEVELS.get(urgency - 1))),
+                    (summary, next) -> new NeedsSummary(orphanageId, summary.topNeeds().append(need),
+                                                        summary.maxUrgency()));
+            }
+        }
+    }
+
+    /**
+     * Every request in ID order, mapped lazily for exports. Close the stream when done;
+     * it holds a pooled connection until then.
+     */
+    public Try<Stream<ResourceRequest>> streamAll(int fetchSize) {
+        String sql = "SELECT * FROM TblResourceRequests ORDER BY RequestID";
+
+        return ResultStreams.stream(sql, stmt -> {}, fetchSize, REQUEST_MAPPER);
+    }
+
+    public Try<Stream<ResourceRequest>> streamAll() {
+        return streamAll(ResultStreams.DEFAULT_FETCH_SIZE);
+    }
     
-    private ResourceRequest mapToResourceRequest(ResultSet rs) throws SQLException {
-        return new ResourceRequest(
-            rs.getInt("RequestID"),
-            rs.getInt("OrphanageID"),
-            rs.getString("ResourceType"),
-            rs.getString("ResourceDescription"),
-            rs.getDouble("Quantity"),
-            Option.of(rs.getString("Unit")),
-            rs.getString("UrgencyLevel"),
-            rs.getTimestamp("RequestDate").toLocalDateTime(),
-            Option.of(rs.getDate("NeededByDate"))
-                .map(Date::toLocalDate),
-            rs.getString("Status"),
-            Option.of(rs.getTimestamp("FulfilledDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getObject("FulfilledBy", Integer.class)),
-            Option.of(rs.getString("FulfillmentNotes")),
-            Option.of(rs.getObject("EstimatedValue", Double.class)),
-            Option.of(rs.getObject("ActualValue", Double.class)),
-            Option.of(rs.getString("Notes")),
-            Option.of(rs.getString("ImagePath")),
-            rs.getInt("CreatedBy"),
-            Option.of(rs.getTimestamp("ModifiedDate"))
-                .map(Timestamp::toLocalDateTime),
-            Option.of(rs.getObject("ModifiedBy", Integer.class))
+    private static final RowMapper<ResourceRequest> REQUEST_MAPPER = Columns.mapper(c -> {
+        int requestId = c.index("RequestID");
+        int orphanageId = c.index("OrphanageID");
+        int resourceType = c.index("ResourceType");
+        int resourceDescription = c.index("ResourceDescription");
+        int quantity = c.index("Quantity");
+        int unit = c.index("Unit");
+        int urgencyLevel = c.index("UrgencyLevel");
+        int requestDate = c.index("RequestDate");
+        int neededByDate = c.index("NeededByDate");
+        int status = c.index("Status");
+        int fulfilledDate = c.index("FulfilledDate");
+        int fulfilledBy = c.index("FulfilledBy");
+        int fulfillmentNotes = c.index("FulfillmentNotes");
+        int estimatedValue = c.index("EstimatedValue");
+        int actualValue = c.index("ActualValue");
+        int notes = c.index("Notes");
+        int imagePath = c.index("ImagePath");
+        int createdBy = c.index("CreatedBy");
+        int modifiedDate = c.index("ModifiedDate");
+        int modifiedBy = c.index("ModifiedBy");
+        return rs -> new ResourceRequest(
+            c.getInt(requestId),
+            c.getInt(orphanageId),
+            c.getString(resourceType),
+            c.getString(resourceDescription),
+            c.getDouble(quantity),
+            c.optString(unit),
+            c.getString(urgencyLevel),
+            c.getDateTime(requestDate),
+            c.optDate(neededByDate),
+            c.getString(status),
+            c.optDateTime(fulfilledDate),
+            c.optInt(fulfilledBy),
+            c.optString(fulfillmentNotes),
+            c.optDouble(estimatedValue),
+            c.optDouble(actualValue),
+            c.optString(notes),
+            c.optString(imagePath),
+            c.getInt(createdBy),
+            c.optDateTime(modifiedDate),
+            c.optInt(modifiedBy)
         );
-    }
-}
\ No newline at end of file
+    });
+}
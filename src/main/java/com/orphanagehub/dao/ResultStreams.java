@@ -0,0 +1,146 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Result set helpers shared by the DAOs: linear collection into a vavr {@link List} and
+ * lazily mapped {@link Stream}s for bulk reads.
+ */
+final class ResultStreams {
+    private static final Logger logger = LoggerFactory.getLogger(ResultStreams.class);
+
+    /** Fetch size used when the caller does not pick one. */
+    static final int DEFAULT_FETCH_SIZE = 500;
+
+    private ResultStreams() {
+    }
+
+    /**
+     * Maps every remaining row. vavr's {@code List.append} copies the list, so appending row by
+     * row is quadratic; this buffers the rows and builds the list once.
+     */
+    static <T> List<T> toList(ResultSet rs, RowMapper<T> mapper) throws SQLException {
+        java.util.List<T> rows = new ArrayList<>();
+        RowMapper<T> rowMapper = mapper.prepare(rs);
+        while (rs.next()) {
+            rows.add(rowMapper.map(rs));
+        }
+        return List.ofAll(rows);
+    }
+
+    /**
+     * The first column of every remaining row as ints, for key lists too long to box. Rows are
+     * advanced through {@code rs}, so {@link QueryMetrics} counts them, and read from the
+     * driver's result set underneath, as {@link Columns} does.
+     */
+    static int[] toIntArray(ResultSet rs) throws SQLException {
+        ResultSet raw = rs.isWrapperFor(ResultSet.class) ? rs.unwrap(ResultSet.class) : rs;
+        int[] values = new int[1024];
+        int size = 0;
+        while (rs.next()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = raw.getInt(1);
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Runs a query and maps rows only as the stream is consumed, so memory use does not grow
+     * with the result. The stream holds a pooled connection until it is exhausted or closed;
+     * always close it, e.g. with try-with-resources.
+     */
+    static <T> Try<Stream<T>> stream(String sql, GroupCommitWriter.StatementBinder binder, int fetchSize,
+                                     RowMapper<T> mapper) {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ).flatMap(conn -> Try.of(() -> {
+            PreparedStatement ps = null;
+            try {
+                ps = conn.prepareStatement(sql);
+                ps.setFetchSize(fetchSize);
+                binder.bind(ps);
+                ResultSet rs = ps.executeQuery();
+                RowCursor<T> cursor = new RowCursor<>(conn, ps, rs, mapper.prepare(rs));
+                return StreamSupport.stream(cursor, false).onClose(cursor::close);
+            } catch (SQLException | RuntimeException e) {
+                closeQuietly(ps);
+                closeQuietly(conn);
+                throw e;
+            }
+        }));
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            logger.debug("Failed to close streaming resource", e);
+        }
+    }
+
+    /**
+     * Walks the result set one row per {@code tryAdvance} and releases everything once the
+     * last row has been read.
+     */
+    private static final class RowCursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement ps;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        RowCursor(Connection conn, PreparedStatement ps, ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.ps = ps;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new IllegalStateException("Streaming read failed", e);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(rs);
+            closeQuietly(ps);
+            closeQuietly(conn);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.orphanagehub.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counter tables kept current by triggers, so dashboard totals are read from a handful of
+ * rows instead of rescanning donations, requests and applications.
+ * <p>
+ * {@code TblDonationRollup} holds donation count, money total, item count and recurring
+ * count per status for four scopes: {@code all}, {@code orphanage} (key: OrphanageID),
+ * {@code donor} (key: DonorID) and {@code month} (key: {@code YYYY-MM} of DonationDate).
+ * {@code TblStatusCounts} holds row counts per status for resource requests (detail:
+ * urgency level) and volunteer applications.
+ * <p>
+ * The tables are created and filled on first start. If they are ever suspected to have
+ * drifted (rows changed with triggers disabled, a restored backup), {@link #rebuild}
+ * recomputes them from the base tables; {@code DbMigrator rebuild-rollups} runs it.
+ */
+final class RollupTables {
+    private static final Logger logger = LoggerFactory.getLogger(RollupTables.class);
+
+    private static final String[] TABLES = {
+        """
+        CREATE TABLE IF NOT EXISTS TblDonationRollup (
+            Scope TEXT NOT NULL,
+            ScopeKey TEXT NOT NULL,
+            Status TEXT NOT NULL,
+            DonationCount INTEGER NOT NULL DEFAULT 0,
+            MoneyTotal REAL NOT NULL DEFAULT 0,
+            ItemCount INTEGER NOT NULL DEFAULT 0,
+            RecurringCount INTEGER NOT NULL DEFAULT 0,
+            PRIMARY KEY (Scope, ScopeKey, Status)
+        ) WITHOUT ROWID
+        """,
+        """
+        CREATE TABLE IF NOT EXISTS TblStatusCounts (
+            TableName TEXT NOT NULL,
+            Status TEXT NOT NULL,
+            Detail TEXT NOT NULL,
+            RowCount INTEGER NOT NULL DEFAULT 0,
+            PRIMARY KEY (TableName, Status, Detail)
+        ) WITHOUT ROWID
+        """
+    };
+
+    private static final String DONATION_COLUMNS =
+        "DonorID, OrphanageID, DonationType, Amount, Status, DonationDate";
+
+    /** Not in the shipped database; fix_database.sql adds it. */
+    private static final String RECURRING_COLUMN = "RecurringDonation";
+
+    private RollupTables() {
+    }
+
+    /**
+     * YYYY-MM of a DonationDate value. JDBC writes timestamps as epoch milliseconds while the
+     * column default writes text, so both forms are normalized first.
+     */
+    static String donationMonth(String column) {
+        return "strftime('%Y-%m', CASE WHEN typeof(" + column + ") IN ('integer', 'real') " +
+               "THEN datetime(" + column + " / 1000, 'unixepoch') ELSE " + column + " END)";
+    }
+
+    /**
+     * Creates the tables and triggers and fills them from the base tables, unless they are all
+     * there. Runs at startup on the writer connection.
+     */
+    static void ensureCreated(Connection conn) throws SQLException {
+        if (exists(conn)) {
+            return;
+        }
+        long start = System.nanoTime();
+        rebuild(conn);
+        logger.info("Created rollup tables in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Recreates the triggers and recomputes every counter from the base tables in one
+     * transaction. Where TblDonations has no RecurringDonation column the recurring counts
+     * stay 0; run this again once the column has been added.
+     */
+    static void rebuild(Connection conn) throws SQLException {
+        boolean recurring = DatabaseManager.columnExists(conn, "TblDonations", RECURRING_COLUMN);
+        if (!recurring) {
+            logger.warn("TblDonations has no {} column; recurring donation counts will be 0", RECURRING_COLUMN);
+        }
+        TransactionContext.inTransaction(conn, () -> {
+            try (Statement stmt = conn.createStatement()) {
+                for (String ddl : TABLES) {
+                    stmt.execute(ddl);
+                }
+                for (String[] trigger : triggers(recurring)) {
+                    stmt.execute("DROP TRIGGER IF EXISTS " + trigger[0]);
+                    stmt.execute("CREATE TRIGGER " + trigger[0] + " " + trigger[1]);
+                }
+                stmt.executeUpdate("DELETE FROM TblDonationRollup");
+                stmt.executeUpdate("DELETE FROM TblStatusCounts");
+                refill(stmt, recurring);
+            }
+        });
+    }
+
+    /**
+     * Whether both tables and every trigger exist. Recreating a base table, as fix_database.sql
+     * does, drops its triggers while the counters stay behind.
+     */
+    private static boolean exists(Connection conn) throws SQLException {
+        String[][] triggers = triggers(false);
+        StringBuilder names = new StringBuilder();
+        for (String[] trigger : triggers) {
+            names.append(", '").append(trigger[0]).append("'");
+        }
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT COUNT(*) FROM sqlite_master WHERE (type = 'table' " +
+                 "AND name IN ('TblDonationRollup', 'TblStatusCounts')) " +
+                 "OR (type = 'trigger' AND name IN (" + names.substring(2) + "))")) {
+            return rs.next() && rs.getInt(1) == 2 + triggers.length;
+        }
+    }
+
+    private static void refill(Statement stmt, boolean recurring) throws SQLException {
+        String[][] scopes = {
+            { "all", "''" },
+            { "orphanage", "CAST(OrphanageID AS TEXT)" },
+            { "donor", "CAST(DonorID AS TEXT)" },
+            { "month", donationMonth("DonationDate") }
+        };
+        String recurringCount = recurring ? "COUNT(CASE WHEN " + RECURRING_COLUMN + " THEN 1 END)" : "0";
+        for (String[] scope : scopes) {
+            stmt.executeUpdate("""
+                INSERT INTO TblDonationRollup (Scope, ScopeKey, Status, DonationCount, MoneyTotal, ItemCount, RecurringCount)
+                SELECT '%s', COALESCE(%s, ''), COALESCE(Status, ''), COUNT(*),
+                       TOTAL(CASE WHEN DonationType = 'Money' THEN Amount END),
+                       COUNT(CASE WHEN DonationType <> 'Money' THEN 1 END),
+                       %s
+                FROM TblDonations GROUP BY 2, 3
+                """.formatted(scope[0], scope[1], recurringCount));
+        }
+        stmt.executeUpdate("""
+            INSERT INTO TblStatusCounts (TableName, Status, Detail, RowCount)
+            SELECT 'TblResourceRequests', COALESCE(Status, ''), COALESCE(UrgencyLevel, ''), COUNT(*)
+            FROM TblResourceRequests GROUP BY 2, 3
+            """);
+        stmt.executeUpdate("""
+            INSERT INTO TblStatusCounts (TableName, Status, Detail, RowCount)
+            SELECT 'TblVolunteerApplications', COALESCE(Status, ''), '', COUNT(*)
+            FROM TblVolunteerApplications GROUP BY 2
+            """);
+    }
+
+    /**
+     * Each trigger as {name, definition after the name}.
+     */
+    private static String[][] triggers(boolean recurring) {
+        String donationColumns = recurring ? DONATION_COLUMNS + ", " + RECURRING_COLUMN : DONATION_COLUMNS;
+        return new String[][] {
+            { "trg_donation_rollup_insert", "AFTER INSERT ON TblDonations BEGIN " +
+                donationDelta("NEW", 1, recurring) + " END" },
+            { "trg_donation_rollup_delete", "AFTER DELETE ON TblDonations BEGIN " +
+                donationDelta("OLD", -1, recurring) + " END" },
+            { "trg_donation_rollup_update", "AFTER UPDATE OF " + donationColumns + " ON TblDonations BEGIN " +
+                donationDelta("OLD", -1, recurring) + " " + donationDelta("NEW", 1, recurring) + " END" },
+            { "trg_request_counts_insert", "AFTER INSERT ON TblResourceRequests BEGIN " +
+                statusDelta("TblResourceRequests", "NEW", "NEW.UrgencyLevel", 1) + " END" },
+            { "trg_request_counts_delete", "AFTER DELETE ON TblResourceRequests BEGIN " +
+                statusDelta("TblResourceRequests", "OLD", "OLD.UrgencyLevel", -1) + " END" },
+            { "trg_request_counts_update", "AFTER UPDATE OF Status, UrgencyLevel ON TblResourceRequests BEGIN " +
+                statusDelta("TblResourceRequests", "OLD", "OLD.UrgencyLevel", -1) + " " +
+                statusDelta("TblResourceRequests", "NEW", "NEW.UrgencyLevel", 1) + " END" },
+            { "trg_application_counts_insert", "AFTER INSERT ON TblVolunteerApplications BEGIN " +
+                statusDelta("TblVolunteerApplications", "NEW", "''", 1) + " END" },
+            { "trg_application_counts_delete", "AFTER DELETE ON TblVolunteerApplications BEGIN " +
+                statusDelta("TblVolunteerApplications", "OLD", "''", -1) + " END" },
+            { "trg_application_counts_update", "AFTER UPDATE OF Status ON TblVolunteerApplications BEGIN " +
+                statusDelta("TblVolunteerApplications", "OLD", "''", -1) + " " +
+                statusDelta("TblVolunteerApplications", "NEW", "''", 1) + " END" }
+        };
+    }
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) one donation row in all four scopes.
+     */
+    private static String donationDelta(String row, int sign, boolean recurring) {
+        String status = "COALESCE(" + row + ".Status, '')";
+        String isRecurring = recurring ? "(COALESCE(" + row + "." + RECURRING_COLUMN + ", 0) <> 0)" : "0";
+        String values = "%d, %d * (CASE WHEN %s.DonationType = 'Money' THEN COALESCE(%s.Amount, 0) ELSE 0 END), "
+            .formatted(sign, sign, row, row) +
+            "%d * (%s.DonationType <> 'Money'), %d * %s"
+            .formatted(sign, row, sign, isRecurring);
+        return """
+            INSERT INTO TblDonationRollup (Scope, ScopeKey, Status, DonationCount, MoneyTotal, ItemCount, RecurringCount)
+            VALUES ('all', '', %1$s, %2$s),
+                   ('orphanage', COALESCE(CAST(%3$s.OrphanageID AS TEXT), ''), %1$s, %2$s),
+                   ('donor', COALESCE(CAST(%3$s.DonorID AS TEXT), ''), %1$s, %2$s),
+                   ('month', COALESCE(%4$s, ''), %1$s, %2$s)
+            ON CONFLICT (Scope, ScopeKey, Status) DO UPDATE SET
+                DonationCount = DonationCount + excluded.DonationCount,
+                MoneyTotal = MoneyTotal + excluded.MoneyTotal,
+                ItemCount = ItemCount + excluded.ItemCount,
+                RecurringCount = RecurringCount + excluded.RecurringCount;
+            """.formatted(status, values, row, donationMonth(row + ".DonationDate"));
+    }
+
+    private static String statusDelta(String table, String row, String detail, int sign) {
+        return """
+            INSERT INTO TblStatusCounts (TableName, Status, Detail, RowCount)
+            VALUES ('%s', COALESCE(%s.Status, ''), COALESCE(%s, ''), %d)
+            ON CONFLICT (TableName, Status, Detail) DO UPDATE SET RowCount = RowCount + excluded.RowCount;
+            """.formatted(table, row, detail, sign);
+    }
+}
@@ -0,0 +1,20 @@
+package com.orphanagehub.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a result set to a model object.
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T map(ResultSet rs) throws SQLException;
+
+    /**
+     * The mapper to use for every row of {@code rs}; called once per result set, before the
+     * first row. Mappers built with {@link Columns#mapper} look their columns up here.
+     */
+    default RowMapper<T> prepare(ResultSet rs) throws SQLException {
+        return this;
+    }
+}
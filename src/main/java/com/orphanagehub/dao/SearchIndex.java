@@ -0,0 +1,236 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Full-text indexes over orphanages, resource requests and volunteer opportunities.
+ * <p>
+ * Each index is an FTS5 table over the text columns of its base table. The text itself is
+ * read from the base table ({@code content=}), so it is not stored twice, and triggers on
+ * insert, delete and updates of those columns keep the index current. A search matches every
+ * word of the query as a word prefix ("sun hom" finds "Sunrise Children's Home"), ranks by
+ * BM25 weighted towards names and titles, and pages with {@link Page} cursors on rank and ID.
+ * <p>
+ * The indexes are created and filled on first start. If one is ever suspected to have
+ * drifted (rows changed with triggers disabled, a restored backup), {@link #rebuild()}
+ * refills them from the base tables; {@code DbMigrator rebuild-search} runs it.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class SearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    /** More words than this are ignored; they only slow the match down. */
+    private static final int MAX_WORDS = 16;
+
+    /**
+     * The indexed tables. Weights are per column, in column order; a higher weight ranks a
+     * match in that column higher.
+     */
+    enum Index {
+        ORPHANAGES("TblOrphanageSearch", "TblOrphanages", "OrphanageID", "trg_orphanage_search",
+                   List.of("OrphanageName", "City", "Description"), "10.0, 5.0, 1.0"),
+        REQUESTS("TblRequestSearch", "TblResourceRequests", "RequestID", "trg_request_search",
+                 List.of("ResourceDescription", "ResourceType"), "1.0, 2.0"),
+        OPPORTUNITIES("TblOpportunitySearch", "TblVolunteerOpportunities", "OpportunityID", "trg_opportunity_search",
+                      List.of("Title", "Description", "SkillsRequired"), "10.0, 1.0, 5.0");
+
+        final String table;
+        final String content;
+        final String key;
+        final String triggerPrefix;
+        final List<String> columns;
+        final String weights;
+
+        Index(String table, String content, String key, String triggerPrefix, List<String> columns, String weights) {
+            this.table = table;
+            this.content = content;
+            this.key = key;
+            this.triggerPrefix = triggerPrefix;
+            this.columns = columns;
+            this.weights = weights;
+        }
+    }
+
+    private SearchIndex() {
+    }
+
+    /**
+     * Refills every index from its base table in one transaction.
+     */
+    public static Try<Void> rebuild() {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                rebuild(c);
+                return null;
+            }));
+    }
+
+    /**
+     * Creates and fills any index that is missing. Runs at startup on the writer connection.
+     */
+    static void ensureCreated(Connection conn) throws SQLException {
+        for (Index index : Index.values()) {
+            if (exists(conn, index)) {
+                continue;
+            }
+            long start = System.nanoTime();
+            TransactionContext.inTransaction(conn, () -> create(conn, index));
+            logger.info("Created search index {} in {} ms", index.table, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    static void rebuild(Connection conn) throws SQLException {
+        TransactionContext.inTransaction(conn, () -> {
+            for (Index index : Index.values()) {
+                create(conn, index);
+            }
+        });
+    }
+
+    /**
+     * Turns what a user typed into an FTS5 query in which each word must appear as the start
+     * of a word in the text. Punctuation and FTS5 syntax are dropped, so any input is safe.
+     * @return none when the input has no words
+     */
+    static Option<String> matchAll(String text) {
+        if (text == null) {
+            return Option.none();
+        }
+        List<String> words = List.of(text.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> !word.isEmpty())
+            .take(MAX_WORDS);
+        return words.isEmpty()
+            ? Option.none()
+            : Option.some(words.map(word -> "\"" + word + "\"*").mkString(" "));
+    }
+
+    /**
+     * Like {@link #matchAll(String)}, with every word matched in {@code column} only.
+     */
+    static Option<String> matchAll(String text, String column) {
+        return matchAll(text).map(words -> column + " : (" + words + ")");
+    }
+
+    /**
+     * Both expressions must match; either may be absent.
+     */
+    static Option<String> and(Option<String> first, Option<String> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        return second.isEmpty() ? first : Option.some("(" + first.get() + ") AND (" + second.get() + ")");
+    }
+
+    /**
+     * Reads one page of base table rows, aliased {@code t}, that pass every filter. With a
+     * match expression the rows are the matches, best first; without one they are all rows in
+     * ID order.
+     * @param filters - conditions on {@code t} with {@code ?} placeholders, bound from {@code params} in order
+     */
+    static <T> Page<T> page(Index index, Option<String> match, List<String> filters, List<Object> params,
+                            Option<String> cursor, int pageSize, RowMapper<T> mapper) throws SQLException {
+        return page(index, "t.*", match, filters, params, cursor, pageSize, mapper);
+    }
+
+    /**
+     * Like {@link #page(Index, Option, List, List, Option, int, RowMapper)}, reading only
+     * {@code columns}: a select list over {@code t} that includes its key column.
+     */
+    static <T> Page<T> page(Index index, String columns, Option<String> match, List<String> filters,
+                            List<Object> params, Option<String> cursor, int pageSize, RowMapper<T> mapper)
+            throws SQLException {
+        Page.checkPageSize(pageSize);
+        String sql;
+        if (match.isDefined()) {
+            String rank = "bm25(" + index.table + ", " + index.weights + ")";
+            List<String> where = List.of(index.table + " MATCH ?").appendAll(filters);
+            if (cursor.isDefined()) {
+                where = where.append("(" + rank + ", t." + index.key + ") > (?, ?)");
+            }
+            // Rank and page on IDs alone; only the rows of the page are read in full. CROSS JOIN
+            // keeps the index as the outer loop: driven from the base table, SQLite would re-run
+            // the match once per row.
+            sql = "SELECT m.SearchRank, " + columns + " FROM (SELECT t." + index.key + " AS MatchID, " + rank + " AS SearchRank " +
+                  "FROM " + index.table + " CROSS JOIN " + index.content + " t ON t." + index.key + " = " + index.table +
+                  ".rowid" + where(where) + " ORDER BY SearchRank, MatchID LIMIT ?) m " +
+                  "JOIN " + index.content + " t ON t." + index.key + " = m.MatchID ORDER BY m.SearchRank, t." + index.key;
+        } else {
+            List<String> where = cursor.isDefined() ? filters.append("t." + index.key + " > ?") : filters;
+            sql = "SELECT " + columns + " FROM " + index.content + " t" + where(where) +
+                  " ORDER BY t." + index.key + " LIMIT ?";
+        }
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            int parameter = 1;
+            if (match.isDefined()) {
+                ps.setString(parameter++, match.get());
+            }
+            for (Object value : params) {
+                ps.setObject(parameter++, value);
+            }
+            parameter = match.isDefined()
+                ? Page.bindCursor(ps, parameter, cursor)
+                : Page.bindCursorId(ps, parameter, cursor);
+            ps.setInt(parameter, pageSize + 1);
+            return Page.read(ps, pageSize, match.isDefined() ? "SearchRank" : index.key, index.key, mapper);
+        }
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + conditions.mkString(" AND ");
+    }
+
+    private static boolean exists(Connection conn, Index index) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                 "SELECT COUNT(*) FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            ps.setString(1, index.table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void create(Connection conn, Index index) throws SQLException {
+        String columns = index.columns.mkString(", ");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE VIRTUAL TABLE IF NOT EXISTS " + index.table + " USING fts5(" + columns +
+                         ", content='" + index.content + "', content_rowid='" + index.key +
+                         "', tokenize='unicode61 remove_diacritics 2', prefix='2 3')");
+            for (String trigger : triggers(index)) {
+                stmt.execute(trigger);
+            }
+            stmt.execute("INSERT INTO " + index.table + " (" + index.table + ") VALUES ('rebuild')");
+        }
+    }
+
+    private static String[] triggers(Index index) {
+        String columns = index.columns.mkString(", ");
+        String insert = "INSERT INTO " + index.table + " (rowid, " + columns + ") VALUES (NEW." + index.key + ", " +
+                        index.columns.map(column -> "NEW." + column).mkString(", ") + ");";
+        // External content: the old values have to be handed back for the index to remove them
+        String delete = "INSERT INTO " + index.table + " (" + index.table + ", rowid, " + columns + ") " +
+                        "VALUES ('delete', OLD." + index.key + ", " +
+                        index.columns.map(column -> "OLD." + column).mkString(", ") + ");";
+        return new String[] {
+            "CREATE TRIGGER IF NOT EXISTS " + index.triggerPrefix + "_insert AFTER INSERT ON " + index.content +
+                " BEGIN " + insert + " END",
+            "CREATE TRIGGER IF NOT EXISTS " + index.triggerPrefix + "_delete AFTER DELETE ON " + index.content +
+                " BEGIN " + delete + " END",
+            "CREATE TRIGGER IF NOT EXISTS " + index.triggerPrefix + "_update AFTER UPDATE OF " + columns +
+                " ON " + index.content + " BEGIN " + delete + " " + insert + " END"
+        };
+    }
+}
@@ -0,0 +1,234 @@
+package com.orphanagehub.dao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of prepared statements that lives with one physical SQLite connection.
+ * <p>
+ * DAOs keep calling {@code conn.prepareStatement(sql)} and closing the statement as before.
+ * The cache hands back the already-compiled statement for the same SQL text, and closing it
+ * resets it for the next caller instead of finalizing it. Pooled connections live for
+ * minutes, so hot lookups such as {@code findById} are parsed and planned once per
+ * connection rather than once per call.
+ * <p>
+ * A statement that is still open when the same SQL is prepared again (e.g. a nested query)
+ * is not shared; the second caller gets an uncached statement.
+ */
+public final class StatementCache {
+    private static final Logger logger = LoggerFactory.getLogger(StatementCache.class);
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Counters summed over every connection since startup.
+     */
+    public record Stats(long hits, long misses, long evictions, int capacityPerConnection) {
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0.0;
+        }
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {}
+
+    private static volatile int capacity;
+
+    private final Connection physical;
+    private final LinkedHashMap<Key, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+    private StatementCache(Connection physical) {
+        this.physical = physical;
+    }
+
+    public static Stats stats() {
+        return new Stats(hits.get(), misses.get(), evictions.get(), capacity);
+    }
+
+    /**
+     * SQLite data source whose connections carry a statement cache of {@code capacityPerConnection}
+     * entries (0 turns caching off). {@code pragmas} are applied by the driver when it opens each connection.
+     */
+    static DataSource dataSource(String url, Properties pragmas, int capacityPerConnection) {
+        capacity = capacityPerConnection;
+        SQLiteDataSource dataSource = new SQLiteDataSource(new SQLiteConfig(pragmas)) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return capacityPerConnection > 0 ? new StatementCache(connection).proxy() : connection;
+            }
+        };
+        dataSource.setUrl(url);
+        return dataSource;
+    }
+
+    private Connection proxy() {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "prepareStatement" -> prepare(method, args);
+                case "close" -> {
+                    closeAll();
+                    yield invoke(physical, method, args);
+                }
+                default -> invoke(physical, method, args);
+            });
+    }
+
+    private Object prepare(Method method, Object[] args) throws Throwable {
+        Key key;
+        if (args.length == 1) {
+            key = new Key((String) args[0], Statement.NO_GENERATED_KEYS);
+        } else if (args.length == 2 && args[1] instanceof Integer flag) {
+            key = new Key((String) args[0], flag);
+        } else {
+            // Column-index/name and result-set-type variants are rare; leave them uncached
+            return invoke(physical, method, args);
+        }
+
+        synchronized (statements) {
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.inUse) {
+                hits.incrementAndGet();
+                cached.inUse = true;
+                return cached.proxy;
+            }
+            misses.incrementAndGet();
+            PreparedStatement prepared = (PreparedStatement) invoke(physical, method, args);
+            if (cached != null) {
+                return prepared;
+            }
+            CachedStatement entry = new CachedStatement(prepared);
+            entry.inUse = true;
+            statements.put(key, entry);
+            evictOverflow();
+            return entry.proxy;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<CachedStatement> eldest = statements.values().iterator();
+        while (statements.size() > capacity && eldest.hasNext()) {
+            CachedStatement entry = eldest.next();
+            if (entry.inUse) {
+                continue;
+            }
+            eldest.remove();
+            entry.closeQuietly();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void closeAll() {
+        List<CachedStatement> open;
+        synchronized (statements) {
+            open = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        open.forEach(CachedStatement::closeQuietly);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A cached statement plus the proxy callers see. The proxy's {@code close()} resets the
+     * statement and hands it back to the cache.
+     */
+    private final class CachedStatement {
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private final int defaultFetchSize;
+        private final int defaultMaxRows;
+        private final int defaultQueryTimeout;
+        private volatile boolean inUse;
+        private ResultSet lastResult;
+
+        CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.defaultFetchSize = statement.getFetchSize();
+            this.defaultMaxRows = statement.getMaxRows();
+            this.defaultQueryTimeout = statement.getQueryTimeout();
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                (p, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        release();
+                        yield null;
+                    }
+                    case "isClosed" -> !inUse || statement.isClosed();
+                    case "executeQuery", "getResultSet" -> {
+                        Object result = invoke(statement, method, args);
+                        lastResult = (ResultSet) result;
+                        yield result;
+                    }
+                    default -> invoke(statement, method, args);
+                });
+        }
+
+        /**
+         * Puts the statement back the way {@code prepareStatement} would have returned it.
+         */
+        private void release() {
+            if (!inUse) {
+                return;
+            }
+            try {
+                if (lastResult != null && !lastResult.isClosed()) {
+                    lastResult.close();
+                }
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.setFetchSize(defaultFetchSize);
+                statement.setMaxRows(defaultMaxRows);
+                statement.setQueryTimeout(defaultQueryTimeout);
+            } catch (SQLException e) {
+                // A statement that cannot be reset must not be handed out again
+                logger.debug("Dropping prepared statement that failed to reset", e);
+                synchronized (statements) {
+                    statements.values().remove(this);
+                }
+                closeQuietly();
+            } finally {
+                lastResult = null;
+                inUse = false;
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.debug("Failed to close cached statement", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.orphanagehub.dao;
+
+import com.orphanagehub.model.SystemStatistics;
+import io.vavr.control.Try;
+
+import java.sql.*;
+
+/**
+ * DAO for dashboard-wide counters that span several tables.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public class StatisticsDAO {
+
+    /**
+     * All twelve admin dashboard counters in one round trip. Donation, request and application
+     * counters are read from the trigger-maintained rollup tables; user and orphanage counters
+     * are index range counts.
+     */
+    public Try<SystemStatistics> getSystemStatistics() {
+        return Try.of(() -> {
+            String sql = """
+                SELECT
+                    (SELECT COUNT(*) FROM TblUsers WHERE AccountStatus = 'Active') AS TotalUsers,
+                    (SELECT COUNT(*) FROM TblUsers WHERE UserRole = 'Donor') AS Donors,
+                    (SELECT COUNT(*) FROM TblUsers WHERE UserRole = 'Volunteer') AS Volunteers,
+                    (SELECT COUNT(*) FROM TblUsers WHERE UserRole = 'OrphanageRep') AS OrphanageStaff,
+                    (SELECT COUNT(*) FROM TblOrphanages WHERE VerificationStatus = 'Verified') AS TotalOrphanages,
+                    (SELECT COUNT(*) FROM TblOrphanages WHERE VerificationStatus = 'Pending') AS PendingVerifications,
+                    (SELECT TOTAL(MoneyTotal) FROM TblDonationRollup
+                        WHERE Scope = 'all' AND ScopeKey = '' AND Status = 'Completed') AS TotalDonations,
+                    (SELECT TOTAL(DonationCount) FROM TblDonationRollup
+                        WHERE Scope = 'month' AND ScopeKey = strftime('%Y-%m', 'now') AND Status = 'Completed') AS MonthlyDonations,
+                    (SELECT TOTAL(RowCount) FROM TblStatusCounts
+                        WHERE TableName = 'TblResourceRequests' AND Status IN ('Open', 'In Progress')) AS OpenRequests,
+                    (SELECT TOTAL(RowCount) FROM TblStatusCounts
+                        WHERE TableName = 'TblResourceRequests' AND Status IN ('Open', 'In Progress')
+                        AND Detail IN ('Critical', 'High')) AS UrgentRequests,
+                    (SELECT COUNT(*) FROM TblVolunteerOpportunities WHERE Status = 'Open') AS ActiveOpportunities,
+                    (SELECT TOTAL(RowCount) FROM TblStatusCounts
+                        WHERE TableName = 'TblVolunteerApplications' AND Status IN ('Pending', 'Reviewing')) AS PendingApplications
+                """;
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql);
+                 ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return new SystemStatistics(
+                    rs.getInt("TotalUsers"),
+                    rs.getInt("Donors"),
+                    rs.getInt("Volunteers"),
+                    rs.getInt("OrphanageStaff"),
+                    rs.getInt("TotalOrphanages"),
+                    rs.getInt("PendingVerifications"),
+                    rs.getDouble("TotalDonations"),
+                    rs.getInt("MonthlyDonations"),
+                    rs.getInt("OpenRequests"),
+                    rs.getInt("UrgentRequests"),
+                    rs.getInt("ActiveOpportunities"),
+                    rs.getInt("PendingApplications")
+                );
+            }
+        });
+    }
+
+    /**
+     * Recomputes the rollup tables from the base tables, e.g. after rows were changed with
+     * triggers disabled or a backup was restored.
+     */
+    public Try<Void> rebuildRollups() {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                RollupTables.rebuild(c);
+                return null;
+            }));
+    }
+}
@@ -0,0 +1,156 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Unit of work spanning several DAO calls.
+ * <p>
+ * {@link #inTransaction(Supplier)} takes the writer connection, turns autocommit off and binds it
+ * to the calling thread. While it is bound, {@link DatabaseManager#getConnection(DatabaseManager.Intent)}
+ * hands out that same connection for both reads and writes, so DAO methods join the transaction
+ * without any change and see each other's uncommitted rows. Group-commit writes also join it
+ * instead of being queued. The work commits once if it returns a success and rolls back otherwise.
+ * <p>
+ * The bound connection is the only writer, so every other write waits until the unit of work ends.
+ * Keep it short, and never wait inside it on another thread that needs to write.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class TransactionContext {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionContext.class);
+
+    private static final ThreadLocal<Connection> ambient = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> completions = ThreadLocal.withInitial(ArrayList::new);
+
+    private TransactionContext() {
+    }
+
+    /**
+     * Runs {@code work} as one transaction. Nested calls join the outer transaction.
+     * @return Try<T> - the result of the work, or the commit/rollback failure
+     */
+    public static <T> Try<T> inTransaction(Supplier<Try<T>> work) {
+        if (ambient.get() != null) {
+            return Try.of(work::get).flatMap(result -> result);
+        }
+
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
+                c.setAutoCommit(false);
+                ambient.set(unclosable(c));
+                try {
+                    Try<T> result = Try.of(work::get).flatMap(r -> r);
+                    if (result.isSuccess()) {
+                        c.commit();
+                    } else {
+                        logger.debug("Rolling back unit of work", result.getCause());
+                        c.rollback();
+                    }
+                    return result;
+                } catch (SQLException e) {
+                    c.rollback();
+                    throw e;
+                } finally {
+                    ambient.remove();
+                    c.setAutoCommit(true);
+                    runCompletions();
+                }
+            }))
+            .flatMap(result -> result);
+    }
+
+    /**
+     * Runs {@code work} as one transaction on {@code conn} itself, for startup and maintenance
+     * code that already holds the writer connection. The autocommit mode is restored after.
+     */
+    static void inTransaction(Connection conn, SqlWork work) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            work.run();
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * @return true if the calling thread is inside {@link #inTransaction(Supplier)}
+     */
+    public static boolean isActive() {
+        return ambient.get() != null;
+    }
+
+    /**
+     * Runs {@code action} once the calling thread's transaction has committed or rolled back,
+     * or right away when no transaction is active.
+     */
+    static void afterCompletion(Runnable action) {
+        if (ambient.get() == null) {
+            action.run();
+        } else {
+            completions.get().add(action);
+        }
+    }
+
+    private static void runCompletions() {
+        List<Runnable> actions = completions.get();
+        completions.remove();
+        for (Runnable action : actions) {
+            Try.run(action::run).onFailure(error -> logger.warn("Transaction completion action failed", error));
+        }
+    }
+
+    /**
+     * The connection bound to the calling thread, if any. DAOs close it as usual; the close is ignored.
+     */
+    static Option<Connection> current() {
+        return Option.of(ambient.get());
+    }
+
+    /**
+     * Wraps the bound connection so participants cannot close it or end the transaction early.
+     */
+    private static Connection unclosable(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                String name = method.getName();
+                boolean endsTransaction = name.equals("commit") || name.equals("setAutoCommit")
+                    || (name.equals("rollback") && (args == null || args.length == 0));
+                if (name.equals("close") || endsTransaction) {
+                    return null;
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    /**
+     * Statements to run by {@link #inTransaction(Connection, SqlWork)}.
+     */
+    @FunctionalInterface
+    interface SqlWork {
+        void run() throws SQLException;
+    }
+}
@@ -1,22 +1,26 @@
 package com.orphanagehub.dao;
 
+import com.google.common.cache.CacheStats;
 import com.orphanagehub.model.User;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import java.sql.*;
 import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public class UserDAO {
+    private static final EntityCache<User> cache = new EntityCache<>("users", UserDAO::loadById);
     
     public Try<User> create(User user) {
         return Try.of(() -> {
             String sql = "INSERT INTO TblUsers (Username, PasswordHash, Email, UserRole, " +
                         "DateRegistered, FullName, AccountStatus, EmailVerified) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 
                 ps.setString(1, user.username());
@@ -32,7 +36,9 @@ public class UserDAO {
                 
                 try (ResultSet keys = ps.getGeneratedKeys()) {
                     if (keys.next()) {
-                        return findById(keys.getInt(1)).get().get();
+                        int userId = keys.getInt(1);
+                        cache.invalidate(userId);
+                        return findById(userId).get().get();
                     }
                 }
                 return user;
@@ -40,27 +46,49 @@ public class UserDAO {
         });
     }
     
+    /**
+     * Served from a shared cache; see {@link EntityCache}.
+     */
     public Try<Option<User>> findById(Integer userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * Hit rate, loads and evictions of the {@link #findById} cache.
+     */
+    public static CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private static Try<Option<User>> loadById(Integer userId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblUsers WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, userId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    return rs.next() ? Option.of(mapToUser(rs)) : Option.<User>none();
+                    return rs.next() ? Option.of(USER_MAPPER.map(rs)) : Option.<User>none();
                 }
             }
         });
     }
+
+    /**
+     * Loads many users in a few queries instead of one {@link #findById} each.
+     * @return users keyed by ID; IDs with no user are absent
+     */
+    public Try<Map<Integer, User>> findByIds(Iterable<Integer> userIds) {
+        return BatchLookup.findByIds("TblUsers", "UserID", userIds, USER_MAPPER);
+    }
     
     public Try<Option<User>> findByUsername(String username) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblUsers WHERE Username = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, username);
                 try (ResultSet rs = ps.executeQuery()) {
-                    return rs.next() ? Option.of(mapToUser(rs)) : Option.<User>none();
+                    return rs.next() ? Option.of(USER_MAPPER.map(rs)) : Option.<User>none();
                 }
             }
         });
@@ -69,29 +97,88 @@ public class UserDAO {
     public Try<List<User>> findAll() {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblUsers ORDER BY Username";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
-                List<User> users = List.empty();
-                while (rs.next()) {
-                    users = users.append(mapToUser(rs));
-                }
-                return users;
+                return ResultStreams.toList(rs, USER_MAPPER);
+            }
+        });
+    }
+    
+    /**
+     * Every user as the admin user table lists them, by username. Reads only the listed columns.
+     */
+    public Try<List<UserRow>> findRows() {
+        return Try.of(() -> {
+            String sql = "SELECT " + USER_ROW_COLUMNS + " FROM TblUsers ORDER BY Username";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                return ResultStreams.toList(rs, USER_ROW_MAPPER);
+            }
+        });
+    }
+
+    /**
+     * IDs of every user in {@link #findRows()} order, for tables that load rows as they are shown.
+     */
+    public Try<int[]> findRowIds() {
+        return Try.of(() -> {
+            String sql = "SELECT UserID FROM TblUsers ORDER BY Username, UserID";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                return ResultStreams.toIntArray(rs);
+            }
+        });
+    }
+
+    /**
+     * @return the rows found, by user ID; deleted users are left out
+     */
+    public Try<Map<Integer, UserRow>> findRowsByIds(Iterable<Integer> userIds) {
+        return BatchLookup.findByIds("TblUsers", USER_ROW_COLUMNS, "UserID", userIds, USER_ROW_MAPPER);
+    }
+
+    /**
+     * Users by username, one page at a time.
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<User>> findPage(Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            Page.checkPageSize(pageSize);
+            String sql = "SELECT * FROM TblUsers " +
+                       (cursor.isDefined() ? "WHERE (Username, UserID) > (?, ?) " : "") +
+                       "ORDER BY Username, UserID LIMIT ?";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                int index = Page.bindCursor(ps, 1, cursor);
+                ps.setInt(index, pageSize + 1);
+                return Page.read(ps, pageSize, "Username", "UserID", USER_MAPPER);
             }
         });
     }
+
+    /**
+     * Every user by username, mapped lazily as the stream is consumed. Close the stream
+     * when done; it holds a pooled connection until then.
+     */
+    public Try<Stream<User>> streamAll(int fetchSize) {
+        String sql = "SELECT * FROM TblUsers ORDER BY Username";
+        return ResultStreams.stream(sql, ps -> {}, fetchSize, USER_MAPPER);
+    }
+
+    public Try<Stream<User>> streamAll() {
+        return streamAll(ResultStreams.DEFAULT_FETCH_SIZE);
+    }
     
     public Try<List<User>> findAllActive() {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblUsers WHERE AccountStatus = 'Active' ORDER BY Username";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  Statement stmt = conn.createStatement();
                  ResultSet rs = stmt.executeQuery(sql)) {
-                List<User> users = List.empty();
-                while (rs.next()) {
-                    users = users.append(mapToUser(rs));
-                }
-                return users;
+                return ResultStreams.toList(rs, USER_MAPPER);
             }
         });
     }
@@ -99,15 +186,11 @@ public class UserDAO {
     public Try<List<User>> findByRole(String role) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblUsers WHERE UserRole = ? ORDER BY Username";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, role);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<User> users = List.empty();
-                    while (rs.next()) {
-                        users = users.append(mapToUser(rs));
-                    }
-                    return users;
+                    return ResultStreams.toList(rs, USER_MAPPER);
                 }
             }
         });
@@ -117,7 +200,7 @@ public class UserDAO {
         return Try.run(() -> {
             String sql = "UPDATE TblUsers SET Username = ?, Email = ?, UserRole = ?, " +
                         "FullName = ?, AccountStatus = ?, ModifiedDate = ? WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, user.username());
                 ps.setString(2, user.email());
@@ -128,91 +211,143 @@ public class UserDAO {
                 ps.setInt(7, user.userId());
                 ps.executeUpdate();
             }
+            cache.invalidate(user.userId());
         });
     }
     
     public Try<Void> updatePassword(Integer userId, String passwordHash) {
         return Try.run(() -> {
             String sql = "UPDATE TblUsers SET PasswordHash = ?, ModifiedDate = ? WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, passwordHash);
                 ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
                 ps.setInt(3, userId);
                 ps.executeUpdate();
             }
+            cache.invalidate(userId);
         });
     }
     
     public Try<Void> updateLastLogin(Integer userId) {
         return Try.run(() -> {
             String sql = "UPDATE TblUsers SET LastLogin = ? WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
                 ps.setInt(2, userId);
                 ps.executeUpdate();
             }
+            cache.invalidate(userId);
         });
     }
     
     public Try<Void> delete(Integer userId) {
         return Try.run(() -> {
             String sql = "DELETE FROM TblUsers WHERE UserID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, userId);
                 ps.executeUpdate();
             }
+            cache.invalidate(userId);
         });
     }
     
-    private static User mapToUser(ResultSet rs) throws SQLException {
-    return new User(
-        rs.getObject("UserID", Integer.class),
-        rs.getString("Username"),
-        rs.getString("PasswordHash"),
-        rs.getString("Email"),
-        rs.getString("UserRole"),
-        getLocalDateTime(rs, "DateRegistered"),
-        Option.of(rs.getTimestamp("LastLogin"))
-            .map(Timestamp::toLocalDateTime),
-        Option.of(rs.getString("FullName")),
-        Option.of(rs.getString("PhoneNumber")),
-        Option.of(rs.getString("IDNumber")),
-        Option.of(rs.getDate("DateOfBirth"))
-            .map(Date::toLocalDate),
-        Option.of(rs.getString("Address")),
-        Option.of(rs.getString("City")),
-        Option.of(rs.getString("Province")),
-        Option.of(rs.getString("PostalCode")),
-        Option.of(rs.getString("AccountStatus")).getOrElse("Active"),
-        getBoolean(rs, "EmailVerified"),
-        Option.of(rs.getString("VerificationToken")),
-        Option.of(rs.getString("PasswordResetToken")),
-        Option.of(rs.getTimestamp("PasswordResetExpiry"))
-            .map(Timestamp::toLocalDateTime),
-        Option.of(rs.getString("ProfilePicture")),
-        Option.of(rs.getString("Bio")),
-        Option.of(rs.getString("CreatedBy")),
-        Option.of(rs.getTimestamp("ModifiedDate"))
-            .map(Timestamp::toLocalDateTime),
-        Option.of(rs.getString("ModifiedBy"))
-    );
-}
-
+    /**
+     * A user as a table lists them.
+     */
+    public record UserRow(
+        int userId,
+        String username,
+        Option<String> fullName,
+        String email,
+        String userRole,
+        String accountStatus,
+        Option<LocalDateTime> lastLogin,
+        LocalDateTime dateRegistered
+    ) {}
+    
+    private static final String USER_ROW_COLUMNS =
+        "UserID, Username, FullName, Email, UserRole, AccountStatus, LastLogin, DateRegistered";
 
+    private static final RowMapper<UserRow> USER_ROW_MAPPER = Columns.mapper(c -> {
+        int userId = c.index("UserID");
+        int username = c.index("Username");
+        int fullName = c.index("FullName");
+        int email = c.index("Email");
+        int userRole = c.index("UserRole");
+        int accountStatus = c.index("AccountStatus");
+        int lastLogin = c.index("LastLogin");
+        int dateRegistered = c.index("DateRegistered");
+        return rs -> new UserRow(
+            c.getInt(userId),
+            c.getString(username),
+            c.optString(fullName),
+            c.getString(email),
+            c.getString(userRole),
+            c.optString(accountStatus).getOrElse("Active"),
+            c.optDateTime(lastLogin),
+            orNow(c.getDateTime(dateRegistered))
+        );
+    });
     
-    private static LocalDateTime getLocalDateTime(ResultSet rs, String column) throws SQLException {
-        Timestamp ts = rs.getTimestamp(column);
-        return ts != null ? ts.toLocalDateTime() : LocalDateTime.now();
-    }
+    private static final RowMapper<User> USER_MAPPER = Columns.mapper(c -> {
+        int userId = c.index("UserID");
+        int username = c.index("Username");
+        int passwordHash = c.index("PasswordHash");
+        int email = c.index("Email");
+        int userRole = c.index("UserRole");
+        int dateRegistered = c.index("DateRegistered");
+        int lastLogin = c.index("LastLogin");
+        int fullName = c.index("FullName");
+        int phoneNumber = c.index("PhoneNumber");
+        int idNumber = c.index("IDNumber");
+        int dateOfBirth = c.index("DateOfBirth");
+        int address = c.index("Address");
+        int city = c.index("City");
+        int province = c.index("Province");
+        int postalCode = c.index("PostalCode");
+        int accountStatus = c.index("AccountStatus");
+        int emailVerified = c.index("EmailVerified");
+        int verificationToken = c.index("VerificationToken");
+        int passwordResetToken = c.index("PasswordResetToken");
+        int passwordResetExpiry = c.index("PasswordResetExpiry");
+        int profilePicture = c.index("ProfilePicture");
+        int bio = c.index("Bio");
+        int createdBy = c.index("CreatedBy");
+        int modifiedDate = c.index("ModifiedDate");
+        int modifiedBy = c.index("ModifiedBy");
+        return rs -> new User(
+            c.getIntOrNull(userId),
+            c.getString(username),
+            c.getString(passwordHash),
+            c.getString(email),
+            c.getString(userRole),
+            orNow(c.getDateTime(dateRegistered)),
+            c.optDateTime(lastLogin),
+            c.optString(fullName),
+            c.optString(phoneNumber),
+            c.optString(idNumber),
+            c.optDate(dateOfBirth),
+            c.optString(address),
+            c.optString(city),
+            c.optString(province),
+            c.optString(postalCode),
+            c.optString(accountStatus).getOrElse("Active"),
+            c.getBoolean(emailVerified),
+            c.optString(verificationToken),
+            c.optString(passwordResetToken),
+            c.optDateTime(passwordResetExpiry),
+            c.optString(profilePicture),
+            c.optString(bio),
+            c.optString(createdBy),
+            c.optDateTime(modifiedDate),
+            c.optString(modifiedBy)
+        );
+    });
     
-    private static boolean getBoolean(ResultSet rs, String column) {
-        try {
-            return rs.getBoolean(column);
-        } catch (SQLException e) {
-            return false;
-        }
+    private static LocalDateTime orNow(LocalDateTime value) {
+        return value != null ? value : LocalDateTime.now();
     }
 }
\ No newline at end of file
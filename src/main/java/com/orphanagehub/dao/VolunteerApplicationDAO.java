@@ -1,6 +1,7 @@
 package com.orphanagehub.dao;
 
 import com.orphanagehub.model.VolunteerApplication;
+import com.orphanagehub.model.VolunteerStatistics;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
 import io.vavr.collection.List;
@@ -14,7 +15,7 @@ public class VolunteerApplicationDAO {
             String sql = "INSERT INTO TblVolunteerApplications (OpportunityID, VolunteerID, " +
                         "ApplicationDate, Status, Motivation, Experience, Availability, " +
                         "CreatedDate) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 ps.setInt(1, application.opportunityId());
                 ps.setInt(2, application.volunteerId());
@@ -39,7 +40,7 @@ public class VolunteerApplicationDAO {
     public Try<Option<VolunteerApplication>> findById(Integer id) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerApplications WHERE ApplicationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 try (ResultSet rs = ps.executeQuery()) {
@@ -52,15 +53,11 @@ public class VolunteerApplicationDAO {
     public Try<List<VolunteerApplication>> findByOpportunity(Integer opportunityId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerApplications WHERE OpportunityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, opportunityId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<VolunteerApplication> apps = List.empty();
-                    while (rs.next()) {
-                        apps = apps.append(mapToVolunteerApplication(rs));
-                    }
-                    return apps;
+                    return ResultStreams.toList(rs, this::mapToVolunteerApplication);
                 }
             }
         });
@@ -70,7 +67,7 @@ public class VolunteerApplicationDAO {
         return Try.of(() -> {
             String sql = "SELECT COUNT(*) > 0 FROM TblVolunteerApplications " +
                         "WHERE VolunteerID = ? AND OpportunityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, volunteerId);
                 ps.setInt(2, opportunityId);
@@ -85,15 +82,49 @@ public class VolunteerApplicationDAO {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerApplications WHERE VolunteerID = ? " +
                         "ORDER BY ApplicationDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, volunteerId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<VolunteerApplication> apps = List.empty();
-                    while (rs.next()) {
-                        apps = apps.append(mapToVolunteerApplication(rs));
-                    }
-                    return apps;
+                    return ResultStreams.toList(rs, this::mapToVolunteerApplication);
+                }
+            }
+        });
+    }
+
+    /**
+     * Application counts, hours and distinct opportunity categories for one volunteer,
+     * aggregated in SQL rather than by loading every application.
+     */
+    public Try<VolunteerStatistics> getVolunteerStatistics(Integer volunteerId) {
+        return Try.of(() -> {
+            String totalsSql = "SELECT COUNT(*) AS TotalApplications, " +
+                             "COUNT(CASE WHEN UPPER(Status) IN ('ACCEPTED', 'ACTIVE', 'COMPLETED') THEN 1 END) AS Accepted, " +
+                             "COUNT(CASE WHEN UPPER(Status) IN ('PENDING', 'REVIEWING') THEN 1 END) AS Pending, " +
+                             "TOTAL(HoursCompleted) AS TotalHours " +
+                             "FROM TblVolunteerApplications WHERE VolunteerID = ?";
+            String categoriesSql = "SELECT DISTINCT o.Category FROM TblVolunteerApplications a " +
+                                 "JOIN TblVolunteerOpportunities o ON o.OpportunityID = a.OpportunityID " +
+                                 "WHERE a.VolunteerID = ? AND o.Category IS NOT NULL ORDER BY o.Category";
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                 PreparedStatement totals = conn.prepareStatement(totalsSql);
+                 PreparedStatement categoryQuery = conn.prepareStatement(categoriesSql)) {
+                totals.setInt(1, volunteerId);
+                categoryQuery.setInt(1, volunteerId);
+                List<String> categories;
+                try (ResultSet rs = categoryQuery.executeQuery()) {
+                    categories = ResultStreams.toList(rs, row -> row.getString("Category"));
+                }
+                try (ResultSet rs = totals.executeQuery()) {
+                    rs.next();
+                    return new VolunteerStatistics(
+                        rs.getInt("TotalApplications"),
+                        rs.getInt("Accepted"),
+                        rs.getInt("Pending"),
+                        (int) rs.getDouble("TotalHours"),
+                        categories.size(),
+                        categories
+                    );
                 }
             }
         });
@@ -103,7 +134,7 @@ public class VolunteerApplicationDAO {
         return Try.run(() -> {
             String sql = "UPDATE TblVolunteerApplications SET Status = ?, ModifiedBy = ?, " +
                         "ModifiedDate = CURRENT_TIMESTAMP WHERE ApplicationID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, status);
                 ps.setInt(2, updatedBy);
@@ -117,7 +148,7 @@ public class VolunteerApplicationDAO {
         return Try.of(() -> {
             String sql = "SELECT COUNT(*) FROM TblVolunteerApplications " +
                         "WHERE Status IN ('Pending', 'Reviewing')";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql);
                  ResultSet rs = ps.executeQuery()) {
                 return rs.next() ? rs.getInt(1) : 0;
@@ -139,19 +170,25 @@ public class VolunteerApplicationDAO {
         Option.of(rs.getString("InterviewNotes")),
         Option.of(rs.getTimestamp("DecisionDate"))
             .map(Timestamp::toLocalDateTime),
-        Option.of(rs.getObject("DecidedBy", Integer.class)),
+        Option.of(getIntOrNull(rs, "DecidedBy")),
         Option.of(rs.getString("RejectionReason")),
         Option.of(rs.getTimestamp("StartDate"))
             .map(Timestamp::toLocalDateTime),
         Option.of(rs.getTimestamp("EndDate"))
             .map(Timestamp::toLocalDateTime),
         Option.of(rs.getString("CompletionNotes")),
-        Option.of(rs.getObject("HoursCompleted", Integer.class)),
+        Option.of(getIntOrNull(rs, "HoursCompleted")),
         Option.of(rs.getString("PerformanceRating")),
         rs.getTimestamp("CreatedDate").toLocalDateTime(),
         Option.of(rs.getTimestamp("ModifiedDate"))
             .map(Timestamp::toLocalDateTime),
-        Option.of(rs.getObject("ModifiedBy", Integer.class))
+        Option.of(getIntOrNull(rs, "ModifiedBy"))
     );
 }
-}
\ No newline at end of file
+
+    // getObject(column, Integer.class) rejects SQL NULL in the SQLite driver
+    private Integer getIntOrNull(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -2,6 +2,7 @@ package com.orphanagehub.dao;
 
 import com.orphanagehub.model.VolunteerOpportunity;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import java.sql.*;
@@ -10,12 +11,50 @@ import java.time.LocalDateTime;
 
 public class VolunteerOpportunityDAO {
     
+    /**
+     * An opportunity as a table lists it. The location is the orphanage's city.
+     */
+    public record OpportunityRow(
+        int opportunityId,
+        String title,
+        String orphanageName,
+        Option<String> location,
+        Option<String> timeCommitment,
+        int slotsAvailable,
+        String status
+    ) {}
+    
+    private static final String ROW_COLUMNS =
+        "t.OpportunityID, t.Title, t.TimeCommitment, t.MaxVolunteers, t.CurrentVolunteers, t.Status, " +
+        "(SELECT o.OrphanageName FROM TblOrphanages o WHERE o.OrphanageID = t.OrphanageID) AS OrphanageName, " +
+        "(SELECT o.City FROM TblOrphanages o WHERE o.OrphanageID = t.OrphanageID) AS City";
+    
+    private static final RowMapper<OpportunityRow> OPPORTUNITY_ROW_MAPPER = Columns.mapper(c -> {
+        int opportunityId = c.index("OpportunityID");
+        int title = c.index("Title");
+        int orphanageName = c.index("OrphanageName");
+        int city = c.index("City");
+        int timeCommitment = c.index("TimeCommitment");
+        int maxVolunteers = c.index("MaxVolunteers");
+        int currentVolunteers = c.index("CurrentVolunteers");
+        int status = c.index("Status");
+        return rs -> new OpportunityRow(
+            c.getInt(opportunityId),
+            c.getString(title),
+            c.optString(orphanageName).getOrElse(""),
+            c.optString(city),
+            c.optString(timeCommitment),
+            c.getInt(maxVolunteers) - c.getInt(currentVolunteers),
+            c.getString(status)
+        );
+    });
+    
     public Try<Void> create(VolunteerOpportunity opportunity) {
         return Try.run(() -> {
             String sql = "INSERT INTO TblVolunteerOpportunities (OrphanageID, Title, Description, " +
                         "Category, SkillsRequired, Status, CreatedDate, CreatedBy) " +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, opportunity.orphanageId());
                 ps.setString(2, opportunity.title());
@@ -33,7 +72,7 @@ public class VolunteerOpportunityDAO {
     public Try<Option<VolunteerOpportunity>> findById(Integer id) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerOpportunities WHERE OpportunityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, id);
                 try (ResultSet rs = ps.executeQuery()) {
@@ -42,35 +81,79 @@ public class VolunteerOpportunityDAO {
             }
         });
     }
+
+    /**
+     * Loads many opportunities in a few queries instead of one {@link #findById} each.
+     * @return opportunities keyed by ID; IDs with no opportunity are absent
+     */
+    public Try<Map<Integer, VolunteerOpportunity>> findByIds(Iterable<Integer> ids) {
+        return BatchLookup.findByIds("TblVolunteerOpportunities", "OpportunityID", ids,
+            this::mapToVolunteerOpportunity);
+    }
     
     public Try<List<VolunteerOpportunity>> findOpenOpportunities() {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerOpportunities WHERE Status = 'Open' " +
                         "ORDER BY CreatedDate DESC";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql);
                  ResultSet rs = ps.executeQuery()) {
-                List<VolunteerOpportunity> opportunities = List.empty();
-                while (rs.next()) {
-                    opportunities = opportunities.append(mapToVolunteerOpportunity(rs));
-                }
-                return opportunities;
+                return ResultStreams.toList(rs, this::mapToVolunteerOpportunity);
             }
         });
     }
     
+    /**
+     * Open opportunities whose title, description or skills match {@code text}, best match
+     * first; with neither text nor skills, every open opportunity that passes the filters in
+     * ID order.
+     * @param skills - words that must all appear in the required skills
+     * @param location - the city or province of the orphanage
+     * @param cursor - {@link Page#nextCursor()} of the previous page, or none for the first page
+     */
+    public Try<Page<VolunteerOpportunity>> search(String text, Option<String> skills, Option<String> location,
+                                                  Option<String> timeCommitment, Option<String> cursor, int pageSize) {
+        return search("t.*", this::mapToVolunteerOpportunity, text, skills, location, timeCommitment, cursor, pageSize);
+    }
+    
+    /**
+     * Like {@link #search}, as the volunteer dashboard lists opportunities: only the listed
+     * columns, with the orphanage's name and city.
+     */
+    public Try<Page<OpportunityRow>> searchRows(String text, Option<String> skills, Option<String> location,
+                                                Option<String> timeCommitment, Option<String> cursor, int pageSize) {
+        return search(ROW_COLUMNS, OPPORTUNITY_ROW_MAPPER, text, skills, location, timeCommitment, cursor, pageSize);
+    }
+    
+    private <T> Try<Page<T>> search(String columns, RowMapper<T> mapper, String text, Option<String> skills,
+                                    Option<String> location, Option<String> timeCommitment,
+                                    Option<String> cursor, int pageSize) {
+        return Try.of(() -> {
+            List<String> filters = List.of("t.Status = 'Open'");
+            List<Object> params = List.empty();
+            if (location.isDefined()) {
+                filters = filters.append("t.OrphanageID IN (SELECT OrphanageID FROM TblOrphanages WHERE City = ? OR Province = ?)");
+                params = params.append(location.get()).append(location.get());
+            }
+            if (timeCommitment.isDefined()) {
+                filters = filters.append("t.TimeCommitment = ?");
+                params = params.append(timeCommitment.get());
+            }
+            Option<String> match = SearchIndex.and(SearchIndex.matchAll(text),
+                skills.flatMap(words -> SearchIndex.matchAll(words, "SkillsRequired")));
+            return SearchIndex.page(SearchIndex.Index.OPPORTUNITIES, columns, match, filters, params, cursor, pageSize,
+                                    mapper);
+        });
+    }
+    
     public Try<List<VolunteerOpportunity>> findByOrphanageId(Integer orphanageId) {
         return Try.of(() -> {
             String sql = "SELECT * FROM TblVolunteerOpportunities WHERE OrphanageID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, orphanageId);
                 try (ResultSet rs = ps.executeQuery()) {
-                    List<VolunteerOpportunity> opportunities = List.empty();
-                    while (rs.next()) {
-                        opportunities = opportunities.append(mapToVolunteerOpportunity(rs));
-                    }
-                    return opportunities;
+                    return ResultStreams.toList(rs, this::mapToVolunteerOpportunity);
                 }
             }
         });
@@ -79,7 +162,7 @@ public class VolunteerOpportunityDAO {
     public Try<Void> updateStatus(Integer opportunityId, String status) {
         return Try.run(() -> {
             String sql = "UPDATE TblVolunteerOpportunities SET Status = ? WHERE OpportunityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, status);
                 ps.setInt(2, opportunityId);
@@ -92,7 +175,7 @@ public class VolunteerOpportunityDAO {
         return Try.run(() -> {
             String sql = "UPDATE TblVolunteerOpportunities SET CurrentVolunteers = " +
                         "CurrentVolunteers - 1 WHERE OpportunityID = ? AND CurrentVolunteers > 0";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setInt(1, opportunityId);
                 ps.executeUpdate();
@@ -104,7 +187,7 @@ public class VolunteerOpportunityDAO {
         return Try.run(() -> {
             String sql = "UPDATE TblVolunteerOpportunities SET Title = ?, Description = ?, " +
                         "Category = ?, SkillsRequired = ?, Status = ? WHERE OpportunityID = ?";
-            try (Connection conn = DatabaseManager.getConnection().get();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 ps.setString(1, opportunity.title());
                 ps.setString(2, opportunity.description());
@@ -120,8 +203,8 @@ public class VolunteerOpportunityDAO {
     // Add executeQuery method for flexible queries
     public <T> Try<List<T>> executeQuery(String sql, List<Object> params, java.util.function.Function<ResultSet, T> rowMapper) {
         return Try.of(() -> {
-            List<T> results = List.empty();
-            try (Connection conn = DatabaseManager.getConnection().get();
+            java.util.List<T> results = new java.util.ArrayList<>();
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                  PreparedStatement ps = conn.prepareStatement(sql)) {
                 for (int i = 0; i < params.size(); i++) {
                     ps.setObject(i + 1, params.get(i));
@@ -129,7 +212,7 @@ public class VolunteerOpportunityDAO {
                 try (ResultSet rs = ps.executeQuery()) {
                     while (rs.next()) {
                         try {
-                            results = results.append(rowMapper.apply(rs));
+                            results.add(rowMapper.apply(rs));
                         } catch (Exception e) {
                             // Log error but continue processing other rows
                             System.err.println("Error mapping row: " + e.getMessage());
@@ -137,7 +220,7 @@ public class VolunteerOpportunityDAO {
                     }
                 }
             }
-            return results;
+            return List.ofAll(results);
         });
     }
     
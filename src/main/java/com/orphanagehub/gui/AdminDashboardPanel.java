@@ -1,7 +1,9 @@
 package com.orphanagehub.gui;
 
+import com.orphanagehub.dao.UserDAO;
 import com.orphanagehub.model.*;
 import com.orphanagehub.service.*;
+import com.orphanagehub.util.AsyncLoader;
 import com.orphanagehub.util.SessionManager;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
@@ -27,16 +29,18 @@ public class AdminDashboardPanel extends JPanel {
     private final OrphanageService orphanageService;
     private final UserService userService;
     private final AuditService auditService;
+    private final AsyncLoader loader = new AsyncLoader("Admin dashboard");
     
     private DefaultTableModel verificationModel;
-    private DefaultTableModel userModel;
-    private DefaultTableModel auditModel;
+    private PagedTableModel<UserDAO.UserRow> userModel;
+    private PagedTableModel<AuditLog> auditModel;
     private DefaultTableModel reportModel;
     
     private JTextField txtUserSearch;
     private JComboBox<String> cmbUserRole;
     private JComboBox<String> cmbUserStatus;
     private JTabbedPane tabbedPane;
+    private JLabel lblLoading;
     
     // Statistics labels
     private JLabel lblTotalUsers;
@@ -132,6 +136,8 @@ public class AdminDashboardPanel extends JPanel {
             .map(Object::toString)
             .getOrElse("Administrator");
         
+        lblLoading = createLoadingLabel();
+        
         JLabel userLabel = new JLabel("Admin: " + adminUsername);
         userLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
         userLabel.setForeground(TEXT_COLOR_DARK);
@@ -160,6 +166,7 @@ public class AdminDashboardPanel extends JPanel {
             mainApp.navigateTo(OrphanageHubApp.HOME_PANEL);
         });
         
+        userGroup.add(lblLoading);
         userGroup.add(userLabel);
         userGroup.add(btnBackup);
         userGroup.add(btnLogout);
@@ -450,7 +457,18 @@ public class AdminDashboardPanel extends JPanel {
             "Last Login", "Registered", "Actions"
         };
         
-        userModel = new DefaultTableModel(columnNames, 0) {
+        userModel = new PagedTableModel<>(columnNames,
+            PagedTableModel.Source.of(userService::getUserRowIds, userService::getUserRowsByIds),
+            (u, column) -> switch (column) {
+                case 0 -> u.username();
+                case 1 -> u.fullName().getOrElse("");
+                case 2 -> u.email();
+                case 3 -> u.userRole();
+                case 4 -> u.accountStatus();
+                case 5 -> u.lastLogin().map(Object::toString).getOrElse("Never");
+                case 6 -> u.dateRegistered();
+                default -> "Actions";
+            }) {
             @Override
             public boolean isCellEditable(int row, int column) {
                 return column == 7;
@@ -574,12 +592,17 @@ public class AdminDashboardPanel extends JPanel {
             "Entity ID", "Details", "IP Address"
         };
         
-        auditModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        auditModel = new PagedTableModel<>(columnNames,
+            PagedTableModel.Source.of(auditService::getAuditLogIds, auditService::getAuditLogsByIds),
+            (log, column) -> switch (column) {
+                case 0 -> log.timestamp();
+                case 1 -> log.username();
+                case 2 -> log.action();
+                case 3 -> log.entityType();
+                case 4 -> log.entityId();
+                case 5 -> log.details();
+                default -> log.ipAddress().getOrElse("");
+            });
         
         JTable auditTable = new JTable(auditModel);
         styleTable(auditTable);
@@ -691,85 +714,42 @@ public class AdminDashboardPanel extends JPanel {
     }
 
     private void loadSystemStatistics() {
-        adminService.getSystemStatistics()
-        .onSuccess(stats -> {
-            SwingUtilities.invokeLater(() -> {
-                lblTotalUsers.setText(String.valueOf(stats.totalUsers()));
-                lblVerifiedOrphanages.setText(String.valueOf(stats.totalOrphanages()));
-                lblPendingVerifications.setText(String.valueOf(stats.pendingVerifications()));
-                lblActiveRequests.setText(String.valueOf(stats.openRequests()));
-                lblTotalDonations.setText(String.format("R%.2f", stats.totalDonations()));
-                lblActiveVolunteers.setText(String.valueOf(stats.volunteers()));
-            });
-        })
-        .onFailure(this::showErrorMessage);
+        loader.load("statistics", adminService::getSystemStatistics, stats -> {
+            lblTotalUsers.setText(String.valueOf(stats.totalUsers()));
+            lblVerifiedOrphanages.setText(String.valueOf(stats.totalOrphanages()));
+            lblPendingVerifications.setText(String.valueOf(stats.pendingVerifications()));
+            lblActiveRequests.setText(String.valueOf(stats.openRequests()));
+            lblTotalDonations.setText(String.format("R%.2f", stats.totalDonations()));
+            lblActiveVolunteers.setText(String.valueOf(stats.volunteers()));
+        }, this::showErrorMessage);
     }
 
     private void loadVerificationQueue() {
-        adminService.getPendingVerifications()
-            .onSuccess(orphanages -> {
-                SwingUtilities.invokeLater(() -> {
-                    verificationModel.setRowCount(0);
-                    orphanages.forEach(o -> {
-                        verificationModel.addRow(new Object[]{
-                            false, // Checkbox
-                            o.name(),
-                            o.registrationNumber().getOrElse(""),
-                            o.contactPerson(),
-                            o.email(),
-                            o.phoneNumber(),
-                            o.province(),
-                            o.dateRegistered(),
-                            o.verificationStatus(),
-                            "Actions"
-                        });
-                    });
+        loader.load("verification queue", adminService::getPendingVerifications, orphanages -> {
+            verificationModel.setRowCount(0);
+            orphanages.forEach(o -> {
+                verificationModel.addRow(new Object[]{
+                    false, // Checkbox
+                    o.name(),
+                    o.registrationNumber().getOrElse(""),
+                    o.contactPerson(),
+                    o.email(),
+                    o.phoneNumber(),
+                    o.province(),
+                    o.dateRegistered(),
+                    o.verificationStatus(),
+                    "Actions"
                 });
-            })
-            .onFailure(this::showErrorMessage);
+            });
+        }, this::showErrorMessage);
     }
 
     private void loadUsers() {
-        userService.getAllUsers()
-            .onSuccess(users -> {
-                SwingUtilities.invokeLater(() -> {
-                    userModel.setRowCount(0);
-                    users.forEach(u -> {
-                        userModel.addRow(new Object[]{
-                            u.username(),
-                            u.fullName(),
-                            u.email(),
-                            u.userRole(),
-                            u.accountStatus(),
-                            u.lastLogin().map(Object::toString).getOrElse("Never"),
-                            u.dateRegistered(),
-                            "Actions"
-                        });
-                    });
-                });
-            })
-            .onFailure(this::showErrorMessage);
+        userModel.reload(loader, "users", this::showErrorMessage);
     }
 
     private void loadAuditLog() {
-        auditService.getRecentAuditLogs(100)
-            .onSuccess(logs -> {
-                SwingUtilities.invokeLater(() -> {
-                    auditModel.setRowCount(0);
-                    logs.forEach(log -> {
-                        auditModel.addRow(new Object[]{
-                            log.timestamp(),
-                            log.username(),
-                            log.action(),
-                            log.entityType(),
-                            log.entityId(),
-                            log.details(),
-                            log.ipAddress().getOrElse("")
-                        });
-                    });
-                });
-            })
-            .onFailure(this::showErrorMessage);
+        auditModel.reload(loader, "audit log", this::showErrorMessage);
     }
 
     // All other helper methods...
@@ -814,6 +794,15 @@ public class AdminDashboardPanel extends JPanel {
     }
 
     // Styling methods (same as other panels)
+    private JLabel createLoadingLabel() {
+        JLabel label = new JLabel();
+        label.setFont(new Font(Font.SANS_SERIF, Font.ITALIC, 12));
+        label.setForeground(TEXT_COLOR_DARK);
+        loader.onLoadingChanged(tasks -> label.setText(
+            tasks.isEmpty() ? "" : "Loading " + String.join(", ", tasks) + "\u2026"));
+        return label;
+    }
+
     private void styleFormLabel(JLabel label) {
         label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 13));
         label.setForeground(TEXT_COLOR_DARK);
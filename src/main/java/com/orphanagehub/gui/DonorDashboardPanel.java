@@ -3,7 +3,10 @@ package com.orphanagehub.gui;
 import com.orphanagehub.model.*;
 import com.orphanagehub.service.*;
 import com.orphanagehub.dao.OrphanageDAO;
+import com.orphanagehub.dao.ResourceRequestDAO;
+import com.orphanagehub.util.AsyncLoader;
 import com.orphanagehub.util.SessionManager;
+import com.orphanagehub.util.ValidationUtil;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
 import io.vavr.collection.List;
@@ -22,6 +25,8 @@ public class DonorDashboardPanel extends JPanel {
     private final OrphanageHubApp mainApp;
     private final DonorService donorService;
     private final OrphanageDAO orphanageDAO;
+    private final SearchService searchService;
+    private final AsyncLoader loader = new AsyncLoader("Donor dashboard");
     
     private JTable resultsTable;
     private DefaultTableModel tableModel;
@@ -30,6 +35,9 @@ public class DonorDashboardPanel extends JPanel {
     private JComboBox<String> cmbCategory;
     private JLabel lblDonationCount;
     private JLabel lblTotalAmount;
+    private JLabel lblLoading;
+    
+    private static final int SEARCH_PAGE_SIZE = 200;
     
     // Color constants
     private static final Color DARK_BG_START = new Color(45, 52, 54);
@@ -59,6 +67,7 @@ public class DonorDashboardPanel extends JPanel {
         this.mainApp = app;
         this.donorService = new DonorService();
         this.orphanageDAO = new OrphanageDAO();
+        this.searchService = new SearchService();
         setLayout(new BorderLayout(0, 0));
         initComponents();
         loadInitialData();
@@ -131,6 +140,8 @@ public class DonorDashboardPanel extends JPanel {
             .map(Object::toString)
             .getOrElse("Donor");
         
+        lblLoading = createLoadingLabel();
+        
         JLabel userLabel = new JLabel("Welcome! ");
         userLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
         userLabel.setForeground(TEXT_COLOR_DARK);
@@ -159,6 +170,7 @@ public class DonorDashboardPanel extends JPanel {
             mainApp.navigateTo(OrphanageHubApp.HOME_PANEL);
         });
         
+        userGroup.add(lblLoading);
         userGroup.add(userLabel);
         userGroup.add(btnHistory);
         userGroup.add(btnLogout);
@@ -183,10 +195,9 @@ public class DonorDashboardPanel extends JPanel {
         
         JLabel lblFilterCategory = new JLabel("Need Category:");
         styleFormLabel(lblFilterCategory);
-        cmbCategory = new JComboBox<>(new String[]{
-            "Any Category", "Food", "Clothing", "Education", 
-            "Medical", "Funding", "Infrastructure", "Other"
-        });
+        cmbCategory = new JComboBox<>();
+        cmbCategory.addItem("Any Category");
+        ValidationUtil.getValidResourceTypes().forEach(cmbCategory::addItem);
         styleComboBox(cmbCategory);
         
         JButton btnSearch = new JButton("Apply Filters");
@@ -293,67 +304,48 @@ public class DonorDashboardPanel extends JPanel {
     }
 
     private void loadOrphanageData() {
-        orphanageDAO.findAll()
-            .map(List::ofAll)
-            .onSuccess(orphanages -> {
-                SwingUtilities.invokeLater(() -> {
-                    tableModel.setRowCount(0);
-                    
-                    orphanages
-                        .filter(o -> "Verified".equalsIgnoreCase(o.verificationStatus()))
-                        .forEach(orphanage -> {
-                            // Get resource requests for this orphanage
-                            donorService.getOrphanageDetails(orphanage.orphanageId())
-                                .onSuccess(details -> {
-                                    List<ResourceRequest> needs = details.currentNeeds();
-                                    String keyNeeds = needs
-                                        .take(3)
-                                        .map(r -> r.resourceDescription())
-                                        .mkString(", ");
-                                    
-                                    String urgency = needs
-                                        .filter(r -> "High".equalsIgnoreCase(r.urgencyLevel()) || 
-                                                    "Critical".equalsIgnoreCase(r.urgencyLevel()))
-                                        .isEmpty() ? "Normal" : "High";
-                                    
-                                    tableModel.addRow(new Object[]{
-                                        orphanage.name(),
-                                        orphanage.address(),
-                                        orphanage.province(),
-                                        keyNeeds.isEmpty() ? "Various needs" : keyNeeds,
-                                        urgency,
-                                        true, // Verified
-                                        "View Details"
-                                    });
-                                });
-                        });
-                });
-            })
-            .onFailure(ex -> {
-                SwingUtilities.invokeLater(() -> {
-                    JOptionPane.showMessageDialog(this,
-                        "Failed to load orphanages: " + ex.getMessage(),
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
-                });
-            });
+        loader.load("orphanages", () -> orphanageDAO.find(OrphanageDAO.Query.verified().sortedBy("name"))
+                .map(List::ofAll)
+                .flatMap(orphanages -> donorService.getVerifiedNeedsSummaries()
+                    .map(needs -> orphanages.map(o -> orphanageRow(o, needs)))),
+            this::showOrphanageRows,
+            ex -> JOptionPane.showMessageDialog(this,
+                "Failed to load orphanages: " + ex.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE));
+    }
+
+    private void showOrphanageRows(List<Object[]> rows) {
+        tableModel.setRowCount(0);
+        rows.forEach(tableModel::addRow);
+    }
+
+    /**
+     * The table row for an orphanage with its top needs from {@code needs}, the summaries
+     * read for the whole list.
+     */
+    private Object[] orphanageRow(Orphanage orphanage, io.vavr.collection.Map<Integer, ResourceRequestDAO.NeedsSummary> needs) {
+        Option<ResourceRequestDAO.NeedsSummary> summary = needs.get(orphanage.orphanageId());
+        String keyNeeds = summary.map(s -> s.topNeeds().mkString(", ")).getOrElse("");
+        String urgency = summary.exists(ResourceRequestDAO.NeedsSummary::isUrgent) ? "High" : "Normal";
+        
+        return new Object[]{
+            orphanage.name(),
+            orphanage.address(),
+            orphanage.province(),
+            keyNeeds.isEmpty() ? "Various needs" : keyNeeds,
+            urgency,
+            true, // Verified
+            "View Details"
+        };
     }
 
     private void loadLocations() {
-        orphanageDAO.findAll()
-            .map(List::ofAll)
-            .onSuccess(orphanages -> {
-                List<String> locations = orphanages
-                    .map(o -> o.province()) 
-                    .distinct()
-                    .sorted();
-                
-                SwingUtilities.invokeLater(() -> {
-                    cmbLocation.removeAllItems();
-                    cmbLocation.addItem("Any Location");
-                    locations.forEach(loc -> cmbLocation.addItem(loc));
-                });
-            });
+        loader.load("locations", orphanageDAO::getAllProvinces, locations -> {
+            cmbLocation.removeAllItems();
+            cmbLocation.addItem("Any Location");
+            locations.forEach(loc -> cmbLocation.addItem(loc));
+        }, ex -> { });
     }
 
     private void updateDonationStats() {
@@ -363,47 +355,38 @@ public class DonorDashboardPanel extends JPanel {
             .getOrElse("");
         
         if (!donorIdStr.isEmpty()) {
-            Try.of(() -> Integer.valueOf(donorIdStr))
-                .flatMap(donorService::getDonorStatistics)
-                .onSuccess(stats -> {
-                    SwingUtilities.invokeLater(() -> {
-                        lblDonationCount.setText("Total Donations: " + stats.totalDonations());
-                        lblTotalAmount.setText("Total Amount: $" + String.format("%.2f", stats.totalAmount()));
-                    });
-                });
+            loader.load("donation totals", () -> Try.of(() -> Integer.valueOf(donorIdStr))
+                    .flatMap(donorService::getDonorStatistics),
+                stats -> {
+                    lblDonationCount.setText("Total Donations: " + stats.totalDonations());
+                    lblTotalAmount.setText("Total Amount: $" + String.format("%.2f", stats.totalAmount()));
+                },
+                ex -> { });
         }
     }
 
     private void performSearch() {
-        String searchText = txtSearch.getText().toLowerCase();
+        String searchText = txtSearch.getText().trim();
         String location = (String) cmbLocation.getSelectedItem();
         String category = (String) cmbCategory.getSelectedItem();
         
-        // Filter table based on search criteria
-        // This could be enhanced with actual service calls
-        for (int i = tableModel.getRowCount() - 1; i >= 0; i--) {
-            String name = tableModel.getValueAt(i, 0).toString().toLowerCase();
-            String loc = tableModel.getValueAt(i, 2).toString();
-            String needs = tableModel.getValueAt(i, 3).toString().toLowerCase();
-            
-            boolean matches = true;
-            
-            if (!searchText.isEmpty() && !name.contains(searchText)) {
-                matches = false;
-            }
-            
-            if (!"Any Location".equals(location) && !loc.equals(location)) {
-                matches = false;
-            }
-            
-            if (!"Any Category".equals(category) && !needs.contains(category.toLowerCase())) {
-                matches = false;
-            }
-            
-            if (!matches) {
-                tableModel.removeRow(i);
-            }
-        }
+        Option<String> province = location == null || "Any Location".equals(location)
+            ? Option.none()
+            : Option.of(location);
+        Option<String> needType = category == null || "Any Category".equals(category)
+            ? Option.none()
+            : Option.of(category);
+        
+        // Same task as the full list: whichever was asked for last is shown
+        loader.load("orphanages", () -> searchService
+                .searchOrphanages(searchText, province, needType, Option.none(), SEARCH_PAGE_SIZE)
+                .flatMap(page -> donorService.getNeedsSummaries(page.items().map(Orphanage::orphanageId))
+                    .map(needs -> page.items().map(o -> orphanageRow(o, needs)))),
+            this::showOrphanageRows,
+            ex -> JOptionPane.showMessageDialog(this,
+                "Search failed: " + ex.getMessage(),
+                "Error",
+                JOptionPane.ERROR_MESSAGE));
     }
 
     private void showDonationHistory() {
@@ -441,6 +424,15 @@ public class DonorDashboardPanel extends JPanel {
     }
 
     // Styling methods
+    private JLabel createLoadingLabel() {
+        JLabel label = new JLabel();
+        label.setFont(new Font(Font.SANS_SERIF, Font.ITALIC, 12));
+        label.setForeground(TEXT_COLOR_DARK);
+        loader.onLoadingChanged(tasks -> label.setText(
+            tasks.isEmpty() ? "" : "Loading " + String.join(", ", tasks) + "\u2026"));
+        return label;
+    }
+
     private void styleFormLabel(JLabel label) {
         label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 13));
         label.setForeground(TEXT_COLOR_DARK);
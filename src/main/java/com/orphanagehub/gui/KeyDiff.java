@@ -0,0 +1,217 @@
+package com.orphanagehub.gui;
+
+import io.vavr.control.Option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The row deletes and inserts that turn one ordered list of unique row keys into another,
+ * so a table model can fire events for the rows that changed instead of for the whole table.
+ * <p>
+ * The common head and tail are skipped first, which is all of the work when rows were only
+ * added at the top or removed. In the rest, keys in both lists keep their place if they are
+ * in the longest run whose order did not change; any other kept key counts as moved and is
+ * deleted and inserted again. Finding the changes takes time linear in the keys between the
+ * head and tail (log-linear where keys moved) and may run on any thread.
+ */
+final class KeyDiff {
+    /** Past this many separate ranges of deletes and inserts, a full refresh is cheaper. */
+    private static final int MAX_RANGES = 256;
+
+    /**
+     * Receives the changes in order. Deletes come first, last row first; then inserts, first
+     * row first. Indexes are of the list as changed so far; an insert's index is also its
+     * index in the new list.
+     */
+    interface Changes {
+        void deleted(int from, int count);
+
+        void inserted(int from, int count);
+    }
+
+    private final int head;
+    /** Ranges as {start, count} after the head, in order. */
+    private final List<int[]> deletes;
+    private final List<int[]> inserts;
+
+    private KeyDiff(int head, List<int[]> deletes, List<int[]> inserts) {
+        this.head = head;
+        this.deletes = deletes;
+        this.inserts = inserts;
+    }
+
+    /**
+     * Reports the changes from {@code oldKeys} to {@code newKeys}.
+     * @return false, having reported nothing, when the lists differ too much for row events to pay off
+     */
+    static boolean diff(int[] oldKeys, int[] newKeys, Changes changes) {
+        Option<KeyDiff> diff = of(oldKeys, newKeys);
+        diff.forEach(d -> d.apply(changes));
+        return diff.isDefined();
+    }
+
+    /**
+     * The changes from {@code oldKeys} to {@code newKeys}, to {@link #apply} later.
+     * @return none when the lists differ too much for row events to pay off
+     */
+    static Option<KeyDiff> of(int[] oldKeys, int[] newKeys) {
+        int common = Math.min(oldKeys.length, newKeys.length);
+        int head = 0;
+        while (head < common && oldKeys[head] == newKeys[head]) {
+            head++;
+        }
+        int tail = 0;
+        while (tail < common - head && oldKeys[oldKeys.length - 1 - tail] == newKeys[newKeys.length - 1 - tail]) {
+            tail++;
+        }
+        int oldSpan = oldKeys.length - head - tail;
+        int newSpan = newKeys.length - head - tail;
+
+        IntIndex newIndex = new IntIndex(newSpan);
+        for (int j = 0; j < newSpan; j++) {
+            newIndex.put(newKeys[head + j], j);
+        }
+        int[] positions = new int[oldSpan];
+        for (int i = 0; i < oldSpan; i++) {
+            positions[i] = newIndex.get(oldKeys[head + i]);
+        }
+        boolean[] keptOld = longestIncreasingRun(positions);
+        boolean[] keptNew = new boolean[newSpan];
+        for (int i = 0; i < oldSpan; i++) {
+            if (keptOld[i]) {
+                keptNew[positions[i]] = true;
+            }
+        }
+
+        List<int[]> deletes = ranges(keptOld);
+        List<int[]> inserts = ranges(keptNew);
+        if (deletes.size() + inserts.size() > MAX_RANGES) {
+            return Option.none();
+        }
+        return Option.some(new KeyDiff(head, deletes, inserts));
+    }
+
+    void apply(Changes changes) {
+        for (int r = deletes.size() - 1; r >= 0; r--) {
+            changes.deleted(head + deletes.get(r)[0], deletes.get(r)[1]);
+        }
+        for (int[] range : inserts) {
+            changes.inserted(head + range[0], range[1]);
+        }
+    }
+
+    /**
+     * {@code keys} without {@code count} keys from {@code from}.
+     */
+    static int[] remove(int[] keys, int from, int count) {
+        int[] result = Arrays.copyOf(keys, keys.length - count);
+        System.arraycopy(keys, from + count, result, from, keys.length - from - count);
+        return result;
+    }
+
+    /**
+     * {@code keys} with {@code count} keys of {@code source} inserted at {@code from}, taken
+     * from the same index of {@code source}.
+     */
+    static int[] insert(int[] keys, int from, int count, int[] source) {
+        int[] result = new int[keys.length + count];
+        System.arraycopy(keys, 0, result, 0, from);
+        System.arraycopy(source, from, result, from, count);
+        System.arraycopy(keys, from, result, from + count, keys.length - from);
+        return result;
+    }
+
+    /**
+     * Marks the entries of the longest strictly increasing subsequence of the non-negative
+     * values; negative values are never marked.
+     */
+    private static boolean[] longestIncreasingRun(int[] values) {
+        int[] tails = new int[values.length];
+        int[] previous = new int[values.length];
+        int length = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < 0) {
+                continue;
+            }
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+        boolean[] kept = new boolean[values.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            kept[i] = true;
+        }
+        return kept;
+    }
+
+    /**
+     * Runs of unmarked entries as {start, count}, in order.
+     */
+    private static List<int[]> ranges(boolean[] kept) {
+        List<int[]> ranges = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= kept.length; i++) {
+            boolean changed = i < kept.length && !kept[i];
+            if (changed && start < 0) {
+                start = i;
+            } else if (!changed && start >= 0) {
+                ranges.add(new int[] { start, i - start });
+                start = -1;
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Open-addressing map from key to index, without boxing; {@link #get} is -1 for a key not put.
+     */
+    private static final class IntIndex {
+        private final int[] keys;
+        /** Index plus one; 0 marks an empty slot. */
+        private final int[] values;
+        private final int mask;
+
+        IntIndex(int size) {
+            int capacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        void put(int key, int index) {
+            int slot = slot(key);
+            while (values[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = index + 1;
+        }
+
+        int get(int key) {
+            for (int slot = slot(key); values[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private int slot(int key) {
+            return (key * 0x9E3779B9 >>> 16 ^ key * 0x9E3779B9) & mask;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.orphanagehub.gui;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Table model for a list loaded in full whose rows have a unique key, such as a primary key.
+ * <p>
+ * {@link #setRows} compares the new list with the shown one by key: rows that came or went
+ * are inserted or deleted, and rows whose values changed are updated, each with its own
+ * event. A refresh that changes one row repaints one row, and the selection and scroll
+ * position stay with their rows. Lists too different for that are shown with one full
+ * change event instead.
+ * <p>
+ * Like any table model, it must be used on the EDT.
+ *
+ * @param <T> - the row type, compared with {@code equals}
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public class KeyedTableModel<T> extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] columnNames;
+    private final transient ToIntFunction<? super T> key;
+    private final transient PagedTableModel.CellReader<T> cells;
+
+    private transient java.util.List<T> rows = new ArrayList<>();
+    private int[] keys = new int[0];
+
+    public KeyedTableModel(String[] columnNames, ToIntFunction<? super T> key, PagedTableModel.CellReader<T> cells) {
+        this.columnNames = columnNames.clone();
+        this.key = key;
+        this.cells = cells;
+    }
+
+    /**
+     * Shows {@code newRows}, firing events only for the rows that differ from those shown.
+     */
+    public void setRows(List<T> newRows) {
+        java.util.List<T> next = newRows.toJavaList();
+        int[] newKeys = new int[next.size()];
+        for (int i = 0; i < newKeys.length; i++) {
+            newKeys[i] = key.applyAsInt(next.get(i));
+        }
+        boolean diffed = KeyDiff.diff(keys, newKeys, new KeyDiff.Changes() {
+            @Override
+            public void deleted(int from, int count) {
+                rows.subList(from, from + count).clear();
+                fireTableRowsDeleted(from, from + count - 1);
+            }
+
+            @Override
+            public void inserted(int from, int count) {
+                rows.addAll(from, next.subList(from, from + count));
+                fireTableRowsInserted(from, from + count - 1);
+            }
+        });
+        keys = newKeys;
+        if (!diffed) {
+            rows = new ArrayList<>(next);
+            fireTableDataChanged();
+            return;
+        }
+        int first = -1;
+        for (int i = 0; i <= next.size(); i++) {
+            boolean changed = i < next.size() && !Objects.equals(rows.get(i), next.get(i));
+            if (changed) {
+                rows.set(i, next.get(i));
+                first = first < 0 ? i : first;
+            } else if (first >= 0) {
+                fireTableRowsUpdated(first, i - 1);
+                first = -1;
+            }
+        }
+    }
+
+    /**
+     * The row at a view index.
+     */
+    public Option<T> getRow(int rowIndex) {
+        return rowIndex >= 0 && rowIndex < rows.size() ? Option.some(rows.get(rowIndex)) : Option.none();
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return cells.value(rows.get(rowIndex), columnIndex);
+    }
+}
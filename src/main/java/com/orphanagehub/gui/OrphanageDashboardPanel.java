@@ -1,8 +1,11 @@
 package com.orphanagehub.gui;
 
+import com.orphanagehub.dao.DonationDAO;
 import com.orphanagehub.model.*;
 import com.orphanagehub.service.*;
+import com.orphanagehub.util.AsyncLoader;
 import com.orphanagehub.util.SessionManager;
+import com.orphanagehub.util.ValidationUtil;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
 import io.vavr.collection.List;
@@ -23,13 +26,15 @@ public class OrphanageDashboardPanel extends JPanel {
     private final OrphanageService orphanageService;
     private final DonorService donorService;
     private final VolunteerService volunteerService;
+    private final AsyncLoader loader = new AsyncLoader("Orphanage dashboard");
     
-    private DefaultTableModel resourceModel;
-    private DefaultTableModel donationModel;
+    private KeyedTableModel<ResourceRequest> resourceModel;
+    private PagedTableModel<DonationDAO.DonationRow> donationModel;
     private DefaultTableModel volunteerModel;
     private DefaultTableModel notificationModel;
     
     private JTabbedPane tabbedPane;
+    private JLabel lblLoading;
     private JLabel lblActiveRequests;
     private JLabel lblPendingDonations;
     private JLabel lblActiveVolunteers;
@@ -124,6 +129,8 @@ public class OrphanageDashboardPanel extends JPanel {
             .map(Object::toString)
             .getOrElse("Staff User");
         
+        lblLoading = createLoadingLabel();
+        
         JLabel userLabel = new JLabel("Staff: " + username);
         userLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
         userLabel.setForeground(TEXT_COLOR_DARK);
@@ -152,6 +159,7 @@ public class OrphanageDashboardPanel extends JPanel {
             mainApp.navigateTo(OrphanageHubApp.HOME_PANEL);
         });
         
+        userGroup.add(lblLoading);
         userGroup.add(userLabel);
         userGroup.add(btnNotifications);
         userGroup.add(btnLogout);
@@ -328,12 +336,18 @@ public class OrphanageDashboardPanel extends JPanel {
             "Quantity Fulfilled", "Unit", "Urgency", "Status", "Estimated Value"
         };
         
-        resourceModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        resourceModel = new KeyedTableModel<>(columnNames, ResourceRequest::requestId,
+            (req, column) -> switch (column) {
+                case 0 -> req.requestId();
+                case 1 -> req.resourceType();
+                case 2 -> req.resourceDescription();
+                case 3 -> req.quantityNeeded();
+                case 4 -> req.quantityFulfilled();
+                case 5 -> req.unit().getOrElse("");
+                case 6 -> req.urgencyLevel();
+                case 7 -> req.status();
+                default -> req.estimatedValue().map(v -> "$" + v).getOrElse("");
+            });
         
         JTable resourceTable = new JTable(resourceModel);
         styleTable(resourceTable);
@@ -391,12 +405,21 @@ public class OrphanageDashboardPanel extends JPanel {
             "Payment Method", "Date", "Status", "Acknowledged", "Thank You Sent"
         };
         
-        donationModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-            
+        donationModel = new PagedTableModel<>(columnNames,
+            PagedTableModel.Source.of(() -> donorService.getDonationRowIdsForOrphanage(currentOrphanageId()),
+                                      donorService::getDonationRowsByIds),
+            (d, column) -> switch (column) {
+                case 0 -> d.donationId();
+                case 1 -> d.donorName();
+                case 2 -> d.donationType();
+                case 3 -> d.amount().map(a -> "$" + a)
+                    .getOrElse(d.quantity().map(q -> q + " " + d.unit().getOrElse("items")).getOrElse(""));
+                case 4 -> d.paymentMethod().getOrElse("N/A");
+                case 5 -> d.donationDate();
+                case 6 -> d.status();
+                case 7 -> d.isComplete();
+                default -> d.thankYouSent();
+            }) {
             @Override
             public Class<?> getColumnClass(int column) {
                 if (column == 7 || column == 8) return Boolean.class;
@@ -538,10 +561,8 @@ public class OrphanageDashboardPanel extends JPanel {
         formPanel.add(lblProvince, gbc);
         
         gbc.gridx = 1;
-        JComboBox<String> cmbProvince = new JComboBox<>(new String[]{
-            "Eastern Cape", "Free State", "Gauteng", "KwaZulu-Natal",
-            "Limpopo", "Mpumalanga", "North West", "Northern Cape", "Western Cape"
-        });
+        JComboBox<String> cmbProvince = new JComboBox<>(
+            ValidationUtil.getValidProvinces().toJavaArray(String[]::new));
         styleComboBox(cmbProvince);
         formPanel.add(cmbProvince, gbc);
         row++;
@@ -659,113 +680,65 @@ public class OrphanageDashboardPanel extends JPanel {
     }
 
     private void loadResourceRequests() {
-        String orphanageId = SessionManager.getInstance()
-            .getAttribute("currentOrphanageId")
-            .map(Object::toString)
-            .getOrElse("");
+        String orphanageId = currentOrphanageId();
         
         if (!orphanageId.isEmpty()) {
-            orphanageService.getResourceRequests(orphanageId)
-                .onSuccess(requests -> {
-                    SwingUtilities.invokeLater(() -> {
-                        resourceModel.setRowCount(0);
-                        requests.forEach(req -> {
-                            resourceModel.addRow(new Object[]{
-                                req.requestId(),
-                                req.resourceType(),
-                                req.resourceDescription(),
-                                req.quantityNeeded(),
-                                req.quantityFulfilled(),
-                                req.unit().getOrElse(""),
-                                req.urgencyLevel(),
-                                req.status(),
-                                req.estimatedValue().map(v -> "$" + v).getOrElse("")
-                            });
-                        });
-                        
-                        // Update stats
-                        long activeCount = requests
-                            .filter(r -> "Open".equalsIgnoreCase(r.status()))
-                            .length();
-                        lblActiveRequests.setText(String.valueOf(activeCount));
-                    });
-                })
-                .onFailure(this::showErrorMessage);
+            loader.load("requests", () -> orphanageService.getResourceRequests(orphanageId), requests -> {
+                resourceModel.setRows(requests);
+                
+                // Update stats
+                long activeCount = requests
+                    .filter(r -> "Open".equalsIgnoreCase(r.status()))
+                    .length();
+                lblActiveRequests.setText(String.valueOf(activeCount));
+            }, this::showErrorMessage);
         }
     }
 
     private void loadDonations() {
-        String orphanageId = SessionManager.getInstance()
-            .getAttribute("currentOrphanageId")
-            .map(Object::toString)
-            .getOrElse("");
+        String orphanageId = currentOrphanageId();
         
         if (!orphanageId.isEmpty()) {
-            donorService.getDonationsWithDonorForOrphanage(orphanageId)
-                .onSuccess(donations -> {
-                    SwingUtilities.invokeLater(() -> {
-                        donationModel.setRowCount(0);
-                        donations.forEach(dwd -> {
-                            Donation d = dwd.donation();
-                            donationModel.addRow(new Object[]{
-                                d.donationId(),
-                                dwd.donorName(),
-                                d.donationType(),
-                                d.amount().map(a -> "$" + a)
-                                    .getOrElse(d.quantity().map(q -> q + " " + d.unit().getOrElse("items"))
-                                .getOrElse("")),
-                                d.paymentMethod().getOrElse("N/A"),
-                                d.donationDate(),
-                                d.status(),
-                                d.isComplete(),
-                                d.thankYouSent()
-                            });
-                        });
-                        
-                        // Update stats
-                        long pendingCount = donations
-                            .filter(dwd -> !dwd.donation().isComplete())
-                            .length();
-                        lblPendingDonations.setText(String.valueOf(pendingCount));
-                    });
-                })
-                .onFailure(this::showErrorMessage);
+            donationModel.reload(loader, "donations", this::showErrorMessage);
+            loader.load("donation totals", () -> donorService.countPendingDonations(orphanageId),
+                pendingCount -> lblPendingDonations.setText(String.valueOf(pendingCount)),
+                this::showErrorMessage);
         }
     }
 
-    private void loadVolunteerOpportunities() {
-        String orphanageId = SessionManager.getInstance()
+    private String currentOrphanageId() {
+        return SessionManager.getInstance()
             .getAttribute("currentOrphanageId")
             .map(Object::toString)
             .getOrElse("");
+    }
+
+    private void loadVolunteerOpportunities() {
+        String orphanageId = currentOrphanageId();
         
         if (!orphanageId.isEmpty()) {
-            volunteerService.getOpportunitiesForOrphanage(orphanageId)
-                .onSuccess(opportunities -> {
-                    SwingUtilities.invokeLater(() -> {
-                        volunteerModel.setRowCount(0);
-                        opportunities.forEach(opp -> {
-                            volunteerModel.addRow(new Object[]{
-                                opp.opportunityId(),
-                                opp.title(),
-                                opp.description(),
-                                opp.skillsRequired(),
-                                opp.timeCommitment(),
-                                opp.slotsAvailable(),
-                                opp.applicationCount(),
-                                opp.status()
-                            });
-                        });
-                        
-                        // Update stats
-                        long activeCount = opportunities
-                            .filter(o -> "Open".equalsIgnoreCase(o.status()))
-                            .map(o -> o.applicationCount())
-                            .sum().longValue();
-                        lblActiveVolunteers.setText(String.valueOf(activeCount));
+            loader.load("opportunities", () -> volunteerService.getOpportunitiesForOrphanage(orphanageId), opportunities -> {
+                volunteerModel.setRowCount(0);
+                opportunities.forEach(opp -> {
+                    volunteerModel.addRow(new Object[]{
+                        opp.opportunityId(),
+                        opp.title(),
+                        opp.description(),
+                        opp.skillsRequired(),
+                        opp.timeCommitment(),
+                        opp.slotsAvailable(),
+                        opp.applicationCount(),
+                        opp.status()
                     });
-                })
-                .onFailure(this::showErrorMessage);
+                });
+                
+                // Update stats
+                long activeCount = opportunities
+                    .filter(o -> "Open".equalsIgnoreCase(o.status()))
+                    .map(o -> o.applicationCount())
+                    .sum().longValue();
+                lblActiveVolunteers.setText(String.valueOf(activeCount));
+            }, this::showErrorMessage);
         }
     }
 
@@ -789,9 +762,9 @@ public class OrphanageDashboardPanel extends JPanel {
         // Category
         gbc.gridx = 0; gbc.gridy = row;
         dialog.add(new JLabel("Category:"), gbc);
-        JComboBox<String> cmbCategory = new JComboBox<>(new String[]{
-            "Food", "Clothing", "Education", "Medical", "Infrastructure", "Other"
-        });
+        // Only the types the database accepts for TblResourceRequests.ResourceType
+        JComboBox<String> cmbCategory = new JComboBox<>(
+            ValidationUtil.getValidResourceTypes().toJavaArray(String[]::new));
         gbc.gridx = 1;
         dialog.add(cmbCategory, gbc);
         row++;
@@ -824,9 +797,8 @@ public class OrphanageDashboardPanel extends JPanel {
         // Urgency
         gbc.gridx = 0; gbc.gridy = row;
         dialog.add(new JLabel("Urgency:"), gbc);
-        JComboBox<String> cmbUrgency = new JComboBox<>(new String[]{
-            "Low", "Medium", "High", "Critical"
-        });
+        JComboBox<String> cmbUrgency = new JComboBox<>(
+            ValidationUtil.getValidUrgencyLevels().toJavaArray(String[]::new));
         gbc.gridx = 1;
         dialog.add(cmbUrgency, gbc);
         row++;
@@ -933,6 +905,15 @@ public class OrphanageDashboardPanel extends JPanel {
     }
 
     // Styling methods
+    private JLabel createLoadingLabel() {
+        JLabel label = new JLabel();
+        label.setFont(new Font(Font.SANS_SERIF, Font.ITALIC, 12));
+        label.setForeground(TEXT_COLOR_DARK);
+        loader.onLoadingChanged(tasks -> label.setText(
+            tasks.isEmpty() ? "" : "Loading " + String.join(", ", tasks) + "\u2026"));
+        return label;
+    }
+
     private void styleFormLabel(JLabel label) {
         label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 13));
         label.setForeground(TEXT_COLOR_DARK);
@@ -0,0 +1,360 @@
+package com.orphanagehub.gui;
+
+import com.orphanagehub.util.AsyncLoader;
+import com.orphanagehub.util.EdtGuard;
+import io.vavr.collection.List;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Table model that holds only the keys of its rows and loads the rows themselves as they are
+ * shown.
+ * <p>
+ * {@link #reload()} reads every key in display order, which is one int per row, and the table
+ * gets its full row count at once. Rows are read in blocks of {@value #BLOCK_SIZE} keys on a
+ * background thread the first time a cell of the block is painted, and cells show
+ * {@value #LOADING} until then; the blocks either side are loaded next, ahead of a scroll. Blocks
+ * painted most recently are loaded first, so a fast scroll does not wait on blocks already
+ * scrolled past, and only the rows of the last {@value #MAX_CACHED_BLOCKS} blocks used are held. A row deleted after the
+ * keys were read shows empty cells until the next reload.
+ * <p>
+ * A reload compares the new keys with the shown ones and fires row inserts and deletes for
+ * the keys that came and went, so the selection and scroll position stay with their rows and
+ * only the changed rows are repainted. Rows already held keep showing until their block is
+ * read again, and only those whose values changed are repainted then.
+ * <p>
+ * Methods other than the {@code reload} methods must be called on the EDT, as for any table model.
+ *
+ * @param <T> - the row type
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public class PagedTableModel<T> extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = LoggerFactory.getLogger(PagedTableModel.class);
+
+    public static final int BLOCK_SIZE = 128;
+    public static final String LOADING = "Loading…";
+    private static final int MAX_CACHED_BLOCKS = 64;
+    private static final int MAX_CACHED_ROWS = MAX_CACHED_BLOCKS * BLOCK_SIZE;
+    private static final int PREFETCH_BLOCKS = 1;
+    /** Blocks waiting beyond this are dropped, oldest first; they were scrolled past. */
+    private static final int MAX_QUEUED_BLOCKS = 8;
+
+    /**
+     * Where the rows come from.
+     */
+    public interface Source<T> {
+        /** Keys of every row, in display order. */
+        Try<int[]> keys();
+
+        /** Rows for some of the keys, by key; keys without a row are left out. */
+        Try<Map<Integer, T>> rows(List<Integer> keys);
+
+        static <T> Source<T> of(Supplier<Try<int[]>> keys, Function<List<Integer>, Try<Map<Integer, T>>> rows) {
+            return new Source<>() {
+                @Override
+                public Try<int[]> keys() {
+                    return keys.get();
+                }
+
+                @Override
+                public Try<Map<Integer, T>> rows(List<Integer> blockKeys) {
+                    return rows.apply(blockKeys);
+                }
+            };
+        }
+    }
+
+    /**
+     * A cell's value from its row.
+     */
+    @FunctionalInterface
+    public interface CellReader<T> {
+        Object value(T row, int column);
+    }
+
+    /**
+     * The keys a generation of the model shows; loads for an older generation are dropped.
+     */
+    private record Snapshot(int generation, int[] keys) {}
+
+    /**
+     * A row as read in a generation; none if it no longer existed. Rows read in an older
+     * generation are shown but read again.
+     */
+    private record Cached<T>(Option<T> row, int generation) {}
+
+    /**
+     * Keys read by a reload, with their changes from the keys shown when they were read.
+     */
+    private record Reload(int[] shown, int[] keys, Option<KeyDiff> diff) {}
+
+    private final String[] columnNames;
+    private final transient Source<T> source;
+    private final transient CellReader<T> cells;
+    private final transient ExecutorService loader;
+
+    private transient volatile Snapshot snapshot = new Snapshot(0, new int[0]);
+    private final transient LinkedHashMap<Integer, Cached<T>> rows = new LinkedHashMap<>(16, 0.75f, true);
+    /** Blocks queued or loading, so a block is asked for once however often it is painted. */
+    private final transient Set<Integer> requested = new HashSet<>();
+    /** Blocks waiting for the loader, newest last. Shared with the loader thread. */
+    private final transient Deque<Integer> queue = new ArrayDeque<>();
+
+    public PagedTableModel(String[] columnNames, Source<T> source, CellReader<T> cells) {
+        this.columnNames = columnNames.clone();
+        this.source = source;
+        this.cells = cells;
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OrphanageHub-TableLoader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reads the keys again in the background and then shows the new rows.
+     * @return completes once the table shows the new row count, or with the load's failure
+     */
+    public CompletableFuture<Void> reload() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        loader.execute(() -> source.keys().map(this::diffFromShown)
+            .onSuccess(keys -> EdtGuard.runOnEdt(() -> {
+                show(keys);
+                done.complete(null);
+            }))
+            .onFailure(error -> {
+                logger.warn("Failed to load table keys", error);
+                done.completeExceptionally(error);
+            }));
+        return done;
+    }
+
+    /**
+     * Reads the keys again as {@code task} of {@code loader}, which reports it as loading and
+     * drops the result if the task is asked for again before it is shown.
+     */
+    public void reload(AsyncLoader loader, String task, Consumer<? super Throwable> onFailure) {
+        loader.load(task, () -> source.keys().map(this::diffFromShown), this::show, onFailure);
+    }
+
+    /**
+     * The row at a view index, if it is loaded and still existed when last read.
+     */
+    public Option<T> getRow(int rowIndex) {
+        int[] keys = snapshot.keys();
+        if (rowIndex < 0 || rowIndex >= keys.length) {
+            return Option.none();
+        }
+        Cached<T> cached = rows.get(keys[rowIndex]);
+        return cached == null ? Option.none() : cached.row();
+    }
+
+    @Override
+    public int getRowCount() {
+        return snapshot.keys().length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        int[] keys = snapshot.keys();
+        if (rowIndex >= keys.length) {
+            return null;
+        }
+        Cached<T> cached = rows.get(keys[rowIndex]);
+        if (cached == null || cached.generation() != snapshot.generation()) {
+            request(rowIndex / BLOCK_SIZE);
+        }
+        if (cached == null) {
+            return columnIndex == 0 ? LOADING : null;
+        }
+        return cached.row().map(row -> cells.value(row, columnIndex)).getOrNull();
+    }
+
+    /**
+     * Finds the changes off the EDT; with a million keys that takes tens of milliseconds.
+     */
+    private Reload diffFromShown(int[] keys) {
+        int[] shown = snapshot.keys();
+        return new Reload(shown, keys, diff(shown, keys));
+    }
+
+    private static Option<KeyDiff> diff(int[] shown, int[] keys) {
+        return shown.length == 0 ? Option.none() : KeyDiff.of(shown, keys);
+    }
+
+    private void show(Reload reload) {
+        int[] shown = snapshot.keys();
+        int[] keys = reload.keys();
+        // Shown keys that changed after the reload read its keys need the changes found again
+        Option<KeyDiff> diff = reload.shown() == shown ? reload.diff() : diff(shown, keys);
+        setKeys(shown);
+        requested.clear();
+        diff.forEach(changes -> changes.apply(new KeyDiff.Changes() {
+            @Override
+            public void deleted(int from, int count) {
+                setKeys(KeyDiff.remove(snapshot.keys(), from, count));
+                fireTableRowsDeleted(from, from + count - 1);
+            }
+
+            @Override
+            public void inserted(int from, int count) {
+                setKeys(KeyDiff.insert(snapshot.keys(), from, count, keys));
+                fireTableRowsInserted(from, from + count - 1);
+            }
+        }));
+        if (diff.isEmpty()) {
+            setKeys(keys);
+            fireTableDataChanged();
+        }
+    }
+
+    /**
+     * Starts a new generation showing {@code keys}; loads queued or running for the old one
+     * are dropped.
+     */
+    private void setKeys(int[] keys) {
+        synchronized (queue) {
+            snapshot = new Snapshot(snapshot.generation() + 1, keys);
+            queue.clear();
+        }
+    }
+
+    private void request(int index) {
+        int lastBlock = (snapshot.keys().length - 1) / BLOCK_SIZE;
+        enqueue(index, true, lastBlock);
+        for (int distance = 1; distance <= PREFETCH_BLOCKS; distance++) {
+            enqueue(index + distance, false, lastBlock);
+            enqueue(index - distance, false, lastBlock);
+        }
+    }
+
+    /**
+     * Queues a block: painted blocks at the newest end, which loads first, and prefetched
+     * blocks at the oldest end, which is dropped first.
+     */
+    private void enqueue(int index, boolean painted, int lastBlock) {
+        if (index < 0 || index > lastBlock || (!painted && isLoaded(index))) {
+            return;
+        }
+        boolean added = requested.add(index);
+        synchronized (queue) {
+            if (!added) {
+                // Already queued or loading; a prefetched block that is now painted moves up
+                if (painted && queue.removeFirstOccurrence(index)) {
+                    queue.addLast(index);
+                }
+                return;
+            }
+            if (painted) {
+                queue.addLast(index);
+            } else {
+                queue.addFirst(index);
+            }
+            if (queue.size() > MAX_QUEUED_BLOCKS) {
+                requested.remove(queue.pollFirst());
+            }
+        }
+        loader.execute(this::loadNewest);
+    }
+
+    /**
+     * Whether a block's rows were read in this generation, judged by its first and last row.
+     */
+    private boolean isLoaded(int index) {
+        Snapshot current = snapshot;
+        int from = index * BLOCK_SIZE;
+        int to = Math.min(current.keys().length, from + BLOCK_SIZE) - 1;
+        return isFresh(current, from) && isFresh(current, to);
+    }
+
+    private boolean isFresh(Snapshot current, int rowIndex) {
+        Cached<T> cached = rows.get(current.keys()[rowIndex]);
+        return cached != null && cached.generation() == current.generation();
+    }
+
+    /**
+     * Loads the block queued last. Runs on the loader thread, once per block queued.
+     */
+    private void loadNewest() {
+        Snapshot current;
+        Integer index;
+        synchronized (queue) {
+            current = snapshot;
+            index = queue.pollLast();
+        }
+        if (index == null) {
+            return;
+        }
+        int from = index * BLOCK_SIZE;
+        int to = Math.min(current.keys().length, from + BLOCK_SIZE);
+        if (from >= to) {
+            return;
+        }
+        Try<Map<Integer, T>> block = source.rows(List.ofAll(Arrays.copyOfRange(current.keys(), from, to)));
+        EdtGuard.runOnEdt(() -> {
+            if (snapshot.generation() != current.generation()) {
+                return;
+            }
+            requested.remove(index);
+            block.onSuccess(found -> cache(current, from, to, found))
+                .onFailure(error -> logger.warn("Failed to load table rows {} to {}", from, to - 1, error));
+        });
+    }
+
+    /**
+     * Holds a block's rows and repaints those that were loading or changed.
+     */
+    private void cache(Snapshot current, int from, int to, Map<Integer, T> found) {
+        int first = -1;
+        int last = -1;
+        for (int i = from; i < to; i++) {
+            int key = current.keys()[i];
+            Option<T> row = found.get(key);
+            Cached<T> previous = rows.put(key, new Cached<>(row, current.generation()));
+            if (previous == null || !Objects.equals(previous.row(), row)) {
+                first = first < 0 ? i : first;
+                last = i;
+            }
+        }
+        Iterator<Integer> eldest = rows.keySet().iterator();
+        for (int excess = rows.size() - MAX_CACHED_ROWS; excess > 0; excess--) {
+            eldest.next();
+            eldest.remove();
+        }
+        if (first >= 0) {
+            fireTableRowsUpdated(first, last);
+        }
+    }
+}
@@ -142,11 +142,9 @@ public class RegistrationPanel extends JPanel {
         provincePanel.setOpaque(false);
         JLabel lblProvince = new JLabel("Province:");
         styleFormLabel(lblProvince);
-        String[] provinces = {
-            "Select Province...",
-            "Eastern Cape", "Free State", "Gauteng", "KwaZulu-Natal",
-            "Limpopo", "Mpumalanga", "North West", "Northern Cape", "Western Cape"
-        };
+        String[] provinces = ValidationUtil.getValidProvinces()
+            .prepend("Select Province...")
+            .toJavaArray(String[]::new);
         cmbProvince = new JComboBox<>(provinces);
         styleComboBox(cmbProvince);
         provincePanel.add(lblProvince, BorderLayout.WEST);
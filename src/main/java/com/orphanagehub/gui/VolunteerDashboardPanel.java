@@ -1,7 +1,9 @@
 package com.orphanagehub.gui;
 
+import com.orphanagehub.dao.VolunteerOpportunityDAO;
 import com.orphanagehub.model.*;
 import com.orphanagehub.service.*;
+import com.orphanagehub.util.AsyncLoader;
 import com.orphanagehub.util.SessionManager;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
@@ -24,6 +26,7 @@ public class VolunteerDashboardPanel extends JPanel {
     private final OrphanageHubApp mainApp;
     private final VolunteerService volunteerService;
     private final OrphanageService orphanageService;
+    private final AsyncLoader loader = new AsyncLoader("Volunteer dashboard");
     
     private DefaultTableModel opportunitiesModel;
     private DefaultTableModel applicationsModel;
@@ -36,6 +39,7 @@ public class VolunteerDashboardPanel extends JPanel {
     private JComboBox<String> cmbTime;
     private JComboBox<String> cmbCategory;
     private JTabbedPane tabbedPane;
+    private JLabel lblLoading;
     
     private JLabel lblTotalApplications;
     private JLabel lblAcceptedApplications;
@@ -140,6 +144,8 @@ public class VolunteerDashboardPanel extends JPanel {
             .getCurrentUsername()
             .getOrElse("Volunteer");
         
+        lblLoading = createLoadingLabel();
+        
         JLabel userLabel = new JLabel("Welcome!");
         userLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
         userLabel.setForeground(TEXT_COLOR_DARK);
@@ -168,6 +174,7 @@ public class VolunteerDashboardPanel extends JPanel {
             mainApp.navigateTo(OrphanageHubApp.HOME_PANEL);
         });
         
+        rightPanel.add(lblLoading);
         rightPanel.add(userLabel);
         rightPanel.add(btnNotifications);
         rightPanel.add(btnLogout);
@@ -698,51 +705,50 @@ public class VolunteerDashboardPanel extends JPanel {
         Option<String> skillsFilter = Option.none();
         Option<String> timeFilter = Option.none();
         
-        volunteerService.getOpportunities(locationFilter, skillsFilter, timeFilter)
-            .onSuccess(opportunities -> SwingUtilities.invokeLater(() -> {
+        loader.load("opportunities", () -> volunteerService.getOpportunityRows(locationFilter, skillsFilter, timeFilter),
+            opportunities -> {
                 opportunitiesModel.setRowCount(0);
-                opportunities.forEach(opp -> {
-                    opportunitiesModel.addRow(new Object[]{
-                        opp.opportunityId(),
-                        opp.title(),
-                        "Orphanage #" + opp.orphanageId(),
-                        opp.location().getOrElse("N/A"),
-                        opp.timeCommitment().getOrElse("N/A"),
-                        opp.slotsAvailable(),
-                        opp.status(),
-                        "Apply"
-                    });
-                });
-            }))
-            .onFailure(ex -> {
+                opportunities.forEach(this::addOpportunityRow);
+            },
+            ex -> {
                 logger.error("Failed to load opportunities", ex);
                 showErrorMessage("Failed to load opportunities: " + ex.getMessage());
             });
     }
 
+    private void addOpportunityRow(VolunteerOpportunityDAO.OpportunityRow opp) {
+        opportunitiesModel.addRow(new Object[]{
+            opp.opportunityId(),
+            opp.title(),
+            opp.orphanageName(),
+            opp.location().getOrElse("N/A"),
+            opp.timeCommitment().getOrElse("N/A"),
+            opp.slotsAvailable(),
+            opp.status(),
+            "Apply"
+        });
+    }
+
     private void loadApplications() {
         Option<Integer> userId = SessionManager.getInstance().getCurrentUserId();
         
         userId.forEach(id -> {
-            volunteerService.getMyApplications(id)
-                .onSuccess(applications -> SwingUtilities.invokeLater(() -> {
-                    applicationsModel.setRowCount(0);
-                    applications.forEach(app -> {
-                        applicationsModel.addRow(new Object[]{
-                            app.applicationId(),
-                            app.opportunityId(),
-                            app.applicationDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
-                            app.status(),
-                            app.interviewDate()
-                                .map(d -> d.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
-                                .getOrElse("Not scheduled"),
-                            getActionForStatus(app.status())
-                        });
+            loader.load("applications", () -> volunteerService.getMyApplications(id), applications -> {
+                applicationsModel.setRowCount(0);
+                applications.forEach(app -> {
+                    applicationsModel.addRow(new Object[]{
+                        app.applicationId(),
+                        app.opportunityId(),
+                        app.applicationDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")),
+                        app.status(),
+                        app.interviewDate()
+                            .map(d -> d.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")))
+                            .getOrElse("Not scheduled"),
+                        getActionForStatus(app.status())
                     });
-                }))
-                .onFailure(ex -> {
-                    logger.error("Failed to load applications", ex);
                 });
+            },
+            ex -> logger.error("Failed to load applications", ex));
         });
     }
 
@@ -750,60 +756,54 @@ public class VolunteerDashboardPanel extends JPanel {
     Option<Integer> userId = SessionManager.getInstance().getCurrentUserId();
     
     userId.forEach(id -> {
-        volunteerService.getVolunteerHistory(id)
-            .onSuccess(history -> SwingUtilities.invokeLater(() -> {
-                historyModel.setRowCount(0);
-                // history contains VolunteerApplication objects, not VolunteerHistory
-                history.forEach(app -> {
-                    // Handle dates properly - they are LocalDateTime, not LocalDate
-                    String startDateStr = app.startDate()
-                        .map(d -> d.toLocalDate().toString())
-                        .getOrElse("Not started");
-                    
-                    String endDateStr = app.endDate()
-                        .map(d -> d.toLocalDate().toString())
-                        .getOrElse("Ongoing");
-                    
-                    historyModel.addRow(new Object[]{
-                        startDateStr,
-                        endDateStr,
-                        "Opportunity #" + app.opportunityId(),
-                        "Orphanage", // Would need to fetch this separately
-                        app.hoursCompleted().getOrElse(0),
-                        app.status(),
-                        app.performanceRating().isDefined() ? "Available" : "N/A"
-                    });
+        loader.load("history", () -> volunteerService.getVolunteerHistory(id), history -> {
+            historyModel.setRowCount(0);
+            // history contains VolunteerApplication objects, not VolunteerHistory
+            history.forEach(app -> {
+                // Handle dates properly - they are LocalDateTime, not LocalDate
+                String startDateStr = app.startDate()
+                    .map(d -> d.toLocalDate().toString())
+                    .getOrElse("Not started");
+                
+                String endDateStr = app.endDate()
+                    .map(d -> d.toLocalDate().toString())
+                    .getOrElse("Ongoing");
+                
+                historyModel.addRow(new Object[]{
+                    startDateStr,
+                    endDateStr,
+                    "Opportunity #" + app.opportunityId(),
+                    "Orphanage", // Would need to fetch this separately
+                    app.hoursCompleted().getOrElse(0),
+                    app.status(),
+                    app.performanceRating().isDefined() ? "Available" : "N/A"
                 });
-            }))
-            .onFailure(ex -> {
-                logger.error("Failed to load history", ex);
             });
+        },
+        ex -> logger.error("Failed to load history", ex));
     });
 }
     private void loadEvents() {
         Option<Integer> userId = SessionManager.getInstance().getCurrentUserId();
         
         userId.forEach(id -> {
-            volunteerService.getUpcomingEvents(id)
-                .onSuccess(events -> SwingUtilities.invokeLater(() -> {
-                    eventsModel.setRowCount(0);
-                    events.forEach(event -> {
-                        eventsModel.addRow(new Object[]{
-                            event.startDate()
-                                .map(d -> d.toLocalDate().toString())
-                                .getOrElse("TBD"),
-                            event.startDate()
-                                .map(d -> d.toLocalTime().toString())
-                                .getOrElse("TBD"),
-                            "Opportunity #" + event.opportunityId(),
-                            "TBD",
-                            event.status()
-                        });
+            loader.load("events", () -> volunteerService.getUpcomingEvents(id), events -> {
+                eventsModel.setRowCount(0);
+                events.forEach(event -> {
+                    eventsModel.addRow(new Object[]{
+                        event.startDate()
+                            .map(d -> d.toLocalDate().toString())
+                            .getOrElse("TBD"),
+                        event.startDate()
+                            .map(d -> d.toLocalTime().toString())
+                            .getOrElse("TBD"),
+                        "Opportunity #" + event.opportunityId(),
+                        "TBD",
+                        event.status()
                     });
-                }))
-                .onFailure(ex -> {
-                    logger.error("Failed to load events", ex);
                 });
+            },
+            ex -> logger.error("Failed to load events", ex));
         });
     }
 
@@ -824,20 +824,17 @@ public class VolunteerDashboardPanel extends JPanel {
         Option<Integer> userId = SessionManager.getInstance().getCurrentUserId();
         
         userId.forEach(id -> {
-            volunteerService.getVolunteerStatistics(id)
-                .onSuccess(stats -> SwingUtilities.invokeLater(() -> {
-                    lblTotalApplications.setText("<html><center><b>" + stats.totalApplications() + 
-                        "</b><br><small>Apps</small></center></html>");
-                    lblAcceptedApplications.setText("<html><center><b>" + stats.acceptedApplications() + 
-                        "</b><br><small>Accepted</small></center></html>");
-                    lblHoursVolunteered.setText("<html><center><b>" + stats.totalHours() + 
-                        "</b><br><small>Hours</small></center></html>");
-                    lblOrphanagesHelped.setText("<html><center><b>" + stats.uniqueCategories() + 
-                        "</b><br><small>Orgs</small></center></html>");
-                }))
-                .onFailure(ex -> {
-                    logger.error("Failed to load statistics", ex);
-                });
+            loader.load("statistics", () -> volunteerService.getVolunteerStatistics(id), stats -> {
+                lblTotalApplications.setText("<html><center><b>" + stats.totalApplications() + 
+                    "</b><br><small>Apps</small></center></html>");
+                lblAcceptedApplications.setText("<html><center><b>" + stats.acceptedApplications() + 
+                    "</b><br><small>Accepted</small></center></html>");
+                lblHoursVolunteered.setText("<html><center><b>" + stats.totalHours() + 
+                    "</b><br><small>Hours</small></center></html>");
+                lblOrphanagesHelped.setText("<html><center><b>" + stats.uniqueCategories() + 
+                    "</b><br><small>Orgs</small></center></html>");
+            },
+            ex -> logger.error("Failed to load statistics", ex));
         });
     }
 
@@ -858,8 +855,8 @@ public class VolunteerDashboardPanel extends JPanel {
             ? Option.none() 
             : Option.of(timeValue);
         
-        volunteerService.getOpportunities(locationFilter, skillsFilter, timeFilter)
-            .onSuccess(opportunities -> SwingUtilities.invokeLater(() -> {
+        loader.load("opportunities", () -> volunteerService.getOpportunityRows(locationFilter, skillsFilter, timeFilter),
+            opportunities -> {
                 opportunitiesModel.setRowCount(0);
                 
                 if (opportunities.isEmpty()) {
@@ -867,21 +864,10 @@ public class VolunteerDashboardPanel extends JPanel {
                         0, "No opportunities found", "", "", "", "", "", ""
                     });
                 } else {
-                    opportunities.forEach(opp -> {
-                        opportunitiesModel.addRow(new Object[]{
-                            opp.opportunityId(),
-                            opp.title(),
-                            "Orphanage #" + opp.orphanageId(),
-                            opp.location().getOrElse("N/A"),
-                            opp.timeCommitment().getOrElse("N/A"),
-                            opp.slotsAvailable(),
-                            opp.status(),
-                            "Apply"
-                        });
-                    });
+                    opportunities.forEach(this::addOpportunityRow);
                 }
-            }))
-            .onFailure(ex -> {
+            },
+            ex -> {
                 logger.error("Failed to search opportunities", ex);
                 showErrorMessage("Failed to search: " + ex.getMessage());
             });
@@ -1061,6 +1047,15 @@ public class VolunteerDashboardPanel extends JPanel {
     }
 
     // Styling methods (remain the same)
+    private JLabel createLoadingLabel() {
+        JLabel label = new JLabel();
+        label.setFont(new Font(Font.SANS_SERIF, Font.ITALIC, 12));
+        label.setForeground(TEXT_COLOR_DARK);
+        loader.onLoadingChanged(tasks -> label.setText(
+            tasks.isEmpty() ? "" : "Loading " + String.join(", ", tasks) + "\u2026"));
+        return label;
+    }
+
     private void styleFormLabel(JLabel label) {
         label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 13));
         label.setForeground(TEXT_COLOR_DARK);
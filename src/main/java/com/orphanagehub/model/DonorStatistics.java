@@ -0,0 +1,12 @@
+package com.orphanagehub.model;
+
+import io.vavr.collection.List;
+
+public record DonorStatistics(
+    int totalDonations,
+    double totalAmount,
+    int itemDonations,
+    int recurringDonations,
+    int supportedOrphanages,
+    List<String> orphanageIds
+) {}
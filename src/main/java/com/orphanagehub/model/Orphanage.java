@@ -414,6 +414,21 @@ public record Orphanage(
         );
     }
     
+    /**
+     * Updates the street address and location.
+     */
+    public Orphanage withAddress(String newAddress, String newCity, String newProvince) {
+        return new Orphanage(
+            orphanageId, orphanageName, registrationNumber, taxNumber, newAddress, newCity, newProvince,
+            postalCode, contactPerson, contactEmail, contactPhone, alternatePhone, website,
+            description, mission, vision, establishedDate, capacity, currentOccupancy,
+            ageGroupMin, ageGroupMax, acceptsDonations, acceptsVolunteers, bankName,
+            bankAccountNumber, bankBranchCode, dateRegistered, verificationStatus,
+            verificationDate, verifiedBy, verificationNotes, userId, status, logo, coverImage,
+            latitude, longitude, Option.of(LocalDateTime.now()), modifiedBy
+        );
+    }
+    
     /**
      * Updates contact information.
      */
@@ -0,0 +1,16 @@
+package com.orphanagehub.model;
+
+public record SystemStatistics(
+    int totalUsers,
+    int donors,
+    int volunteers,
+    int orphanageStaff,
+    int totalOrphanages,
+    int pendingVerifications,
+    double totalDonations,
+    int monthlyDonations,
+    int openRequests,
+    int urgentRequests,
+    int activeOpportunities,
+    int pendingApplications
+) {}
@@ -5,8 +5,8 @@ import io.vavr.collection.List;
 public record VolunteerStatistics(
     int totalApplications,
     int acceptedApplications,
-    int completedHours,
-    int averageRating,
+    int pendingApplications,
+    int totalHours,
+    int uniqueCategories,
     List<String> categories
 ) {}
-
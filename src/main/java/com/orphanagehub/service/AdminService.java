@@ -2,7 +2,6 @@ package com.orphanagehub.service;
 
 import com.orphanagehub.dao.*;
 import com.orphanagehub.model.*;
-import com.orphanagehub.util.DatabaseManager;
 import io.vavr.collection.List;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -15,6 +14,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -39,51 +40,13 @@ public class AdminService {
     private final VolunteerApplicationDAO applicationDAO = new VolunteerApplicationDAO();
     private final NotificationDAO notificationDAO = new NotificationDAO();
     private final AuditLogDAO auditLogDAO = new AuditLogDAO();
+    private final StatisticsDAO statisticsDAO = new StatisticsDAO();
     
     /**
      * Gets system dashboard statistics
      */
     public Try<SystemStatistics> getSystemStatistics() {
-        return Try.of(() -> {
-            // User statistics
-            int totalUsers = userDAO.findAllActive().map(List::size).getOrElse(0);
-            int donors = userDAO.findByRole("Donor").map(List::size).getOrElse(0);
-            int volunteers = userDAO.findByRole("Volunteer").map(List::size).getOrElse(0);
-            int orphanageStaff = userDAO.findByRole("OrphanageRep").map(List::size).getOrElse(0);
-            
-            // Orphanage statistics
-            int totalOrphanages = orphanageDAO.findAllVerified().map(List::size).getOrElse(0);
-            int pendingVerifications = orphanageDAO.findByVerificationStatus("Pending")
-                .map(List::size).getOrElse(0);
-            
-            // Donation statistics
-            double totalDonations = donationDAO.getTotalDonations().getOrElse(0.0);
-            int monthlyDonations = donationDAO.getMonthlyDonationCount().getOrElse(0);
-            
-            // Request statistics
-            int openRequests = requestDAO.findOpenRequests().map(List::size).getOrElse(0);
-            int urgentRequests = requestDAO.findUrgentRequests().map(List::size).getOrElse(0);
-            
-            // Volunteer statistics
-            int activeOpportunities = opportunityDAO.findOpenOpportunities()
-                .map(List::size).getOrElse(0);
-            int pendingApplications = applicationDAO.getPendingApplicationCount().getOrElse(0);
-            
-            return new SystemStatistics(
-                totalUsers,
-                donors,
-                volunteers,
-                orphanageStaff,
-                totalOrphanages,
-                pendingVerifications,
-                totalDonations,
-                monthlyDonations,
-                openRequests,
-                urgentRequests,
-                activeOpportunities,
-                pendingApplications
-            );
-        });
+        return statisticsDAO.getSystemStatistics();
     }
     
     /**
@@ -133,6 +96,12 @@ public class AdminService {
      */
     public Try<Void> verifyOrphanage(Integer orphanageId, boolean approved, 
                                     Integer adminId, String notes) {
+        // Status change, notification and audit entry commit together
+        return TransactionContext.inTransaction(() -> applyVerification(orphanageId, approved, adminId, notes));
+    }
+    
+    private Try<Void> applyVerification(Integer orphanageId, boolean approved,
+                                        Integer adminId, String notes) {
         return orphanageDAO.findById(orphanageId)
             .flatMap(orphOpt -> orphOpt.toTry(() -> 
                 new ServiceException("Orphanage not found")))
@@ -236,8 +205,8 @@ public class AdminService {
      * Generates system report
      */
     public Try<String> generateReport(ReportType reportType, ReportParameters params, Integer adminId) {
-        return DatabaseManager.getConnection()
-            .flatMap(conn -> Try.of(() -> {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.READ)
+            .flatMap(conn -> Try.withResources(() -> conn).of(c -> {
                 // Prepare parameters
                 Map<String, Object> reportParams = new HashMap<>();
                 reportParams.put("START_DATE", params.startDate());
@@ -270,7 +239,7 @@ public class AdminService {
                 
                 // Fill report
                 JasperPrint jasperPrint = JasperFillManager.fillReport(
-                    jasperReport, reportParams, conn
+                    jasperReport, reportParams, c
                 );
                 
                 // Export to PDF
@@ -320,6 +289,48 @@ public class AdminService {
         }
     }
     
+    /**
+     * Writes the audit log for a date range to a CSV file, streaming rows so the export
+     * runs in constant memory however large the log is.
+     * @return Try<Long> - number of entries written
+     */
+    public Try<Long> exportAuditLog(LocalDateTime from, LocalDateTime to, Path outputPath) {
+        return auditLogDAO.stream(from, to)
+            .flatMap(entries -> Try.withResources(() -> entries, () -> Files.newBufferedWriter(outputPath))
+                .of((rows, out) -> {
+                    out.write("LogID,Timestamp,UserID,Username,Action,EntityType,EntityID,Success,ErrorMessage");
+                    out.newLine();
+                    long count = 0;
+                    for (AuditLog entry : (Iterable<AuditLog>) rows::iterator) {
+                        out.write(String.join(",",
+                            String.valueOf(entry.logId()),
+                            entry.timestamp().toString(),
+                            entry.userId().map(String::valueOf).getOrElse(""),
+                            csv(entry.username().getOrElse("")),
+                            csv(entry.action()),
+                            csv(entry.entityType()),
+                            csv(entry.entityId().getOrElse("")),
+                            String.valueOf(entry.success()),
+                            csv(entry.errorMessage().getOrElse(""))));
+                        out.newLine();
+                        count++;
+                    }
+                    return count;
+                }))
+            .onSuccess(count -> logger.info("Exported {} audit entries to {}", count, outputPath))
+            .onFailure(error -> logger.error("Failed to export audit log", error));
+    }
+    
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+    
     /**
      * Sends system-wide notification
      */
@@ -376,21 +387,6 @@ public class AdminService {
     
     // Supporting records and enums (ONLY DEFINE ONCE!)
     
-    public record SystemStatistics(
-        int totalUsers,
-        int donors,
-        int volunteers,
-        int orphanageStaff,
-        int totalOrphanages,
-        int pendingVerifications,
-        double totalDonations,
-        int monthlyDonations,
-        int openRequests,
-        int urgentRequests,
-        int activeOpportunities,
-        int pendingApplications
-    ) {}
-    
     public enum ReportType {
         DONATIONS("donations_report"),
         ORPHANAGES("orphanages_report"),
@@ -3,6 +3,7 @@ package com.orphanagehub.service;
 import com.orphanagehub.dao.AuditLogDAO;
 import com.orphanagehub.model.AuditLog;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Try;
 
 public class AuditService {
@@ -15,4 +16,15 @@ public class AuditService {
     public Try<List<AuditLog>> getRecentAuditLogs(int limit) {
         return auditLogDAO.getRecentLogs(limit);
     }
+
+    /**
+     * IDs of every audit entry, newest first.
+     */
+    public Try<int[]> getAuditLogIds() {
+        return auditLogDAO.findIds();
+    }
+
+    public Try<Map<Integer, AuditLog>> getAuditLogsByIds(Iterable<Integer> logIds) {
+        return auditLogDAO.findByIds(logIds);
+    }
 }
\ No newline at end of file
@@ -3,15 +3,21 @@ package com.orphanagehub.service;
 import com.orphanagehub.dao.*;
 import com.orphanagehub.model.*;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.Point;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Enhanced donor service with complete donation management.
@@ -23,6 +29,25 @@ import java.time.LocalDateTime;
 public class DonorService {
     private static final Logger logger = LoggerFactory.getLogger(DonorService.class);
     
+    /** Open requests listed per orphanage in a needs summary. */
+    public static final int KEY_NEEDS = 3;
+    /** Longest wait for {@link #getOrphanageDetailsAsync}, from {@code service.details.timeoutMs}. */
+    private static final long DETAILS_TIMEOUT_MS = Long.getLong("service.details.timeoutMs", 5_000);
+    
+    /**
+     * Threads for the queries of {@link #getOrphanageDetailsAsync}, as many as the read pool
+     * has connections; more would only wait there. Created on first use.
+     */
+    private static final class DetailQueries {
+        private static final AtomicInteger threadCount = new AtomicInteger();
+        static final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(2, DatabaseManager.getReadPoolSize()), runnable -> {
+                Thread thread = new Thread(runnable, "OrphanageHub-Details-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+    
     private final DonationDAO donationDAO = new DonationDAO();
     private final DonationItemDAO itemDAO = new DonationItemDAO();
     private final OrphanageDAO orphanageDAO = new OrphanageDAO();
@@ -31,8 +56,6 @@ public class DonorService {
     private final AuditLogDAO auditLogDAO = new AuditLogDAO();
     private final UserDAO userDAO = new UserDAO();
     
-    private final GeometryFactory geometryFactory = new GeometryFactory();
-    
     /**
      * Makes a monetary donation
      */
@@ -88,6 +111,13 @@ public class DonorService {
             Option.none()
         );
         
+        // One transaction for the donation row, its request, notification and audit entry
+        Donation pending = donation;
+        return TransactionContext.inTransaction(() -> completeMonetaryDonation(pending, request, donorId));
+    }
+    
+    private Try<Donation> completeMonetaryDonation(Donation donation, MonetaryDonationRequest request,
+                                                   Integer donorId) {
         return donationDAO.create(donation)
             .flatMap(created -> {
                 // Process payment
@@ -203,46 +233,45 @@ public class DonorService {
     }
     
     /**
-     * Searches orphanages with filters
+     * Searches verified orphanages with filters. Every filter and the order are applied by the
+     * database; with a location and radius the results come nearest first unless sorted.
      */
     public Try<List<Orphanage>> searchOrphanages(SearchCriteria criteria) {
-        Try<List<Orphanage>> baseResults = orphanageDAO.findAllVerified();
-        
-        return baseResults.map(orphanages -> {
-            List<Orphanage> filtered = orphanages;
-            
-            // Filter by province
-            if (criteria.province() != null) {
-                filtered = filtered.filter(o -> o.province().equals(criteria.province()));
-            }
-            
-            // Filter by city
-            if (criteria.city() != null) {
-                filtered = filtered.filter(o -> o.city().equals(criteria.city()));
-            }
-            
-            // Filter by location radius
-            if (criteria.location() != null && criteria.radiusKm() != null) {
-                filtered = filterByLocation(filtered, criteria.location(), criteria.radiusKm());
-            }
-            
-            // Filter by accepts donations
-            if (criteria.acceptsDonations() != null) {
-                filtered = filtered.filter(o -> o.acceptsDonations() == criteria.acceptsDonations());
-            }
-            
-            // Filter by capacity
-            if (criteria.hasCapacity() != null && criteria.hasCapacity()) {
-                filtered = filtered.filter(Orphanage::hasCapacity);
-            }
-            
-            // Sort by criteria
-            if (criteria.sortBy() != null) {
-                filtered = sortOrphanages(filtered, criteria.sortBy());
-            }
-            
-            return filtered;
-        });
+        return orphanageDAO.find(toQuery(criteria));
+    }
+    
+    private static OrphanageDAO.Query toQuery(SearchCriteria criteria) {
+        OrphanageDAO.Query query = OrphanageDAO.Query.verified();
+        if (criteria.province() != null) {
+            query = query.inProvince(criteria.province());
+        }
+        if (criteria.city() != null) {
+            query = query.inCity(criteria.city());
+        }
+        if (criteria.acceptsDonations() != null) {
+            query = query.acceptingDonations(criteria.acceptsDonations());
+        }
+        if (Boolean.TRUE.equals(criteria.hasCapacity())) {
+            query = query.withCapacity();
+        }
+        if (criteria.location() != null && criteria.radiusKm() != null) {
+            query = query.within(criteria.location().latitude(), criteria.location().longitude(), criteria.radiusKm());
+        }
+        return query.sortedBy(criteria.sortBy());
+    }
+    
+    /**
+     * Verified orphanages within {@code radiusKm} of the donor, nearest first.
+     */
+    public Try<List<OrphanageDAO.NearbyOrphanage>> findOrphanagesNear(LocationPoint location, double radiusKm) {
+        return orphanageDAO.findWithinRadius(location.latitude(), location.longitude(), radiusKm);
+    }
+    
+    /**
+     * The {@code count} verified orphanages nearest the donor, nearest first.
+     */
+    public Try<List<OrphanageDAO.NearbyOrphanage>> findNearestOrphanages(LocationPoint location, int count) {
+        return orphanageDAO.findNearest(location.latitude(), location.longitude(), count);
     }
     
     /**
@@ -253,22 +282,10 @@ public class DonorService {
             .flatMap(orphOpt -> orphOpt.toTry(() -> 
                 new ServiceException("Orphanage not found")))
             .flatMap(orphanage -> {
-                // Get current requests
-                Try<List<ResourceRequest>> requests = requestDAO.findByOrphanageId(orphanageId)
-                    .map(reqs -> reqs.filter(r -> r.isOpen()));
-                
-                // Get recent donations
-                Try<List<Donation>> donations = donationDAO.findByOrphanage(orphanageId)
-                    .map(dons -> dons.take(10)); // Last 10 donations
-                
-                // Get volunteer opportunities
-                Try<List<VolunteerOpportunity>> opportunities = 
-                    new VolunteerOpportunityDAO().findByOrphanageId(orphanageId)
-                        .map(ops -> ops.filter(o -> o.isOpen()));
-                
-                // Get statistics
-                Try<DonationDAO.DonationStatistics> stats = 
-                    donationDAO.getStatistics(orphanageId);
+                Try<List<ResourceRequest>> requests = openRequests(orphanageId);
+                Try<List<Donation>> donations = recentDonations(orphanageId);
+                Try<List<VolunteerOpportunity>> opportunities = openOpportunities(orphanageId);
+                Try<DonationDAO.DonationStatistics> stats = donationDAO.getStatistics(orphanageId);
                 
                 return requests.flatMap(reqs ->
                     donations.flatMap(dons ->
@@ -288,6 +305,89 @@ public class DonorService {
             });
     }
     
+    /**
+     * Like {@link #getOrphanageDetails}, with the orphanage, its requests, donations,
+     * opportunities and statistics read side by side instead of one after another. Fails with
+     * the first query that fails, without waiting for the others, or with a
+     * {@link java.util.concurrent.TimeoutException} after {@code service.details.timeoutMs}
+     * (default 5000); queries that have not started by then are skipped.
+     */
+    public CompletableFuture<OrphanageDetailsWithNeeds> getOrphanageDetailsAsync(Integer orphanageId) {
+        return getOrphanageDetailsAsync(orphanageId, DETAILS_TIMEOUT_MS);
+    }
+    
+    /**
+     * {@link #getOrphanageDetailsAsync(Integer)} with its own timeout.
+     */
+    public CompletableFuture<OrphanageDetailsWithNeeds> getOrphanageDetailsAsync(Integer orphanageId,
+                                                                                 long timeoutMillis) {
+        CompletableFuture<OrphanageDetailsWithNeeds> details = new CompletableFuture<>();
+        CompletableFuture<Orphanage> orphanage = inParallel(details, () -> orphanageDAO.findById(orphanageId)
+            .flatMap(orphOpt -> orphOpt.toTry(() -> new ServiceException("Orphanage not found"))));
+        CompletableFuture<List<ResourceRequest>> requests = inParallel(details, () -> openRequests(orphanageId));
+        CompletableFuture<List<Donation>> donations = inParallel(details, () -> recentDonations(orphanageId));
+        CompletableFuture<List<VolunteerOpportunity>> opportunities =
+            inParallel(details, () -> openOpportunities(orphanageId));
+        CompletableFuture<DonationDAO.DonationStatistics> stats =
+            inParallel(details, () -> donationDAO.getStatistics(orphanageId));
+        
+        CompletableFuture.allOf(orphanage, requests, donations, opportunities, stats)
+            .thenRun(() -> details.complete(new OrphanageDetailsWithNeeds(
+                orphanage.join(), requests.join(), donations.join(), opportunities.join(), stats.join())));
+        return details.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Runs one query of {@code whole} on the details threads and fails {@code whole} as soon
+     * as the query fails. Skips the query if {@code whole} has already failed or timed out.
+     */
+    private static <T> CompletableFuture<T> inParallel(CompletableFuture<?> whole, Supplier<Try<T>> query) {
+        CompletableFuture<T> part = CompletableFuture.supplyAsync(() -> {
+            if (whole.isDone()) {
+                throw new CancellationException("Orphanage details already failed");
+            }
+            return query.get().get();
+        }, DetailQueries.executor);
+        part.whenComplete((value, error) -> {
+            if (error != null) {
+                whole.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+            }
+        });
+        return part;
+    }
+    
+    private Try<List<ResourceRequest>> openRequests(Integer orphanageId) {
+        return requestDAO.findByOrphanageId(orphanageId)
+            .map(reqs -> reqs.filter(r -> r.isOpen()));
+    }
+    
+    private Try<List<Donation>> recentDonations(Integer orphanageId) {
+        return donationDAO.findByOrphanage(orphanageId)
+            .map(dons -> dons.take(10)); // Last 10 donations
+    }
+    
+    private Try<List<VolunteerOpportunity>> openOpportunities(Integer orphanageId) {
+        return new VolunteerOpportunityDAO().findByOrphanageId(orphanageId)
+            .map(ops -> ops.filter(o -> o.isOpen()));
+    }
+    
+    /**
+     * Needs summaries for the listed orphanages, keyed by orphanage ID: the newest
+     * {@value #KEY_NEEDS} open requests and the highest urgency of each. Orphanages without
+     * open requests are left out.
+     */
+    public Try<Map<Integer, ResourceRequestDAO.NeedsSummary>> getNeedsSummaries(Iterable<Integer> orphanageIds) {
+        return requestDAO.findNeedsSummaries(orphanageIds, KEY_NEEDS);
+    }
+    
+    /**
+     * Needs summaries for every verified orphanage, in one query.
+     */
+    public Try<Map<Integer, ResourceRequestDAO.NeedsSummary>> getVerifiedNeedsSummaries() {
+        return requestDAO.findVerifiedNeedsSummaries(KEY_NEEDS);
+    }
+    
     /**
      * Gets donation history for donor
      */
@@ -299,36 +399,7 @@ public class DonorService {
      * Gets donation statistics for donor
      */
     public Try<DonorStatistics> getDonorStatistics(Integer donorId) {
-        return donationDAO.findByDonor(donorId)
-            .map(donations -> {
-                int totalDonations = donations.size();
-                double totalAmount = donations
-                    .filter(d -> d.donationType().equals(Donation.TYPE_MONEY))
-                    .map(d -> d.amount().getOrElse(0.0))
-                    .sum().doubleValue();
-                
-                int itemDonations = donations
-                    .filter(d -> !d.donationType().equals(Donation.TYPE_MONEY))
-                    .size();
-                
-                int recurringDonations = donations
-                    .filter(Donation::recurringDonation)
-                    .size();
-                
-                List<String> supportedOrphanages = donations
-                    .map(Donation::orphanageId)
-                    .distinct()
-                    .map(Object::toString);
-                
-                return new DonorStatistics(
-                    totalDonations,
-                    totalAmount,
-                    itemDonations,
-                    recurringDonations,
-                    supportedOrphanages.size(),
-                    supportedOrphanages
-                );
-            });
+        return donationDAO.getDonorStatistics(donorId);
     }
 
     public Try<List<Donation>> getDonationsForOrphanage(String orphanageId) {
@@ -401,38 +472,37 @@ public class DonorService {
     }
     
     private void notifyOrphanageAboutDonation(Donation donation) {
+        // The orphanage row already carries its representative's user ID
         orphanageDAO.findById(donation.orphanageId()).forEach(orphOpt -> {
             orphOpt.forEach(orphanage -> {
-                userDAO.findById(orphanage.userId()).forEach(userOpt -> {
-                    userOpt.forEach(user -> {
-                        String message = donation.anonymousDonation() 
-                            ? "You received an anonymous donation"
-                            : "You received a donation";
-                        
-                        if (donation.donationType().equals(Donation.TYPE_MONEY)) {
-                            message += String.format(": R%.2f", donation.amount().getOrElse(0.0));
-                        } else {
-                            message += ": " + donation.itemDescription().getOrElse("Items");
-                        }
-                        
-                        Notification notification = new Notification(
-                            null,
-                            user.userId(),
-                            Notification.TYPE_DONATION,
-                            "New Donation Received",
-                            message,
-                            Notification.PRIORITY_HIGH,
-                            Notification.STATUS_UNREAD,
-                            LocalDateTime.now(),
-                            Option.none(),
-                            Option.none(),
-                            Option.of("/donations/" + donation.donationId()),
-                            Option.of("Donation"),
-                            Option.of(donation.donationId())
-                        );
-                        
-                        notificationDAO.create(notification);
-                    });
+                Option.of(orphanage.userId()).forEach(repUserId -> {
+                    String message = donation.anonymousDonation() 
+                        ? "You received an anonymous donation"
+                        : "You received a donation";
+                    
+                    if (donation.donationType().equals(Donation.TYPE_MONEY)) {
+                        message += String.format(": R%.2f", donation.amount().getOrElse(0.0));
+                    } else {
+                        message += ": " + donation.itemDescription().getOrElse("Items");
+                    }
+                    
+                    Notification notification = new Notification(
+                        null,
+                        repUserId,
+                        Notification.TYPE_DONATION,
+                        "New Donation Received",
+                        message,
+                        Notification.PRIORITY_HIGH,
+                        Notification.STATUS_UNREAD,
+                        LocalDateTime.now(),
+                        Option.none(),
+                        Option.none(),
+                        Option.of("/donations/" + donation.donationId()),
+                        Option.of("Donation"),
+                        Option.of(donation.donationId())
+                    );
+                    
+                    notificationDAO.create(notification);
                 });
             });
         });
@@ -469,57 +539,6 @@ public class DonorService {
         };
     }
     
-    private List<Orphanage> filterByLocation(List<Orphanage> orphanages, LocationPoint location, double radiusKm) {
-        Point searchPoint = geometryFactory.createPoint(
-            new Coordinate(location.longitude(), location.latitude())
-        );
-        
-        return orphanages.filter(orphanage -> {
-            if (orphanage.latitude().isEmpty() || orphanage.longitude().isEmpty()) {
-                return true; // Include if no coordinates
-            }
-            
-            Point orphPoint = geometryFactory.createPoint(
-                new Coordinate(
-                    orphanage.longitude().get(),
-                    orphanage.latitude().get()
-                )
-            );
-            
-            double distance = calculateDistance(searchPoint, orphPoint);
-            return distance <= radiusKm;
-        });
-    }
-    
-    private double calculateDistance(Point p1, Point p2) {
-        // Haversine formula for distance in km
-        double lat1 = p1.getY();
-        double lon1 = p1.getX();
-        double lat2 = p2.getY();
-        double lon2 = p2.getX();
-        
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-            Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-            Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return 6371 * c; // Earth radius in km
-    }
-    
-  private List<Orphanage> sortOrphanages(List<Orphanage> orphanages, String sortBy) {
-    return switch (sortBy.toLowerCase()) {
-        case "name" -> orphanages.sortBy(o -> o.getOrphanageName());
-        case "city" -> orphanages.sortBy(Orphanage::city);
-        case "province" -> orphanages.sortBy(Orphanage::province);
-        case "newest" -> orphanages.sortBy(Orphanage::dateRegistered).reverse();
-        case "verified" -> orphanages.sortBy(o -> o.isVerified() ? 0 : 1);
-        default -> orphanages;
-    };
-}
     // Request/Response records
     
     public record MonetaryDonationRequest(
@@ -588,26 +607,42 @@ public class DonorService {
         List<VolunteerOpportunity> volunteerOpportunities,
         DonationDAO.DonationStatistics statistics
     ) {}
-    
-    public record DonorStatistics(
-        int totalDonations,
-        double totalAmount,
-        int itemDonations,
-        int recurringDonations,
-        int supportedOrphanages,
-        List<String> orphanageIds
-    ) {}
 
     public record DonationWithDonor(Donation donation, String donorName) {}
 
+    /**
+     * An orphanage's donations with donor names, reading only the columns a table lists.
+     */
+    public Try<List<DonationDAO.DonationRow>> getDonationRowsForOrphanage(String orphanageId) {
+        return Try.of(() -> Integer.valueOf(orphanageId))
+            .flatMap(donationDAO::findRowsByOrphanage);
+    }
+
+    /**
+     * IDs of an orphanage's donations in {@link #getDonationRowsForOrphanage(String)} order.
+     */
+    public Try<int[]> getDonationRowIdsForOrphanage(String orphanageId) {
+        return Try.of(() -> Integer.valueOf(orphanageId))
+            .flatMap(donationDAO::findRowIdsByOrphanage);
+    }
+
+    public Try<Map<Integer, DonationDAO.DonationRow>> getDonationRowsByIds(Iterable<Integer> donationIds) {
+        return donationDAO.findRowsByIds(donationIds);
+    }
+
+    /**
+     * Donations to an orphanage that are not yet completed.
+     */
+    public Try<Integer> countPendingDonations(String orphanageId) {
+        return Try.of(() -> Integer.valueOf(orphanageId))
+            .flatMap(donationDAO::countIncompleteByOrphanage);
+    }
+
     public Try<List<DonationWithDonor>> getDonationsWithDonorForOrphanage(String orphanageId) {
         return Try.of(() -> Integer.valueOf(orphanageId))
             .flatMap(id -> donationDAO.findByOrphanage(id))
-            .map(donations -> donations.map(donation -> {
-                String donorName = userDAO.findById(donation.donorId())
-                    .map(optUser -> optUser.map(User::username).getOrElse("Anonymous"))
-                    .getOrElse("Anonymous");
-                return new DonationWithDonor(donation, donorName);
-            }));
+            .flatMap(donations -> userDAO.findByIds(donations.map(Donation::donorId))
+                .map(donors -> donations.map(donation -> new DonationWithDonor(donation,
+                    donors.get(donation.donorId()).map(User::username).getOrElse("Anonymous")))));
     }
 }
\ No newline at end of file
@@ -158,27 +158,14 @@ public Try<List<ResourceRequest>> getResourceRequests(String orphanageId) {
      * @return Try<List<Orphanage>> - filtered list of orphanages
      */
     public Try<List<Orphanage>> searchOrphanages(Option<String> city, Option<String> province) {
-        return orphanageDAO.findAll()
-            .map(orphanages -> {
-                List<Orphanage> filtered = orphanages;
-                
-                // Filter by city if provided
-                if (city.isDefined()) {
-                    filtered = filtered.filter(o -> 
-                        o.city().equalsIgnoreCase(city.get()));
-                }
-                
-                // Filter by province if provided
-                if (province.isDefined()) {
-                    filtered = filtered.filter(o -> 
-                        o.province().equalsIgnoreCase(province.get()));
-                }
-                
-                // Only return verified and active orphanages
-                filtered = filtered.filter(o -> 
-                    o.isVerified() && o.isActive());
-                
-                return filtered;
-            });
+        // Only verified and active orphanages, filtered by the database
+        OrphanageDAO.Query query = OrphanageDAO.Query.verified().active().sortedBy("name");
+        if (city.isDefined()) {
+            query = query.inCity(city.get());
+        }
+        if (province.isDefined()) {
+            query = query.inProvince(province.get());
+        }
+        return orphanageDAO.find(query);
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.orphanagehub.service;
+
+import com.orphanagehub.dao.OrphanageDAO;
+import com.orphanagehub.dao.Page;
+import com.orphanagehub.dao.ResourceRequestDAO;
+import com.orphanagehub.dao.SearchIndex;
+import com.orphanagehub.dao.VolunteerOpportunityDAO;
+import com.orphanagehub.model.Orphanage;
+import com.orphanagehub.model.ResourceRequest;
+import com.orphanagehub.model.VolunteerOpportunity;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+/**
+ * Full-text search for donors and volunteers.
+ * <p>
+ * Every word typed must match the start of a word in the text, so partial words find
+ * results as the user types. Results come best match first, one page at a time; pass
+ * {@link Page#nextCursor()} back to get the next page. Backed by {@link SearchIndex}.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public class SearchService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final OrphanageDAO orphanageDAO = new OrphanageDAO();
+    private final ResourceRequestDAO requestDAO = new ResourceRequestDAO();
+    private final VolunteerOpportunityDAO opportunityDAO = new VolunteerOpportunityDAO();
+
+    /**
+     * Verified orphanages by name, city and description.
+     * @param needType - only orphanages with an open request of this resource type
+     */
+    public Try<Page<Orphanage>> searchOrphanages(String text, Option<String> province, Option<String> needType,
+                                                 Option<String> cursor, int pageSize) {
+        return orphanageDAO.search(text, province, needType, cursor, pageSize);
+    }
+
+    public Try<Page<Orphanage>> searchOrphanages(String text, Option<String> cursor) {
+        return searchOrphanages(text, Option.none(), Option.none(), cursor, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Open resource requests by description and type.
+     */
+    public Try<Page<ResourceRequest>> searchRequests(String text, Option<String> cursor, int pageSize) {
+        return requestDAO.search(text, cursor, pageSize);
+    }
+
+    /**
+     * Open volunteer opportunities by title, description and required skills.
+     */
+    public Try<Page<VolunteerOpportunity>> searchOpportunities(String text, Option<String> cursor, int pageSize) {
+        return opportunityDAO.search(text, Option.none(), Option.none(), Option.none(), cursor, pageSize);
+    }
+
+    /**
+     * Refills the indexes from the base tables.
+     */
+    public Try<Void> rebuildIndex() {
+        return SearchIndex.rebuild();
+    }
+}
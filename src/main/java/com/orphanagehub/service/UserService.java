@@ -5,6 +5,7 @@ import com.orphanagehub.model.User;
 import io.vavr.control.Try;
 import io.vavr.control.Option;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 
 public class UserService {
     private final UserDAO userDAO = new UserDAO();
@@ -17,6 +18,24 @@ public class UserService {
     return userDAO.findAll();
 }
 
+/**
+ * Every user as the admin user table lists them, reading only the listed columns.
+ */
+public Try<List<UserDAO.UserRow>> getUserRows() {
+    return userDAO.findRows();
+}
+
+/**
+ * IDs of every user in {@link #getUserRows()} order.
+ */
+public Try<int[]> getUserRowIds() {
+    return userDAO.findRowIds();
+}
+
+public Try<Map<Integer, UserDAO.UserRow>> getUserRowsByIds(Iterable<Integer> userIds) {
+    return userDAO.findRowsByIds(userIds);
+}
+
 public Try<List<User>> findAllActive() {
     return userDAO.findAllActive();
 }
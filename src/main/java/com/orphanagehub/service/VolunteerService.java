@@ -2,13 +2,14 @@ package com.orphanagehub.service;
 
 import com.orphanagehub.dao.*;
 import com.orphanagehub.model.*;
+import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
+import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.SQLException;
 import java.time.LocalDateTime;
 
 /**
@@ -21,6 +22,9 @@ import java.time.LocalDateTime;
 public class VolunteerService {
     private static final Logger logger = LoggerFactory.getLogger(VolunteerService.class);
     
+    /** The dashboard shows one page; narrowing the filters finds the rest. */
+    private static final int OPPORTUNITY_LIST_LIMIT = 500;
+    
     private final VolunteerOpportunityDAO opportunityDAO = new VolunteerOpportunityDAO();
     private final VolunteerApplicationDAO applicationDAO = new VolunteerApplicationDAO();
     private final UserDAO userDAO = new UserDAO();
@@ -80,89 +84,31 @@ public class VolunteerService {
             });
     }
     
+    /**
+     * Open opportunities for the dashboard list. The skills filter is a full-text match, so
+     * partial words work and the best matches come first; without it the list is in the
+     * order opportunities were posted.
+     * @param locationFilter - city or province of the orphanage
+     */
     public Try<List<VolunteerOpportunity>> getOpportunities(
             Option<String> locationFilter, 
             Option<String> skillsFilter, 
             Option<String> timeFilter) {
         
-        return Try.of(() -> {
-            // Build SQL query dynamically
-            StringBuilder sql = new StringBuilder(
-                "SELECT vo.OpportunityID, vo.OrphanageID, vo.Title, vo.Description, " +
-                "vo.Category, vo.RequiredSkills, vo.TimeCommitment, vo.Location, " +
-                "vo.Capacity, vo.CurrentVolunteers, vo.Status, vo.PostedDate, vo.PostedBy, " +
-                "o.OrphanageName " +
-                "FROM TblVolunteerOpportunities vo " +
-                "JOIN TblOrphanages o ON vo.OrphanageID = o.OrphanageID " +
-                "WHERE vo.Status = 'Open'"
-            );
-            
-            // Build parameters list
-            List<Object> params = List.empty();
-            
-            // Add location filter if present
-            if (locationFilter.isDefined()) {
-                sql.append(" AND vo.Location LIKE ?");
-                params = params.append("%" + locationFilter.get() + "%");
-            }
-            
-            // Add skills filter if present
-            if (skillsFilter.isDefined()) {
-                sql.append(" AND vo.RequiredSkills LIKE ?");
-                params = params.append("%" + skillsFilter.get() + "%");
-            }
-            
-            // Add time commitment filter if present
-            if (timeFilter.isDefined()) {
-                sql.append(" AND vo.TimeCommitment = ?");
-                params = params.append(timeFilter.get());
-            }
-            
-            sql.append(" ORDER BY vo.PostedDate DESC");
-            
-            // Execute query using DAO
-            return opportunityDAO.executeQuery(sql.toString(), params, rs -> {
-                try {
-                    // Map ResultSet to VolunteerOpportunity
-                    // Using simplified mapping for basic table structure
-                    return new VolunteerOpportunity(
-                        rs.getInt("OpportunityID"),
-                        rs.getInt("OrphanageID"),
-                        rs.getString("Title"),
-                        rs.getString("Description"),
-                        rs.getString("Category"),
-                        Option.of(rs.getString("RequiredSkills")),
-                        Option.none(), // SkillLevel - not in basic table
-                        Option.of(rs.getString("TimeCommitment")),
-                        Option.none(), // HoursPerWeek - optional
-                        Option.none(), // Duration - optional
-                        Option.none(), // StartDate - optional
-                        Option.none(), // EndDate - optional
-                        Option.none(), // RecurringSchedule - optional
-                        Option.none(), // MinAge - optional
-                        Option.none(), // MaxAge - optional
-                        Option.of(rs.getInt("Capacity")),
-                        rs.getInt("CurrentVolunteers"),
-                        false, // BackgroundCheckRequired - default
-                        false, // TrainingProvided - default
-                        Option.none(), // TrainingDetails
-                        false, // TransportProvided - default
-                        false, // MealsProvided - default
-                        rs.getString("Status"),
-                        "Normal", // UrgencyLevel - default
-                        rs.getTimestamp("PostedDate").toLocalDateTime(),
-                        rs.getInt("PostedBy"),
-                        Option.none(), // ModifiedDate
-                        Option.none(), // ModifiedBy
-                        Option.none(), // PublishedDate
-                        Option.none(), // ClosedDate
-                        Option.of(rs.getString("Location"))
-                    );
-                } catch (SQLException e) {
-                    throw new RuntimeException("Failed to map VolunteerOpportunity from ResultSet", e);
-                }
-            });
-        }).flatMap(result -> result); // Flatten Try<Try<List>> to Try<List>
+        return opportunityDAO.search(null, skillsFilter, locationFilter, timeFilter, Option.none(), OPPORTUNITY_LIST_LIMIT)
+            .map(Page::items);
+    }
+    
+    /**
+     * Like {@link #getOpportunities}, reading only the columns the opportunities table lists.
+     */
+    public Try<List<VolunteerOpportunityDAO.OpportunityRow>> getOpportunityRows(
+            Option<String> locationFilter,
+            Option<String> skillsFilter,
+            Option<String> timeFilter) {
+        
+        return opportunityDAO.searchRows(null, skillsFilter, locationFilter, timeFilter, Option.none(), OPPORTUNITY_LIST_LIMIT)
+            .map(Page::items);
     }
     
     /**
@@ -172,6 +118,14 @@ public class VolunteerService {
             Integer opportunityId, Integer volunteerId,
             ApplicationDetails details) {
         
+        // One transaction, so the duplicate check still holds when the application is inserted
+        return TransactionContext.inTransaction(() -> submitApplication(opportunityId, volunteerId, details));
+    }
+    
+    private Try<VolunteerApplication> submitApplication(
+            Integer opportunityId, Integer volunteerId,
+            ApplicationDetails details) {
+        
         // Check if already applied
         return applicationDAO.hasApplied(volunteerId, opportunityId)
             .flatMap(hasApplied -> {
@@ -272,31 +226,7 @@ public class VolunteerService {
      * Gets volunteer statistics
      */
     public Try<VolunteerStatistics> getVolunteerStatistics(Integer volunteerId) {
-        return applicationDAO.findByVolunteerId(volunteerId)
-            .map(applications -> {
-                int totalApplications = applications.size();
-                int acceptedApplications = applications.filter(VolunteerApplication::isAccepted).size();
-                int pendingApplications = applications.filter(VolunteerApplication::isPending).size();
-                
-                int totalHours = applications
-                    .flatMap(app -> app.hoursCompleted())
-                    .sum().intValue();
-                
-                List<String> categories = applications
-                    .flatMap(app -> opportunityDAO.findById(app.opportunityId())
-                        .getOrElse(Option.none())
-                        .map(VolunteerOpportunity::category))
-                    .distinct();
-                
-                return new VolunteerStatistics(
-                    totalApplications,
-                    acceptedApplications,
-                    pendingApplications,
-                    totalHours,
-                    categories.size(),
-                    categories
-                );
-            });
+        return applicationDAO.getVolunteerStatistics(volunteerId);
     }
 
     public Try<Option<VolunteerOpportunity>> getOpportunityById(Integer opportunityId) {
@@ -327,10 +257,13 @@ public class VolunteerService {
             List<VolunteerOpportunity> opportunities, 
             String city, String province) {
         
+        // One batched lookup for every orphanage on the list
+        Map<Integer, Orphanage> orphanages = orphanageDAO
+            .findByIds(opportunities.map(VolunteerOpportunity::orphanageId))
+            .getOrElse(HashMap.empty());
+        
         return opportunities.filter(opp -> {
-            // Get orphanage location
-            Option<Orphanage> orphanage = orphanageDAO.findById(opp.orphanageId())
-                .getOrElse(Option.none());
+            Option<Orphanage> orphanage = orphanages.get(opp.orphanageId());
             
             return orphanage.map(orph -> {
                 boolean cityMatch = city == null || orph.city().equals(city);
@@ -403,13 +336,4 @@ public class VolunteerService {
         String experience,
         String availability
     ) {}
-    
-    public record VolunteerStatistics(
-        int totalApplications,
-        int acceptedApplications,
-        int pendingApplications,
-        int totalHours,
-        int uniqueCategories,
-        List<String> categories
-    ) {}
 }
\ No newline at end of file
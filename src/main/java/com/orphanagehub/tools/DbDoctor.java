@@ -1,6 +1,8 @@
 package com.orphanagehub.tools;
 
 import com.orphanagehub.dao.DatabaseManager;
+import com.orphanagehub.dao.QueryMetrics;
+import com.orphanagehub.dao.StatementCache;
 import io.vavr.control.Try;
 
 import java.sql.*;
@@ -43,6 +45,7 @@ public class DbDoctor {
         checkDataIntegrity();
         checkOrphanedRecords();
         checkPerformanceMetrics();
+        checkQueryMetrics();
         
         if (repair && !issues.isEmpty()) {
             System.out.println("\n" + ANSI_YELLOW + "[!] Attempting repairs..." + ANSI_RESET);
@@ -275,23 +278,45 @@ public class DbDoctor {
         String[] requiredIndexes = {
             "idx_users_username",
             "idx_users_email",
-            "idx_orphanages_status",
-            "idx_requests_orphanage",
-            "idx_donations_donor"
+            // Managed by DbMigrator; run 'migrate' if these are missing
+            "idx_donations_donor_date",
+            "idx_donations_orphanage_date",
+            "idx_requests_orphanage_date",
+            "idx_orphanages_user",
+            "idx_notifications_user_created",
+            "idx_requests_status_urgency",
+            "idx_applications_volunteer_opportunity",
+            "idx_orphanages_verified_province_name",
+            "idx_orphanages_verified_city_name"
         };
         
+        // Migrated only once fix_database.sql has added their tables
+        Map<String, String> tableIndexes = Map.of(
+            "idx_audit_user_time", "TblAuditLog",
+            "idx_audit_action_time", "TblAuditLog",
+            "idx_donation_items_donation", "TblDonationItems"
+        );
+        
         DatabaseManager.getConnection().forEach(conn -> {
             try (Statement stmt = conn.createStatement()) {
                 ResultSet rs = stmt.executeQuery(
-                    "SELECT name FROM sqlite_master WHERE type='index' AND sql NOT NULL"
+                    "SELECT type, name FROM sqlite_master WHERE type IN ('table', 'index') AND sql NOT NULL"
                 );
                 
                 Set<String> existingIndexes = new HashSet<>();
+                Set<String> existingTables = new HashSet<>();
                 while (rs.next()) {
-                    existingIndexes.add(rs.getString("name"));
+                    ("table".equals(rs.getString("type")) ? existingTables : existingIndexes).add(rs.getString("name"));
                 }
                 
-                for (String indexName : requiredIndexes) {
+                List<String> expected = new ArrayList<>(Arrays.asList(requiredIndexes));
+                tableIndexes.entrySet().stream()
+                    .filter(entry -> existingTables.contains(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .forEach(expected::add);
+                
+                for (String indexName : expected) {
                     totalChecks++;
                     if (existingIndexes.contains(indexName)) {
                         System.out.println(ANSI_GREEN + "  ✓ " + indexName + ANSI_RESET);
@@ -499,6 +524,25 @@ public class DbDoctor {
         System.out.println();
     }
     
+    private static void checkQueryMetrics() {
+        System.out.println(ANSI_BLUE + "[9] QUERY METRICS" + ANSI_RESET);
+        System.out.println("════════════════════════════════════════════");
+        
+        if (!QueryMetrics.isEnabled()) {
+            System.out.println(ANSI_YELLOW + "  ⚠ Query metrics disabled (db.metrics.enabled=false)" + ANSI_RESET);
+            System.out.println();
+            return;
+        }
+        
+        // Covers the statements the checks above ran in this process
+        StatementCache.Stats cache = DatabaseManager.getStatementCacheStats();
+        System.out.println("  • Statement cache: " + cache.hits() + " hits, " + cache.misses() + " misses (" +
+            String.format("%.0f%%", cache.hitRate() * 100) + " hit rate)");
+        System.out.println("  • Statements by total time:");
+        QueryMetrics.report(10).lines().forEach(line -> System.out.println("    " + line));
+        System.out.println();
+    }
+    
     private static void attemptRepairs() {
         DatabaseManager.getConnection().forEach(conn -> {
             try (Statement stmt = conn.createStatement()) {
@@ -1,6 +1,9 @@
 package com.orphanagehub.tools;
 
 import com.orphanagehub.dao.DatabaseManager;
+import com.orphanagehub.dao.GeoIndex;
+import com.orphanagehub.dao.SearchIndex;
+import com.orphanagehub.dao.StatisticsDAO;
 import io.vavr.control.Try;
 
 import java.io.*;
@@ -9,6 +12,8 @@ import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +27,8 @@ public class DbMigrator {
     
     private static final String MIGRATIONS_DIR = "db/migrations";
     private static final String MIGRATION_TABLE = "schema_migrations";
+    /** A migration that needs tables the database may not have lists them on this line. */
+    private static final Pattern REQUIRES = Pattern.compile("^-- Requires:(.*)$", Pattern.MULTILINE);
     
     public static void main(String[] args) {
         if (args.length == 0) {
@@ -38,6 +45,9 @@ public class DbMigrator {
             case "create" -> createMigration(args.length > 1 ? args[1] : "unnamed");
             case "reset" -> resetDatabase();
             case "seed" -> seedDatabase();
+            case "rebuild-rollups" -> rebuildRollups();
+            case "rebuild-search" -> rebuildSearch();
+            case "rebuild-geo" -> rebuildGeo();
             default -> showUsage();
         }
     }
@@ -53,6 +63,9 @@ public class DbMigrator {
         System.out.println("  create <name>       Create new migration file");
         System.out.println("  reset               Reset database (drop and recreate)");
         System.out.println("  seed                Seed database with sample data");
+        System.out.println("  rebuild-rollups     Recompute dashboard counter tables from base tables");
+        System.out.println("  rebuild-search      Refill the full-text search indexes from base tables");
+        System.out.println("  rebuild-geo         Refill the orphanage location index");
     }
     
     private static void showStatus() {
@@ -99,6 +112,11 @@ public class DbMigrator {
                 }
                 
                 for (String migration : pending) {
+                    List<String> missing = missingTables(conn, migration);
+                    if (!missing.isEmpty()) {
+                        System.out.println("Waiting: " + migration + " (needs " + String.join(", ", missing) + ")");
+                        continue;
+                    }
                     System.out.println("Applying: " + migration);
                     applyMigration(conn, migration);
                     recordMigration(conn, migration);
@@ -173,6 +191,81 @@ public class DbMigrator {
         DataSeeder.seed(false); // Call the DataSeeder tool
     }
     
+    private static void rebuildRollups() {
+        System.out.println("Rebuilding Rollup Tables");
+        System.out.println("════════════════════════════════════════");
+        
+        long start = System.currentTimeMillis();
+        new StatisticsDAO().rebuildRollups()
+            .onSuccess(v -> System.out.println("✓ Rollups rebuilt in " + (System.currentTimeMillis() - start) + " ms"))
+            .onFailure(e -> System.err.println("Rebuild failed: " + e.getMessage()));
+        DatabaseManager.shutdown();
+    }
+    
+    private static void rebuildSearch() {
+        System.out.println("Rebuilding Search Indexes");
+        System.out.println("════════════════════════════════════════");
+        
+        long start = System.currentTimeMillis();
+        SearchIndex.rebuild()
+            .onSuccess(v -> System.out.println("✓ Search indexes rebuilt in " + (System.currentTimeMillis() - start) + " ms"))
+            .onFailure(e -> System.err.println("Rebuild failed: " + e.getMessage()));
+        DatabaseManager.shutdown();
+    }
+    
+    private static void rebuildGeo() {
+        System.out.println("Rebuilding Location Index");
+        System.out.println("════════════════════════════════════════");
+        
+        long start = System.currentTimeMillis();
+        GeoIndex.rebuild()
+            .onSuccess(v -> System.out.println("✓ Location index rebuilt in " + (System.currentTimeMillis() - start) + " ms"))
+            .onFailure(e -> System.err.println("Rebuild failed: " + e.getMessage()));
+        DatabaseManager.shutdown();
+    }
+    
+    /**
+     * Applies every pending migration on the given connection and records it. Migrations
+     * waiting for tables the database lacks stay pending.
+     *
+     * @return names of the migrations applied, in order
+     */
+    public static List<String> migrate(Connection conn) throws IOException, SQLException {
+        ensureMigrationTable(conn);
+        List<String> applied = new ArrayList<>();
+        for (String migration : getPendingMigrations(conn)) {
+            if (missingTables(conn, migration).isEmpty()) {
+                applyMigration(conn, migration);
+                recordMigration(conn, migration);
+                applied.add(migration);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Tables named on the migration's {@code -- Requires:} line that the database does not have.
+     */
+    private static List<String> missingTables(Connection conn, String migration) throws IOException, SQLException {
+        Matcher requires = REQUIRES.matcher(Files.readString(Paths.get(MIGRATIONS_DIR, migration)));
+        List<String> missing = new ArrayList<>();
+        if (!requires.find()) {
+            return missing;
+        }
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = ?")) {
+            for (String table : requires.group(1).split(",")) {
+                ps.setString(1, table.trim());
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        missing.add(table.trim());
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
     private static void ensureMigrationTable(Connection conn) throws SQLException {
         Statement stmt = conn.createStatement();
         stmt.execute("""
@@ -1,6 +1,8 @@
 package com.orphanagehub.tools;
 
 import com.orphanagehub.dao.DatabaseManager;
+import com.orphanagehub.dao.QueryMetrics;
+import com.orphanagehub.dao.StatementCache;
 import io.vavr.control.Try;
 
 import java.io.*;
@@ -143,6 +145,7 @@ public class DbShell {
             case ".indexes" -> showIndexes();
             case ".users" -> showUsers();
             case ".orphanages" -> showOrphanages();
+            case ".metrics" -> showQueryMetrics(parts.length > 1 ? parts[1] : null);
             default -> System.out.println("Unknown command: " + cmd + " (type .help for commands)");
         }
     }
@@ -164,6 +167,7 @@ public class DbShell {
         System.out.println("  .indexes               - Show all indexes");
         System.out.println("  .users                 - Quick view of users");
         System.out.println("  .orphanages            - Quick view of orphanages");
+        System.out.println("  .metrics [reset]       - Per-query latency for this session");
         System.out.println("  exit, quit, \\q         - Exit the shell\n");
     }
     
@@ -398,6 +402,23 @@ public class DbShell {
                   "FROM TblOrphanages LIMIT 20");
     }
     
+    private static void showQueryMetrics(String argument) {
+        if ("reset".equalsIgnoreCase(argument)) {
+            QueryMetrics.reset();
+            System.out.println("Query metrics reset");
+            return;
+        }
+        if (!QueryMetrics.isEnabled()) {
+            System.out.println("Query metrics are disabled (db.metrics.enabled=false)");
+            return;
+        }
+        System.out.println("\nQuery Metrics:");
+        System.out.print(QueryMetrics.report(20));
+        StatementCache.Stats cache = DatabaseManager.getStatementCacheStats();
+        System.out.println("Statement cache: " + cache.hits() + " hits, " + cache.misses() + " misses, " +
+            cache.evictions() + " evictions");
+    }
+    
     private static void exportResults(String filename) {
         if (filename == null) {
             System.out.println("Usage: .export <filename> followed by a SELECT query");
@@ -145,7 +145,7 @@ public class DbTest {
             List<Connection> connections = new ArrayList<>();
             try {
                 for (int i = 0; i < 5; i++) {
-                    Try<Connection> conn = DatabaseManager.getConnection();
+                    Try<Connection> conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ);
                     if (conn.isSuccess()) {
                         connections.add(conn.get());
                     } else {
@@ -174,11 +174,11 @@ public class DbTest {
         // Test 2: Connection reuse
         runTest("Connection Reuse", () -> {
             try {
-                Connection conn1 = DatabaseManager.getConnection().get();
+                Connection conn1 = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                 conn1.close();
                 
                 // Should be able to get another connection immediately
-                Connection conn2 = DatabaseManager.getConnection().get();
+                Connection conn2 = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                 boolean valid = conn2.isValid(1);
                 conn2.close();
                 
@@ -192,23 +192,24 @@ public class DbTest {
         runTest("Pool Recovery", () -> {
             try {
                 // Get max connections
+                int poolSize = DatabaseManager.getReadPoolSize();
                 List<Connection> connections = new ArrayList<>();
-                for (int i = 0; i < 10; i++) {
-                    connections.add(DatabaseManager.getConnection().get());
+                for (int i = 0; i < poolSize; i++) {
+                    connections.add(DatabaseManager.getConnection(DatabaseManager.Intent.READ).get());
                 }
                 
                 // Close half
-                for (int i = 0; i < 5; i++) {
+                for (int i = 0; i < poolSize / 2; i++) {
                     connections.get(i).close();
                 }
                 
                 // Should be able to get more
-                Connection newConn = DatabaseManager.getConnection().get();
+                Connection newConn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                 boolean valid = newConn.isValid(1);
                 
                 // Cleanup
                 newConn.close();
-                for (int i = 5; i < 10; i++) {
+                for (int i = poolSize / 2; i < poolSize; i++) {
                     connections.get(i).close();
                 }
                 
@@ -344,7 +345,7 @@ public class DbTest {
             for (int i = 0; i < 5; i++) {
                 executor.submit(() -> {
                     try {
-                        Connection conn = DatabaseManager.getConnection().get();
+                        Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
                         Statement stmt = conn.createStatement();
                         ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM TblUsers");
                         if (!rs.next()) {
@@ -409,7 +410,7 @@ public class DbTest {
         // Test 1: Connection stress
         runTest("Connection Stress (100 rapid connections)", () -> {
             for (int i = 0; i < 100; i++) {
-                Try<Connection> conn = DatabaseManager.getConnection();
+                Try<Connection> conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ);
                 if (conn.isFailure()) {
                     return false;
                 }
@@ -0,0 +1,169 @@
+package com.orphanagehub.util;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Loads dashboard data off the EDT and hands it back on the EDT with {@link EdtGuard}.
+ * <p>
+ * Each load is named by a task, usually the table or section it fills. Asking for a task
+ * again replaces the earlier request: one still queued is cancelled, so repeated refreshes
+ * run once, and one already running finishes but its result is dropped, so a slow old load
+ * never overwrites a newer one. A task counts as loading from the first request until its
+ * latest result is applied; {@link #onLoadingChanged} reports the tasks loading.
+ * <p>
+ * Loads run on a small shared pool of daemon threads. Every applied load is timed: time
+ * queued, time fetching and time applying on the EDT. Loads slower than {@code ui.loader.slowMs}
+ * (default 500) are logged at INFO, the rest at DEBUG.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class AsyncLoader {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncLoader.class);
+
+    private static final long SLOW_LOAD_MS = Long.getLong("ui.loader.slowMs", 500);
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "OrphanageHub-Loader-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * How long an applied load took, in milliseconds.
+     */
+    public record Timing(String task, long queuedMillis, long fetchMillis, long applyMillis) {
+        public long totalMillis() {
+            return queuedMillis + fetchMillis + applyMillis;
+        }
+    }
+
+    private static final class Request {
+        final long requestedAt = System.nanoTime();
+        volatile Future<?> future;
+    }
+
+    private final String owner;
+    /** The latest request of every task not yet applied. Guarded by {@code this}. */
+    private final Map<String, Request> latest = new LinkedHashMap<>();
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+    private volatile Consumer<Set<String>> loadingListener = tasks -> { };
+
+    /**
+     * @param owner - who loads, for the log
+     */
+    public AsyncLoader(String owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Runs {@code fetch} off the EDT, then {@code apply} with its value or {@code onFailure}
+     * with its error on the EDT, unless the task was asked for again meanwhile.
+     */
+    public <T> void load(String task, Supplier<Try<T>> fetch, Consumer<? super T> apply,
+                         Consumer<? super Throwable> onFailure) {
+        Request request = new Request();
+        synchronized (this) {
+            Request previous = latest.put(task, request);
+            if (previous != null && previous.future != null && previous.future.cancel(false)) {
+                logger.debug("{}: {} asked for again before it started; loading once", owner, task);
+            }
+            request.future = executor.submit(() -> run(task, request, fetch, apply, onFailure));
+        }
+        notifyLoading();
+    }
+
+    /**
+     * Calls {@code listener} on the EDT with the tasks loading, in request order, whenever
+     * they change.
+     */
+    public void onLoadingChanged(Consumer<Set<String>> listener) {
+        loadingListener = listener;
+        notifyLoading();
+    }
+
+    public synchronized boolean isLoading(String task) {
+        return latest.containsKey(task);
+    }
+
+    /**
+     * Timing of the task's last applied load.
+     */
+    public Option<Timing> lastTiming(String task) {
+        return Option.of(timings.get(task));
+    }
+
+    private <T> void run(String task, Request request, Supplier<Try<T>> fetch, Consumer<? super T> apply,
+                         Consumer<? super Throwable> onFailure) {
+        long started = System.nanoTime();
+        if (!isLatest(task, request)) {
+            return;
+        }
+        Try<T> result = Try.ofSupplier(fetch).flatMap(value -> value);
+        long fetched = System.nanoTime();
+        EdtGuard.runOnEdt(() -> {
+            synchronized (this) {
+                if (!isLatest(task, request)) {
+                    logger.debug("{}: dropped a {} load that was asked for again", owner, task);
+                    return;
+                }
+                latest.remove(task);
+            }
+            long applyStart = System.nanoTime();
+            try {
+                result.onSuccess(apply).onFailure(onFailure);
+            } finally {
+                record(new Timing(task, millis(started - request.requestedAt), millis(fetched - started),
+                                  millis(System.nanoTime() - applyStart)));
+                notifyLoading();
+            }
+        });
+    }
+
+    private synchronized boolean isLatest(String task, Request request) {
+        return latest.get(task) == request;
+    }
+
+    private void record(Timing timing) {
+        timings.put(timing.task(), timing);
+        if (timing.totalMillis() >= SLOW_LOAD_MS) {
+            logger.info("{}: loaded {} in {} ms (queued {} ms, fetch {} ms, EDT {} ms)", owner, timing.task(),
+                timing.totalMillis(), timing.queuedMillis(), timing.fetchMillis(), timing.applyMillis());
+        } else {
+            logger.debug("{}: loaded {} in {} ms (queued {} ms, fetch {} ms, EDT {} ms)", owner, timing.task(),
+                timing.totalMillis(), timing.queuedMillis(), timing.fetchMillis(), timing.applyMillis());
+        }
+    }
+
+    private void notifyLoading() {
+        EdtGuard.runOnEdt(() -> {
+            Set<String> loading;
+            synchronized (this) {
+                loading = Collections.unmodifiableSet(new LinkedHashSet<>(latest.keySet()));
+            }
+            loadingListener.accept(loading);
+        });
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
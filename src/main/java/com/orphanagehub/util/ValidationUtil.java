@@ -1,5 +1,6 @@
 package com.orphanagehub.util;
 
+import com.orphanagehub.dao.ReferenceData;
 import io.vavr.Function1;
 import io.vavr.control.Try;
 import io.vavr.collection.List;
@@ -49,27 +50,10 @@ public class ValidationUtil {
     private static final Pattern STRONG_PASSWORD_PATTERN =
         Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&#])[A-Za-z\\d@$!%*?&#]{8,}$");
 
-    // Valid South African provinces from database CHECK constraint
-    private static final List<String> VALID_PROVINCES = List.of(
-        "Eastern Cape", "Free State", "Gauteng", "KwaZulu-Natal",
-        "Limpopo", "Mpumalanga", "Northern Cape", "North West", "Western Cape"
-    );
+    // Provinces, roles, resource types and urgency levels come from ReferenceData (the schema's CHECK lists)
 
-    // Valid user roles from expanded database
-    private static final List<String> VALID_ROLES = List.of(
-        "Admin", "OrphanageRep", "OrphanageStaff", "Donor", "Volunteer", "Staff"
-    );
-
-    // Valid resource types
-    private static final List<String> VALID_RESOURCE_TYPES = List.of(
-        "Food", "Clothing", "Educational", "Medical", "Furniture", 
-        "Sports", "Hygiene", "Books", "Electronics", "Toys", "Money", "Other"
-    );
-
-    // Valid urgency levels
-    private static final List<String> VALID_URGENCY_LEVELS = List.of(
-        "Critical", "High", "Medium", "Low"
-    );
+    // Role offered by the registration form; stored as OrphanageRep
+    private static final List<String> ROLE_ALIASES = List.of("OrphanageStaff");
 
     // Email validation with Try monad for error handling
     public static final Function1<String, Try<Boolean>> isValidEmail = email ->
@@ -114,12 +98,12 @@ public class ValidationUtil {
 
     // Province validation
     public static final Function1<String, Try<Boolean>> isValidProvince = province ->
-        Try.of(() -> province != null && VALID_PROVINCES.contains(province.trim()))
+        Try.of(() -> province != null && ReferenceData.provinces().contains(province.trim()))
            .recover(throwable -> false);
 
     // Role validation
     public static final Function1<String, Try<Boolean>> isValidRole = role ->
-        Try.of(() -> role != null && VALID_ROLES.contains(role.trim()))
+        Try.of(() -> role != null && getValidRoles().contains(role.trim()))
            .recover(throwable -> false);
 
     // Registration number validation for orphanages
@@ -144,12 +128,12 @@ public class ValidationUtil {
 
     // Resource type validation
     public static final Function1<String, Try<Boolean>> isValidResourceType = type ->
-        Try.of(() -> type != null && VALID_RESOURCE_TYPES.contains(type.trim()))
+        Try.of(() -> type != null && ReferenceData.resourceTypes().contains(type.trim()))
            .recover(throwable -> false);
 
     // Urgency level validation
     public static final Function1<String, Try<Boolean>> isValidUrgencyLevel = level ->
-        Try.of(() -> level != null && VALID_URGENCY_LEVELS.contains(level.trim()))
+        Try.of(() -> level != null && ReferenceData.urgencyLevels().contains(level.trim()))
            .recover(throwable -> false);
 
     // Amount validation (positive decimal)
@@ -225,21 +209,21 @@ public class ValidationUtil {
 
     // Get list of valid provinces for UI dropdowns
     public static List<String> getValidProvinces() {
-        return VALID_PROVINCES;
+        return ReferenceData.provinces();
     }
 
     // Get list of valid roles for UI dropdowns
     public static List<String> getValidRoles() {
-        return VALID_ROLES;
+        return ReferenceData.roles().appendAll(ROLE_ALIASES);
     }
 
     // Get list of valid resource types for UI dropdowns
     public static List<String> getValidResourceTypes() {
-        return VALID_RESOURCE_TYPES;
+        return ReferenceData.resourceTypes();
     }
 
     // Get list of valid urgency levels for UI dropdowns
     public static List<String> getValidUrgencyLevels() {
-        return VALID_URGENCY_LEVELS;
+        return ReferenceData.urgencyLevels();
     }
 }
\ No newline at end of file
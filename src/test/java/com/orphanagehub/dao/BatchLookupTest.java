@@ -0,0 +1,120 @@
+package com.orphanagehub.dao;
+
+import io.vavr.collection.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLookupTest {
+    /** Items 1 to ITEMS exist; higher IDs are missing. */
+    private static final int ITEMS = 3_000;
+
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void useScratchDatabase() throws Exception {
+        String url = ScratchDatabase.create(directory.resolve("lookups.sqlite"));
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Items (ID INTEGER PRIMARY KEY, Name TEXT NOT NULL)");
+            stmt.execute("""
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                INSERT INTO Items SELECT n, 'item ' || n FROM seq
+            """.formatted(ITEMS));
+        }
+        System.setProperty("db.url", url);
+    }
+
+    @AfterAll
+    static void stop() {
+        DatabaseManager.shutdown();
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "1, 1", "2, 2", "3, 4", "4, 4", "5, 8", "100, 128", "256, 256", "257, 512", "511, 512", "512, 512" })
+    void paddedWidthRoundsUpToAPowerOfTwo(int count, int width) {
+        assertThat(BatchLookup.paddedWidth(count)).isEqualTo(width);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 3, 511, 512, 513, 1024, 1025, 2047 })
+    void findsEveryKeyWithOneQueryPerChunk(int count) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            ids.add(id);
+        }
+
+        QueryMetrics.reset();
+        Map<Integer, String> found = BatchLookup.findByIds("Items", "ID", ids, rs -> rs.getString("Name")).get();
+
+        assertThat(found.size()).isEqualTo(count);
+        assertThat(found.get(1).get()).isEqualTo("item 1");
+        assertThat(found.get(count).get()).isEqualTo("item " + count);
+        int chunks = (count + BatchLookup.CHUNK_SIZE - 1) / BatchLookup.CHUNK_SIZE;
+        assertThat(queriesOnItems()).isEqualTo(chunks);
+    }
+
+    @Test
+    void duplicatesCountOnceTowardsTheChunks() {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 1; id <= BatchLookup.CHUNK_SIZE; id++) {
+            ids.add(id);
+            ids.add(id);
+        }
+
+        QueryMetrics.reset();
+        Map<Integer, String> found = BatchLookup.findByIds("Items", "ID", ids, rs -> rs.getString("Name")).get();
+
+        assertThat(found.size()).isEqualTo(BatchLookup.CHUNK_SIZE);
+        assertThat(queriesOnItems()).isEqualTo(1);
+    }
+
+    @Test
+    void missingAndNullKeysAreLeftOut() {
+        List<Integer> ids = Arrays.asList(7, null, ITEMS + 1, 9, ITEMS + 2);
+
+        Map<Integer, String> found = BatchLookup.findByIds("Items", "ID", ids, rs -> rs.getString("Name")).get();
+
+        assertThat(found.keySet().toJavaSet()).containsExactlyInAnyOrder(7, 9);
+    }
+
+    @Test
+    void noKeysRunNoQuery() {
+        QueryMetrics.reset();
+
+        assertThat(BatchLookup.findByIds("Items", "ID", Arrays.asList(null, null), rs -> rs.getString("Name"))
+            .get().isEmpty()).isTrue();
+        assertThat(queriesOnItems()).isZero();
+    }
+
+    @Test
+    void qualifiedKeyReadsThroughAJoin() {
+        Map<Integer, String> found = BatchLookup.findByIds("Items i JOIN Items j ON j.ID = i.ID + 1",
+            "i.ID, j.Name", "i.ID", List.of(1, 2, ITEMS), rs -> rs.getString("Name")).get();
+
+        assertThat(found.toJavaMap()).containsOnly(
+            java.util.Map.entry(1, "item 2"), java.util.Map.entry(2, "item 3"));
+    }
+
+    private static long queriesOnItems() {
+        return QueryMetrics.statements()
+            .filter(stats -> stats.sql().contains("FROM Items"))
+            .map(QueryMetrics.StatementStats::count)
+            .sum().longValue();
+    }
+}
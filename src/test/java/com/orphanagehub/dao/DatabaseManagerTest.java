@@ -0,0 +1,52 @@
+package com.orphanagehub.dao;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starting the pools on first use. Runs in its own JVM, as every test class does, because
+ * {@link DatabaseManager} keeps its pools in static fields.
+ */
+class DatabaseManagerTest {
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void useScratchCopy() throws Exception {
+        Path database = directory.resolve("OrphanageHub.sqlite");
+        Files.copy(Paths.get("OrphanageHub.sqlite"), database);
+        System.setProperty("db.url", "jdbc:sqlite:" + database);
+    }
+
+    @AfterAll
+    static void stop() {
+        DatabaseManager.shutdown();
+    }
+
+    @Test
+    void firstConnectionStartsOneOfEachPool() throws Exception {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get()) {
+            assertThat(conn.isValid(5)).isTrue();
+        }
+        DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get().close();
+
+        assertThat(threadsNamed("OrphanageHub-GroupCommit")).isEqualTo(1);
+        assertThat(threadsNamed("OrphanageHubWriter housekeeper")).isEqualTo(1);
+        assertThat(threadsNamed("OrphanageHubReadPool housekeeper")).isEqualTo(1);
+    }
+
+    private static long threadsNamed(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals(name))
+            .count();
+    }
+}
@@ -0,0 +1,69 @@
+package com.orphanagehub.dao;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Holds every statement execution for a fixed time before it runs, while it holds its
+ * connection, to see how code would fare against a database across a network. For
+ * benchmarks; the application's own connections never carry the delay.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class DelayedDataSource {
+    private DelayedDataSource() {
+    }
+
+    /**
+     * Delays every execution on {@link DatabaseManager}'s connections by {@code delayMillis}.
+     * Must be called before the pools start.
+     */
+    public static void install(long delayMillis) {
+        long delayNanos = delayMillis * 1_000_000L;
+        DatabaseManager.wrapDataSources(source -> proxy(DataSource.class, source, (method, args) ->
+            method.getName().equals("getConnection") ? delayed((Connection) invoke(source, method, args), delayNanos)
+                : invoke(source, method, args)));
+    }
+
+    private static Connection delayed(Connection conn, long delayNanos) {
+        return proxy(Connection.class, conn, (method, args) -> {
+            Object result = invoke(conn, method, args);
+            return result instanceof Statement statement && !method.getName().equals("unwrap")
+                ? delayed(statement, method.getReturnType(), delayNanos)
+                : result;
+        });
+    }
+
+    private static Object delayed(Statement statement, Class<?> type, long delayNanos) {
+        return proxy(type, statement, (method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> handler.handle(method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.orphanagehub.dao;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupCommitWriterTest {
+    private static final int ENTRIES = 100;
+
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void useScratchDatabase() throws Exception {
+        System.setProperty("db.url", ScratchDatabase.create(directory.resolve("audit.sqlite")));
+        // Wide enough that every entry of a test lands in one batch
+        System.setProperty("db.groupCommit.maxDelayMs", "500");
+    }
+
+    @AfterAll
+    static void stop() {
+        DatabaseManager.shutdown();
+    }
+
+    @BeforeEach
+    void clearAuditLog() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM TblAuditLog");
+        }
+    }
+
+    @Test
+    void mixedStatementsCommitInSubmissionOrder() throws SQLException {
+        AuditLogDAO audit = new AuditLogDAO();
+        List<String> submitted = new ArrayList<>();
+        long batchesBefore = DatabaseManager.getGroupCommitWriter().metrics().batches();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            // Runs of one statement, then the other, of varying length
+            String name = "entry " + i;
+            if (i % 3 == 0 || i % 7 == 0) {
+                audit.logFailure(1, name, AuditLogDAO.ACTION.UPDATE, "Test", "failed").get();
+            } else {
+                audit.logSuccess(1, name, AuditLogDAO.ACTION.UPDATE, "Test", "1").get();
+            }
+            submitted.add(name);
+        }
+        DatabaseManager.getGroupCommitWriter().flush();
+
+        assertThat(DatabaseManager.getGroupCommitWriter().metrics().batches() - batchesBefore).isEqualTo(1);
+        assertThat(namesByLogId()).containsExactlyElementsOf(submitted);
+    }
+
+    @Test
+    void rowsAroundABadRowKeepTheirOrder() throws SQLException {
+        AuditLogDAO audit = new AuditLogDAO();
+        List<String> committed = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            String name = "entry " + i;
+            if (i == 4) {
+                // Action is NOT NULL: this row fails the batch and is then dropped on its own
+                audit.logSuccess(1, name, null, "Test", "1").get();
+                continue;
+            }
+            if (i % 2 == 0) {
+                audit.logSuccess(1, name, AuditLogDAO.ACTION.CREATE, "Test", "1").get();
+            } else {
+                audit.logFailure(1, name, AuditLogDAO.ACTION.CREATE, "Test", "failed").get();
+            }
+            committed.add(name);
+        }
+        DatabaseManager.getGroupCommitWriter().flush();
+
+        assertThat(namesByLogId()).containsExactlyElementsOf(committed);
+    }
+
+    private static List<String> namesByLogId() throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT Username FROM TblAuditLog ORDER BY LogID")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,154 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageTest {
+    private static final int ROWS = 23;
+
+    private Connection conn;
+
+    @BeforeEach
+    void createRows() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Rows (ID INTEGER PRIMARY KEY, IntKey INTEGER, RealKey REAL, TextKey TEXT)");
+            // Few distinct keys, so pages split runs of equal keys and the ID tie-breaker matters
+            for (int id = 1; id <= ROWS; id++) {
+                int key = (id * 7) % 5;
+                stmt.execute("INSERT INTO Rows VALUES (%d, %d, %s, '%s')".formatted(
+                    id, key - 2, key + 0.5, "key|" + key));
+            }
+        }
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        conn.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "IntKey", "RealKey", "TextKey" })
+    void cursorsWalkEveryRowOnceInOrder(String sortColumn) throws SQLException {
+        for (int pageSize : new int[] { 1, 4, ROWS - 1, ROWS, ROWS + 1 }) {
+            List<Integer> paged = new ArrayList<>();
+            Option<String> cursor = Option.none();
+            int pages = 0;
+            do {
+                Page<Integer> page = page(sortColumn, pageSize, cursor);
+                assertThat(page.size()).isLessThanOrEqualTo(pageSize);
+                paged.addAll(page.items().toJavaList());
+                cursor = page.nextCursor();
+                pages++;
+            } while (cursor.isDefined());
+
+            assertThat(paged).as("page size %d", pageSize).containsExactlyElementsOf(allIds(sortColumn));
+            assertThat(pages).as("page size %d", pageSize).isEqualTo((ROWS + pageSize - 1) / pageSize);
+        }
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() throws SQLException {
+        Page<Integer> page = page("IntKey", ROWS, Option.none());
+
+        assertThat(page.size()).isEqualTo(ROWS);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void bindCursorIdSeeksOnTheKeyAlone() throws SQLException {
+        Page<Integer> first = page("ID", 5, Option.none());
+        try (PreparedStatement ps = conn.prepareStatement("SELECT ID FROM Rows WHERE ID > ? ORDER BY ID LIMIT 2")) {
+            assertThat(Page.bindCursorId(ps, 1, first.nextCursor())).isEqualTo(2);
+            assertThat(Page.read(ps, 1, "ID", "ID", rs -> rs.getInt("ID")).items()).containsExactly(6);
+        }
+    }
+
+    @Test
+    void noCursorBindsNothing() throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT ID FROM Rows WHERE ID > ?")) {
+            assertThat(Page.bindCursor(ps, 1, Option.none())).isEqualTo(1);
+            assertThat(Page.bindCursorId(ps, 1, Option.none())).isEqualTo(1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "not a cursor!",
+        "",
+        "MTI",              // "12": no tag or value
+        "MTJ8eHw1",         // "12|x|5": unknown tag
+        "YWJjfGl8NQ",       // "abc|i|5": id is not a number
+        "MTJ8aXxmaXZl",     // "12|i|five": integer tag, text value
+        "MTJ8cnxoYWxm"      // "12|r|half": real tag, text value
+    })
+    void tamperedCursorsAreRejected(String cursor) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT ID FROM Rows WHERE (IntKey, ID) > (?, ?)")) {
+            assertThatThrownBy(() -> Page.bindCursor(ps, 1, Option.some(cursor)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+        }
+    }
+
+    @Test
+    void editedCursorStillDecodesButOnlyMovesThePosition() throws SQLException {
+        String edited = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("20|i|2".getBytes(StandardCharsets.UTF_8));
+
+        Page<Integer> page = page("IntKey", ROWS, Option.some(edited));
+
+        assertThat(page.items()).containsExactlyElementsOf(
+            allIds("IntKey").stream().filter(id -> intKey(id) > 2 || (intKey(id) == 2 && id > 20)).toList());
+    }
+
+    @Test
+    void pageSizeIsBounded() {
+        Page.checkPageSize(1);
+        Page.checkPageSize(10_000);
+        assertThatThrownBy(() -> Page.checkPageSize(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Page.checkPageSize(10_001)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Page<Integer> page(String sortColumn, int pageSize, Option<String> cursor) throws SQLException {
+        String where = cursor.isDefined() ? "WHERE (" + sortColumn + ", ID) > (?, ?) " : "";
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT ID, " + sortColumn + " FROM Rows " + where + "ORDER BY " + sortColumn + ", ID LIMIT ?")) {
+            int index = Page.bindCursor(ps, 1, cursor);
+            ps.setInt(index, pageSize + 1);
+            return Page.read(ps, pageSize, sortColumn, "ID", rs -> rs.getInt("ID"));
+        }
+    }
+
+    private List<Integer> allIds(String sortColumn) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT ID FROM Rows ORDER BY " + sortColumn + ", ID")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private static int intKey(int id) {
+        return (id * 7) % 5 - 2;
+    }
+}
@@ -0,0 +1,460 @@
+package com.orphanagehub.dao;
+
+import com.orphanagehub.tools.DbMigrator;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code EXPLAIN QUERY PLAN} for the SQL of the {@code dao} package against a scratch
+ * database with the schema the DAOs are written against (fix_database.sql plus every
+ * migration), and fails on a full table scan or a statement that does not prepare.
+ * <p>
+ * String constants are read from the DAO class files, so a new query is checked without
+ * registering it anywhere. Statements assembled at runtime are checked as they run: the test
+ * drives each builder through a data source that records every statement, and reads the
+ * trigger bodies back from {@code sqlite_master}. Every constant that is only part of a
+ * statement must turn up in one of those, so a new builder needs a call in
+ * {@link #runBuilders()}.
+ */
+class QueryPlanTest {
+    private static final String DAO_PACKAGE = "com/orphanagehub/dao/";
+    private static final Pattern SQL = Pattern.compile("^\\s*(SELECT|WITH|INSERT|UPDATE|DELETE)\\s",
+                                                       Pattern.CASE_INSENSITIVE);
+    private static final Pattern FULL_SCAN = Pattern.compile("^SCAN (\\w+)(?: AS \\w+)?$");
+    /** Placeholder javac leaves in a string concatenation recipe for each runtime value. */
+    private static final String RECIPE_ARGUMENT = "\u0001";
+    /** {@code String.format} templates are completed at runtime, like concatenations. */
+    private static final Pattern FORMAT_ARGUMENT = Pattern.compile("%(\\d+\\$)?[sd]");
+    private static final Pattern TRIGGER_ROW = Pattern.compile("\\b(NEW|OLD)\\.\\w+");
+    /** Any well-formed cursor does: the plan does not depend on where it points. */
+    private static final Option<String> CURSOR = Option.some(
+        Base64.getUrlEncoder().withoutPadding().encodeToString("1|s|x".getBytes(StandardCharsets.UTF_8)));
+
+    /**
+     * Whole-table reads by design, keyed by a fragment of the SQL. Each needs a reason.
+     */
+    private static final Map<String, String> INTENTIONAL_SCANS = Map.of(
+        "SELECT * FROM TblResourceRequests ORDER BY RequestID", "export stream reads every request",
+        "INSERT INTO TblOrphanageGeo SELECT", "location index rebuild reads every orphanage",
+        "INSERT INTO TblDonationRollup (Scope, ScopeKey, Status, DonationCount, MoneyTotal, ItemCount, RecurringCount) SELECT",
+        "rollup rebuild reads every donation"
+    );
+
+    /**
+     * Statements written against columns fix_database.sql does not have, keyed by a fragment
+     * of the SQL. Each needs a reason; any other statement that does not prepare fails.
+     */
+    private static final Map<String, String> UNPREPARABLE = Map.of(
+        "INSERT INTO TblVolunteerApplications (OpportunityID, VolunteerID, ApplicationDate, Status, Motivation,",
+        "fix_database.sql has MotivationLetter and AvailableStartDate, not Motivation and Availability",
+        "TOTAL(HoursCompleted)", "fix_database.sql has AttendanceHours, not HoursCompleted",
+        "UPDATE TblVolunteerApplications SET Status = ?, ModifiedBy = ?",
+        "fix_database.sql has ReviewedBy, not ModifiedBy",
+        "INSERT INTO TblDonationItems (DonationID, ItemType, ItemDescription,",
+        "fix_database.sql has ItemName, Category and Description, not ItemType and ItemDescription"
+    );
+
+    @TempDir
+    static Path directory;
+
+    private static final Set<String> executed = Collections.synchronizedSet(new TreeSet<>());
+    private static Connection conn;
+    private static Set<String> tables;
+    private static List<String> constants;
+    private static List<String> triggerBodies;
+
+    @BeforeAll
+    static void runEveryBuilder() throws Exception {
+        String url = ScratchDatabase.create(directory.resolve("plans.sqlite"));
+        try (Connection migrating = DriverManager.getConnection(url)) {
+            DbMigrator.migrate(migrating);
+        }
+        System.setProperty("db.url", url);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        DatabaseManager.wrapDataSources(QueryPlanTest::recording);
+
+        // Starting the pools creates the rollup, search and location tables
+        runBuilders();
+        DatabaseManager.getGroupCommitWriter().flush();
+
+        conn = DriverManager.getConnection(url);
+        tables = tableNames();
+        constants = daoConstants();
+        triggerBodies = triggerBodies();
+    }
+
+    @AfterAll
+    static void stop() throws SQLException {
+        DatabaseManager.shutdown();
+        if (conn != null) {
+            conn.close();
+        }
+    }
+
+    /**
+     * One call per way each builder assembles a statement.
+     */
+    private static void runBuilders() {
+        List<Integer> ids = List.of(1, 2, 3);
+        for (Option<String> cursor : List.of(Option.<String>none(), CURSOR)) {
+            for (String text : List.of("", "hope")) {
+                new OrphanageDAO().search(text, Option.some("Gauteng"), Option.some("Food"), cursor, 20).get();
+                new OrphanageDAO().search(text, Option.none(), Option.none(), cursor, 20).get();
+                new ResourceRequestDAO().search(text, cursor, 20).get();
+                new VolunteerOpportunityDAO().search(text, Option.some("teaching"), Option.some("Durban"),
+                                                     Option.some("Weekends"), cursor, 20).get();
+                new VolunteerOpportunityDAO().searchRows(text, Option.none(), Option.none(), Option.none(),
+                                                         cursor, 20).get();
+            }
+            new UserDAO().findPage(cursor, 20).get();
+            new DonationDAO().findPage(cursor, 20).get();
+            new OrphanageDAO().findPage(cursor, 20).get();
+            new NotificationDAO().findPageByUserId(1, cursor, 20).get();
+            new AuditLogDAO().findPage(LocalDateTime.now().minusDays(1), LocalDateTime.now(), cursor, 20).get();
+        }
+
+        new OrphanageDAO().find(OrphanageDAO.Query.verified().limit(10)).get();
+        new OrphanageDAO().find(OrphanageDAO.Query.verified().active().inProvince("Gauteng").sortedBy("name")).get();
+        new OrphanageDAO().find(OrphanageDAO.Query.verified().inCity("Durban").acceptingDonations(true)
+                                    .withCapacity().sortedBy("newest").limit(5)).get();
+        new OrphanageDAO().find(OrphanageDAO.Query.verified().within(-26.2, 28.0, 50).sortedBy("city")).get();
+        new OrphanageDAO().findWithinRadius(-26.2, 28.0, 50).get();
+        new OrphanageDAO().findNearest(-26.2, 28.0, 3).get();
+
+        new UserDAO().findByIds(ids).get();
+        new UserDAO().findRowsByIds(ids).get();
+        new OrphanageDAO().findByIds(ids).get();
+        new VolunteerOpportunityDAO().findByIds(ids).get();
+        new DonationDAO().findRowsByIds(ids).get();
+        new AuditLogDAO().findByIds(ids).get();
+
+        new ResourceRequestDAO().findNeedsSummaries(ids, 3).get();
+        new ResourceRequestDAO().findVerifiedNeedsSummaries(3).get();
+
+        new StatisticsDAO().getSystemStatistics().get();
+        new StatisticsDAO().rebuildRollups().get();
+        new DonationDAO().getTotalDonations().get();
+        new DonationDAO().getMonthlyDonationCount().get();
+        new DonationDAO().getStatistics(1).get();
+        new DonationDAO().getDonorStatistics(1).get();
+    }
+
+    @Test
+    void daoConstantsUseIndexes() {
+        List<String> failures = new ArrayList<>();
+        for (String constant : constants) {
+            String sql = constant.replace(RECIPE_ARGUMENT, "");
+            try {
+                failures.addAll(unexpectedScans(sql));
+            } catch (SQLException e) {
+                // Only part of a statement; covered by executedStatementsUseIndexes
+                if (!isPartial(constant) && reasonFor(UNPREPARABLE, sql).isEmpty()) {
+                    failures.add(oneLine(sql) + "\n    does not prepare: " + e.getMessage());
+                }
+            }
+        }
+
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void executedStatementsUseIndexes() {
+        List<String> statements = new ArrayList<>(executed);
+        statements.addAll(triggerBodies.stream()
+            .map(body -> TRIGGER_ROW.matcher(body).replaceAll("?"))
+            .toList());
+
+        List<String> failures = new ArrayList<>();
+        for (String sql : statements) {
+            try {
+                failures.addAll(unexpectedScans(sql));
+            } catch (SQLException e) {
+                failures.add(oneLine(sql) + "\n    does not prepare: " + e.getMessage());
+            }
+        }
+
+        assertThat(executed).isNotEmpty();
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    void everyAssembledStatementRan() {
+        List<String> ran = Stream.concat(executed.stream(), triggerBodies.stream())
+            .map(QueryPlanTest::oneLine)
+            .toList();
+
+        List<String> missing = constants.stream()
+            .filter(QueryPlanTest::isPartial)
+            .filter(constant -> ran.stream().noneMatch(sql -> assembledFrom(sql, constant)))
+            .map(constant -> oneLine(constant.replace(RECIPE_ARGUMENT, "#")))
+            .toList();
+
+        assertThat(missing).as("assembled statements no builder call in runBuilders() produced").isEmpty();
+    }
+
+    @Test
+    void everyExemptionIsStillNeeded() {
+        for (String fragment : UNPREPARABLE.keySet()) {
+            List<String> exempted = constants.stream()
+                .filter(constant -> oneLine(constant).contains(fragment))
+                .toList();
+
+            assertThat(exempted).as(fragment).isNotEmpty();
+            for (String sql : exempted) {
+                assertThat(prepares(sql)).as(fragment).isFalse();
+            }
+        }
+    }
+
+    /**
+     * Whether {@code constant} is completed at runtime: a concatenation or format recipe, or
+     * a fixed prefix the code appends to.
+     */
+    private static boolean isPartial(String constant) {
+        return constant.contains(RECIPE_ARGUMENT) || FORMAT_ARGUMENT.matcher(constant).find()
+            || (!prepares(constant) && reasonFor(UNPREPARABLE, constant).isEmpty());
+    }
+
+    /**
+     * Whether {@code sql} starts with the first literal piece of {@code constant} and contains
+     * the others in order.
+     */
+    private static boolean assembledFrom(String sql, String constant) {
+        String template = FORMAT_ARGUMENT.matcher(oneLine(constant)).replaceAll(RECIPE_ARGUMENT);
+        int from = 0;
+        boolean first = true;
+        for (String piece : template.replaceAll("[;\\s]+$", "").split(RECIPE_ARGUMENT)) {
+            piece = piece.strip();
+            if (piece.isEmpty()) {
+                continue;
+            }
+            int at = sql.indexOf(piece, from);
+            if (at < 0 || (first && at != 0)) {
+                return false;
+            }
+            from = at + piece.length();
+            first = false;
+        }
+        return true;
+    }
+
+    private static boolean prepares(String sql) {
+        try (PreparedStatement ps = conn.prepareStatement("EXPLAIN QUERY PLAN " + sql.replace(RECIPE_ARGUMENT, ""))) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the full scans in the plan of {@code sql} that are not listed as intentional;
+     * parameters are bound as NULL
+     */
+    private static List<String> unexpectedScans(String sql) throws SQLException {
+        List<String> scans = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                ps.setNull(i, Types.NULL);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Matcher scan = FULL_SCAN.matcher(rs.getString("detail"));
+                    if (scan.matches() && tables.contains(scan.group(1))) {
+                        scans.add(scan.group(1));
+                    }
+                }
+            }
+        }
+        if (scans.isEmpty() || reasonFor(INTENTIONAL_SCANS, sql).isPresent()) {
+            return List.of();
+        }
+        return List.of(oneLine(sql) + "\n    scans " + scans);
+    }
+
+    private static Optional<String> reasonFor(Map<String, String> reasons, String sql) {
+        return reasons.entrySet().stream()
+            .filter(entry -> oneLine(sql).contains(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .findFirst();
+    }
+
+    private static String oneLine(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    private static Set<String> tableNames() throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT name FROM sqlite_master WHERE type = 'table'")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * The statements between BEGIN and END of every trigger, as written.
+     */
+    private static List<String> triggerBodies() throws SQLException {
+        List<String> bodies = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT sql FROM sqlite_master WHERE type = 'trigger'")) {
+            while (rs.next()) {
+                String trigger = rs.getString(1);
+                Matcher begin = Pattern.compile("\\bBEGIN\\b", Pattern.CASE_INSENSITIVE).matcher(trigger);
+                int end = trigger.toUpperCase().lastIndexOf("END");
+                if (!begin.find() || end < begin.end()) {
+                    continue;
+                }
+                for (String statement : trigger.substring(begin.end(), end).split(";")) {
+                    if (SQL.matcher(statement).find()) {
+                        bodies.add(statement.strip());
+                    }
+                }
+            }
+        }
+        return bodies;
+    }
+
+    /**
+     * The string constants that look like SQL in every class of the DAO package.
+     */
+    private static List<String> daoConstants() throws Exception {
+        Path classes = Path.of(DatabaseManager.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Set<String> sql = new TreeSet<>();
+        try (Stream<Path> files = Files.list(classes.resolve(DAO_PACKAGE))) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    sql.addAll(sqlConstants(in));
+                }
+            }
+        }
+        return new ArrayList<>(sql);
+    }
+
+    /**
+     * Walks the constant pool of one class file and keeps the UTF-8 entries that look like SQL.
+     */
+    private static List<String> sqlConstants(InputStream classFile) throws IOException {
+        DataInputStream in = new DataInputStream(classFile);
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        int count = in.readUnsignedShort();
+        List<String> sql = new ArrayList<>();
+        for (int index = 1; index < count; index++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> {
+                    String value = in.readUTF();
+                    if (SQL.matcher(value).find()) {
+                        sql.add(value);
+                    }
+                }
+                case 3, 4 -> in.skipNBytes(4);
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    index++; // long and double take two slots
+                }
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 15 -> in.skipNBytes(3);
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Records the SQL of every statement prepared or executed on the pools' connections.
+     */
+    private static DataSource recording(DataSource source) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(source, method, args);
+            return method.getName().equals("getConnection") ? recording((Connection) result) : result;
+        });
+    }
+
+    private static Connection recording(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            record(method, args);
+            Object result = invoke(connection, method, args);
+            return result instanceof Statement statement && !method.getName().equals("unwrap")
+                ? recording(statement, method.getReturnType())
+                : result;
+        });
+    }
+
+    private static Object recording(Statement statement, Class<?> type) {
+        return proxy(type, (method, args) -> {
+            record(method, args);
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static void record(Method method, Object[] args) {
+        boolean takesSql = method.getName().startsWith("prepare") || method.getName().startsWith("execute")
+            || method.getName().equals("addBatch");
+        if (takesSql && args != null && args.length > 0 && args[0] instanceof String sql
+                && SQL.matcher(sql).find()) {
+            executed.add(sql);
+        }
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> handler.handle(method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.orphanagehub.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The trigger-maintained counters must always equal an aggregate over the base tables.
+ */
+class RollupTablesTest {
+    private static final String[] TYPES = { "Money", "Money", "Food", "Books" };
+    private static final String[] DONATION_STATUSES = { "Pending", "Completed", "Cancelled", null };
+    private static final String[] REQUEST_STATUSES = { "Open", "Fulfilled", "Cancelled" };
+    private static final String[] URGENCY = { "Low", "High", "Critical" };
+    private static final String[] APPLICATION_STATUSES = { "Pending", "Approved", "Rejected" };
+
+    /** Counters per scope, key and status, as the rollup would hold them. */
+    private static final String EXPECTED_DONATIONS = """
+        SELECT Scope, ScopeKey, Status, COUNT(*), TOTAL(Money), SUM(IsItem), SUM(IsRecurring) FROM (
+            SELECT 'all' AS Scope, '' AS ScopeKey, %1$s
+            UNION ALL SELECT 'orphanage', COALESCE(CAST(OrphanageID AS TEXT), ''), %1$s
+            UNION ALL SELECT 'donor', CAST(DonorID AS TEXT), %1$s
+            UNION ALL SELECT 'month', COALESCE(strftime('%%Y-%%m', CASE WHEN typeof(DonationDate) = 'integer'
+                THEN datetime(DonationDate / 1000, 'unixepoch') ELSE DonationDate END), ''), %1$s
+        ) GROUP BY Scope, ScopeKey, Status
+        """.formatted("""
+            COALESCE(Status, '') AS Status,
+            CASE WHEN DonationType = 'Money' THEN COALESCE(Amount, 0) END AS Money,
+            DonationType <> 'Money' AS IsItem, COALESCE(RecurringDonation, 0) <> 0 AS IsRecurring
+            FROM TblDonations""");
+
+    private static final String ACTUAL_DONATIONS = """
+        SELECT Scope, ScopeKey, Status, DonationCount, MoneyTotal, ItemCount, RecurringCount
+        FROM TblDonationRollup WHERE DonationCount <> 0
+        """;
+
+    private static final String EXPECTED_STATUS_COUNTS = """
+        SELECT 'TblResourceRequests', COALESCE(Status, ''), COALESCE(UrgencyLevel, ''), COUNT(*)
+        FROM TblResourceRequests GROUP BY 2, 3
+        UNION ALL
+        SELECT 'TblVolunteerApplications', COALESCE(Status, ''), '', COUNT(*)
+        FROM TblVolunteerApplications GROUP BY 2
+        """;
+
+    private static final String ACTUAL_STATUS_COUNTS =
+        "SELECT TableName, Status, Detail, RowCount FROM TblStatusCounts WHERE RowCount <> 0";
+
+    private final Random random = new Random(42);
+    private Connection conn;
+
+    @BeforeEach
+    void createSchema() throws Exception {
+        conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = conn.createStatement()) {
+            for (String statement : ScratchDatabase.schema()) {
+                stmt.execute(statement);
+            }
+        }
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void fillsFromRowsThatAlreadyExist() throws SQLException {
+        for (int i = 0; i < 200; i++) {
+            insertDonation();
+            insertRequest();
+        }
+        insertApplications(50);
+
+        RollupTables.ensureCreated(conn);
+
+        assertRollupsMatchBaseTables();
+    }
+
+    @Test
+    void triggersFollowInsertsUpdatesAndDeletes() throws SQLException {
+        for (int i = 0; i < 50; i++) {
+            insertDonation();
+            insertRequest();
+        }
+        RollupTables.ensureCreated(conn);
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                switch (random.nextInt(6)) {
+                    case 0, 1 -> insertDonation();
+                    case 2 -> updateDonation();
+                    case 3 -> execute("DELETE FROM TblDonations WHERE DonationID = " + randomId("TblDonations", "DonationID"));
+                    case 4 -> insertRequest();
+                    default -> execute("UPDATE TblResourceRequests SET Status = '%s', UrgencyLevel = '%s' WHERE RequestID = %d"
+                        .formatted(pick(REQUEST_STATUSES), pick(URGENCY), randomId("TblResourceRequests", "RequestID")));
+                }
+            }
+            insertApplications(5);
+            execute("UPDATE TblVolunteerApplications SET Status = '%s' WHERE ApplicationID = %d"
+                .formatted(pick(APPLICATION_STATUSES), randomId("TblVolunteerApplications", "ApplicationID")));
+            execute("DELETE FROM TblResourceRequests WHERE RequestID = " + randomId("TblResourceRequests", "RequestID"));
+
+            assertRollupsMatchBaseTables();
+        }
+    }
+
+    @Test
+    void rebuildRepairsDrift() throws SQLException {
+        for (int i = 0; i < 100; i++) {
+            insertDonation();
+        }
+        RollupTables.ensureCreated(conn);
+        execute("UPDATE TblDonationRollup SET DonationCount = DonationCount + 5, MoneyTotal = 0");
+        execute("DELETE FROM TblStatusCounts");
+
+        RollupTables.rebuild(conn);
+
+        assertRollupsMatchBaseTables();
+        assertThat(conn.getAutoCommit()).isTrue();
+    }
+
+    private void assertRollupsMatchBaseTables() throws SQLException {
+        assertThat(rows(ACTUAL_DONATIONS)).containsExactlyInAnyOrderElementsOf(rows(EXPECTED_DONATIONS));
+        assertThat(rows(ACTUAL_STATUS_COUNTS)).containsExactlyInAnyOrderElementsOf(rows(EXPECTED_STATUS_COUNTS));
+    }
+
+    private void insertDonation() throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("""
+                INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, Status, DonationDate, RecurringDonation)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            bindDonation(ps);
+            ps.executeUpdate();
+        }
+    }
+
+    private void updateDonation() throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("""
+                UPDATE TblDonations SET DonorID = ?, OrphanageID = ?, DonationType = ?, Amount = ?, Status = ?,
+                       DonationDate = ?, RecurringDonation = ?
+                WHERE DonationID = ?
+                """)) {
+            bindDonation(ps);
+            ps.setInt(8, randomId("TblDonations", "DonationID"));
+            ps.executeUpdate();
+        }
+    }
+
+    private void bindDonation(PreparedStatement ps) throws SQLException {
+        String type = pick(TYPES);
+        ps.setInt(1, 1 + random.nextInt(5));
+        if (random.nextInt(8) == 0) {
+            ps.setNull(2, Types.INTEGER);
+        } else {
+            ps.setInt(2, 1 + random.nextInt(4));
+        }
+        ps.setString(3, type);
+        if (type.equals("Money") && random.nextInt(6) > 0) {
+            // Quarters add up exactly in floating point
+            ps.setDouble(4, random.nextInt(4_000) * 0.25);
+        } else {
+            ps.setNull(4, Types.REAL);
+        }
+        ps.setString(5, pick(DONATION_STATUSES));
+        // JDBC writes timestamps as epoch milliseconds; the column default writes text
+        long millis = 1_700_000_000_000L + random.nextInt(400) * 86_400_000L;
+        if (random.nextBoolean()) {
+            ps.setLong(6, millis);
+        } else {
+            ps.setString(6, Instant.ofEpochMilli(millis).toString().replace('T', ' ').replace("Z", ""));
+        }
+        ps.setBoolean(7, random.nextInt(4) == 0);
+    }
+
+    private void insertRequest() throws SQLException {
+        execute("""
+            INSERT INTO TblResourceRequests (OrphanageID, ResourceType, ResourceDescription, UrgencyLevel, Status, CreatedBy)
+            VALUES (%d, 'Food', 'Rice', '%s', '%s', 1)
+            """.formatted(1 + random.nextInt(4), pick(URGENCY), pick(REQUEST_STATUSES)));
+    }
+
+    private void insertApplications(int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            execute("INSERT OR IGNORE INTO TblVolunteerApplications (OpportunityID, VolunteerID, Status) VALUES (%d, %d, '%s')"
+                .formatted(1 + random.nextInt(20), 1 + random.nextInt(20), pick(APPLICATION_STATUSES)));
+        }
+    }
+
+    private int randomId(String table, String idColumn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT " + idColumn + " FROM " + table +
+                 " ORDER BY " + idColumn + " LIMIT 1 OFFSET abs(" + random.nextInt() + ") % MAX(1, (SELECT COUNT(*) FROM " + table + "))")) {
+            return rs.next() ? rs.getInt(1) : -1;
+        }
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql);
+        }
+    }
+
+    private List<String> rows(String sql) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                StringBuilder row = new StringBuilder();
+                for (int column = 1; column <= columns; column++) {
+                    row.append(column > 1 ? " | " : "").append(rs.getString(column));
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,65 @@
+package com.orphanagehub.dao;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The schema the DAOs are written against, for tests and benchmarks that build a scratch
+ * database. It is the tables and indexes of fix_database.sql (its steps 3 and 4); the shipped
+ * database predates it.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public final class ScratchDatabase {
+    /** Read from the working directory, like DbMigrator's migrations. */
+    private static final String SCHEMA_SCRIPT = "fix_database.sql";
+
+    private ScratchDatabase() {
+    }
+
+    /**
+     * Creates the schema in a new database file.
+     * @return the JDBC URL of the file, e.g. for the {@code db.url} system property
+     */
+    public static String create(Path file) throws IOException, SQLException {
+        String url = "jdbc:sqlite:" + file.toAbsolutePath();
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            for (String statement : schema()) {
+                stmt.execute(statement);
+            }
+        }
+        return url;
+    }
+
+    /**
+     * The CREATE statements of the schema, in order.
+     */
+    public static List<String> schema() throws IOException {
+        String script = Files.readString(Path.of(SCHEMA_SCRIPT));
+        int from = script.indexOf("-- STEP 3:");
+        int to = script.indexOf("-- STEP 5:");
+        if (from < 0 || to < from) {
+            throw new IOException(SCHEMA_SCRIPT + " has no STEP 3 to STEP 5 sections");
+        }
+        List<String> statements = new ArrayList<>();
+        for (String chunk : script.substring(from, to).split(";")) {
+            boolean hasSql = chunk.lines()
+                .map(String::trim)
+                .anyMatch(line -> !line.isEmpty() && !line.startsWith("--"));
+            if (hasSql) {
+                statements.add(chunk.trim());
+            }
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,172 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+    private Connection conn;
+
+    @BeforeEach
+    void createIndex() throws Exception {
+        conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = conn.createStatement()) {
+            for (String statement : ScratchDatabase.schema()) {
+                stmt.execute(statement);
+            }
+        }
+        insertOrphanage("Sunrise Children's Home", "Johannesburg", "A home for forty children");
+        insertOrphanage("Hope AND Glory House", "Durban", "Meals, schooling OR sport");
+        insertOrphanage("NEAR the Sea", "Cape Town", "Beach-side shelter (est. 1998)");
+        insertOrphanage("Thandanani Crèche", "Pietermaritzburg", "Day care: ages 0-6");
+        SearchIndex.ensureCreated(conn);
+    }
+
+    @AfterEach
+    void close() throws SQLException {
+        conn.close();
+    }
+
+    @Test
+    void everyWordBecomesAQuotedPrefix() {
+        assertThat(SearchIndex.matchAll("sun hom")).contains("\"sun\"* \"hom\"*");
+        assertThat(SearchIndex.matchAll("  Children's\tHome!  ")).contains("\"Children\"* \"s\"* \"Home\"*");
+    }
+
+    @Test
+    void wordsFindTheStartOfWordsInAnyColumn() throws SQLException {
+        assertThat(search("sun hom")).containsExactly("Sunrise Children's Home");
+        assertThat(search("durb")).containsExactly("Hope AND Glory House");
+        assertThat(search("creche")).containsExactly("Thandanani Crèche");
+        assertThat(search("ise")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "\"home",
+        "home\"\"",
+        "hope AND",
+        "OR",
+        "NOT house",
+        "NEAR(hope glory)",
+        "NEAR",
+        "hom*",
+        "^sun",
+        "OrphanageName: hope",
+        "City:",
+        "{OrphanageName City}: durban",
+        "(hope",
+        "hope)",
+        "-house",
+        "+house",
+        "hope' OR '1'='1",
+        "day care: ages 0-6"
+    })
+    void syntaxInTheInputIsNeverAnError(String text) throws SQLException {
+        Option<String> match = SearchIndex.matchAll(text);
+
+        assertThat(match).isNotEmpty();
+        assertThat(match.get()).doesNotContain("(", ")", ":", "^", "+", "-", "'");
+        // Runs without an FTS5 syntax error; operators are only words to find
+        search(text);
+    }
+
+    @Test
+    void operatorsAreSearchedForAsWords() throws SQLException {
+        assertThat(search("and")).containsExactly("Hope AND Glory House");
+        assertThat(search("or")).containsExactly("Hope AND Glory House");
+        assertThat(search("near")).containsExactly("NEAR the Sea");
+        assertThat(search("NOT house")).isEmpty();
+        assertThat(search("OrphanageName: hope")).isEmpty();
+        assertThat(search("City: durban")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = { "   ", "\"", "\"\"", "*", "* : ^ ( ) - +", "'!?.,;" })
+    void inputWithoutWordsMatchesNothing(String text) {
+        assertThat(SearchIndex.matchAll(text)).isEmpty();
+        assertThat(SearchIndex.matchAll(text, "City")).isEmpty();
+    }
+
+    @Test
+    void wordsPastTheLimitAreIgnored() {
+        StringBuilder text = new StringBuilder();
+        for (int word = 1; word <= 20; word++) {
+            text.append("w").append(word).append(' ');
+        }
+
+        String match = SearchIndex.matchAll(text.toString()).get();
+
+        assertThat(match.split(" ")).hasSize(16);
+        assertThat(match).endsWith("\"w16\"*");
+    }
+
+    @Test
+    void columnFilterLimitsEveryWordToThatColumn() throws SQLException {
+        Option<String> match = SearchIndex.matchAll("cape sea", "City");
+
+        assertThat(match).contains("City : (\"cape\"* \"sea\"*)");
+        assertThat(matches(match.get())).isEmpty();
+        assertThat(matches(SearchIndex.matchAll("cape town", "City").get())).containsExactly("NEAR the Sea");
+    }
+
+    @Test
+    void andJoinsOnlyThePresentExpressions() throws SQLException {
+        Option<String> hope = SearchIndex.matchAll("hope");
+        Option<String> durban = SearchIndex.matchAll("durban", "City");
+
+        assertThat(SearchIndex.and(Option.none(), Option.none())).isEmpty();
+        assertThat(SearchIndex.and(hope, Option.none())).isEqualTo(hope);
+        assertThat(SearchIndex.and(Option.none(), durban)).isEqualTo(durban);
+        assertThat(matches(SearchIndex.and(hope, durban).get())).containsExactly("Hope AND Glory House");
+        assertThat(matches(SearchIndex.and(hope, SearchIndex.matchAll("sunrise")).get())).isEmpty();
+    }
+
+    private List<String> search(String text) throws SQLException {
+        Option<String> match = SearchIndex.matchAll(text);
+        return match.isEmpty() ? List.of() : matches(match.get());
+    }
+
+    private List<String> matches(String match) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT OrphanageName FROM TblOrphanageSearch WHERE TblOrphanageSearch MATCH ? ORDER BY rowid")) {
+            ps.setString(1, match);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+
+    private void insertOrphanage(String name, String city, String description) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("""
+                INSERT INTO TblOrphanages (UserID, OrphanageName, Address, City, Province, ContactPerson, ContactEmail,
+                                           ContactPhone, Description)
+                VALUES (1, ?, '1 Main Road', ?, 'Gauteng', 'Staff', 'staff@example.org', '011 000 0000', ?)
+                """)) {
+            ps.setString(1, name);
+            ps.setString(2, city);
+            ps.setString(3, description);
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.orphanagehub.dao;
+
+import io.vavr.control.Try;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionContextTest {
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void useScratchDatabase() throws Exception {
+        String url = ScratchDatabase.create(directory.resolve("transactions.sqlite"));
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE Items (Name TEXT NOT NULL)");
+        }
+        System.setProperty("db.url", url);
+    }
+
+    @AfterAll
+    static void stop() {
+        DatabaseManager.shutdown();
+    }
+
+    @BeforeEach
+    void clearItems() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM Items");
+        }
+    }
+
+    @Test
+    void commitsEveryWriteOnSuccess() throws SQLException {
+        Try<Integer> result = TransactionContext.inTransaction(() ->
+            insert("first").flatMap(v -> insert("second")).map(v -> 2));
+
+        assertThat(result.get()).isEqualTo(2);
+        assertThat(names()).containsExactly("first", "second");
+    }
+
+    @Test
+    void rollsBackEarlierWritesWhenTheWorkFails() throws SQLException {
+        Try<Void> result = TransactionContext.inTransaction(() ->
+            insert("first").flatMap(v -> Try.failure(new IllegalStateException("payment declined"))));
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getCause()).hasMessage("payment declined");
+        assertThat(names()).isEmpty();
+    }
+
+    @Test
+    void rollsBackWhenTheWorkThrows() throws SQLException {
+        Try<Void> result = TransactionContext.inTransaction(() -> {
+            insert("first").get();
+            throw new IllegalStateException("bug");
+        });
+
+        assertThat(result.getCause()).hasMessage("bug");
+        assertThat(names()).isEmpty();
+    }
+
+    @Test
+    void participantsCannotCommitOrCloseTheTransaction() throws SQLException {
+        Try<Void> result = TransactionContext.inTransaction(() -> insert("first")
+            .flatMap(v -> DatabaseManager.getConnection(DatabaseManager.Intent.READ).mapTry(conn -> {
+                conn.commit();
+                conn.close();
+                return null;
+            }))
+            .flatMap(v -> Try.failure(new IllegalStateException("later failure"))));
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(names()).isEmpty();
+    }
+
+    @Test
+    void nestedFailureRollsBackTheOuterWork() throws SQLException {
+        Try<Void> result = TransactionContext.inTransaction(() -> insert("outer")
+            .flatMap(v -> TransactionContext.inTransaction(() ->
+                insert("inner").flatMap(w -> Try.<Void>failure(new IllegalStateException("inner failed"))))));
+
+        assertThat(result.getCause()).hasMessage("inner failed");
+        assertThat(names()).isEmpty();
+    }
+
+    @Test
+    void completionActionsRunAfterRollback() {
+        List<String> events = new ArrayList<>();
+        TransactionContext.inTransaction(() -> {
+            TransactionContext.afterCompletion(() -> events.add("completed, active=" + TransactionContext.isActive()));
+            events.add("working, active=" + TransactionContext.isActive());
+            return Try.failure(new IllegalStateException("rolled back"));
+        });
+
+        assertThat(events).containsExactly("working, active=true", "completed, active=false");
+        assertThat(TransactionContext.isActive()).isFalse();
+    }
+
+    private static Try<Void> insert(String name) {
+        return DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).mapTry(conn -> {
+            try (conn; PreparedStatement ps = conn.prepareStatement("INSERT INTO Items (Name) VALUES (?)")) {
+                ps.setString(1, name);
+                ps.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    private static List<String> names() throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT Name FROM Items ORDER BY rowid")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,167 @@
+package com.orphanagehub.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyDiffTest {
+    @Test
+    void sameKeysReportNothing() {
+        int[] keys = { 4, 8, 15, 16, 23, 42 };
+
+        assertThat(replay(keys, keys.clone())).isEmpty();
+        assertThat(replay(new int[0], new int[0])).isEmpty();
+    }
+
+    @Test
+    void rowsAddedAtTheTopAreOneInsert() {
+        assertThat(replay(keys(10, 20), keys(5, 20))).containsExactly("insert 0+5");
+    }
+
+    @Test
+    void headAndTailOnlyChangesTouchOnlyTheirEnds() {
+        assertThat(replay(keys(0, 10), keys(0, 13))).containsExactly("insert 10+3");
+        assertThat(replay(keys(0, 10), keys(0, 7))).containsExactly("delete 7+3");
+        assertThat(replay(keys(0, 10), keys(2, 10))).containsExactly("delete 0+2");
+        assertThat(replay(keys(0, 10), keys(2, 12))).containsExactly("delete 0+2", "insert 8+2");
+    }
+
+    @Test
+    void emptyListsAreOneRange() {
+        assertThat(replay(new int[0], keys(0, 4))).containsExactly("insert 0+4");
+        assertThat(replay(keys(0, 4), new int[0])).containsExactly("delete 0+4");
+    }
+
+    @Test
+    void movedKeyIsDeletedAndInsertedAgain() {
+        assertThat(replay(new int[] { 1, 2, 3, 4, 5, 6 }, new int[] { 1, 2, 4, 5, 6, 3 }))
+            .containsExactly("delete 2+1", "insert 5+1");
+        assertThat(replay(new int[] { 1, 2, 3, 4, 5, 6 }, new int[] { 5, 1, 2, 3, 4, 6 }))
+            .containsExactly("delete 4+1", "insert 0+1");
+    }
+
+    @Test
+    void keysInTheLongestUnchangedRunStay() {
+        // 1 and 6 swap ends; 2..5 keep their order and are not touched
+        assertThat(replay(new int[] { 1, 2, 3, 4, 5, 6 }, new int[] { 6, 2, 3, 4, 5, 1 }))
+            .containsExactly("delete 5+1", "delete 0+1", "insert 0+1", "insert 5+1");
+    }
+
+    @Test
+    void deletesRunLastFirstThenInsertsFirstFirst() {
+        List<String> changes = replay(new int[] { 1, 2, 3, 4, 5, 6, 7 }, new int[] { 10, 2, 4, 11, 6, 12 });
+
+        assertThat(changes).containsExactly(
+            "delete 6+1", "delete 4+1", "delete 2+1", "delete 0+1",
+            "insert 0+1", "insert 3+1", "insert 5+1");
+    }
+
+    @Test
+    void randomEditsReplayToTheNewKeys() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            int[] oldKeys = randomKeys(random, random.nextInt(60));
+            List<Integer> edited = new ArrayList<>(Arrays.stream(oldKeys).boxed().toList());
+            for (int edit = random.nextInt(8); edit > 0; edit--) {
+                int at = random.nextInt(edited.size() + 1);
+                switch (random.nextInt(3)) {
+                    case 0 -> edited.add(at, random.nextInt() | 1);
+                    case 1 -> {
+                        if (at < edited.size()) {
+                            edited.remove(at);
+                        }
+                    }
+                    default -> {
+                        if (!edited.isEmpty()) {
+                            Integer moved = edited.remove(random.nextInt(edited.size()));
+                            edited.add(random.nextInt(edited.size() + 1), moved);
+                        }
+                    }
+                }
+            }
+            // Inserted keys are odd and randomKeys are even, so keys stay unique
+            int[] newKeys = edited.stream().mapToInt(Integer::intValue).toArray();
+
+            replay(oldKeys, newKeys);
+        }
+    }
+
+    @Test
+    void tooManyRangesFallBackToAFullRefresh() {
+        // Dropping every other key gives one delete range per dropped key
+        int[] oldKeys = keys(0, 2 * 257 + 1);
+        int[] atLimit = IntStream.of(oldKeys).filter(key -> key % 2 == 0 || key > 2 * 256).toArray();
+        int[] pastLimit = IntStream.of(oldKeys).filter(key -> key % 2 == 0).toArray();
+
+        assertThat(replay(oldKeys, atLimit)).hasSize(256);
+        assertThat(KeyDiff.of(oldKeys, pastLimit)).isEmpty();
+        List<String> reported = new ArrayList<>();
+        assertThat(KeyDiff.diff(oldKeys, pastLimit, recorder(reported))).isFalse();
+        assertThat(reported).isEmpty();
+    }
+
+    @Test
+    void headAndTailDoNotCountTowardsTheLimit() {
+        int[] oldKeys = keys(0, 100_000);
+        int[] newKeys = IntStream.concat(IntStream.range(-50_000, 0), IntStream.range(50_000, 100_000)).toArray();
+
+        assertThat(replay(oldKeys, newKeys)).containsExactly("delete 0+50000", "insert 0+50000");
+    }
+
+    /**
+     * Applies the reported changes to {@code oldKeys}, checks the result is {@code newKeys}
+     * and that {@link KeyDiff#diff} reports the same, and returns the changes.
+     */
+    private static List<String> replay(int[] oldKeys, int[] newKeys) {
+        List<String> changes = new ArrayList<>();
+        int[][] keys = { oldKeys };
+        KeyDiff.of(oldKeys, newKeys).get().apply(new KeyDiff.Changes() {
+            @Override
+            public void deleted(int from, int count) {
+                changes.add("delete " + from + "+" + count);
+                keys[0] = KeyDiff.remove(keys[0], from, count);
+            }
+
+            @Override
+            public void inserted(int from, int count) {
+                changes.add("insert " + from + "+" + count);
+                keys[0] = KeyDiff.insert(keys[0], from, count, newKeys);
+            }
+        });
+        assertThat(keys[0]).containsExactly(newKeys);
+
+        List<String> reported = new ArrayList<>();
+        assertThat(KeyDiff.diff(oldKeys, newKeys, recorder(reported))).isTrue();
+        assertThat(reported).isEqualTo(changes);
+        return changes;
+    }
+
+    private static KeyDiff.Changes recorder(List<String> changes) {
+        return new KeyDiff.Changes() {
+            @Override
+            public void deleted(int from, int count) {
+                changes.add("delete " + from + "+" + count);
+            }
+
+            @Override
+            public void inserted(int from, int count) {
+                changes.add("insert " + from + "+" + count);
+            }
+        };
+    }
+
+    private static int[] keys(int from, int to) {
+        return IntStream.range(from, to).toArray();
+    }
+
+    /** Unique even keys, some negative, in random order. */
+    private static int[] randomKeys(Random random, int count) {
+        return random.ints(-1_000, 1_000).map(key -> key * 2).distinct().limit(count).toArray();
+    }
+}
@@ -0,0 +1,103 @@
+package com.orphanagehub.service;
+
+import com.orphanagehub.dao.DatabaseManager;
+import com.orphanagehub.dao.DonationDAO;
+import com.orphanagehub.model.DonorStatistics;
+import com.orphanagehub.model.SystemStatistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dashboard statistics on a copy of the shipped database, whose schema predates
+ * fix_database.sql: TblDonations has IsRecurring instead of RecurringDonation, among others.
+ */
+class ShippedDatabaseStatisticsTest {
+    private static final int DONOR = 7;
+    private static final int ORPHANAGE = 1;
+
+    @TempDir
+    static Path directory;
+
+    @BeforeAll
+    static void useShippedCopy() throws Exception {
+        Path database = directory.resolve("OrphanageHub.sqlite");
+        Files.copy(Paths.get("OrphanageHub.sqlite"), database);
+        System.setProperty("db.url", "jdbc:sqlite:" + database);
+    }
+
+    @AfterAll
+    static void stop() {
+        DatabaseManager.shutdown();
+    }
+
+    @Test
+    void dashboardCountersMatchTheBaseTables() throws SQLException {
+        SystemStatistics stats = new AdminService().getSystemStatistics().get();
+
+        assertThat(stats.totalUsers()).isEqualTo(count("SELECT COUNT(*) FROM TblUsers WHERE AccountStatus = 'Active'"));
+        assertThat(stats.donors()).isEqualTo(count("SELECT COUNT(*) FROM TblUsers WHERE UserRole = 'Donor'"));
+        assertThat(stats.totalOrphanages()).isEqualTo(
+            count("SELECT COUNT(*) FROM TblOrphanages WHERE VerificationStatus = 'Verified'"));
+        assertThat(stats.openRequests()).isPositive().isEqualTo(
+            count("SELECT COUNT(*) FROM TblResourceRequests WHERE Status IN ('Open', 'In Progress')"));
+        assertThat(stats.urgentRequests()).isPositive().isEqualTo(count("""
+            SELECT COUNT(*) FROM TblResourceRequests
+            WHERE Status IN ('Open', 'In Progress') AND UrgencyLevel IN ('Critical', 'High')
+            """));
+        assertThat(stats.pendingApplications()).isEqualTo(
+            count("SELECT COUNT(*) FROM TblVolunteerApplications WHERE Status IN ('Pending', 'Reviewing')"));
+        assertThat(stats.monthlyDonations()).isEqualTo(count("""
+            SELECT COUNT(*) FROM TblDonations
+            WHERE Status = 'Completed' AND strftime('%Y-%m', DonationDate) = strftime('%Y-%m', 'now')
+            """));
+    }
+
+    @Test
+    void donationStatisticsReadAndFollowNewDonations() throws SQLException {
+        DonationDAO donations = new DonationDAO();
+        DonorService donorService = new DonorService();
+        double total = donations.getTotalDonations().get();
+        int monthly = donations.getMonthlyDonationCount().get();
+        int forOrphanage = donations.getStatistics(ORPHANAGE).get().totalCount;
+        DonorStatistics donor = donorService.getDonorStatistics(DONOR).get();
+
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, ItemDescription, Quantity, IsRecurring, Status)
+                VALUES (%d, %d, 'Food', 'Rice', 10, 1, 'Completed')
+                """.formatted(DONOR, ORPHANAGE));
+        }
+
+        assertThat(donations.getTotalDonations().get()).isEqualTo(total);
+        assertThat(donations.getMonthlyDonationCount().get()).isEqualTo(monthly + 1);
+        assertThat(donations.getStatistics(ORPHANAGE).get().totalCount).isEqualTo(forOrphanage + 1);
+        DonorStatistics after = donorService.getDonorStatistics(DONOR).get();
+        assertThat(after.totalDonations()).isEqualTo(donor.totalDonations() + 1);
+        assertThat(after.itemDonations()).isEqualTo(donor.itemDonations() + 1);
+        // No RecurringDonation column to count from
+        assertThat(after.recurringDonations()).isZero();
+        assertThat(after.orphanageIds()).contains(String.valueOf(ORPHANAGE));
+    }
+
+    private static int count(String sql) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,2021 @@
+package com.orphanagehub.tools;
+
+import com.google.common.cache.CacheStats;
+import com.orphanagehub.dao.*;
+import com.orphanagehub.model.AuditLog;
+import com.orphanagehub.model.Donation;
+import com.orphanagehub.model.DonorStatistics;
+import com.orphanagehub.model.Notification;
+import com.orphanagehub.model.Orphanage;
+import com.orphanagehub.model.User;
+import com.orphanagehub.service.DonorService;
+import com.orphanagehub.service.SearchService;
+import com.orphanagehub.util.ValidationUtil;
+import io.vavr.control.Option;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Throughput benchmarks for the data access layer.
+ * Runs against a scratch SQLite file so the real database is never touched.
+ * <p>
+ * Kept with the tests so it stays out of the application jar. Run it from the project
+ * directory with {@code make benchmark b="donations 2000"}.
+ *
+ * @author OrphanageHub Team
+ * @version 2.0
+ * @since 2025-09-06
+ */
+public class DbBenchmark {
+
+    private static final String ANSI_RESET = "\u001B[0m";
+    private static final String ANSI_GREEN = "\u001B[32m";
+    private static final String ANSI_RED = "\u001B[31m";
+    private static final String ANSI_BLUE = "\u001B[34m";
+
+    private static final int SEED_ROWS = 10_000;
+    private static final int WRITER_THREADS = 2;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            showUsage();
+            return;
+        }
+
+        System.setProperty("logback.configurationFile", "logback-bench.xml");
+        String dbUrl = prepareScratchDatabase();
+        System.setProperty("db.url", dbUrl);
+        System.out.println("Scratch database: " + dbUrl);
+
+        try {
+            switch (args[0]) {
+                case "coldstart" -> benchmarkColdStart();
+                case "topology" -> benchmarkTopology(args.length > 1 ? Integer.parseInt(args[1]) : 3);
+                case "groupcommit" -> benchmarkGroupCommit(args.length > 1 ? Integer.parseInt(args[1]) : 20_000);
+                case "findbyid" -> benchmarkFindById(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "donations" -> benchmarkDonations(args.length > 1 ? Integer.parseInt(args[1]) : 2_000);
+                case "pagination" -> benchmarkPagination(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "streaming" -> benchmarkStreaming(args.length > 1 ? Integer.parseInt(args[1]) : 500_000);
+                case "nplusone" -> benchmarkDonorLookups(args.length > 1 ? Integer.parseInt(args[1]) : 5_000);
+                case "donorstats" -> benchmarkDonorStatistics(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+                case "systemstats" -> benchmarkSystemStatistics(args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000);
+                case "rollups" -> benchmarkRollups(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "entitycache" -> benchmarkEntityCache(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "referencedata" -> benchmarkReferenceData(args.length > 1 ? Integer.parseInt(args[1]) : 20_000);
+                case "search" -> benchmarkSearch(args.length > 1 ? Integer.parseInt(args[1]) : 500_000);
+                case "geo" -> benchmarkGeo(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+                case "orphansearch" -> benchmarkOrphanageFilters(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+                case "rowmapping" -> benchmarkRowMapping(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "projection" -> benchmarkProjection(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+                case "tablemodel" -> benchmarkTableModel(args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000);
+                case "asyncload" -> benchmarkAsyncLoad(args.length > 1 ? Integer.parseInt(args[1]) : 100_000);
+                case "tablediff" -> benchmarkTableDiff(args.length > 1 ? Integer.parseInt(args[1]) : 200_000);
+                case "needsummary" -> benchmarkNeedsSummary(args.length > 1 ? Integer.parseInt(args[1]) : 2_000);
+                case "detailsfanout" -> benchmarkDetailsFanOut(args.length > 1 ? Integer.parseInt(args[1]) : 20);
+                default -> showUsage();
+            }
+        } finally {
+            DatabaseManager.shutdown();
+        }
+    }
+
+    private static void showUsage() {
+        System.out.println("Database Benchmark Tool");
+        System.out.println("Usage: java DbBenchmark <benchmark> [options]");
+        System.out.println();
+        System.out.println("Benchmarks:");
+        System.out.println("  coldstart           Class load, first query (pool start) and warm query latency");
+        System.out.println("  topology [seconds]  Read throughput per reader count with concurrent writers");
+        System.out.println("  groupcommit [rows]  Audit inserts: one autocommit each vs. group commit");
+        System.out.println("  findbyid [calls]    UserDAO.findById with and without the statement cache");
+        System.out.println("  donations [count]   Monetary donation flow: separate autocommits vs. one unit of work");
+        System.out.println("  pagination [rows]   Page latency by depth: keyset cursor vs. LIMIT/OFFSET");
+        System.out.println("  streaming [rows]    Audit log bulk read: materialized list vs. stream, time and heap");
+        System.out.println("  nplusone [count]    Donations with donor names: findById per row vs. batched findByIds");
+        System.out.println("  donorstats [count]  Donor statistics: aggregate in Java vs. in SQL, time and allocation");
+        System.out.println("  systemstats [users] Admin dashboard counters: ten DAO calls vs. one aggregate query");
+        System.out.println("  rollups [count]     Trigger-maintained counters: write cost, read latency, drift check");
+        System.out.println("  entitycache [calls] Skewed findById load with the entity cache off and on");
+        System.out.println("  referencedata [n]   Location combo and validators: findAll + distinct vs. registry");
+        System.out.println("  search [rows]       Orphanage text search: LIKE vs. full-text index, write cost, sync");
+        System.out.println("  geo [count]         Radius and nearest search: load all + haversine vs. R*Tree");
+        System.out.println("  orphansearch [n]    Orphanage filters: load all + filter in Java vs. query builder");
+        System.out.println("  rowmapping [rows]   Donation rows mapped per second and bytes per row: by label vs. by position");
+        System.out.println("  projection [rows]   Dashboard tables: full records vs. displayed columns, time and heap");
+        System.out.println("  tablemodel [rows]   User table: every row added up front vs. rows loaded as they are shown");
+        System.out.println("  asyncload [rows]    EDT responsiveness while a table loads: on the EDT vs. AsyncLoader");
+        System.out.println("  tablediff [rows]    Refresh after three changed rows: rebuild vs. keyed diff, EDT time and events");
+        System.out.println("  needsummary [n]     Donor landing page needs: details per orphanage vs. one windowed query");
+        System.out.println("  detailsfanout [ms]  Orphanage details with a simulated delay per query: sequential vs. parallel");
+    }
+
+    /**
+     * Creates the scratch database and its schema with a plain JDBC connection,
+     * before DatabaseManager is loaded and opens its pools.
+     */
+    private static String prepareScratchDatabase() throws IOException, SQLException {
+        Path file = Files.createTempFile("orphanagehub-bench-", ".sqlite");
+        file.toFile().deleteOnExit();
+        String url = "jdbc:sqlite:" + file.toAbsolutePath();
+
+        try (Connection conn = DriverManager.getConnection(url);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA journal_mode = WAL");
+            stmt.execute("""
+                CREATE TABLE BenchItems (
+                    ItemID INTEGER PRIMARY KEY AUTOINCREMENT,
+                    Payload TEXT NOT NULL,
+                    CreatedDate DATETIME DEFAULT CURRENT_TIMESTAMP
+                )
+            """);
+            for (String statement : ScratchDatabase.schema()) {
+                stmt.execute(statement);
+            }
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement("INSERT INTO BenchItems (Payload) VALUES (?)")) {
+                for (int i = 0; i < SEED_ROWS; i++) {
+                    ps.setString(1, "seed-" + i);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            conn.commit();
+        }
+        return url;
+    }
+
+    /**
+     * Must run before anything else touches DatabaseManager in this JVM.
+     */
+    private static void benchmarkColdStart() throws Exception {
+        System.out.println(ANSI_BLUE + "\n[COLD START] Lazy data source" + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+
+        long start = System.nanoTime();
+        Class.forName("com.orphanagehub.dao.DatabaseManager");
+        long classLoadNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        readOneItem(1);
+        long firstQueryNanos = System.nanoTime() - start;
+
+        int samples = 1_000;
+        long[] warm = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long t = System.nanoTime();
+            readOneItem(1 + i % SEED_ROWS);
+            warm[i] = System.nanoTime() - t;
+        }
+        Arrays.sort(warm);
+
+        System.out.printf("  %-28s %10.2f ms%n", "Class load + init", classLoadNanos / 1_000_000.0);
+        System.out.printf("  %-28s %10.2f ms%n", "First query (starts pools)", firstQueryNanos / 1_000_000.0);
+        System.out.printf("  %-28s %10.3f ms%n", "Warm query p50", warm[samples / 2] / 1_000_000.0);
+        System.out.printf("  %-28s %10.3f ms%n", "Warm query p99", warm[samples * 99 / 100] / 1_000_000.0);
+    }
+
+    private static void readOneItem(int itemId) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement("SELECT Payload FROM BenchItems WHERE ItemID = ?")) {
+            ps.setInt(1, itemId);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+            }
+        }
+    }
+
+    private static void benchmarkTopology(int seconds) throws InterruptedException {
+        System.out.println(ANSI_BLUE + "\n[TOPOLOGY] Read pool scaling with " + WRITER_THREADS +
+            " concurrent writers (" + seconds + "s per step)" + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+        System.out.printf("  %-8s %14s %14s %14s%n", "Readers", "Reads/sec", "Writes/sec", "Write errors");
+
+        int maxReaders = DatabaseManager.getReadPoolSize();
+        List<Integer> steps = new ArrayList<>();
+        for (int readers = 1; readers < maxReaders; readers *= 2) {
+            steps.add(readers);
+        }
+        steps.add(maxReaders);
+
+        for (int readers : steps) {
+            TopologyResult result = runTopologyStep(readers, seconds);
+            String color = result.writeErrors == 0 ? ANSI_GREEN : ANSI_RED;
+            System.out.printf("  %-8d %14.0f %14.0f %s%14d%s%n", readers,
+                result.reads / (double) seconds, result.writes / (double) seconds,
+                color, result.writeErrors, ANSI_RESET);
+        }
+    }
+
+    private static TopologyResult runTopologyStep(int readers, int seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong writeErrors = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(readers + WRITER_THREADS);
+
+        for (int i = 0; i < readers; i++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                         PreparedStatement ps = conn.prepareStatement(
+                             "SELECT Payload FROM BenchItems WHERE ItemID = ?")) {
+                        ps.setInt(1, random.nextInt(1, SEED_ROWS + 1));
+                        try (ResultSet rs = ps.executeQuery()) {
+                            if (rs.next()) {
+                                reads.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        // Read failures would show up as missing throughput
+                    }
+                }
+            });
+        }
+
+        for (int i = 0; i < WRITER_THREADS; i++) {
+            executor.submit(() -> {
+                while (running.get()) {
+                    try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+                         PreparedStatement ps = conn.prepareStatement(
+                             "INSERT INTO BenchItems (Payload) VALUES (?)")) {
+                        ps.setString(1, "write-" + Thread.currentThread().getId());
+                        ps.executeUpdate();
+                        writes.incrementAndGet();
+                    } catch (Exception e) {
+                        writeErrors.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        return new TopologyResult(reads.get(), writes.get(), writeErrors.get());
+    }
+
+    private static void benchmarkGroupCommit(int rows) throws InterruptedException {
+        System.out.println(ANSI_BLUE + "\n[GROUP COMMIT] " + rows + " audit inserts from " +
+            WRITER_THREADS * 2 + " threads" + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+
+        String sql = "INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, " +
+                     "EntityID, Timestamp, Success) VALUES (?, ?, ?, ?, ?, ?, 1)";
+        long autocommitNanos = runConcurrently(WRITER_THREADS * 2, rows, i -> {
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+                 PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, i);
+                ps.setString(2, null);
+                ps.setString(3, AuditLogDAO.ACTION.CREATE);
+                ps.setString(4, "Bench");
+                ps.setString(5, String.valueOf(i));
+                ps.setTimestamp(6, new Timestamp(System.currentTimeMillis()));
+                ps.executeUpdate();
+            }
+        });
+        printRate("Autocommit per row", rows, autocommitNanos);
+
+        AuditLogDAO auditLogDAO = new AuditLogDAO();
+        GroupCommitWriter writer = DatabaseManager.getGroupCommitWriter();
+        long groupNanos = runConcurrently(WRITER_THREADS * 2, rows, i -> {
+            auditLogDAO.logSuccess(i, null, AuditLogDAO.ACTION.CREATE, "Bench", String.valueOf(i)).get();
+        }, writer::flush);
+        printRate("Group commit", rows, groupNanos);
+
+        GroupCommitWriter.Metrics metrics = writer.metrics();
+        System.out.println("  • Batches: " + metrics.batches() +
+            String.format(" (avg %.1f rows, largest %d)", metrics.averageBatchSize(), metrics.largestBatch()));
+        System.out.println("  • Committed: " + metrics.committed() + ", failed: " + metrics.failed() +
+            ", rejected: " + metrics.rejected() + ", queue depth now: " + metrics.queueDepth());
+        System.out.println("  • Speed-up: " + String.format("%.1fx", autocommitNanos / (double) groupNanos));
+    }
+
+    private static void benchmarkDonations(int donations) throws Exception {
+        System.out.println(ANSI_BLUE + "\n[DONATIONS] " + donations + " monetary donations, single thread" + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+
+        int[] fixture = seedDonationFixture();
+        int donorId = fixture[0];
+        int orphanageId = fixture[1];
+
+        DonationDAO donationDAO = new DonationDAO();
+        OrphanageDAO orphanageDAO = new OrphanageDAO();
+        UserDAO userDAO = new UserDAO();
+        NotificationDAO notificationDAO = new NotificationDAO();
+        AuditLogDAO auditLogDAO = new AuditLogDAO();
+
+        // The flow as it ran before units of work: every DAO call on its own connection and autocommit
+        BenchOperation separate = i -> {
+            Donation created = donationDAO.create(Donation.createMonetary(donorId, orphanageId, 100.0 + i, "EFT")).get();
+            donationDAO.markCompleted(created.donationId(), "TXN" + i).get();
+            orphanageDAO.findById(orphanageId).get().forEach(orphanage ->
+                userDAO.findById(orphanage.userId()).get().forEach(user ->
+                    notificationDAO.create(Notification.create(user.userId(), Notification.TYPE_DONATION,
+                        "New Donation Received", "You received a donation", Notification.PRIORITY_HIGH))));
+            auditLogDAO.logSuccess(donorId, null, AuditLog.ACTION_DONATE, "Donation", created.donationId().toString());
+            donationDAO.findById(created.donationId()).get().get();
+        };
+
+        DonorService donorService = new DonorService();
+        DonorService.MonetaryDonationRequest request = new DonorService.MonetaryDonationRequest(
+            orphanageId, Option.none(), 100.0, "EFT", null, false, false, false,
+            null, Option.none(), "Keep it up", "benchmark");
+        BenchOperation unitOfWork = i -> donorService.makeMonetaryDonation(request, donorId).get();
+
+        int warmup = Math.max(1, donations / 10);
+        runConcurrently(1, warmup, separate, DatabaseManager.getGroupCommitWriter()::flush);
+        runConcurrently(1, warmup, unitOfWork);
+
+        long separateNanos = runConcurrently(1, donations, separate, DatabaseManager.getGroupCommitWriter()::flush);
+        printRate("Separate autocommits", donations, separateNanos);
+        long unitNanos = runConcurrently(1, donations, unitOfWork);
+        printRate("Unit of work", donations, unitNanos);
+
+        System.out.println("  • Speed-up: " + String.format("%.1fx", separateNanos / (double) unitNanos));
+    }
+
+    /**
+     * The cache is fixed when the pools start, so each setting runs in its own JVM.
+     */
+    private static void benchmarkPagination(int rows) throws Exception {
+        final int pageSize = 50;
+        System.out.println(ANSI_BLUE + "\n=== Pagination: " + rows + " donations, " + pageSize + " per page ===" + ANSI_RESET);
+        int[] fixture = seedDonationFixture();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                 INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, DonationDate, Status)
+                 SELECT ?, ?, 'Money', n % 500 + 10, 1700000000000 + (n / 3) * 60000, 'Completed' FROM seq
+             """)) {
+            // n / 3 gives runs of equal timestamps, so the DonationID tie-breaker is exercised
+            ps.setInt(1, rows);
+            ps.setInt(2, fixture[0]);
+            ps.setInt(3, fixture[1]);
+            ps.executeUpdate();
+        }
+
+        // Walk every page through the DAO, keeping the cursor that leads to each one
+        DonationDAO dao = new DonationDAO();
+        for (int i = 0; i < 200; i++) {
+            dao.findPage(Option.none(), pageSize).get();
+        }
+        int pages = (rows + pageSize - 1) / pageSize;
+        List<Option<String>> cursors = new ArrayList<>(pages);
+        Option<String> cursor = Option.none();
+        int seen = 0;
+        long walkStart = System.nanoTime();
+        for (int page = 0; page < pages; page++) {
+            cursors.add(cursor);
+            Page<Donation> result = dao.findPage(cursor, pageSize).get();
+            seen += result.size();
+            cursor = result.nextCursor();
+        }
+        long walkNanos = System.nanoTime() - walkStart;
+        if (seen != rows || cursor.isDefined()) {
+            System.out.println(ANSI_RED + "  ✗ Keyset walk returned " + seen + " of " + rows + " rows" + ANSI_RESET);
+        }
+        System.out.printf("  Full keyset walk: %d pages in %.0f ms%n", pages, walkNanos / 1_000_000.0);
+
+        System.out.printf("  %-10s %14s %14s%n", "Depth", "OFFSET (ms)", "Keyset (ms)");
+        String offsetSql = "SELECT * FROM TblDonations ORDER BY DonationDate DESC LIMIT ? OFFSET ?";
+        for (double depth : new double[] { 0.0, 0.1, 0.5, 0.9, 0.999 }) {
+            int page = Math.min(pages - 1, (int) (pages * depth));
+            long offsetNanos = Long.MAX_VALUE;
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long start = System.nanoTime();
+                try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                     PreparedStatement ps = conn.prepareStatement(offsetSql)) {
+                    ps.setInt(1, pageSize);
+                    ps.setInt(2, page * pageSize);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        int columns = rs.getMetaData().getColumnCount();
+                        while (rs.next()) {
+                            for (int column = 1; column <= columns; column++) {
+                                rs.getObject(column);
+                            }
+                        }
+                    }
+                }
+                offsetNanos = Math.min(offsetNanos, System.nanoTime() - start);
+            }
+            long keysetNanos = Long.MAX_VALUE;
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long start = System.nanoTime();
+                dao.findPage(cursors.get(page), pageSize).get();
+                keysetNanos = Math.min(keysetNanos, System.nanoTime() - start);
+            }
+            System.out.printf("  page %-5d %14.2f %14.2f%n", page,
+                offsetNanos / 1_000_000.0, keysetNanos / 1_000_000.0);
+        }
+    }
+
+    private static void benchmarkStreaming(int rows) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Bulk reads: " + rows + " audit entries ===" + ANSI_RESET);
+        // Full scans are slow by design here; keep them out of the slow-query log
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                 INSERT INTO TblAuditLog (UserID, Username, Action, EntityType, EntityID, NewValue, Timestamp, Success)
+                 SELECT CASE WHEN n % 10 = 0 THEN NULL ELSE n % 1000 END, 'user' || (n % 1000), 'UPDATE',
+                        'Orphanage', n % 5000, 'Changed field ' || n, 1700000000000 + n * 1000, 1
+                 FROM seq
+             """)) {
+            ps.setInt(1, rows);
+            ps.executeUpdate();
+        }
+        AuditLogDAO dao = new AuditLogDAO();
+        LocalDateTime from = LocalDateTime.of(2000, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+        // The old row-by-row List.append, on a slice small enough to finish
+        int slice = Math.min(rows, 20_000);
+        dao.getRecentLogs(slice).get();
+        long appendNanos = timeAppendLoop(slice);
+        long start = System.nanoTime();
+        int collected = dao.getRecentLogs(slice).get().size();
+        long collectNanos = System.nanoTime() - start;
+        System.out.printf("  %,d rows  List.append loop: %8.0f ms   buffered: %6.0f ms%n",
+            collected, appendNanos / 1_000_000.0, collectNanos / 1_000_000.0);
+
+        long baseline = usedHeapAfterGc();
+        start = System.nanoTime();
+        io.vavr.collection.List<AuditLog> all = dao.findAll(from, to).get();
+        long listNanos = System.nanoTime() - start;
+        long listHeap = usedHeapAfterGc() - baseline;
+        System.out.printf("  findAll: %,d rows in %6.0f ms, %6.1f MB retained%n",
+            all.size(), listNanos / 1_000_000.0, listHeap / 1_048_576.0);
+        all = null;
+
+        long streamBaseline = usedHeapAfterGc();
+        long[] midStreamHeap = new long[1];
+        start = System.nanoTime();
+        long streamed;
+        try (java.util.stream.Stream<AuditLog> entries = dao.stream(from, to).get()) {
+            AtomicLong seen = new AtomicLong();
+            entries.forEach(entry -> {
+                if (seen.incrementAndGet() == rows / 2) {
+                    midStreamHeap[0] = usedHeapAfterGc() - streamBaseline;
+                }
+            });
+            streamed = seen.get();
+        }
+        long streamNanos = System.nanoTime() - start;
+        System.out.printf("  stream:  %,d rows in %6.0f ms, %6.1f MB retained halfway (incl. one GC)%n",
+            streamed, streamNanos / 1_000_000.0, Math.max(0, midStreamHeap[0]) / 1_048_576.0);
+    }
+
+    private static long timeAppendLoop(int rows) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM TblAuditLog ORDER BY Timestamp DESC LIMIT ?")) {
+            ps.setInt(1, rows);
+            try (ResultSet rs = ps.executeQuery()) {
+                io.vavr.collection.List<String> entries = io.vavr.collection.List.empty();
+                while (rs.next()) {
+                    entries = entries.append(rs.getString("NewValue"));
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void benchmarkDonorLookups(int donations) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Donor lookups: " + donations + " donations, one orphanage ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int donors = seedUsers(donations);
+        int[] fixture = seedDonationFixture();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                 INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, DonationDate, Status)
+                 SELECT n % ? + 1, ?, 'Money', 100, 1700000000000 + n * 1000, 'Completed' FROM seq
+             """)) {
+            ps.setInt(1, donations);
+            ps.setInt(2, donors);
+            ps.setInt(3, fixture[1]);
+            ps.executeUpdate();
+        }
+
+        DonationDAO donationDAO = new DonationDAO();
+        UserDAO userDAO = new UserDAO();
+        DonorService donorService = new DonorService();
+        String orphanageId = String.valueOf(fixture[1]);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            donorService.getDonationsWithDonorForOrphanage(orphanageId).get();
+        }
+
+        // What getDonationsWithDonorForOrphanage used to do: one findById per donation
+        QueryMetrics.reset();
+        long start = System.nanoTime();
+        int named = 0;
+        for (Donation donation : donationDAO.findByOrphanage(fixture[1]).get()) {
+            if (userDAO.findById(donation.donorId()).get().isDefined()) {
+                named++;
+            }
+        }
+        long perRowNanos = System.nanoTime() - start;
+        long perRowStatements = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+
+        QueryMetrics.reset();
+        start = System.nanoTime();
+        int batched = donorService.getDonationsWithDonorForOrphanage(orphanageId).get()
+            .count(row -> !row.donorName().equals("Anonymous"));
+        long batchedNanos = System.nanoTime() - start;
+        long batchedStatements = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+
+        if (named != batched) {
+            System.out.println(ANSI_RED + "  ✗ Donor names differ: " + named + " vs " + batched + ANSI_RESET);
+        }
+        System.out.printf("  %-24s %8.0f ms %8d statements%n", "findById per donation", perRowNanos / 1_000_000.0, perRowStatements);
+        System.out.printf("  %-24s %8.0f ms %8d statements%n", "findByIds", batchedNanos / 1_000_000.0, batchedStatements);
+    }
+
+    private static void benchmarkDonorStatistics(int maxDonations) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Donor statistics: up to " + maxDonations + " donations ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        DonationDAO dao = new DonationDAO();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.printf("  %-10s %16s %16s %16s %16s%n", "Donations", "Java (ms)", "Java (alloc MB)", "SQL (ms)", "SQL (alloc MB)");
+        int seeded = 0;
+        for (int size = 1_000; size <= maxDonations; size *= 10) {
+            try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+                 PreparedStatement ps = conn.prepareStatement("""
+                     WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                     INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, RecurringDonation,
+                                               DonationDate, Status)
+                     SELECT ?, ? + n % 40, CASE WHEN n % 4 = 0 THEN 'Food' ELSE 'Money' END,
+                            CASE WHEN n % 4 = 0 THEN NULL ELSE n % 300 END, n % 7 = 0,
+                            1700000000000 + n * 1000, 'Completed' FROM seq
+                 """)) {
+                ps.setInt(1, size - seeded);
+                ps.setInt(2, fixture[0]);
+                ps.setInt(3, fixture[1]);
+                ps.executeUpdate();
+            }
+            seeded = size;
+
+            long[] javaCost = measure(threads, () -> aggregateInJava(dao, fixture[0]));
+            long[] sqlCost = measure(threads, () -> dao.getDonorStatistics(fixture[0]).get());
+            System.out.printf("  %-10d %16.1f %16.1f %16.1f %16.2f%n", size,
+                javaCost[0] / 1_000_000.0, javaCost[1] / 1_048_576.0,
+                sqlCost[0] / 1_000_000.0, sqlCost[1] / 1_048_576.0);
+            if (!aggregateInJava(dao, fixture[0]).equals(dao.getDonorStatistics(fixture[0]).get())) {
+                System.out.println(ANSI_RED + "  ✗ Java and SQL statistics differ" + ANSI_RESET);
+            }
+        }
+    }
+
+    /**
+     * The previous DonorService.getDonorStatistics: load every donation, then count in Java.
+     */
+    private static DonorStatistics aggregateInJava(DonationDAO dao, int donorId) {
+        io.vavr.collection.List<Donation> donations = dao.findByDonor(donorId).get();
+        io.vavr.collection.List<String> orphanages = donations.map(Donation::orphanageId).distinct().sorted()
+            .map(Object::toString);
+        return new DonorStatistics(
+            donations.size(),
+            donations.filter(d -> d.donationType().equals(Donation.TYPE_MONEY))
+                .map(d -> d.amount().getOrElse(0.0)).sum().doubleValue(),
+            donations.filter(d -> !d.donationType().equals(Donation.TYPE_MONEY)).size(),
+            donations.filter(Donation::recurringDonation).size(),
+            orphanages.size(),
+            orphanages);
+    }
+
+    /**
+     * Best-of-three wall time and bytes allocated by the calling thread.
+     */
+    private static long[] measure(com.sun.management.ThreadMXBean threads, java.util.function.Supplier<?> call) {
+        call.get();
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            call.get();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, threads.getCurrentThreadAllocatedBytes() - bytesBefore);
+        }
+        return new long[] { bestNanos, bestBytes };
+    }
+
+    private static void benchmarkSystemStatistics(int users) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== System statistics: " + users + " users ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                INSERT INTO TblUsers (Username, PasswordHash, Email, UserRole, FullName, AccountStatus)
+                SELECT 'user' || n, 'x', 'user' || n || '@bench.local',
+                       CASE n %% 4 WHEN 0 THEN 'Donor' WHEN 1 THEN 'Volunteer' WHEN 2 THEN 'OrphanageRep' ELSE 'Admin' END,
+                       'Bench User ' || n, CASE WHEN n %% 20 = 0 THEN 'Suspended' ELSE 'Active' END
+                FROM seq
+            """.formatted(users));
+            stmt.executeUpdate("""
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                INSERT INTO TblResourceRequests (OrphanageID, ResourceType, ResourceDescription, Quantity,
+                                                 UrgencyLevel, Status, CreatedBy)
+                SELECT %d, 'Food', 'Bench request ' || n, 10,
+                       CASE n %% 4 WHEN 0 THEN 'Critical' WHEN 1 THEN 'High' WHEN 2 THEN 'Medium' ELSE 'Low' END,
+                       CASE WHEN n %% 3 = 0 THEN 'Fulfilled' ELSE 'Open' END, %d
+                FROM seq
+            """.formatted(users / 10, fixture[1], fixture[0]));
+            stmt.executeUpdate("ANALYZE");
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long[] perDao = measure(threads, DbBenchmark::systemStatisticsPerDao);
+        long[] single = measure(threads, () -> new StatisticsDAO().getSystemStatistics().get());
+        System.out.printf("  %-28s %10.0f ms %10.1f MB allocated%n", "Ten DAO calls (List::size)",
+            perDao[0] / 1_000_000.0, perDao[1] / 1_048_576.0);
+        System.out.printf("  %-28s %10.0f ms %10.3f MB allocated%n", "One aggregate query",
+            single[0] / 1_000_000.0, single[1] / 1_048_576.0);
+        if (!systemStatisticsPerDao().equals(new StatisticsDAO().getSystemStatistics().get())) {
+            System.out.println(ANSI_RED + "  ✗ Counters differ" + ANSI_RESET);
+        }
+    }
+
+    /**
+     * The previous AdminService.getSystemStatistics: materialize each list and count it.
+     */
+    private static com.orphanagehub.model.SystemStatistics systemStatisticsPerDao() {
+        UserDAO userDAO = new UserDAO();
+        OrphanageDAO orphanageDAO = new OrphanageDAO();
+        DonationDAO donationDAO = new DonationDAO();
+        ResourceRequestDAO requestDAO = new ResourceRequestDAO();
+        return new com.orphanagehub.model.SystemStatistics(
+            userDAO.findAllActive().get().size(),
+            userDAO.findByRole("Donor").get().size(),
+            userDAO.findByRole("Volunteer").get().size(),
+            userDAO.findByRole("OrphanageRep").get().size(),
+            orphanageDAO.findAllVerified().get().size(),
+            orphanageDAO.findByVerificationStatus("Pending").get().size(),
+            donationDAO.getTotalDonations().get(),
+            donationDAO.getMonthlyDonationCount().get(),
+            requestDAO.findOpenRequests().get().size(),
+            requestDAO.findUrgentRequests().get().size(),
+            new VolunteerOpportunityDAO().findOpenOpportunities().get().size(),
+            new VolunteerApplicationDAO().getPendingApplicationCount().get());
+    }
+
+    private static void benchmarkRollups(int donations) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Rollup counters: " + donations + " donations ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        String insertSql = """
+            WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+            INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, RecurringDonation, DonationDate, Status)
+            SELECT %d + n %% 50, %d + n %% 20, CASE WHEN n %% 5 = 0 THEN 'Food' ELSE 'Money' END,
+                   CASE WHEN n %% 5 = 0 THEN NULL ELSE n %% 400 + 0.25 END, n %% 9 = 0,
+                   CAST(strftime('%%s', 'now') AS INTEGER) * 1000 - n * 60000,
+                   CASE n %% 3 WHEN 0 THEN 'Pending' ELSE 'Completed' END
+            FROM seq
+            """;
+
+        // Write cost: the same bulk insert with and without the triggers
+        int half = donations / 2;
+        long withTriggers;
+        long withoutTriggers;
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            long start = System.nanoTime();
+            stmt.executeUpdate(insertSql.formatted(half, fixture[0], fixture[1]));
+            withTriggers = System.nanoTime() - start;
+            for (String trigger : new String[] { "insert", "update", "delete" }) {
+                stmt.execute("DROP TRIGGER trg_donation_rollup_" + trigger);
+            }
+            start = System.nanoTime();
+            stmt.executeUpdate(insertSql.formatted(donations - half, fixture[0], fixture[1]));
+            withoutTriggers = System.nanoTime() - start;
+        }
+        printRate("Insert with triggers", half, withTriggers);
+        printRate("Insert without triggers", donations - half, withoutTriggers);
+
+        StatisticsDAO statisticsDAO = new StatisticsDAO();
+        long start = System.nanoTime();
+        statisticsDAO.rebuildRollups().get();
+        System.out.printf("  Rebuild: %.0f ms%n", (System.nanoTime() - start) / 1_000_000.0);
+
+        // Mixed changes through the triggers, then compare against a fresh rebuild
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("UPDATE TblDonations SET Status = 'Completed' WHERE DonationID % 7 = 0");
+            stmt.executeUpdate("UPDATE TblDonations SET Amount = Amount * 2 WHERE DonationID % 11 = 0");
+            stmt.executeUpdate("UPDATE TblDonations SET OrphanageID = OrphanageID + 1 WHERE DonationID % 13 = 0");
+            stmt.executeUpdate("DELETE FROM TblDonations WHERE DonationID % 17 = 0");
+        }
+        String before = rollupSnapshot();
+        statisticsDAO.rebuildRollups().get();
+        String after = rollupSnapshot();
+        System.out.println(before.equals(after)
+            ? ANSI_GREEN + "  ✓ Trigger-maintained counters match a full rebuild" + ANSI_RESET
+            : ANSI_RED + "  ✗ Counters drifted from a full rebuild" + ANSI_RESET);
+
+        DonationDAO dao = new DonationDAO();
+        String[][] scans = {
+            { "getTotalDonations", "SELECT COALESCE(SUM(Amount), 0) FROM TblDonations WHERE Status = 'Completed' AND DonationType = 'Money'" },
+            { "getMonthlyDonationCount", "SELECT COUNT(*) FROM TblDonations WHERE Status = 'Completed' AND " +
+                "strftime('%Y-%m', datetime(DonationDate / 1000, 'unixepoch')) = strftime('%Y-%m', 'now')" },
+            { "getStatistics(orphanage)", "SELECT TOTAL(CASE WHEN DonationType = 'Money' THEN Amount END), COUNT(*) " +
+                "FROM TblDonations WHERE OrphanageID = " + fixture[1] }
+        };
+        java.util.function.Supplier<?>[] reads = new java.util.function.Supplier<?>[] {
+            () -> dao.getTotalDonations().get(),
+            () -> dao.getMonthlyDonationCount().get(),
+            () -> dao.getStatistics(fixture[1]).get()
+        };
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        System.out.printf("  %-26s %12s %12s%n", "Read", "Scan (ms)", "Rollup (ms)");
+        for (int i = 0; i < scans.length; i++) {
+            String scanSql = scans[i][1];
+            long[] scan = measure(threads, () -> {
+                try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+                     Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery(scanSql)) {
+                    return rs.next() ? rs.getObject(1) : null;
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            long[] rollup = measure(threads, reads[i]);
+            System.out.printf("  %-26s %12.3f %12.3f%n", scans[i][0], scan[0] / 1_000_000.0, rollup[0] / 1_000_000.0);
+        }
+    }
+
+    private static String rollupSnapshot() throws SQLException {
+        StringBuilder snapshot = new StringBuilder();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("""
+                 SELECT Scope, ScopeKey, Status, DonationCount, printf('%.2f', MoneyTotal), ItemCount, RecurringCount
+                 FROM TblDonationRollup WHERE DonationCount <> 0 ORDER BY 1, 2, 3
+             """)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                for (int column = 1; column <= columns; column++) {
+                    snapshot.append(rs.getString(column)).append('|');
+                }
+                snapshot.append('\n');
+            }
+        }
+        return snapshot.toString();
+    }
+
+    private static void benchmarkFindById(int calls) throws Exception {
+        String cacheSize = System.getProperty("db.statementCache.size");
+        if (cacheSize == null) {
+            for (String size : new String[] { "0", "64" }) {
+                Process child = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    "-Ddb.statementCache.size=" + size,
+                    "-Ddb.entityCache.maxSize=0",
+                    DbBenchmark.class.getName(), "findbyid", String.valueOf(calls))
+                    .inheritIO()
+                    .start();
+                child.waitFor();
+            }
+            return;
+        }
+
+        System.out.println(ANSI_BLUE + "\n[FIND BY ID] " + calls + " UserDAO.findById calls, statement cache size " +
+            cacheSize + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+
+        int users = seedUsers(SEED_ROWS);
+        UserDAO userDAO = new UserDAO();
+        BenchOperation lookup = i -> userDAO.findById(1 + i % users).get().get();
+
+        runConcurrently(1, calls / 10, lookup);
+        StatementCache.Stats before = DatabaseManager.getStatementCacheStats();
+        long nanos = runConcurrently(1, calls, lookup);
+        StatementCache.Stats after = DatabaseManager.getStatementCacheStats();
+
+        printRate("findById", calls, nanos);
+        long hits = after.hits() - before.hits();
+        long misses = after.misses() - before.misses();
+        System.out.println("  • Statement cache: " + hits + " hits, " + misses + " misses, " +
+            after.evictions() + " evictions");
+    }
+
+    private static void benchmarkEntityCache(int calls) throws Exception {
+        String cacheSize = System.getProperty("db.entityCache.maxSize");
+        if (cacheSize == null) {
+            for (String size : new String[] { "0", "10000" }) {
+                Process child = new ProcessBuilder(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    "-Ddb.entityCache.maxSize=" + size,
+                    DbBenchmark.class.getName(), "entitycache", String.valueOf(calls))
+                    .inheritIO()
+                    .start();
+                child.waitFor();
+            }
+            return;
+        }
+
+        System.out.println(ANSI_BLUE + "\n[ENTITY CACHE] " + calls + " skewed UserDAO.findById calls, entity cache size " +
+            cacheSize + ANSI_RESET);
+        System.out.println("════════════════════════════════════════");
+
+        int users = seedUsers(SEED_ROWS);
+        UserDAO userDAO = new UserDAO();
+        // Nine in ten lookups hit 100 popular users, like the same donors and reps resolved per screen
+        BenchOperation lookup = i -> userDAO.findById(
+            i % 10 == 0 ? 1 + ThreadLocalRandom.current().nextInt(users) : 1 + i % 100).get().get();
+
+        runConcurrently(4, calls / 10, lookup);
+        QueryMetrics.reset();
+        CacheStats before = UserDAO.cacheStats();
+        long nanos = runConcurrently(4, calls, lookup);
+        CacheStats stats = UserDAO.cacheStats().minus(before);
+        long queries = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+
+        printRate("findById", calls, nanos);
+        System.out.printf("  • Queries: %d, cache hit rate %.1f%%, loads %d, evictions %d%n",
+            queries, stats.hitRate() * 100, stats.loadCount(), stats.evictionCount());
+        if ("0".equals(cacheSize)) {
+            return;
+        }
+
+        // Concurrent misses for one key should make a single query
+        int coldId = users;
+        userDAO.update(userDAO.findById(coldId).get().get()).get();
+        CountDownLatch ready = new CountDownLatch(1);
+        CacheStats beforeBurst = UserDAO.cacheStats();
+        ExecutorService burst = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            burst.submit(() -> {
+                ready.await();
+                return userDAO.findById(coldId).get().get();
+            });
+        }
+        ready.countDown();
+        burst.shutdown();
+        burst.awaitTermination(1, TimeUnit.MINUTES);
+        long burstLoads = UserDAO.cacheStats().minus(beforeBurst).loadCount();
+        System.out.println((burstLoads <= 1 ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "8 concurrent misses made " + burstLoads + " load(s)" + ANSI_RESET);
+
+        User user = userDAO.findById(1).get().get();
+        userDAO.update(user.withAccountStatus("Suspended")).get();
+        String status = userDAO.findById(1).get().get().accountStatus();
+        System.out.println(("Suspended".equals(status) ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "update invalidates: findById sees status " + status + ANSI_RESET);
+    }
+
+    private static void benchmarkReferenceData(int orphanages) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Reference data: " + orphanages + " orphanages ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedOrphanages(orphanages, fixture[1]);
+        ReferenceData.refresh().get();
+
+        OrphanageDAO dao = new OrphanageDAO();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        // What loadLocations did before: every orphanage row, just to list the provinces
+        long[] scan = measure(threads, () -> io.vavr.collection.List.ofAll(dao.findAll().get())
+            .map(Orphanage::province).distinct().sorted());
+        long[] registry = measure(threads, () -> dao.getAllProvinces().get());
+        System.out.printf("  %-28s %10.3f ms %12.2f MB%n", "findAll + distinct", scan[0] / 1e6, scan[1] / 1e6);
+        System.out.printf("  %-28s %10.3f ms %12.2f MB%n", "ReferenceData", registry[0] / 1e6, registry[1] / 1e6);
+
+        QueryMetrics.reset();
+        int valid = 0;
+        for (int i = 0; i < 100_000; i++) {
+            valid += ValidationUtil.isValidProvince.apply("Gauteng").get() ? 1 : 0;
+            valid += ValidationUtil.isValidResourceType.apply("Food").get() ? 1 : 0;
+            valid += ValidationUtil.isValidUrgencyLevel.apply("High").get() ? 1 : 0;
+            valid += ValidationUtil.isValidRole.apply("Donor").get() ? 1 : 0;
+        }
+        long statements = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+        System.out.println((statements == 0 ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") + valid +
+            " validations ran " + statements + " statements" + ANSI_RESET);
+
+        // A new orphanage in a new city shows up after the change-triggered reload
+        Orphanage template = dao.findById(fixture[1]).get().get();
+        dao.update(template.withAddress(template.address(), "Bench New City", template.province())).get();
+        long start = System.nanoTime();
+        while (!ReferenceData.citiesInUse().contains("Bench New City") && System.nanoTime() - start < 5_000_000_000L) {
+            Thread.sleep(10);
+        }
+        boolean seen = ReferenceData.citiesInUse().contains("Bench New City");
+        System.out.println((seen ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") + "city change visible after " +
+            (System.nanoTime() - start) / 1_000_000 + " ms" + ANSI_RESET);
+    }
+
+    private static void benchmarkSearch(int orphanages) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Search: " + orphanages + " orphanages ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+
+        // The triggers index every seeded row as it is inserted
+        long start = System.nanoTime();
+        seedOrphanages(orphanages, fixture[1]);
+        long indexedNanos = System.nanoTime() - start;
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TRIGGER trg_orphanage_search_insert");
+            start = System.nanoTime();
+            stmt.executeUpdate("INSERT INTO TblOrphanages (OrphanageName, Address, City, Province, ContactPerson, " +
+                "ContactEmail, ContactPhone, Description, VerificationStatus, UserID) " +
+                "SELECT OrphanageName, Address, City, Province, ContactPerson, ContactEmail, ContactPhone, " +
+                "Description, VerificationStatus, UserID FROM TblOrphanages WHERE OrphanageID <= " + (orphanages / 10));
+            long plainNanos = System.nanoTime() - start;
+            stmt.executeUpdate("DELETE FROM TblOrphanages WHERE OrphanageID > " + (orphanages + 1));
+            System.out.printf("  Insert rate: %,.0f rows/s indexed, %,.0f rows/s without the index%n",
+                orphanages / (indexedNanos / 1e9), (orphanages / 10) / (plainNanos / 1e9));
+        }
+        start = System.nanoTime();
+        new SearchService().rebuildIndex().get();
+        System.out.printf("  Rebuild of all indexes: %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        OrphanageDAO dao = new OrphanageDAO();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        String[] queries = { "hope", "sunr", "blankets winter", "city 17", "harmony 4242", "medic sup", "zzz" };
+        System.out.printf("  %-18s %9s %12s %12s %12s%n", "query", "matches", "LIKE", "FTS page 1", "FTS page 5");
+        boolean onTarget = true;
+        for (String query : queries) {
+            long[] like = measure(threads, () -> likeSearch(query, 50));
+            long[] first = measure(threads, () -> dao.search(query, Option.none(), Option.none(), Option.none(), 50).get());
+            long[] fifth = measure(threads, () -> {
+                Option<String> cursor = Option.none();
+                for (int page = 0; page < 5; page++) {
+                    Page<Orphanage> result = dao.search(query, Option.none(), Option.none(), cursor, 50).get();
+                    if (!result.hasNext()) {
+                        break;
+                    }
+                    cursor = result.nextCursor();
+                }
+                return cursor;
+            });
+            long matches = matchCount(query);
+            // Every match is ranked, about 2 µs each, so broad queries cost in proportion to their matches
+            onTarget &= first[0] < (matches <= 1_000 ? 25_000_000L : 500_000_000L);
+            System.out.printf("  %-18s %9d %9.1f ms %9.1f ms %9.1f ms%n", "\"" + query + "\"",
+                matches, like[0] / 1e6, first[0] / 1e6, fifth[0] / 1e6 / 5);
+        }
+        System.out.println((onTarget ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "targets: first page < 25 ms up to 1,000 matches, < 500 ms beyond" + ANSI_RESET);
+
+        // Filters narrow the ranked matches; the need filter joins open requests
+        long[] filtered = measure(threads, () -> dao.search("hope", Option.of("Gauteng"), Option.none(),
+                                                             Option.none(), 50).get());
+        System.out.printf("  %-18s %9s %9s %12.1f ms%n", "\"hope\" + province", "", "", filtered[0] / 1e6);
+
+        // Writes through the DAO are searchable at once, and gone once removed
+        Orphanage template = dao.findById(fixture[1] + 1).get().get();
+        dao.update(template.withAddress(template.address(), "Zebracorn Falls", template.province())).get();
+        boolean found = dao.search("zebrac fal", Option.none(), Option.none(), Option.none(), 10).get()
+            .items().exists(o -> o.orphanageId().equals(template.orphanageId()));
+        dao.update(template).get();
+        boolean gone = dao.search("zebrac", Option.none(), Option.none(), Option.none(), 10).get().items().isEmpty();
+        System.out.println((found && gone ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "city change searchable at once: found " + found + ", old city gone " + gone + ANSI_RESET);
+    }
+
+    private static void benchmarkGeo(int orphanages) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Location search: " + orphanages + " orphanages ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedOrphanages(orphanages, fixture[1]);
+
+        OrphanageDAO dao = new OrphanageDAO();
+        DonorService.LocationPoint capeTown = new DonorService.LocationPoint(-33.92, 18.42);
+        DonorService.LocationPoint johannesburg = new DonorService.LocationPoint(-26.20, 28.05);
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.printf("  %-26s %9s %12s %10s %12s %10s%n", "query", "results", "load all", "", "index", "");
+        boolean same = true;
+        for (double radius : new double[] { 10, 50, 200 }) {
+            for (DonorService.LocationPoint point : List.of(capeTown, johannesburg)) {
+                long[] scan = measure(threads, () -> bruteForceWithinRadius(dao, point, radius));
+                long[] indexed = measure(threads, () ->
+                    dao.findWithinRadius(point.latitude(), point.longitude(), radius).get());
+                io.vavr.collection.List<Integer> expected = bruteForceWithinRadius(dao, point, radius);
+                io.vavr.collection.List<Integer> actual = dao.findWithinRadius(point.latitude(), point.longitude(), radius)
+                    .get().map(nearby -> nearby.orphanage().orphanageId());
+                same &= expected.sorted().equals(actual.sorted());
+                System.out.printf("  %-26s %9d %9.1f ms %7.1f MB %9.2f ms %7.2f MB%n",
+                    String.format("%.0f km of (%.2f, %.2f)", radius, point.latitude(), point.longitude()),
+                    actual.size(), scan[0] / 1e6, scan[1] / 1e6, indexed[0] / 1e6, indexed[1] / 1e6);
+            }
+        }
+        for (int k : new int[] { 1, 10, 100 }) {
+            long[] nearest = measure(threads, () -> dao.findNearest(capeTown.latitude(), capeTown.longitude(), k).get());
+            io.vavr.collection.List<OrphanageDAO.NearbyOrphanage> found =
+                dao.findNearest(capeTown.latitude(), capeTown.longitude(), k).get();
+            double kthDistance = found.last().distanceKm();
+            io.vavr.collection.List<Integer> closer = bruteForceWithinRadius(dao, capeTown, kthDistance);
+            same &= found.size() == k && closer.size() >= k
+                && found.map(nearby -> nearby.orphanage().orphanageId()).forAll(closer::contains);
+            System.out.printf("  %-26s %9d %12s %10s %9.2f ms %7.2f MB%n",
+                "nearest " + k, found.size(), "", "", nearest[0] / 1e6, nearest[1] / 1e6);
+        }
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "index results match the full scan" + ANSI_RESET);
+
+        // Any write to the coordinates moves the orphanage in the index in the same transaction
+        int moved = fixture[1] + 1;
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement(
+                 "UPDATE TblOrphanages SET Latitude = ?, Longitude = ? WHERE OrphanageID = ?")) {
+            ps.setDouble(1, -22.5);
+            ps.setDouble(2, 30.0);
+            ps.setInt(3, moved);
+            ps.executeUpdate();
+        }
+        OrphanageDAO.NearbyOrphanage nearestToNewSpot = dao.findNearest(-22.5, 30.0, 1).get().head();
+        System.out.println((nearestToNewSpot.orphanage().orphanageId() == moved ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "moved orphanage found at its new location, " +
+            String.format("%.3f km", nearestToNewSpot.distanceKm()) + ANSI_RESET);
+    }
+
+    private static void benchmarkOrphanageFilters(int orphanages) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Orphanage filters: " + orphanages + " orphanages ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedOrphanages(orphanages, fixture[1]);
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            // Spread capacity, occupancy and donation flags so each filter removes some rows
+            stmt.executeUpdate("""
+                UPDATE TblOrphanages SET Capacity = 40 + OrphanageID % 30, CurrentOccupancy = OrphanageID * 7 % 70,
+                                         AcceptsDonations = OrphanageID % 6 <> 0,
+                                         Status = CASE WHEN OrphanageID % 11 = 0 THEN 'Inactive' ELSE 'Active' END
+                """);
+        }
+
+        OrphanageDAO dao = new OrphanageDAO();
+        DonorService donorService = new DonorService();
+        DonorService.LocationPoint capeTown = new DonorService.LocationPoint(-33.92, 18.42);
+        List<DonorService.SearchCriteria> cases = List.of(
+            new DonorService.SearchCriteria("Gauteng", null, null, null, null, null, "name"),
+            new DonorService.SearchCriteria("Gauteng", "City 11", null, null, null, null, "name"),
+            new DonorService.SearchCriteria("Limpopo", null, null, null, true, true, "newest"),
+            new DonorService.SearchCriteria(null, null, null, null, true, true, null),
+            new DonorService.SearchCriteria("Western Cape", null, capeTown, 100.0, null, true, null));
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.printf("  %-38s %8s %12s %10s %12s %10s %12s%n",
+            "filters", "results", "in memory", "", "builder", "", "+ indexes");
+        long[][] builderTimes = new long[cases.size()][];
+        for (int i = 0; i < cases.size(); i++) {
+            DonorService.SearchCriteria criteria = cases.get(i);
+            builderTimes[i] = measure(threads, () -> donorService.searchOrphanages(criteria).get());
+        }
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get()) {
+            DbMigrator.migrate(conn);
+        }
+        boolean same = true;
+        for (int i = 0; i < cases.size(); i++) {
+            DonorService.SearchCriteria criteria = cases.get(i);
+            long[] inMemory = measure(threads, () -> filterInMemory(dao, criteria));
+            long[] indexed = measure(threads, () -> donorService.searchOrphanages(criteria).get());
+            io.vavr.collection.List<Integer> expected = filterInMemory(dao, criteria).map(Orphanage::orphanageId);
+            io.vavr.collection.List<Integer> actual = donorService.searchOrphanages(criteria).get().map(Orphanage::orphanageId);
+            same &= expected.equals(actual);
+            System.out.printf("  %-38s %8d %9.1f ms %7.1f MB %9.2f ms %7.2f MB %9.2f ms%n",
+                describe(criteria), actual.size(), inMemory[0] / 1e6, inMemory[1] / 1e6,
+                builderTimes[i][0] / 1e6, builderTimes[i][1] / 1e6, indexed[0] / 1e6);
+        }
+
+        // OrphanageService: verified and active in one city, by name
+        com.orphanagehub.service.OrphanageService service = new com.orphanagehub.service.OrphanageService();
+        long[] cityInMemory = measure(threads, () -> dao.findAll().get()
+            .filter(o -> o.city().equalsIgnoreCase("city 7"))
+            .filter(o -> o.isVerified() && o.isActive()));
+        long[] cityBuilder = measure(threads, () -> service.searchOrphanages(Option.some("city 7"), Option.none()).get());
+        io.vavr.collection.List<Integer> expected = dao.findAll().get()
+            .filter(o -> o.city().equalsIgnoreCase("city 7"))
+            .filter(o -> o.isVerified() && o.isActive())
+            .map(Orphanage::orphanageId);
+        io.vavr.collection.List<Integer> actual = service.searchOrphanages(Option.some("city 7"), Option.none()).get()
+            .map(Orphanage::orphanageId);
+        same &= expected.equals(actual);
+        System.out.printf("  %-38s %8d %9.1f ms %7.1f MB %12s %10s %9.2f ms%n",
+            "active in city 7 (OrphanageService)", actual.size(), cityInMemory[0] / 1e6, cityInMemory[1] / 1e6,
+            "", "", cityBuilder[0] / 1e6);
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "builder results and order match the in-memory filters" + ANSI_RESET);
+    }
+
+    private static void benchmarkRowMapping(int donations) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Row mapping: " + donations + " donations ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedDonations(donations, fixture);
+
+        DonationDAO dao = new DonationDAO();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long[] byLabel = measure(threads, () -> findByDonorByLabel(fixture[0]));
+        long[] byPosition = measure(threads, () -> dao.findByDonor(fixture[0]).get());
+
+        System.out.printf("  %-12s %14s %14s %14s%n", "mapper", "rows/s", "ns/row", "bytes/row");
+        for (Object[] row : new Object[][] { { "by label", byLabel }, { "by position", byPosition } }) {
+            long[] cost = (long[]) row[1];
+            System.out.printf("  %-12s %14.0f %14.0f %14.0f%n", row[0],
+                donations / (cost[0] / 1e9), (double) cost[0] / donations, (double) cost[1] / donations);
+        }
+        boolean same = findByDonorByLabel(fixture[0]).equals(dao.findByDonor(fixture[0]).get());
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "both mappers build the same donations" + ANSI_RESET);
+    }
+
+    private static void benchmarkProjection(int rows) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Table projections: " + rows + " donations and users ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedDonations(rows, fixture);
+        seedUsers(rows);
+
+        DonorService donorService = new DonorService();
+        com.orphanagehub.service.UserService userService = new com.orphanagehub.service.UserService();
+        String orphanageId = String.valueOf(fixture[1]);
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.printf("  %-30s %12s %14s %14s%n", "load", "time", "allocated", "retained");
+        printProjection("donations: records + donors", threads,
+            () -> donorService.getDonationsWithDonorForOrphanage(orphanageId).get());
+        printProjection("donations: rows", threads,
+            () -> donorService.getDonationRowsForOrphanage(orphanageId).get());
+        printProjection("users: records", threads, () -> userService.getAllUsers().get());
+        printProjection("users: rows", threads, () -> userService.getUserRows().get());
+
+        io.vavr.collection.List<DonorService.DonationWithDonor> records =
+            donorService.getDonationsWithDonorForOrphanage(orphanageId).get();
+        io.vavr.collection.List<DonationDAO.DonationRow> projected = donorService.getDonationRowsForOrphanage(orphanageId).get();
+        boolean same = records.size() == projected.size() && records.zip(projected).forAll(pair ->
+            pair._1.donation().donationId().equals(pair._2.donationId()) &&
+            pair._1.donorName().equals(pair._2.donorName()) &&
+            pair._1.donation().amount().equals(pair._2.amount()) &&
+            pair._1.donation().donationDate().equals(pair._2.donationDate()));
+        same &= userService.getAllUsers().get().map(User::username)
+            .equals(userService.getUserRows().get().map(UserDAO.UserRow::username));
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "rows show the same values as the full records" + ANSI_RESET);
+    }
+
+    private static void benchmarkTableModel(int rows) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== User table with " + rows + " users ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        seedUsers(rows);
+        com.orphanagehub.service.UserService userService = new com.orphanagehub.service.UserService();
+        String[] columns = { "Username", "Full Name", "Email", "Role", "Status", "Last Login", "Registered" };
+
+        // As the admin dashboard filled its table: every row read, then added one by one on the EDT
+        long before = usedHeapAfterGc();
+        long start = System.nanoTime();
+        io.vavr.collection.List<UserDAO.UserRow> users = userService.getUserRows().get();
+        long read = System.nanoTime() - start;
+        javax.swing.table.DefaultTableModel eager = new javax.swing.table.DefaultTableModel(columns, 0);
+        long edtStart = System.nanoTime();
+        javax.swing.SwingUtilities.invokeAndWait(() -> users.forEach(u -> eager.addRow(new Object[] {
+            u.username(), u.fullName().getOrElse(""), u.email(), u.userRole(), u.accountStatus(),
+            u.lastLogin().map(Object::toString).getOrElse("Never"), u.dateRegistered()
+        })));
+        long edt = System.nanoTime() - edtStart;
+        long eagerHeap = usedHeapAfterGc() - before;
+        System.out.printf("  all rows:  first screen after %7.1f ms (read %.1f ms, EDT busy %.1f ms), heap %.1f MB%n",
+            (System.nanoTime() - start) / 1e6, read / 1e6, edt / 1e6, eagerHeap / 1_048_576.0);
+        java.lang.ref.Reference.reachabilityFence(users);
+        java.lang.ref.Reference.reachabilityFence(eager);
+
+        before = usedHeapAfterGc();
+        com.orphanagehub.gui.PagedTableModel<UserDAO.UserRow> paged = new com.orphanagehub.gui.PagedTableModel<>(columns,
+            com.orphanagehub.gui.PagedTableModel.Source.of(userService::getUserRowIds, userService::getUserRowsByIds),
+            (u, column) -> switch (column) {
+                case 0 -> u.username();
+                case 1 -> u.fullName().getOrElse("");
+                case 2 -> u.email();
+                case 3 -> u.userRole();
+                case 4 -> u.accountStatus();
+                case 5 -> u.lastLogin().map(Object::toString).getOrElse("Never");
+                default -> u.dateRegistered();
+            });
+        start = System.nanoTime();
+        paged.reload().join();
+        long keys = System.nanoTime() - start;
+        long firstScreen = awaitScreen(paged, 0, SCREEN_ROWS)[0];
+        System.out.printf("  paged:     first screen after %7.1f ms (keys %.1f ms, rows %.1f ms)%n",
+            (System.nanoTime() - start) / 1e6, keys / 1e6, firstScreen / 1e6);
+
+        // Jumps anywhere in the table, as when dragging the scroll bar
+        java.util.Random random = new java.util.Random(42);
+        long[] jumps = new long[200];
+        long paint = 0;
+        for (int i = 0; i < jumps.length; i++) {
+            long[] screen = awaitScreen(paged, random.nextInt(Math.max(1, rows - SCREEN_ROWS)), SCREEN_ROWS);
+            jumps[i] = screen[0];
+            paint = Math.max(paint, screen[1]);
+        }
+        // Page-down through the table without pausing; the blocks either side are loaded ahead
+        int screens = Math.min(2_000, rows / SCREEN_ROWS);
+        long[] pages = new long[screens];
+        int waited = 0;
+        for (int i = 0; i < screens; i++) {
+            long[] screen = awaitScreen(paged, 500_000 % Math.max(1, rows - screens * SCREEN_ROWS) + i * SCREEN_ROWS, SCREEN_ROWS);
+            pages[i] = screen[0];
+            paint = Math.max(paint, screen[1]);
+            waited += screen[2] > 1 ? 1 : 0;
+        }
+        Arrays.sort(jumps);
+        Arrays.sort(pages);
+        System.out.printf("  jumps:     screen ready p50 %.2f ms, p95 %.2f ms, max %.2f ms%n",
+            jumps[jumps.length / 2] / 1e6, jumps[jumps.length * 95 / 100] / 1e6, jumps[jumps.length - 1] / 1e6);
+        System.out.printf("  page down: %d of %d screens waited on a load (no pause between screens), p95 %.2f ms, max %.2f ms%n",
+            waited, screens, pages[screens * 95 / 100] / 1e6, pages[screens - 1] / 1e6);
+        System.out.printf("  slowest paint of one screen on the EDT: %.3f ms, heap %.1f MB%n",
+            paint / 1e6, (usedHeapAfterGc() - before) / 1_048_576.0);
+        java.lang.ref.Reference.reachabilityFence(paged);
+
+        boolean same = true;
+        for (int row : new int[] { 0, rows / 2, rows - 1 }) {
+            awaitScreen(paged, row, 1);
+            Object[] cell = new Object[1];
+            javax.swing.SwingUtilities.invokeAndWait(() -> cell[0] = paged.getValueAt(row, 0));
+            same &= users.get(row).username().equals(cell[0]);
+        }
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "paged rows match the full list" + ANSI_RESET);
+    }
+
+    private static void benchmarkAsyncLoad(int rows) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Loading a " + rows + "-user table ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        seedUsers(rows);
+        com.orphanagehub.service.UserService userService = new com.orphanagehub.service.UserService();
+        javax.swing.table.DefaultTableModel model = new javax.swing.table.DefaultTableModel(
+            new String[] { "Username", "Full Name", "Email", "Role", "Status" }, 0);
+        java.util.function.Consumer<io.vavr.collection.List<UserDAO.UserRow>> fill = users -> {
+            model.setRowCount(0);
+            users.forEach(u -> model.addRow(new Object[] {
+                u.username(), u.fullName().getOrElse(""), u.email(), u.userRole(), u.accountStatus()
+            }));
+        };
+        userService.getUserRows().get();
+
+        // As the dashboards loaded: the query and the table update both on the EDT
+        long[] onEdt = probeEdt(() -> javax.swing.SwingUtilities.invokeAndWait(
+            () -> fill.accept(userService.getUserRows().get())));
+        com.orphanagehub.util.AsyncLoader loader = new com.orphanagehub.util.AsyncLoader("benchmark");
+        long[] async = probeEdt(() -> {
+            loader.load("users", userService::getUserRows, fill, Throwable::printStackTrace);
+            awaitIdle(loader, "users");
+        });
+        System.out.printf("  %-22s %10s %14s %14s%n", "load", "total", "EDT p99 wait", "EDT max wait");
+        System.out.printf("  %-22s %7.1f ms %11.1f ms %11.1f ms%n", "on the EDT", onEdt[0] / 1e6, onEdt[1] / 1e6, onEdt[2] / 1e6);
+        System.out.printf("  %-22s %7.1f ms %11.1f ms %11.1f ms%n", "AsyncLoader", async[0] / 1e6, async[1] / 1e6, async[2] / 1e6);
+        loader.lastTiming("users").forEach(t -> System.out.printf(
+            "  loader timing: queued %d ms, fetch %d ms, EDT %d ms%n", t.queuedMillis(), t.fetchMillis(), t.applyMillis()));
+
+        // A burst of refresh clicks: queued requests are replaced, a superseded result is dropped
+        AtomicLong fetches = new AtomicLong();
+        AtomicLong applied = new AtomicLong();
+        for (int click = 0; click < 10; click++) {
+            loader.load("users", () -> {
+                fetches.incrementAndGet();
+                return userService.getUserRows();
+            }, users -> {
+                applied.incrementAndGet();
+                fill.accept(users);
+            }, Throwable::printStackTrace);
+        }
+        awaitIdle(loader, "users");
+        System.out.printf("  10 refreshes in a burst: %d fetched, %d applied, %d rows shown%n",
+            fetches.get(), applied.get(), model.getRowCount());
+        boolean ok = applied.get() == 1 && fetches.get() < 10 && model.getRowCount() == rows;
+        System.out.println((ok ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "the latest refresh is shown once" + ANSI_RESET);
+    }
+
+    private static void benchmarkDetailsFanOut(int delayMillis) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Orphanage details, " + delayMillis + " ms simulated per query ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        DelayedDataSource.install(delayMillis);
+        int[] fixture = seedDonationFixture();
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20)
+                INSERT INTO TblResourceRequests (OrphanageID, ResourceType, ResourceDescription, Quantity,
+                                                 UrgencyLevel, Status, CreatedBy)
+                SELECT %d, 'Food', 'Bench request ' || n, 10, 'High', 'Open', %d FROM seq
+            """.formatted(fixture[1], fixture[0]));
+            stmt.executeUpdate("""
+                WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5)
+                INSERT INTO TblVolunteerOpportunities (OrphanageID, Title, Description, CreatedBy)
+                SELECT %d, 'Tutor ' || n, 'Homework help', %d FROM seq
+            """.formatted(fixture[1], fixture[0]));
+        }
+        seedDonations(50, fixture);
+
+        DonorService donorService = new DonorService();
+        int runs = 20;
+        long[] sequential = new long[runs];
+        long[] parallel = new long[runs];
+        DonorService.OrphanageDetailsWithNeeds expected = donorService.getOrphanageDetails(fixture[1]).get();
+        DonorService.OrphanageDetailsWithNeeds actual = donorService.getOrphanageDetailsAsync(fixture[1]).join();
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            donorService.getOrphanageDetails(fixture[1]).get();
+            sequential[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            donorService.getOrphanageDetailsAsync(fixture[1]).join();
+            parallel[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(sequential);
+        Arrays.sort(parallel);
+        System.out.printf("  %-34s %10s %10s%n", "details", "p50", "max");
+        System.out.printf("  %-34s %7.1f ms %7.1f ms%n", "getOrphanageDetails (sequential)",
+            sequential[runs / 2] / 1e6, sequential[runs - 1] / 1e6);
+        System.out.printf("  %-34s %7.1f ms %7.1f ms   (%d read connections)%n", "getOrphanageDetailsAsync (parallel)",
+            parallel[runs / 2] / 1e6, parallel[runs - 1] / 1e6, DatabaseManager.getReadPoolSize());
+
+        // A failed query fails the whole load at once; a slow one fails it at the timeout
+        long start = System.nanoTime();
+        Throwable missing = donorService.getOrphanageDetailsAsync(-1).handle((details, error) -> error).join();
+        System.out.printf("  missing orphanage: %s after %.1f ms%n",
+            missing == null ? "no error" : missing.getClass().getSimpleName() + " \"" + missing.getMessage() + "\"",
+            (System.nanoTime() - start) / 1e6);
+        start = System.nanoTime();
+        Throwable late = donorService.getOrphanageDetailsAsync(fixture[1], delayMillis / 2).handle((details, error) -> error).join();
+        System.out.printf("  timeout of %d ms: %s after %.1f ms%n", delayMillis / 2,
+            late == null ? "no error" : late.getClass().getSimpleName(), (System.nanoTime() - start) / 1e6);
+
+        // Opportunities are compared by ID: the DAO stamps an unparseable CreatedDate with the read time
+        boolean same = expected.orphanage().equals(actual.orphanage()) &&
+            expected.currentNeeds().equals(actual.currentNeeds()) &&
+            expected.recentDonations().equals(actual.recentDonations()) &&
+            expected.volunteerOpportunities().map(com.orphanagehub.model.VolunteerOpportunity::opportunityId)
+                .equals(actual.volunteerOpportunities().map(com.orphanagehub.model.VolunteerOpportunity::opportunityId)) &&
+            expected.statistics().totalCount == actual.statistics().totalCount &&
+            expected.statistics().totalAmount == actual.statistics().totalAmount &&
+            missing instanceof com.orphanagehub.service.ServiceException &&
+            late instanceof TimeoutException;
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "parallel details match, failures and timeouts propagate" + ANSI_RESET);
+    }
+
+    private static void benchmarkNeedsSummary(int orphanages) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Donor landing page: " + orphanages + " orphanages, 6 requests each ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        int[] fixture = seedDonationFixture();
+        seedOrphanages(orphanages, fixture[1]);
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 5)
+                 INSERT INTO TblResourceRequests (OrphanageID, ResourceType, ResourceDescription, Quantity,
+                                                  UrgencyLevel, RequestDate, Status, CreatedBy)
+                 SELECT o.OrphanageID, 'Food', 'Need ' || n || ' of home ' || o.OrphanageID, 10,
+                        CASE (o.OrphanageID + n) % 7 WHEN 0 THEN 'Critical' WHEN 1 THEN 'High' WHEN 2 THEN 'Medium'
+                                                     ELSE 'Low' END,
+                        1700000000000 + (o.OrphanageID * 6 + n) * 1000,
+                        CASE WHEN (o.OrphanageID + n) % 4 = 0 THEN 'Fulfilled' ELSE 'Open' END, ?
+                 FROM TblOrphanages o, seq
+             """)) {
+            ps.setInt(1, fixture[0]);
+            ps.executeUpdate();
+        }
+
+        OrphanageDAO orphanageDAO = new OrphanageDAO();
+        DonorService donorService = new DonorService();
+        // As the panel built its rows: every orphanage, then getOrphanageDetails for each verified one
+        java.util.function.Supplier<java.util.Map<Integer, String>> perOrphanage = () -> {
+            java.util.Map<Integer, String> rows = new java.util.HashMap<>();
+            for (Orphanage o : orphanageDAO.findAll().get()) {
+                if ("Verified".equalsIgnoreCase(o.verificationStatus())) {
+                    donorService.getOrphanageDetails(o.orphanageId()).forEach(details -> {
+                        io.vavr.collection.List<com.orphanagehub.model.ResourceRequest> needs = details.currentNeeds();
+                        boolean urgent = needs.exists(r -> "High".equalsIgnoreCase(r.urgencyLevel()) ||
+                                                            "Critical".equalsIgnoreCase(r.urgencyLevel()));
+                        rows.put(o.orphanageId(), needs.take(DonorService.KEY_NEEDS)
+                            .map(com.orphanagehub.model.ResourceRequest::resourceDescription).mkString(", ") +
+                            (urgent ? " / High" : " / Normal"));
+                    });
+                }
+            }
+            return rows;
+        };
+        java.util.function.Supplier<java.util.Map<Integer, String>> summarized = () -> {
+            java.util.Map<Integer, String> rows = new java.util.HashMap<>();
+            io.vavr.collection.Map<Integer, ResourceRequestDAO.NeedsSummary> needs = donorService.getVerifiedNeedsSummaries().get();
+            for (Orphanage o : orphanageDAO.find(OrphanageDAO.Query.verified().sortedBy("name")).get()) {
+                Option<ResourceRequestDAO.NeedsSummary> summary = needs.get(o.orphanageId());
+                rows.put(o.orphanageId(), summary.map(n -> n.topNeeds().mkString(", ")).getOrElse("") +
+                    (summary.exists(ResourceRequestDAO.NeedsSummary::isUrgent) ? " / High" : " / Normal"));
+            }
+            return rows;
+        };
+        perOrphanage.get();
+        summarized.get();
+
+        System.out.printf("  %-32s %10s %12s%n", "rows built with", "time", "statements");
+        QueryMetrics.reset();
+        long start = System.nanoTime();
+        java.util.Map<Integer, String> before = perOrphanage.get();
+        long perOrphanageNanos = System.nanoTime() - start;
+        long perOrphanageStatements = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+        System.out.printf("  %-32s %7.0f ms %12d%n", "getOrphanageDetails each", perOrphanageNanos / 1e6, perOrphanageStatements);
+
+        QueryMetrics.reset();
+        start = System.nanoTime();
+        java.util.Map<Integer, String> after = summarized.get();
+        long summaryNanos = System.nanoTime() - start;
+        long summaryStatements = QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue();
+        System.out.printf("  %-32s %7.0f ms %12d%n", "verified query + needs summary", summaryNanos / 1e6, summaryStatements);
+
+        // A search page: the summaries of its orphanages by ID
+        io.vavr.collection.List<Integer> page = io.vavr.collection.List.ofAll(after.keySet()).sorted().take(50);
+        QueryMetrics.reset();
+        start = System.nanoTime();
+        io.vavr.collection.Map<Integer, ResourceRequestDAO.NeedsSummary> pageNeeds = donorService.getNeedsSummaries(page).get();
+        System.out.printf("  %-32s %7.1f ms %12d%n", "summaries of a 50-row page",
+            (System.nanoTime() - start) / 1e6, QueryMetrics.statements().map(QueryMetrics.StatementStats::count).sum().longValue());
+
+        boolean same = before.equals(after) && page.forAll(id -> after.get(id).startsWith(
+            pageNeeds.get(id).map(n -> n.topNeeds().mkString(", ")).getOrElse("") + " / "));
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "same key needs and urgency for all " + after.size() + " verified orphanages" + ANSI_RESET);
+    }
+
+    private static void benchmarkTableDiff(int rows) throws Exception {
+        System.out.println(ANSI_BLUE + "\n=== Refreshing a " + rows + "-user table after three changes ===" + ANSI_RESET);
+        System.setProperty("db.metrics.slowQueryMs", "600000");
+        seedUsers(rows);
+        com.orphanagehub.service.UserService userService = new com.orphanagehub.service.UserService();
+        String[] columns = { "Username", "Full Name", "Email", "Role", "Status" };
+        com.orphanagehub.gui.PagedTableModel.CellReader<UserDAO.UserRow> cells = (u, column) -> switch (column) {
+            case 0 -> u.username();
+            case 1 -> u.fullName().getOrElse("");
+            case 2 -> u.email();
+            case 3 -> u.userRole();
+            default -> u.accountStatus();
+        };
+        io.vavr.collection.List<UserDAO.UserRow> before = userService.getUserRows().get();
+        int selected = rows / 4;
+        String selectedName = before.get(selected).username();
+        // The admin user table, showing the middle of the table before the changes
+        com.orphanagehub.gui.PagedTableModel<UserDAO.UserRow> paged = new com.orphanagehub.gui.PagedTableModel<>(columns,
+            com.orphanagehub.gui.PagedTableModel.Source.of(userService::getUserRowIds, userService::getUserRowsByIds), cells);
+        paged.reload().join();
+        awaitScreen(paged, selected, 1);
+        awaitScreen(paged, rows / 2 - SCREEN_ROWS / 2, SCREEN_ROWS);
+
+        // One row updated, one deleted and one inserted, in different parts of the table
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("UPDATE TblUsers SET FullName = 'Renamed' WHERE Username = '" + before.get(rows / 2).username() + "'");
+            stmt.executeUpdate("DELETE FROM TblUsers WHERE Username = '" + before.get(rows / 8).username() + "'");
+            stmt.executeUpdate("INSERT INTO TblUsers (Username, PasswordHash, Email, UserRole, FullName) " +
+                               "VALUES ('user_new', 'x', 'user_new@bench.local', 'Donor', 'New User')");
+        }
+        io.vavr.collection.List<UserDAO.UserRow> after = userService.getUserRows().get();
+
+        System.out.printf("  %-24s %12s %8s %14s %10s%n", "refresh", "time", "events", "rows repainted", "selection");
+        javax.swing.table.DefaultTableModel rebuilt = new javax.swing.table.DefaultTableModel(columns, 0);
+        java.util.function.Consumer<io.vavr.collection.List<UserDAO.UserRow>> fill = users -> {
+            rebuilt.setRowCount(0);
+            users.forEach(u -> rebuilt.addRow(new Object[] {
+                u.username(), u.fullName().getOrElse(""), u.email(), u.userRole(), u.accountStatus()
+            }));
+        };
+        printRefresh("setRowCount(0) + addRow", rebuilt, selected, selectedName,
+            () -> fill.accept(before), () -> fill.accept(after));
+
+        com.orphanagehub.gui.KeyedTableModel<UserDAO.UserRow> keyed =
+            new com.orphanagehub.gui.KeyedTableModel<>(columns, UserDAO.UserRow::userId, cells);
+        printRefresh("KeyedTableModel", keyed, selected, selectedName,
+            () -> keyed.setRows(before), () -> keyed.setRows(after));
+
+        // Keys diffed on the loader thread, shown rows kept and read again in the background
+        printRefresh("PagedTableModel reload", paged, selected, selectedName, () -> { }, () -> paged.reload().join());
+        boolean blank = false;
+        for (int row = rows / 2 - SCREEN_ROWS / 2; row < rows / 2 + SCREEN_ROWS / 2; row++) {
+            int shown = row;
+            Object[] cell = new Object[1];
+            javax.swing.SwingUtilities.invokeAndWait(() -> cell[0] = paged.getValueAt(shown, 0));
+            blank |= cell[0] == com.orphanagehub.gui.PagedTableModel.LOADING;
+        }
+        awaitScreen(paged, rows / 2 - SCREEN_ROWS / 2, SCREEN_ROWS);
+        System.out.println("  paged screen kept its rows while they were read again: " + (blank ? "no" : "yes"));
+
+        boolean same = keyed.getRowCount() == after.size();
+        for (int row = 0; same && row < after.size(); row++) {
+            same = keyed.getRow(row).contains(after.get(row));
+        }
+        for (int row : new int[] { 0, rows / 8, rows / 2 - 1, after.size() - 1 }) {
+            awaitScreen(paged, row, 1);
+            int shown = row;
+            Object[] cell = new Object[2];
+            javax.swing.SwingUtilities.invokeAndWait(() -> {
+                cell[0] = paged.getValueAt(shown, 0);
+                cell[1] = paged.getValueAt(shown, 1);
+            });
+            same &= after.get(row).username().equals(cell[0]) &&
+                    after.get(row).fullName().getOrElse("").equals(cell[1]);
+        }
+        System.out.println((same ? ANSI_GREEN + "  ✓ " : ANSI_RED + "  ✗ ") +
+            "diffed tables match a full reload" + ANSI_RESET);
+    }
+
+    /**
+     * Fills a table with {@code initial}, selects a row, then times {@code refresh} and counts
+     * the events it fired. Refreshes other than a paged reload run on the EDT.
+     */
+    private static void printRefresh(String label, javax.swing.table.TableModel model, int selected, String selectedName,
+                                     Work initial, Work refresh) throws Exception {
+        javax.swing.JTable table = new javax.swing.JTable(model);
+        boolean onEdt = !(model instanceof com.orphanagehub.gui.PagedTableModel);
+        javax.swing.SwingUtilities.invokeAndWait(() -> {
+            try {
+                // Refreshes on the EDT are timed warm; a paged reload leaves nothing to warm up
+                for (int warmup = 0; onEdt && warmup < 5; warmup++) {
+                    initial.run();
+                    refresh.run();
+                }
+                initial.run();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            table.setRowSelectionInterval(selected, selected);
+        });
+        long[] events = new long[2];
+        model.addTableModelListener(e -> {
+            events[0]++;
+            events[1] += e.getLastRow() == Integer.MAX_VALUE ? model.getRowCount() : e.getLastRow() - e.getFirstRow() + 1;
+        });
+        long start = System.nanoTime();
+        if (!onEdt) {
+            refresh.run();
+        } else {
+            javax.swing.SwingUtilities.invokeAndWait(() -> {
+                try {
+                    refresh.run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+        boolean[] kept = new boolean[1];
+        javax.swing.SwingUtilities.invokeAndWait(() -> {
+            int row = table.getSelectedRow();
+            kept[0] = row >= 0 && selectedName.equals(model.getValueAt(row, 0));
+        });
+        System.out.printf("  %-24s %9.1f ms %8d %14d %10s%n", label, elapsed / 1e6, events[0], events[1],
+            kept[0] ? "kept" : "lost");
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs {@code work} while posting a probe to the EDT every 5 ms.
+     * @return total nanos of the work, and the p99 and max nanos a probe waited for the EDT
+     */
+    private static long[] probeEdt(Work work) throws Exception {
+        java.util.List<Long> waits = java.util.Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread prober = new Thread(() -> {
+            while (running.get()) {
+                long posted = System.nanoTime();
+                javax.swing.SwingUtilities.invokeLater(() -> waits.add(System.nanoTime() - posted));
+                java.util.concurrent.locks.LockSupport.parkNanos(5_000_000);
+            }
+        }, "edt-prober");
+        prober.start();
+        long start = System.nanoTime();
+        work.run();
+        long total = System.nanoTime() - start;
+        running.set(false);
+        prober.join();
+        javax.swing.SwingUtilities.invokeAndWait(() -> { });
+        long[] sorted;
+        synchronized (waits) {
+            sorted = waits.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        return new long[] { total, sorted[Math.min(sorted.length - 1, sorted.length * 99 / 100)], sorted[sorted.length - 1] };
+    }
+
+    private static void awaitIdle(com.orphanagehub.util.AsyncLoader loader, String task) throws Exception {
+        do {
+            Thread.sleep(1);
+        } while (loader.isLoading(task));
+        javax.swing.SwingUtilities.invokeAndWait(() -> { });
+    }
+
+    private static final int SCREEN_ROWS = 40;
+
+    /**
+     * Paints a screen of rows on the EDT, as a JTable would, until none shows as loading.
+     * @return nanos until the screen was complete, the slowest paint, and how many paints it took
+     */
+    private static long[] awaitScreen(com.orphanagehub.gui.PagedTableModel<?> model, int first, int count)
+            throws Exception {
+        long start = System.nanoTime();
+        long slowest = 0;
+        for (int paints = 1; ; paints++) {
+            boolean[] complete = { true };
+            long paintStart = System.nanoTime();
+            javax.swing.SwingUtilities.invokeAndWait(() -> {
+                for (int row = first; row < Math.min(first + count, model.getRowCount()); row++) {
+                    for (int column = 0; column < model.getColumnCount(); column++) {
+                        if (model.getValueAt(row, column) == com.orphanagehub.gui.PagedTableModel.LOADING) {
+                            complete[0] = false;
+                        }
+                    }
+                }
+            });
+            slowest = Math.max(slowest, System.nanoTime() - paintStart);
+            if (complete[0]) {
+                return new long[] { System.nanoTime() - start, slowest, paints };
+            }
+            java.util.concurrent.locks.LockSupport.parkNanos(100_000);
+        }
+    }
+
+    private static void printProjection(String label, com.sun.management.ThreadMXBean threads,
+                                        java.util.function.Supplier<?> load) {
+        long[] cost = measure(threads, load);
+        long before = usedHeapAfterGc();
+        Object result = load.get();
+        long retained = usedHeapAfterGc() - before;
+        java.lang.ref.Reference.reachabilityFence(result);
+        System.out.printf("  %-30s %9.1f ms %11.1f MB %11.1f MB%n",
+            label, cost[0] / 1e6, cost[1] / 1_048_576.0, retained / 1_048_576.0);
+    }
+
+    /**
+     * DonationDAO.findByDonor as it was before mapping by position: every column by label.
+     */
+    private static io.vavr.collection.List<Donation> findByDonorByLabel(int donorId) {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement(
+                 "SELECT * FROM TblDonations WHERE DonorID = ? ORDER BY DonationDate DESC")) {
+            ps.setInt(1, donorId);
+            List<Donation> donations = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    donations.add(mapDonationByLabel(rs));
+                }
+            }
+            return io.vavr.collection.List.ofAll(donations);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Donation mapDonationByLabel(ResultSet rs) throws SQLException {
+        return new Donation(
+            rs.getObject("DonationID", Integer.class),
+            rs.getObject("DonorID", Integer.class),
+            rs.getObject("OrphanageID", Integer.class),
+            Option.of(intOrNull(rs, "RequestID")),
+            rs.getString("DonationType"),
+            Option.of(doubleOrNull(rs, "Amount")),
+            Option.of(rs.getString("Currency")).getOrElse("ZAR"),
+            Option.of(rs.getString("ItemDescription")),
+            Option.of(doubleOrNull(rs, "Quantity")),
+            Option.of(rs.getString("Unit")),
+            Option.of(doubleOrNull(rs, "EstimatedValue")),
+            rs.getTimestamp("DonationDate").toLocalDateTime(),
+            Option.of(rs.getTimestamp("ScheduledDate")).map(Timestamp::toLocalDateTime),
+            Option.of(rs.getString("Status")).getOrElse("Pending"),
+            Option.of(rs.getString("PaymentMethod")),
+            Option.of(rs.getString("TransactionReference")),
+            rs.getBoolean("TaxDeductible"),
+            rs.getBoolean("AnonymousDonation"),
+            rs.getBoolean("RecurringDonation"),
+            Option.of(rs.getString("RecurrenceInterval")),
+            Option.of(rs.getTimestamp("NextRecurrenceDate")).map(Timestamp::toLocalDateTime),
+            Option.of(rs.getString("DonorMessage")),
+            rs.getBoolean("ThankYouSent"),
+            Option.of(rs.getTimestamp("ThankYouDate")).map(Timestamp::toLocalDateTime),
+            Option.of(rs.getString("ReceiptNumber")),
+            rs.getBoolean("ReceiptSent"),
+            Option.of(rs.getString("Notes")),
+            rs.getTimestamp("CreatedDate").toLocalDateTime(),
+            Option.of(rs.getTimestamp("ModifiedDate")).map(Timestamp::toLocalDateTime),
+            Option.of(intOrNull(rs, "ModifiedBy")));
+    }
+
+    private static Integer intOrNull(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Double doubleOrNull(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /**
+     * What DonorService.searchOrphanages did before the query builder.
+     */
+    private static io.vavr.collection.List<Orphanage> filterInMemory(OrphanageDAO dao, DonorService.SearchCriteria criteria) {
+        io.vavr.collection.List<Orphanage> filtered = criteria.location() != null && criteria.radiusKm() != null
+            ? dao.findWithinRadius(criteria.location().latitude(), criteria.location().longitude(), criteria.radiusKm())
+                .get().map(OrphanageDAO.NearbyOrphanage::orphanage)
+            : dao.findAllVerified().get();
+        if (criteria.province() != null) {
+            filtered = filtered.filter(o -> o.province().equals(criteria.province()));
+        }
+        if (criteria.city() != null) {
+            filtered = filtered.filter(o -> o.city().equals(criteria.city()));
+        }
+        if (criteria.acceptsDonations() != null) {
+            filtered = filtered.filter(o -> o.acceptsDonations() == criteria.acceptsDonations());
+        }
+        if (Boolean.TRUE.equals(criteria.hasCapacity())) {
+            filtered = filtered.filter(Orphanage::hasCapacity);
+        }
+        if (criteria.sortBy() == null) {
+            return filtered;
+        }
+        return switch (criteria.sortBy()) {
+            case "name" -> filtered.sortBy(Orphanage::getOrphanageName);
+            case "newest" -> filtered.sortBy(Orphanage::dateRegistered).reverse();
+            default -> filtered;
+        };
+    }
+
+    private static String describe(DonorService.SearchCriteria criteria) {
+        return io.vavr.collection.List.of(
+                Option.of(criteria.province()),
+                Option.of(criteria.city()),
+                Option.of(criteria.radiusKm()).map(radius -> String.format("%.0f km", radius)),
+                Option.of(criteria.acceptsDonations()).map(accepts -> "donations"),
+                Option.of(criteria.hasCapacity()).map(room -> "capacity"),
+                Option.of(criteria.sortBy()).map(sort -> "by " + sort))
+            .flatMap(part -> part)
+            .mkString(", ");
+    }
+
+    /**
+     * What DonorService did before the index: every verified orphanage, a JTS point each, haversine.
+     */
+    private static io.vavr.collection.List<Integer> bruteForceWithinRadius(OrphanageDAO dao, DonorService.LocationPoint location,
+                                                                          double radiusKm) {
+        org.locationtech.jts.geom.GeometryFactory factory = new org.locationtech.jts.geom.GeometryFactory();
+        org.locationtech.jts.geom.Point center = factory.createPoint(
+            new org.locationtech.jts.geom.Coordinate(location.longitude(), location.latitude()));
+        return dao.findAllVerified().get()
+            .filter(o -> o.latitude().isDefined() && o.longitude().isDefined())
+            .filter(o -> {
+                org.locationtech.jts.geom.Point point = factory.createPoint(
+                    new org.locationtech.jts.geom.Coordinate(o.longitude().get(), o.latitude().get()));
+                double dLat = Math.toRadians(point.getY() - center.getY());
+                double dLon = Math.toRadians(point.getX() - center.getX());
+                double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                    Math.cos(Math.toRadians(center.getY())) * Math.cos(Math.toRadians(point.getY())) *
+                    Math.sin(dLon / 2) * Math.sin(dLon / 2);
+                return 6371 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)) <= radiusKm;
+            })
+            .map(Orphanage::orphanageId);
+    }
+
+    /**
+     * The scan the index replaces: every word as a substring of any column, sorted by name.
+     */
+    private static int likeSearch(String query, int limit) {
+        String[] words = query.split("\\s+");
+        String where = String.join(" AND ", java.util.Collections.nCopies(words.length,
+            "(OrphanageName LIKE ? OR City LIKE ? OR Description LIKE ?)"));
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM TblOrphanages WHERE VerificationStatus = 'Verified' AND " +
+                                                          where + " ORDER BY OrphanageName LIMIT ?")) {
+            int index = 1;
+            for (String word : words) {
+                for (int column = 0; column < 3; column++) {
+                    ps.setString(index++, "%" + word + "%");
+                }
+            }
+            ps.setInt(index, limit);
+            int rows = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long matchCount(String query) {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.READ).get();
+             PreparedStatement ps = conn.prepareStatement("SELECT COUNT(*) FROM TblOrphanageSearch WHERE TblOrphanageSearch MATCH ?")) {
+            ps.setString(1, String.join(" ", java.util.Arrays.stream(query.split("\\s+")).map(w -> "\"" + w + "\"*").toList()));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Inserts orphanages spread over the provinces, about 40 cities and the whole country,
+     * with searchable names and descriptions, all owned by the fixture representative.
+     */
+    private static void seedOrphanages(int count, int fixtureOrphanageId) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?),
+                 provinces(i, name) AS (VALUES (0, 'Eastern Cape'), (1, 'Free State'), (2, 'Gauteng'),
+                     (3, 'KwaZulu-Natal'), (4, 'Limpopo'), (5, 'Mpumalanga'), (6, 'Northern Cape'),
+                     (7, 'North West'), (8, 'Western Cape')),
+                 words(i, word) AS (VALUES (0, 'Hope'), (1, 'Sunrise'), (2, 'Ubuntu'), (3, 'Grace'),
+                     (4, 'Harmony'), (5, 'Rainbow'), (6, 'Shelter'), (7, 'Haven'))
+                 INSERT INTO TblOrphanages (OrphanageName, Address, City, Province, ContactPerson, ContactEmail,
+                                            ContactPhone, Description, VerificationStatus, UserID, Latitude, Longitude)
+                 SELECT w.word || ' Children''s Home ' || n, n || ' Main Road', 'City ' || (n % 40), p.name,
+                        'Bench Rep', 'home' || n || '@bench.local', '0210000000',
+                        'Care for ' || (n % 60 + 5) || ' children; needs ' ||
+                            CASE n % 4 WHEN 0 THEN 'school books and stationery' WHEN 1 THEN 'blankets and winter clothing'
+                                       WHEN 2 THEN 'food parcels' ELSE 'medical supplies' END,
+                        CASE WHEN n % 5 = 0 THEN 'Pending' ELSE 'Verified' END,
+                        o.UserID,
+                        -35.0 + (n * 7919 % 10000) / 1000.0,
+                        16.5 + (n * 104729 % 16000) / 1000.0
+                 FROM seq
+                 JOIN provinces p ON p.i = n % 9
+                 JOIN words w ON w.i = n % 8
+                 JOIN TblOrphanages o ON o.OrphanageID = ?
+             """)) {
+            ps.setInt(1, count);
+            ps.setInt(2, fixtureOrphanageId);
+            ps.executeUpdate();
+        }
+    }
+
+    private static int seedUsers(int count) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 INSERT INTO TblUsers (Username, PasswordHash, Email, UserRole, FullName, City, Province)
+                 VALUES (?, 'x', ?, ?, ?, 'Cape Town', 'Western Cape')
+             """)) {
+            String[] roles = { "Donor", "Volunteer", "OrphanageRep", "Admin" };
+            conn.setAutoCommit(false);
+            try {
+                for (int i = 0; i < count; i++) {
+                    ps.setString(1, "user" + i);
+                    ps.setString(2, "user" + i + "@bench.local");
+                    ps.setString(3, roles[i % roles.length]);
+                    ps.setString(4, "Bench User " + i);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Inserts {@code count} donations from the fixture donor to the fixture orphanage, with the
+     * mix of money and item donations and optional columns the dashboards show.
+     */
+    private static void seedDonations(int count, int[] fixture) throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             PreparedStatement ps = conn.prepareStatement("""
+                 WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?)
+                 INSERT INTO TblDonations (DonorID, OrphanageID, DonationType, Amount, ItemDescription, Quantity, Unit,
+                                           DonationDate, ScheduledDate, Status, PaymentMethod, TransactionReference,
+                                           RecurringDonation, RecurrenceInterval, DonorMessage, Notes, CreatedDate)
+                 SELECT ?, ?, CASE WHEN n % 4 = 0 THEN 'Food' ELSE 'Money' END,
+                        CASE WHEN n % 4 = 0 THEN NULL ELSE n % 300 + 0.5 END,
+                        CASE WHEN n % 4 = 0 THEN 'Food parcel ' || n END,
+                        CASE WHEN n % 4 = 0 THEN n % 20 + 1 END,
+                        CASE WHEN n % 4 = 0 THEN 'boxes' END,
+                        1700000000000 + n * 1000, CASE WHEN n % 3 = 0 THEN 1700000000000 + n * 2000 END,
+                        'Completed', CASE WHEN n % 4 = 0 THEN 'In Kind' ELSE 'EFT' END, 'TX-' || n,
+                        n % 7 = 0, CASE WHEN n % 7 = 0 THEN 'Monthly' END,
+                        CASE WHEN n % 5 = 0 THEN 'Keep up the good work' END, NULL,
+                        1700000000000 + n * 1000
+                 FROM seq
+             """)) {
+            ps.setInt(1, count);
+            ps.setInt(2, fixture[0]);
+            ps.setInt(3, fixture[1]);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Inserts a donor, an orphanage representative and their orphanage.
+     * @return donor user ID and orphanage ID
+     */
+    private static int[] seedDonationFixture() throws SQLException {
+        try (Connection conn = DatabaseManager.getConnection(DatabaseManager.Intent.WRITE).get();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("""
+                INSERT INTO TblUsers (Username, PasswordHash, Email, UserRole, FullName)
+                VALUES ('bench_donor', 'x', 'donor@bench.local', 'Donor', 'Bench Donor'),
+                       ('bench_rep', 'x', 'rep@bench.local', 'OrphanageRep', 'Bench Rep')
+            """);
+            stmt.executeUpdate("""
+                INSERT INTO TblOrphanages (OrphanageName, Address, City, Province, ContactPerson,
+                                           ContactEmail, ContactPhone, UserID)
+                SELECT 'Bench Home', '1 Main Road', 'Cape Town', 'Western Cape', 'Bench Rep',
+                       'rep@bench.local', '0210000000', UserID
+                FROM TblUsers WHERE Username = 'bench_rep'
+            """);
+            try (ResultSet rs = stmt.executeQuery("""
+                SELECT u.UserID, o.OrphanageID FROM TblUsers u, TblOrphanages o
+                WHERE u.Username = 'bench_donor'
+            """)) {
+                rs.next();
+                return new int[] { rs.getInt(1), rs.getInt(2) };
+            }
+        }
+    }
+
+    /**
+     * Splits {@code operations} across {@code threads} and returns the wall time in nanoseconds,
+     * including the optional completion step (e.g. a flush).
+     */
+    private static long runConcurrently(int threads, int operations, BenchOperation operation, Runnable... completion)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicLong errors = new AtomicLong();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                for (int i = offset; i < operations; i += threads) {
+                    try {
+                        operation.run(i);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        firstError.compareAndSet(null, e);
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        for (Runnable step : completion) {
+            step.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (errors.get() > 0) {
+            System.out.println(ANSI_RED + "  ✗ " + errors.get() + " operations failed, first: " +
+                firstError.get() + ANSI_RESET);
+        }
+        return elapsed;
+    }
+
+    private static void printRate(String label, int operations, long nanos) {
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("  %-28s %10.0f ops/sec (%.0f ms)%n", label, operations / seconds, nanos / 1_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface BenchOperation {
+        void run(int index) throws Exception;
+    }
+
+    private record TopologyResult(long reads, long writes, long writeErrors) {}
+}